@@ -0,0 +1,106 @@
+package tecgraf.openbus;
+
+/**
+ * Estatísticas de uso de uma cache da conexão.
+ *
+ * @see Connection#cacheStatistics(InterceptorCache)
+ *
+ * @author Tecgraf
+ */
+public final class CacheStatistics {
+
+  /** Número de entradas */
+  private final int size;
+  /** Tamanho máximo */
+  private final int maximumSize;
+  /** Número de consultas atendidas */
+  private final long hits;
+  /** Número de consultas não atendidas */
+  private final long misses;
+  /** Número de entradas removidas por falta de espaço */
+  private final long evictions;
+
+  /**
+   * Construtor.
+   *
+   * @param size número de entradas.
+   * @param maximumSize tamanho máximo.
+   * @param hits número de consultas atendidas.
+   * @param misses número de consultas não atendidas.
+   * @param evictions número de entradas removidas por falta de espaço.
+   */
+  public CacheStatistics(int size, int maximumSize, long hits, long misses,
+    long evictions) {
+    this.size = size;
+    this.maximumSize = maximumSize;
+    this.hits = hits;
+    this.misses = misses;
+    this.evictions = evictions;
+  }
+
+  /**
+   * Fornece o número de entradas da cache.
+   *
+   * @return o número de entradas.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Fornece o tamanho máximo da cache.
+   *
+   * @return o tamanho máximo.
+   */
+  public int maximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Fornece o número de consultas atendidas pela cache desde a criação da
+   * conexão.
+   *
+   * @return o número de consultas atendidas.
+   */
+  public long hits() {
+    return hits;
+  }
+
+  /**
+   * Fornece o número de consultas não atendidas pela cache desde a criação
+   * da conexão.
+   *
+   * @return o número de consultas não atendidas.
+   */
+  public long misses() {
+    return misses;
+  }
+
+  /**
+   * Fornece o número de entradas removidas da cache por falta de espaço desde
+   * a criação da conexão.
+   *
+   * @return o número de entradas removidas.
+   */
+  public long evictions() {
+    return evictions;
+  }
+
+  /**
+   * Fornece a taxa de acerto da cache.
+   *
+   * @return a fração das consultas atendidas pela cache, entre 0 e 1, ou 1
+   *         caso nenhuma consulta tenha sido feita.
+   */
+  public double hitRate() {
+    long requests = hits + misses;
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "size (%d) maximumSize (%d) hits (%d) misses (%d) evictions (%d)", size,
+      maximumSize, hits, misses, evictions);
+  }
+}
@@ -2,11 +2,15 @@ package tecgraf.openbus;
 
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.util.List;
 
 import org.omg.CORBA.NO_PERMISSION;
 import org.omg.CORBA.ORB;
 
 import org.omg.PortableServer.POA;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
 import tecgraf.openbus.core.v2_1.services.ServiceFailure;
 import tecgraf.openbus.core.v2_1.services.access_control.AccessDenied;
 import tecgraf.openbus.core.v2_1.services.access_control.InvalidToken;
@@ -24,28 +28,28 @@ import tecgraf.openbus.exception.WrongBus;
 /**
  * Objeto que representa uma forma de acesso a um barramento.
  * <p>
- * Basicamente, uma conexo  usada para representar uma identidade de acesso
- * a um barramento.  possvel uma aplicao assumir mltiplas identidades ao
- * acessar um ou mais barramentos criando mltiplas conexes para esses
+ * Basicamente, uma conexão é usada para representar uma identidade de acesso
+ * a um barramento. É possível uma aplicação assumir múltiplas identidades ao
+ * acessar um ou mais barramentos criando múltiplas conexões para esses
  * barramentos.
  * <p>
- * Para que as conexes possam ser efetivamente utilizadas elas precisam estar
+ * Para que as conexões possam ser efetivamente utilizadas elas precisam estar
  * autenticadas no barramento, que pode ser visto como um identificador de
- * acesso. Cada <i>login</i> possui um identificador nico e  autenticado em
+ * acesso. Cada <i>login</i> possui um identificador único e é autenticado em
  * nome de uma entidade, que pode representar um sistema computacional ou
- * mesmo uma pessoa. A funo da entidade  atribuir a responsabilidade s
+ * mesmo uma pessoa. A função da entidade é atribuir a responsabilidade às
  * chamadas feitas com aquele <i>login</i>.
  * <p>
- *  importante notar que a conexo s define uma forma de acesso, mas no 
- * usada diretamente pela aplicao ao realizar ou receber chamadas, pois as
+ * É importante notar que a conexão só define uma forma de acesso, mas não é
+ * usada diretamente pela aplicação ao realizar ou receber chamadas, pois as
  * chamadas ocorrem usando <i>proxies</i> e <i>servants</i> de um {@link ORB}
- * . As conexes que so efetivamente usadas nas chamadas do ORB so definidas
- * atravs do {@link OpenBusContext} associado ao ORB.
+ * . As conexões que são efetivamente usadas nas chamadas do ORB são definidas
+ * através do {@link OpenBusContext} associado ao ORB.
  *
- * Para o caso de recursos mantidos por uma conexo atravs de seus
- * {@link LoginRegistry} e {@link OfferRegistry}, no  necessrio definir a
- * conexo atravs do {@link OpenBusContext}, pois esses recursos j estaro
- * atrelados  conexo a qual pertencem.
+ * Para o caso de recursos mantidos por uma conexão através de seus
+ * {@link LoginRegistry} e {@link OfferRegistry}, não é necessário definir a
+ * conexão através do {@link OpenBusContext}, pois esses recursos já estarão
+ * atrelados à conexão a qual pertencem.
  * 
  * @author Tecgraf
  */
@@ -53,107 +57,107 @@ public interface Connection {
 
   /**
    * Fornece o {@link ORB} correspondente ao {@link OpenBusContext} a partir do
-   * qual essa conexo foi criada.
+   * qual essa conexão foi criada.
    * 
    * @return o ORB
    */
   org.omg.CORBA.ORB ORB();
 
   /**
-   * Fornece o POA associado a essa conexo.
+   * Fornece o POA associado a essa conexão.
    *
    * @return o POA
    */
   POA POA();
 
   /**
-   * Fornece o contexto do OpenBus associado a essa conexo.
+   * Fornece o contexto do OpenBus associado a essa conexão.
    *
    * @return o contexto do OpenBus
    */
   OpenBusContext context();
 
   /**
-   * Fornece o identificador do barramento ao qual essa conexo se refere.
+   * Fornece o identificador do barramento ao qual essa conexão se refere.
    * 
    * @return o identificador do barramento.
    */
   String busId();
 
   /**
-   * Fornece a chave pblica do barramento a que essa conexo se refere.
+   * Fornece a chave pública do barramento a que essa conexão se refere.
    *
-   * @return a chave pblica.
+   * @return a chave pública.
    */
   RSAPublicKey busPublicKey();
 
   /**
-   * Fornece a chave pblica usada na criao desta conexo.
+   * Fornece a chave pública usada na criação desta conexão.
    *
-   * @return a chave pblica.
+   * @return a chave pública.
    */
   RSAPublicKey publicKey();
 
   /**
-   * Fornece a chave privada usada na criao desta conexo.
+   * Fornece a chave privada usada na criação desta conexão.
    *
    * @return a chave privada.
    */
   RSAPrivateKey privateKey();
 
   /**
-   * Fornece as Informaes do login dessa conexo ou {@code null} se a
-   * conexo no estiver autenticada, ou seja, no tiver um login vlido no
+   * Fornece as Informações do login dessa conexão ou {@code null} se a
+   * conexão não estiver autenticada, ou seja, não tiver um login válido no
    * barramento.
    * 
-   * @return As informaes do login.
+   * @return As informações do login.
    */
   LoginInfo login();
 
   /**
-   * Efetua login de uma entidade usando autenticao por senha.
+   * Efetua login de uma entidade usando autenticação por senha.
    * <p>
-   * A autenticao por senha  validada atravs de um dos validadores de senha
+   * A autenticação por senha é validada através de um dos validadores de senha
    * definidos pelo administrador do barramento.
    * 
    * @param entity Identificador da entidade a ser autenticada.
-   * @param password Senha de autenticao no barramento da entidade.
-   * @param domain Identificador do domnio de autenticao.
+   * @param password Senha de autenticação no barramento da entidade.
+   * @param domain Identificador do domínio de autenticação.
    * 
-   * @throws AlreadyLoggedIn A conexo j est autenticada.
-   * @throws AccessDenied A senha fornecida para autenticao da entidade no
+   * @throws AlreadyLoggedIn A conexão já está autenticada.
+   * @throws AccessDenied A senha fornecida para autenticação da entidade não
    *            foi validada pelo barramento.
-   * @throws TooManyAttempts A autenticao foi recusada por um nmero
-   *            excessivo de tentativas invlidas de autenticao por senha.
-   * @throws UnknownDomain O domnio de autenticao no  conhecido.
-   * @throws ServiceFailure Ocorreu uma falha interna nos servios do
-   *            barramento que impediu a autenticao da conexo.
-   * @throws WrongEncoding A autenticao falhou, pois a senha no foi
-   *            codificada corretamente com a chave pblica do barramento.
+   * @throws TooManyAttempts A autenticação foi recusada por um número
+   *            excessivo de tentativas inválidas de autenticação por senha.
+   * @throws UnknownDomain O domínio de autenticação não é conhecido.
+   * @throws ServiceFailure Ocorreu uma falha interna nos serviços do
+   *            barramento que impediu a autenticação da conexão.
+   * @throws WrongEncoding A autenticação falhou, pois a senha não foi
+   *            codificada corretamente com a chave pública do barramento.
    */
   void loginByPassword(String entity, byte[] password, String domain)
     throws AccessDenied, AlreadyLoggedIn, TooManyAttempts, UnknownDomain,
     ServiceFailure, WrongEncoding;
 
   /**
-   * Efetua login de uma entidade usando autenticao por chave privada.
+   * Efetua login de uma entidade usando autenticação por chave privada.
    * <p>
-   * A autenticao por chave privada  validada atravs de um certificado
+   * A autenticação por chave privada é validada através de um certificado
    * registrado pelo administrador do barramento.
    * 
    * @param entity Identificador da entidade a ser autenticada.
    * @param privateKey Chave privada correspondente ao certificado registrado
    *                   no barramento.
    * 
-   * @throws AlreadyLoggedIn A conexo j est autenticada.
-   * @throws AccessDenied A chave privada fornecida no corresponde ao
+   * @throws AlreadyLoggedIn A conexão já está autenticada.
+   * @throws AccessDenied A chave privada fornecida não corresponde ao
    *            certificado da entidade registrado no barramento.
-   * @throws MissingCertificate No h certificado para essa entidade
+   * @throws MissingCertificate Não há certificado para essa entidade
    *            registrado no barramento.
-   * @throws ServiceFailure Ocorreu uma falha interna nos servios do
-   *            barramento que impediu a autenticao da conexo.
-   * @throws WrongEncoding A autenticao falhou, pois a resposta ao desafio
-   *            no foi codificada corretamente com a chave pblica do
+   * @throws ServiceFailure Ocorreu uma falha interna nos serviços do
+   *            barramento que impediu a autenticação da conexão.
+   * @throws WrongEncoding A autenticação falhou, pois a resposta ao desafio
+   *            não foi codificada corretamente com a chave pública do
    *            barramento.
    */
   void loginByPrivateKey(String entity, RSAPrivateKey privateKey)
@@ -161,87 +165,87 @@ public interface Connection {
 
   /**
    * Efetua login de uma entidade utilizando uma <i>callback</i> que retorne
-   * dados de autenticao, como autenticaes compartilhadas.
+   * dados de autenticação, como autenticações compartilhadas.
    * <p>
-   * No caso especfico da autenticao compartilhada, esta deve ser feita a
-   * partir de um segredo obtido atravs da operao
-   * {@link #startSharedAuth() startSharedAuth} de uma conexo autenticada.
+   * No caso específico da autenticação compartilhada, esta deve ser feita a
+   * partir de um segredo obtido através da operação
+   * {@link #startSharedAuth() startSharedAuth} de uma conexão autenticada.
    *
    * @param callback Callback a ser utilizada para obter os dados de
-   *                 autenticao a serem utilizados no login.
+   *                 autenticação a serem utilizados no login.
    *
    * @throws InvalidLoginProcess A tentativa de login associada ao segredo
-   *         informado  invlido, por exemplo depois do segredo ser
-   *         cancelado, ter expirado, ou j ter sido utilizado.
-   * @throws AlreadyLoggedIn A conexo j est autenticada.
-   * @throws WrongBus As informaes de autenticao no pertencem ao
+   *         informado é inválido, por exemplo depois do segredo ser
+   *         cancelado, ter expirado, ou já ter sido utilizado.
+   * @throws AlreadyLoggedIn A conexão já está autenticada.
+   * @throws WrongBus As informações de autenticação não pertencem ao
    *         barramento contactado.
-   * @throws AccessDenied As informaes de autenticao no correspondem
+   * @throws AccessDenied As informações de autenticação não correspondem
    *         ao esperado pelo barramento.
-   * @throws ServiceFailure Ocorreu uma falha interna nos servios do
-   *         barramento que impediu a autenticao da conexo.
-   * @throws MissingCertificate O barramento no tem um certificado pblico
-   *         para a entidade fornecida. Como as informaes de login so
-   *         dadas pela callback, deve-se verificar se a callback est
+   * @throws ServiceFailure Ocorreu uma falha interna nos serviços do
+   *         barramento que impediu a autenticação da conexão.
+   * @throws MissingCertificate O barramento não tem um certificado público
+   *         para a entidade fornecida. Como as informações de login são
+   *         dadas pela callback, deve-se verificar se a callback está
    *         obtendo-as corretamente.
    * @throws TooManyAttempts O barramento bloqueou tentativas de login desta
-   *         conexo temporariamente, devido a um excesso de tentativas num
-   *         curto perodo de tempo.
-   * @throws UnknownDomain O barramento no reconhece o domnio especificado
-   *         para este login. Como as informaes de login so dadas pela
-   *         callback, deve-se verificar se a callback est obtendo-as
+   *         conexão temporariamente, devido a um excesso de tentativas num
+   *         curto período de tempo.
+   * @throws UnknownDomain O barramento não reconhece o domínio especificado
+   *         para este login. Como as informações de login são dadas pela
+   *         callback, deve-se verificar se a callback está obtendo-as
    *         corretamente.
-   * @throws WrongEncoding A autenticao falhou, pois a resposta ao desafio
-   *         no foi codificada corretamente com a chave pblica do barramento.
+   * @throws WrongEncoding A autenticação falhou, pois a resposta ao desafio
+   *         não foi codificada corretamente com a chave pública do barramento.
    */
   void loginByCallback(LoginCallback callback) throws AlreadyLoggedIn, WrongBus,
     InvalidLoginProcess, AccessDenied, TooManyAttempts, UnknownDomain,
     MissingCertificate, ServiceFailure, WrongEncoding;
 
   /**
-   * Inicia o processo de login por autenticao compartilhada.
+   * Inicia o processo de login por autenticação compartilhada.
    *
-   * A autenticao compartilhada permite criar um novo login compartilhando a
-   * mesma autenticao do login atual da conexo. Portanto, essa operao s
-   * pode ser chamada enquanto a conexo estiver autenticada, caso contrrio a
-   * exceo de sistema {@link NO_PERMISSION}[{@link NoLoginCode}] ser lanada
-   * . As informaes fornecidas por essa operao devem ser passadas para a
-   * operao {@link #loginByCallback(LoginCallback)} para concluso do
-   * processo de login por autenticao compartilhada. Isso deve ser feito
+   * A autenticação compartilhada permite criar um novo login compartilhando a
+   * mesma autenticação do login atual da conexão. Portanto, essa operação só
+   * pode ser chamada enquanto a conexão estiver autenticada, caso contrário a
+   * exceção de sistema {@link NO_PERMISSION}[{@link NoLoginCode}] será lançada
+   * . As informações fornecidas por essa operação devem ser passadas para a
+   * operação {@link #loginByCallback(LoginCallback)} para conclusão do
+   * processo de login por autenticação compartilhada. Isso deve ser feito
    * dentro do tempo de lease definido pelo administrador do barramento. Caso
-   * contrrio essas informaes se tornaro invlidas e no podero mais ser
+   * contrário essas informações se tornarão inválidas e não poderão mais ser
    * utilizadas para criar um login.
    * 
-   * @return Segredo a ser fornecido na concluso do processo de login.
+   * @return Segredo a ser fornecido na conclusão do processo de login.
    * 
-   * @throws ServiceFailure Ocorreu uma falha interna nos servios do
-   *            barramento que impediu a obteno do objeto de login e segredo.
+   * @throws ServiceFailure Ocorreu uma falha interna nos serviços do
+   *            barramento que impediu a obtenção do objeto de login e segredo.
    */
   SharedAuthSecret startSharedAuth() throws ServiceFailure;
 
   /**
-   * Efetua logout da conexo, tornando o login atual invlido.
+   * Efetua logout da conexão, tornando o login atual inválido.
    * <p>
-   * Aps a chamada a essa operao a conexo fica desautenticada, implicando
-   * numa exceo de sistema {@link NO_PERMISSION}[{@link NoLoginCode}] para
-   * qualquer chamada realizada pelo ORB usando essa conexo. Chamadas
-   * recebidas por esse ORB sero respondidas com a exceo
-   * {@link NO_PERMISSION}[{@link UnknownBusCode}] indicando que no foi
-   * possvel validar a chamada devido  conexo estar desautenticada.
+   * Após a chamada a essa operação a conexão fica desautenticada, implicando
+   * numa exceção de sistema {@link NO_PERMISSION}[{@link NoLoginCode}] para
+   * qualquer chamada realizada pelo ORB usando essa conexão. Chamadas
+   * recebidas por esse ORB serão respondidas com a exceção
+   * {@link NO_PERMISSION}[{@link UnknownBusCode}] indicando que não foi
+   * possível validar a chamada devido à conexão estar desautenticada.
    *
-   * Um logout explcito incorre na remoo de todas as ofertas e todos os tipos
+   * Um logout explícito incorre na remoção de todas as ofertas e todos os tipos
    * de observadores mantidos pela biblioteca de acesso OpenBus, tanto
-   * localmente como no barramento. Um login posterior no levar ao
-   * recadastro automtico desses recursos.
+   * localmente como no barramento. Um login posterior não levará ao
+   * recadastro automático desses recursos.
    *
-   * @return {@code True} se o processo de logout for concludo com xito e
-   *         {@code false} se no for possvel invalidar o login atual. Mesmo
+   * @return {@code True} se o processo de logout for concluído com êxito e
+   *         {@code false} se não for possível invalidar o login atual. Mesmo
    *         que seja retornado {@code false}, os recursos que eram mantidos
-   *         por este login no sero mais renovados e, aps o tempo de
-   *         <i>lease</i> do barramento, sero removidos automaticamente por
-   *         falta de renovao.
+   *         por este login não serão mais renovados e, após o tempo de
+   *         <i>lease</i> do barramento, serão removidos automaticamente por
+   *         falta de renovação.
    * 
-   * @throws ServiceFailure Ocorreu uma falha interna nos servios do
+   * @throws ServiceFailure Ocorreu uma falha interna nos serviços do
    *            barramento durante chamada ao remota.
    */
   boolean logout() throws ServiceFailure;
@@ -261,14 +265,14 @@ public interface Connection {
   OfferRegistry offerRegistry();
 
   /**
-   * <i>Callback</i> a ser chamada aps um login ser refeito.
+   * <i>Callback</i> a ser chamada após um login ser refeito.
    * <p>
-   * Essa callback permite que a aplicao gerencie seus prprios recursos
+   * Essa callback permite que a aplicação gerencie seus próprios recursos
    * dependentes do login perdido.
    * <p>
    * Como o login pode ser refeito a qualquer momento, diversas
-   * <i>callbacks</i> podem executar ao mesmo tempo. Portanto, a aplicao
-   * deve tratar questes de concorrncia de acordo.
+   * <i>callbacks</i> podem executar ao mesmo tempo. Portanto, a aplicação
+   * deve tratar questões de concorrência de acordo.
    *
    * @param callback Objeto que implementa a interface de <i>callback</i> ou
    * {@code null} para remover o objeto atual.
@@ -276,50 +280,107 @@ public interface Connection {
   void onReloginCallback(OnReloginCallback callback);
 
   /**
-   * Fornece a callback configurada para atuar aps relogins.
+   * Fornece a callback configurada para atuar após relogins.
    *
-   * @return A callback ou {@code null} caso ela no tenha sido definida.
+   * @return A callback ou {@code null} caso ela não tenha sido definida.
    */
   OnReloginCallback onReloginCallback();
 
   /**
    * Cria uma nova cadeia de chamadas para a entidade especificada, onde o dono
-   * da cadeia  esta conexo e utiliza-se a cadeia atual
+   * da cadeia é esta conexão e utiliza-se a cadeia atual
    * ({@link OpenBusContext#joinedChain()}) como a cadeia que se deseja dar
-   * seguimento ao encadeamento.  permitido especificar qualquer nome de
-   * entidade, tendo ela um login ativo no momento ou no. A cadeia
-   * resultante s poder ser utilizada com sucesso por uma conexo que
+   * seguimento ao encadeamento. É permitido especificar qualquer nome de
+   * entidade, tendo ela um login ativo no momento ou não. A cadeia
+   * resultante só poderá ser utilizada com sucesso por uma conexão que
    * possua a mesma identidade da entidade especificada.
    *
    * @param entity Nome da entidade para a qual deseja-se enviar a cadeia.
    * @return A cadeia gerada para ser utilizada pela entidade com o login
    *         especificado.
    *
-   * @throws ServiceFailure Ocorreu uma falha interna nos servios do barramento
-   *         que impediu a criao da cadeia.
+   * @throws ServiceFailure Ocorreu uma falha interna nos serviços do barramento
+   *         que impediu a criação da cadeia.
    */
   CallerChain makeChainFor(String entity) throws ServiceFailure;
 
   /**
-   * Cria uma cadeia de chamadas assinada pelo barramento com informaes de uma
-   * autenticao externa ao barramento.
+   * Cria uma cadeia de chamadas assinada pelo barramento com informações de uma
+   * autenticação externa ao barramento.
    * <p>
    * A cadeia criada somente pode ser utilizada pela entidade do login que faz a
-   * chamada. O contedo da cadeia  dado pelas informaes obtidas atravs do
+   * chamada. O conteúdo da cadeia é dado pelas informações obtidas através do
    * <i>token</i> indicado.
    *
-   * @param token Valor opaco que representa uma informao de autenticao
+   * @param token Valor opaco que representa uma informação de autenticação
    *        externa.
-   * @param domain Identificador do domnio de autenticao.
+   * @param domain Identificador do domínio de autenticação.
    * @return A nova cadeia de chamadas assinada.
    *
-   * @throws InvalidToken O token fornecido no foi reconhecido.
-   * @throws UnknownDomain O domnio de autenticao no  conhecido.
-   * @throws WrongEncoding A importao falhou, pois o token no foi
-   *            codificado corretamente com a chave pblica do barramento.
-   * @throws ServiceFailure Ocorreu uma falha interna nos servios do
-   *            barramento que impediu a criao da cadeia.
+   * @throws InvalidToken O token fornecido não foi reconhecido.
+   * @throws UnknownDomain O domínio de autenticação não é conhecido.
+   * @throws WrongEncoding A importação falhou, pois o token não foi
+   *            codificado corretamente com a chave pública do barramento.
+   * @throws ServiceFailure Ocorreu uma falha interna nos serviços do
+   *            barramento que impediu a criação da cadeia.
    */
   CallerChain importChain(byte[] token, String domain) throws InvalidToken,
     UnknownDomain, ServiceFailure, WrongEncoding;
-}
\ No newline at end of file
+
+  /**
+   * Estabelece antecipadamente as sessões com os servidores das referências
+   * indicadas, de forma que as primeiras chamadas feitas através desta
+   * conexão não precisem negociar a sessão com o servidor. As sessões são
+   * estabelecidas em paralelo, em segundo plano, através de uma chamada à
+   * operação {@code _non_existent} de cada referência. A conexão precisa
+   * estar autenticada no barramento.
+   *
+   * @param references Referências dos objetos cujas sessões devem ser
+   *        estabelecidas.
+   * @return O resultado futuro do estabelecimento das sessões, que indica para
+   *         cada referência, na mesma ordem, se a chamada a
+   *         {@code _non_existent} foi atendida e o objeto existe. Isso não
+   *         garante que uma sessão tenha sido criada, pois servidores que não
+   *         exigem credencial atendem a chamada sem estabelecer sessão.
+   */
+  ListenableFuture<List<Boolean>> warmUp(
+    List<? extends org.omg.CORBA.Object> references);
+
+  /**
+   * Estabelece antecipadamente as sessões com os serviços das ofertas
+   * indicadas, da mesma forma que {@link #warmUp(List)}.
+   *
+   * @param offers Ofertas cujas sessões devem ser estabelecidas.
+   * @return O resultado futuro do estabelecimento das sessões, que indica para
+   *         cada oferta, na mesma ordem, se a chamada ao seu serviço foi
+   *         atendida, como em {@link #warmUp(List)}.
+   */
+  ListenableFuture<List<Boolean>> warmUpOffers(List<RemoteOffer> offers);
+
+  /**
+   * Fornece o tamanho máximo de uma das caches da conexão.
+   *
+   * @param cache A cache.
+   * @return O tamanho máximo da cache.
+   */
+  int cacheSize(InterceptorCache cache);
+
+  /**
+   * Altera o tamanho máximo de uma das caches da conexão. Caso a cache possua
+   * mais entradas que o novo tamanho, as entradas excedentes são descartadas.
+   * O novo tamanho vale até o fim da conexão, inclusive após novos logins.
+   *
+   * @param cache A cache.
+   * @param size O novo tamanho máximo, que deve ser positivo.
+   * @throws IllegalArgumentException Caso o tamanho não seja positivo.
+   */
+  void cacheSize(InterceptorCache cache, int size);
+
+  /**
+   * Fornece as estatísticas de uso de uma das caches da conexão.
+   *
+   * @param cache A cache.
+   * @return As estatísticas de uso da cache.
+   */
+  CacheStatistics cacheStatistics(InterceptorCache cache);
+}
@@ -0,0 +1,31 @@
+package tecgraf.openbus;
+
+/**
+ * Escopo de alteração do contexto corrente.
+ * <p>
+ * Objeto obtido através das operações {@link OpenBusContext#scope(Connection)}
+ * e {@link OpenBusContext#scope(Connection, CallerChain)}, que alteram a
+ * conexão corrente e, opcionalmente, a cadeia de chamadas associada ao
+ * contexto corrente (e.g. definido pelo
+ * {@link org.omg.PortableInterceptor.Current}) em uma única operação. Ao ser
+ * fechado, o escopo restaura os valores que estavam definidos antes da sua
+ * criação. Deve ser fechado pela mesma thread que o criou, preferencialmente
+ * através de um bloco {@code try}:
+ *
+ * <pre>
+ * try (ContextScope scope = context.scope(conn)) {
+ *   // chamadas realizadas através de conn
+ * }
+ * </pre>
+ *
+ * Escopos aninhados devem ser fechados na ordem inversa à da criação.
+ */
+public interface ContextScope extends AutoCloseable {
+
+  /**
+   * Restaura a conexão corrente e a cadeia de chamadas associadas ao contexto
+   * corrente antes da criação do escopo. Chamadas subsequentes não têm efeito.
+   */
+  @Override
+  void close();
+}
@@ -0,0 +1,54 @@
+package tecgraf.openbus;
+
+/**
+ * Caches mantidas por uma conexão para as chamadas interceptadas.
+ * <p>
+ * O tamanho de cada cache pode ser definido através das propriedades da
+ * conexão e alterado em tempo de execução através de
+ * {@link Connection#cacheSize(InterceptorCache, int)}.
+ *
+ * @author Tecgraf
+ */
+public enum InterceptorCache {
+  /**
+   * Cache que associa o perfil do objeto alvo de uma chamada ao login do
+   * servidor que o atende.
+   */
+  ENTITIES,
+  /**
+   * Cache das sessões estabelecidas com os servidores chamados pela conexão.
+   */
+  CLIENT_SESSIONS,
+  /**
+   * Cache das cadeias assinadas para os servidores chamados pela conexão.
+   */
+  CHAINS,
+  /**
+   * Cache das sessões estabelecidas com os clientes que chamam a conexão.
+   */
+  SERVER_SESSIONS,
+  /**
+   * Cache dos logins dos clientes que chamam a conexão.
+   */
+  LOGINS,
+  /**
+   * Cache das cadeias recebidas pela conexão cuja assinatura já foi
+   * verificada.
+   */
+  VERIFIED_CHAINS,
+  /**
+   * Cache das cadeias convertidas para o formato legado pela conexão.
+   */
+  LEGACY_CHAINS,
+  /**
+   * Cache dos perfis dos objetos chamados pela conexão que só reconhecem a
+   * credencial legada.
+   */
+  LEGACY_TARGETS,
+  /**
+   * Cache das cadeias recebidas já decodificadas. Essa cache é compartilhada
+   * por todas as conexões de um mesmo ORB, de forma que alterar o seu tamanho
+   * através de uma conexão afeta as demais.
+   */
+  DECODED_CHAINS
+}
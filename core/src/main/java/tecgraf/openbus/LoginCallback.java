@@ -3,14 +3,14 @@ package tecgraf.openbus;
 import tecgraf.openbus.core.AuthArgs;
 
 /**
- * Interface para a obteno de dados de autenticao.
+ * Interface para a obtenção de dados de autenticação.
  */
 public interface LoginCallback {
   /**
-   * Mtodo a ser chamado pela biblioteca de acesso OpenBus quando necessitar
-   * dos dados para uma nova autenticao.
+   * Método a ser chamado pela biblioteca de acesso OpenBus quando necessitar
+   * dos dados para uma nova autenticação.
    *
-   * @return Dados vlidos para uma autenticao.
+   * @return Dados válidos para uma autenticação.
    */
   AuthArgs authenticationArguments();
 }
@@ -3,7 +3,7 @@ package tecgraf.openbus;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 
 /**
- * Interface de observao de eventos relacionados a logins.
+ * Interface de observação de eventos relacionados a logins.
  *
  * @author Tecgraf/PUC-Rio
  */
@@ -12,14 +12,14 @@ public interface LoginObserver {
   /**
    * Entidade teve o login finalizado junto ao barramento.
    * 
-   * @param login informao do login finalizado
+   * @param login informação do login finalizado
    */
   void entityLogout(LoginInfo login);
 
   /**
-   * Aps o login desta aplicao ser refeito, um ou mais logins
+   * Após o login desta aplicação ser refeito, um ou mais logins
    * observados tornaram-se inexistentes.
-   * @param loginIds informao dos logins finalizados
+   * @param loginIds informação dos logins finalizados
    */
   void nonExistentLogins(String[] loginIds);
 }
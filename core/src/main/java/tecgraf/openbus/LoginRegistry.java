@@ -11,130 +11,130 @@ import tecgraf.openbus.core.v2_1.services.access_control.InvalidLogins;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 
 /**
- * Interface local de registro de logins. Responsvel por fornecer
- * operaes relacionadas a logins e por manter observadores de logins.
- * Mantm apenas um objeto CORBA como observador independente do nmero de
- * observadores da aplicao.
+ * Interface local de registro de logins. Responsável por fornecer
+ * operações relacionadas a logins e por manter observadores de logins.
+ * Mantém apenas um objeto CORBA como observador independente do número de
+ * observadores da aplicação.
  *
  * @author Tecgraf
  */
 public interface LoginRegistry {
   /**
-   * Fornece a conexo utilizada para as chamadas remotas desse registro.
-   * @return A conexo.
+   * Fornece a conexão utilizada para as chamadas remotas desse registro.
+   * @return A conexão.
    */
   Connection connection();
 
   /**
-   * Obtm uma lista de todos os logins ativos no barramento. Essa operao
-   * realiza uma chamada remota e  bloqueante. No  possvel executar essa
-   * chamada com sucesso sem direitos de administrao sobre o barramento.
+   * Obtém uma lista de todos os logins ativos no barramento. Essa operação
+   * realiza uma chamada remota e é bloqueante. Não é possível executar essa
+   * chamada com sucesso sem direitos de administração sobre o barramento.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar uma lista vazia e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará uma lista vazia e se manterá interrompida.
    *
-   * @return Lista de informaes de todos os logins ativos no barramento.
+   * @return Lista de informações de todos os logins ativos no barramento.
    * @throws ServiceFailure Caso o barramento reporte alguma falha inesperada ao
-   * realizar a operao.
-   * @throws UnauthorizedOperation Caso a entidade que realizou a chamada no
-   * tenha permisses de administrador.
+   * realizar a operação.
+   * @throws UnauthorizedOperation Caso a entidade que realizou a chamada não
+   * tenha permissões de administrador.
    */
   List<LoginInfo> allLogins() throws ServiceFailure, UnauthorizedOperation;
 
   /**
-   * Obtm uma lista de todos os logins ativos de uma entidade. Essa operao
-   * realiza uma chamada remota e  bloqueante.
+   * Obtém uma lista de todos os logins ativos de uma entidade. Essa operação
+   * realiza uma chamada remota e é bloqueante.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar uma lista vazia e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará uma lista vazia e se manterá interrompida.
    *
    * @param entity Identificador de uma entidade.
-   * @return Lista de informaes de todos os logins ativos da entidade.
+   * @return Lista de informações de todos os logins ativos da entidade.
    *
    * @throws ServiceFailure Caso o barramento reporte alguma falha inesperada ao
-   * realizar a operao.
-   * @throws UnauthorizedOperation Caso a entidade que realizou a chamada no
-   * seja a prpria entidade e no tenha permisses de administrador.
+   * realizar a operação.
+   * @throws UnauthorizedOperation Caso a entidade que realizou a chamada não
+   * seja a própria entidade e não tenha permissões de administrador.
    */
   List<LoginInfo> entityLogins(String entity) throws ServiceFailure,
     UnauthorizedOperation;
 
   /**
-   * Invalida um login no barramento. Essa operao realiza uma chamada
-   * remota e  bloqueante.
+   * Invalida um login no barramento. Essa operação realiza uma chamada
+   * remota e é bloqueante.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar {@code false} e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará {@code false} e se manterá interrompida.
    *
    * @param loginId Identificador do login a ser invalidado.
-   * @return {@code True} se o login informado est vlido e foi
-   *         invalidado, ou {@code false} se o login informado no 
-   *         vlido.
+   * @return {@code True} se o login informado está válido e foi
+   *         invalidado, ou {@code false} se o login informado não é
+   *         válido.
    * @throws ServiceFailure Caso o barramento reporte alguma falha inesperada ao
-   * realizar a operao.
-   * @throws UnauthorizedOperation Caso a entidade que realizou a chamada no
-   * seja a prpria entidade e no tenha permisses de administrador.
+   * realizar a operação.
+   * @throws UnauthorizedOperation Caso a entidade que realizou a chamada não
+   * seja a própria entidade e não tenha permissões de administrador.
    */
   boolean invalidateLogin(String loginId) throws ServiceFailure,
     UnauthorizedOperation;
 
   /**
-   * Obtm informaes de um login vlido. Essa operao realiza uma chamada
-   * remota e  bloqueante.
+   * Obtém informações de um login válido. Essa operação realiza uma chamada
+   * remota e é bloqueante.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar um LoginInfo no preenchido e se manter
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará um LoginInfo não preenchido e se manterá
    * interrompida.
    *
    * @param loginId Identificador do login a ser consultado.
-   * @param pubkey Valor de retorno com a chave pblica da entidade.
-   * @return Informaes sobre o login requisitado.
-   * @throws InvalidLogins Caso o login requisitado seja invlido.
+   * @param pubkey Valor de retorno com a chave pública da entidade.
+   * @return Informações sobre o login requisitado.
+   * @throws InvalidLogins Caso o login requisitado seja inválido.
    * @throws ServiceFailure Caso o barramento reporte alguma falha inesperada ao
-   * realizar a operao.
+   * realizar a operação.
    */
   LoginInfo loginInfo(String loginId, OctetSeqHolder pubkey)
     throws InvalidLogins, ServiceFailure;
 
   /**
-   * Verifica a validade de um login. Essa operao realiza uma chamada
-   * remota e  bloqueante.
+   * Verifica a validade de um login. Essa operação realiza uma chamada
+   * remota e é bloqueante.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar -1 e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará -1 e se manterá interrompida.
    *
    * @param loginId Identificador do login a ser consultado.
-   * @return Valor indicando o tempo mximo (em segundos) pelo qual o login
-   *         permanecer vlido sem necessidade de renovao. Caso a validade j
-   *         tenha expirado, o valor indicado  zero, indicando que o login no
-   *          mais vlido.
+   * @return Valor indicando o tempo máximo (em segundos) pelo qual o login
+   *         permanecerá válido sem necessidade de renovação. Caso a validade já
+   *         tenha expirado, o valor indicado é zero, indicando que o login não
+   *         é mais válido.
    * @throws ServiceFailure Caso o barramento reporte alguma falha inesperada ao
-   * realizar a operao.
+   * realizar a operação.
    */
   int loginValidity(String loginId) throws ServiceFailure;
 
   /**
    * Solicita que seja cadastrado um observador interessado em receber
-   * eventos de logins. A inscrio local retornada representa essa
-   * solicitao, que ser mantida pelo registro de logins local at que haja
-   * um logout explcito ou que o observador seja removido pela aplicao.
+   * eventos de logins. A inscrição local retornada representa essa
+   * solicitação, que será mantida pelo registro de logins local até que haja
+   * um logout explícito ou que o observador seja removido pela aplicação.
    *
-   * Essa operao no  bloqueante, o cadastro do observador se necessrio
-   * ser feito por uma outra thread. O objeto subscrio retornado permite
-   * realizar as operaes cabveis sem que seja necessrio se preocupar com o
+   * Essa operação não é bloqueante, o cadastro do observador se necessário
+   * será feito por uma outra thread. O objeto subscrição retornado permite
+   * realizar as operações cabíveis sem que seja necessário se preocupar com o
    * momento do cadastro real do observador no barramento.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar {@code null} e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará {@code null} e se manterá interrompida.
    *
-   * @param observer Objeto a ser utilizado para a nofificao de eventos.
-   * @return Objeto para gerncia da inscrio do observador.
-   * @throws ServantNotActive Caso no seja possvel ativar no POA fornecido
-   * pela conexo um objeto CORBA que  criado para atender s notificaes
+   * @param observer Objeto a ser utilizado para a nofificação de eventos.
+   * @return Objeto para gerência da inscrição do observador.
+   * @throws ServantNotActive Caso não seja possível ativar no POA fornecido
+   * pela conexão um objeto CORBA que é criado para atender às notificações
    * do barramento.
-   * @throws WrongPolicy Caso haja alguma inconsistncia com as polticas do
-   * POA fornecido pela conexo ao criar um objeto CORBA para atender s
-   * notificaes do barramento.
+   * @throws WrongPolicy Caso haja alguma inconsistência com as políticas do
+   * POA fornecido pela conexão ao criar um objeto CORBA para atender às
+   * notificações do barramento.
    */
   LoginSubscription subscribeObserver(LoginObserver observer) throws
     ServantNotActive, WrongPolicy;
@@ -7,124 +7,124 @@ import tecgraf.openbus.core.v2_1.services.access_control.InvalidLogins;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 
 /**
- * Representa uma inscrio de um observador de logins. Essa inscrio ser
+ * Representa uma inscrição de um observador de logins. Essa inscrição será
  * mantida no barramento pelo registro de logins do qual se originou,
- * utilizando a conexo que o originou, at que a aplicao remova-a ou
+ * utilizando a conexão que o originou, até que a aplicação remova-a ou
  * realize um logout proposital.
  *
- * Esta inscrio permite a configurao do conjunto logins observveis, onde os
- * possveis eventos gerados so definidos pela interface {@link LoginObserver}.
+ * Esta inscrição permite a configuração do conjunto logins observáveis, onde os
+ * possíveis eventos gerados são definidos pela interface {@link LoginObserver}.
  *
  * @author Tecgraf
  */
 public interface LoginSubscription {
   /**
-   * Fornece a conexo utilizada para as chamadas remotas dessa subscrio.
-   * @return A conexo.
+   * Fornece a conexão utilizada para as chamadas remotas dessa subscrição.
+   * @return A conexão.
    */
   Connection connection();
 
   /**
-   * Fornece o observador inscrito pela aplicao.
+   * Fornece o observador inscrito pela aplicação.
    * 
    * @return o observador.
    */
   LoginObserver observer();
 
   /**
-   * Adiciona um login  lista de logins observados. A monitorao dos
-   * logins pertencentes  lista ser mantida pelo registro de logins local at
-   * que haja um logout explcito, que o login seja removido da lista pela
-   * aplicao ou que o observador seja removido pela aplicao.
+   * Adiciona um login à lista de logins observados. A monitoração dos
+   * logins pertencentes à lista será mantida pelo registro de logins local até
+   * que haja um logout explícito, que o login seja removido da lista pela
+   * aplicação ou que o observador seja removido pela aplicação.
    *
-   * Essa operao incorre em uma chamada remota ao barramento e  bloqueante.
+   * Essa operação incorre em uma chamada remota ao barramento e é bloqueante.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar {@code false} e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará {@code false} e se manterá interrompida.
    *
    * @param loginId Identificador do login a ser observado.
-   * @return {@code True} caso o loginId especificado seja vlido,
-   * {@code false} caso contrrio.
+   * @return {@code True} caso o loginId especificado seja válido,
+   * {@code false} caso contrário.
    * @throws ServiceFailure Caso haja algum problema inesperado ao executar a
-   * ao no barramento.
+   * ação no barramento.
    */
   boolean watchLogin(String loginId) throws ServiceFailure;
 
   /**
-   * Remove um login da lista de logins observados. Caso o login informado no
-   * esteja na lista de logins observados ou for um login invlido, essa
-   * operao no ter efeito algum.
+   * Remove um login da lista de logins observados. Caso o login informado não
+   * esteja na lista de logins observados ou for um login inválido, essa
+   * operação não terá efeito algum.
    *
-   * Essa operao incorre em uma chamada remota ao barramento e  bloqueante.
+   * Essa operação incorre em uma chamada remota ao barramento e é bloqueante.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará e se manterá interrompida.
    *
    * @param loginId Identificador do login a ser removido.
    * @throws ServiceFailure Caso haja algum problema inesperado ao executar a
-   * ao no barramento.
+   * ação no barramento.
    */
   void forgetLogin(String loginId) throws ServiceFailure;
 
   /**
-   * Adiciona uma sequncia de logins  lista de logins observados. A
-   * monitorao dos logins pertencentes  lista ser mantida pelo registro
-   * de logins local at que haja um logout explcito, que a sequncia (ou
-   * parte dela) de logins seja removida da lista pela aplicao ou que o
-   * observador seja removido pela aplicao.
+   * Adiciona uma sequência de logins à lista de logins observados. A
+   * monitoração dos logins pertencentes à lista será mantida pelo registro
+   * de logins local até que haja um logout explícito, que a sequência (ou
+   * parte dela) de logins seja removida da lista pela aplicação ou que o
+   * observador seja removido pela aplicação.
    *
-   * Essa operao incorre em uma chamada remota ao barramento e  bloqueante.
+   * Essa operação incorre em uma chamada remota ao barramento e é bloqueante.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará e se manterá interrompida.
    *
-   * @param loginIds Uma sequncia de identificadores de logins a serem
+   * @param loginIds Uma sequência de identificadores de logins a serem
    *        observados.
-   * @throws InvalidLogins Caso um ou mais logins pertencentes  sequncia
-   * fornecida estejam invlidos no barramento. A exceo conter os logins
-   * definidos como invlidos.
+   * @throws InvalidLogins Caso um ou mais logins pertencentes à sequência
+   * fornecida estejam inválidos no barramento. A exceção conterá os logins
+   * definidos como inválidos.
    * @throws ServiceFailure Caso haja algum problema inesperado ao executar a
-   * ao no barramento.
+   * ação no barramento.
    */
   void watchLogins(List<String> loginIds) throws InvalidLogins, ServiceFailure;
 
   /**
-   * Remove uma sequncia de logins da lista de logins observados. Caso algum
-   * dos logins informados no esteja na lista de logins observados ou for um
-   * login invlido, essa operao no ter efeito algum para esse login
-   * especfico.
+   * Remove uma sequência de logins da lista de logins observados. Caso algum
+   * dos logins informados não esteja na lista de logins observados ou for um
+   * login inválido, essa operação não terá efeito algum para esse login
+   * específico.
    *
-   * Essa operao incorre em uma chamada remota ao barramento e  bloqueante.
+   * Essa operação incorre em uma chamada remota ao barramento e é bloqueante.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará e se manterá interrompida.
    *
-   * @param loginIds A sequncia de identificadores de logins a serem removidos.
+   * @param loginIds A sequência de identificadores de logins a serem removidos.
    * @throws ServiceFailure Caso haja algum problema inesperado ao executar a
-   * ao no barramento.
+   * ação no barramento.
    */
   void forgetLogins(List<String> loginIds) throws ServiceFailure;
 
   /**
-   * Obtm a lista dos logins observados por esse observador.
+   * Obtém a lista dos logins observados por esse observador.
    *
-   * Essa operao incorre em uma chamada remota ao barramento e  bloqueante.
+   * Essa operação incorre em uma chamada remota ao barramento e é bloqueante.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar uma lista vazia e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará uma lista vazia e se manterá interrompida.
    *
    * @return A lista de logins observados.
    */
   List<LoginInfo> watchedLogins();
 
   /**
-   * Remove a inscrio desse observador localmente, fazendo com que mais
-   * nenhum evento sobre os logins observados seja notificado atravs dele.
-   * Caso seja necessrio remover o observador do barramento, uma outra
-   * thread ser encarregada desse trabalho.
+   * Remove a inscrição desse observador localmente, fazendo com que mais
+   * nenhum evento sobre os logins observados seja notificado através dele.
+   * Caso seja necessário remover o observador do barramento, uma outra
+   * thread será encarregada desse trabalho.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará e se manterá interrompida.
    */
   void remove();
 }
\ No newline at end of file
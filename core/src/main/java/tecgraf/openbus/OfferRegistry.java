@@ -10,37 +10,37 @@ import scs.core.IComponent;
 import tecgraf.openbus.core.v2_1.services.ServiceFailure;
 
 /**
- * Interface local do registro de ofertas. Responsvel por fornecer
- * mtodos associados a ofertas de servios e por manter ofertas e
- * observadores (de registro de oferta ou de oferta) da aplicao.
+ * Interface local do registro de ofertas. Responsável por fornecer
+ * métodos associados a ofertas de serviços e por manter ofertas e
+ * observadores (de registro de oferta ou de oferta) da aplicação.
  *
  * @author Tecgraf
  */
 public interface OfferRegistry {
   /**
-   * Fornece a conexo utilizada para as chamadas remotas desse registro.
-   * @return A conexo.
+   * Fornece a conexão utilizada para as chamadas remotas desse registro.
+   * @return A conexão.
    */
   Connection connection();
 
   /**
-   * Solicita que seja registrado um servio representado por um componente
+   * Solicita que seja registrado um serviço representado por um componente
    * ({@link IComponent}) no barramento. A oferta local retornada representa
-   * essa solicitao, que ser mantida pelo registro de ofertas local at
-   * que haja um logout explcito ou que a oferta seja removida pela aplicao.
+   * essa solicitação, que será mantida pelo registro de ofertas local até
+   * que haja um logout explícito ou que a oferta seja removida pela aplicação.
    *
-   * Essa operao no  bloqueante, o registro da oferta ser feito por uma
+   * Essa operação não é bloqueante, o registro da oferta será feito por uma
    * outra thread. O objeto oferta local retornado permite realizar as
-   * operaes cabveis sem que seja necessrio se preocupar com o momento do
+   * operações cabíveis sem que seja necessário se preocupar com o momento do
    * registro real da oferta no barramento.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar {@code null} e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará {@code null} e se manterá interrompida.
    *
-   * @param service O servio a ser publicado.
-   * @param properties as propriedades a serem associadas  publicao do
-   *        servio.
-   * @return Uma representao local da oferta que ser mantida publicada no
+   * @param service O serviço a ser publicado.
+   * @param properties as propriedades a serem associadas à publicação do
+   *        serviço.
+   * @return Uma representação local da oferta que será mantida publicada no
    * barramento.
    */
   LocalOffer registerService(IComponent service, ArrayListMultimap<String,
@@ -49,71 +49,71 @@ public interface OfferRegistry {
   /**
    * Busca por ofertas que apresentem um conjunto de propriedades definido.
    * Em particular, caso nenhuma propriedade seja especificada, nenhuma
-   * oferta ser includa no resultado dessa operao. As propriedades
+   * oferta será incluída no resultado dessa operação. As propriedades
    * utilizadas nas buscas podem ser as fornecidas no momento do registro da
-   * oferta de servio, assim como as geradas automaticamente pelo registro
-   * de ofertas de servios do barramento
+   * oferta de serviço, assim como as geradas automaticamente pelo registro
+   * de ofertas de serviços do barramento
    * ({@link tecgraf.openbus.offers.ServiceProperties}).
    *
-   * Essa operao realiza uma chamada remota e  bloqueante.
+   * Essa operação realiza uma chamada remota e é bloqueante.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar uma lista vazia e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará uma lista vazia e se manterá interrompida.
    *
-   * @param properties Propriedades que as ofertas de servios desejadas devem
+   * @param properties Propriedades que as ofertas de serviços desejadas devem
    *        apresentar.
    * 
-   * @return Uma lista com as ofertas de servio encontradas.
+   * @return Uma lista com as ofertas de serviço encontradas.
    *
    * @throws ServiceFailure Caso o barramento reporte alguma falha inesperada ao
-   * realizar a operao.
+   * realizar a operação.
    */
   List<RemoteOffer> findServices(ArrayListMultimap<String, String> properties)
     throws ServiceFailure;
 
   /**
-   * Obtm uma lista de todas as ofertas de servio registradas no barramento.
-   * Essa operao realiza uma chamada remota e  bloqueante.
+   * Obtém uma lista de todas as ofertas de serviço registradas no barramento.
+   * Essa operação realiza uma chamada remota e é bloqueante.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar uma lista vazia e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará uma lista vazia e se manterá interrompida.
    *
-   * @return Uma lista com as ofertas de servio registradas no barramento no
-   * momento da requisio.
+   * @return Uma lista com as ofertas de serviço registradas no barramento no
+   * momento da requisição.
    * @throws ServiceFailure Caso o barramento reporte alguma falha inesperada ao
-   * realizar a operao.
+   * realizar a operação.
    */
   List<RemoteOffer> allServices() throws ServiceFailure;
 
   /**
    * Solicita que seja cadastrado um observador interessado em receber
    * eventos de registro de ofertas, de acordo com um conjunto de
-   * propriedades especificadas. A inscrio local retornada representa essa
-   * solicitao, que ser mantida pelo registro de ofertas local at que haja
-   * um logout explcito ou que o observador seja removido pela aplicao.
+   * propriedades especificadas. A inscrição local retornada representa essa
+   * solicitação, que será mantida pelo registro de ofertas local até que haja
+   * um logout explícito ou que o observador seja removido pela aplicação.
    *
-   * Para cada observador subscrito pela aplicao, ser criado um objeto
+   * Para cada observador subscrito pela aplicação, será criado um objeto
    * CORBA para o recebimento dos eventos gerados pelo barramento.
    *
-   * Essa operao no  bloqueante, o cadastro do observador ser feito por
-   * uma outra thread. O objeto subscrio retornado permite realizar as
-   * operaes cabveis sem que seja necessrio se preocupar com o momento do
+   * Essa operação não é bloqueante, o cadastro do observador será feito por
+   * uma outra thread. O objeto subscrição retornado permite realizar as
+   * operações cabíveis sem que seja necessário se preocupar com o momento do
    * cadastro real do observador no barramento.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar {@code null} e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará {@code null} e se manterá interrompida.
    *
    * @param observer O observador.
-   * @param properties Propriedades que as ofertas de servios registradas devem
+   * @param properties Propriedades que as ofertas de serviços registradas devem
    *        apresentar para que o observador seja notificado.
    * 
-   * @return Objeto que representa a inscrio do observador.
-   * @throws ServantNotActive Caso no seja possvel ativar no POA fornecido
-   * pela conexo um objeto CORBA que  criado para atender s notificaes
+   * @return Objeto que representa a inscrição do observador.
+   * @throws ServantNotActive Caso não seja possível ativar no POA fornecido
+   * pela conexão um objeto CORBA que é criado para atender às notificações
    * do barramento.
-   * @throws WrongPolicy Caso haja alguma inconsistncia com as polticas do
-   * POA fornecido pela conexo ao criar um objeto CORBA para atender s
-   * notificaes do barramento.
+   * @throws WrongPolicy Caso haja alguma inconsistência com as políticas do
+   * POA fornecido pela conexão ao criar um objeto CORBA para atender às
+   * notificações do barramento.
    */
   OfferRegistrySubscription subscribeObserver(OfferRegistryObserver observer,
     ArrayListMultimap<String, String> properties) throws ServantNotActive,
@@ -1,14 +1,14 @@
 package tecgraf.openbus;
 
 /**
- * Interface de observao de eventos de registro de ofertas.
+ * Interface de observação de eventos de registro de ofertas.
  *
  * @author Tecgraf/PUC-Rio
  */
 public interface OfferRegistryObserver {
 
   /**
-   * Uma oferta que atende aos critrios de observao foi registrada no
+   * Uma oferta que atende aos critérios de observação foi registrada no
    * barramento.
    * 
    * @param offer a oferta registrada.
@@ -6,77 +6,77 @@ import tecgraf.openbus.core.v2_1.services.ServiceFailure;
 import java.util.concurrent.TimeoutException;
 
 /**
- * Representa uma inscrio de um observador de registro de oferta de servio.
- * Essa inscrio ser mantida no barramento pelo registro de ofertas do qual se
- * originou, utilizando a conexo que o originou, at que a aplicao
+ * Representa uma inscrição de um observador de registro de oferta de serviço.
+ * Essa inscrição será mantida no barramento pelo registro de ofertas do qual se
+ * originou, utilizando a conexão que o originou, até que a aplicação
  * remova-a ou realize um logout proposital.
  *
- * Os possveis eventos gerados so definidos pela interface
+ * Os possíveis eventos gerados são definidos pela interface
  * {@link OfferRegistryObserver}.
  *
  * @author Tecgraf
  */
 public interface OfferRegistrySubscription {
   /**
-   * Fornece a conexo utilizada para as chamadas remotas dessa subscrio.
-   * @return A conexo.
+   * Fornece a conexão utilizada para as chamadas remotas dessa subscrição.
+   * @return A conexão.
    */
   Connection connection();
 
   /**
-   * Indica se a subscrio foi bem-sucedida ou no. Caso algum erro a esteja
-   * impedindo, lanar a exceo que corresponde ao ltimo erro recebido.
+   * Indica se a subscrição foi bem-sucedida ou não. Caso algum erro a esteja
+   * impedindo, lançará a exceção que corresponde ao último erro recebido.
    *
-   * O SDK continuar tentando realizar a subscrio periodicamente
-   * independente do erro acusado, at conseguir ou at que a mesma seja
-   * removida pelo usurio atravs do mtodo {@link #remove()}.
+   * O SDK continuará tentando realizar a subscrição periodicamente
+   * independente do erro acusado, até conseguir ou até que a mesma seja
+   * removida pelo usuário através do método {@link #remove()}.
    *
-   * Caso a subscrio no esteja cadastrada no barramento no momento da
-   * chamada ou no haja um login vlido, a chamada ficar bloqueada at que
-   * essas condies sejam cumpridas. Caso seja interrompida, retornar
-   * false e se manter interrompida.
+   * Caso a subscrição não esteja cadastrada no barramento no momento da
+   * chamada ou não haja um login válido, a chamada ficará bloqueada até que
+   * essas condições sejam cumpridas. Caso seja interrompida, retornará
+   * false e se manterá interrompida.
    *
    * @throws ServiceFailure Caso haja algum erro inesperado no barramento ao
-   * realizar a subscrio.
-   * @return True caso a subscrio esteja ativa, false caso tenha sido
-   * cancelada pelo usurio atravs do mtodo {@link #remove()}.
+   * realizar a subscrição.
+   * @return True caso a subscrição esteja ativa, false caso tenha sido
+   * cancelada pelo usuário através do método {@link #remove()}.
    */
   boolean subscribed() throws ServiceFailure;
 
   /**
-   * Indica se a subscrio foi bem-sucedida ou no. Caso algum erro a esteja
-   * impedindo, lanar a exceo que corresponde ao ltimo erro recebido.
+   * Indica se a subscrição foi bem-sucedida ou não. Caso algum erro a esteja
+   * impedindo, lançará a exceção que corresponde ao último erro recebido.
    *
-   * O SDK continuar tentando realizar a subscrio periodicamente
-   * independente do erro acusado, at conseguir ou at que a mesma seja
-   * removida pelo usurio atravs do mtodo {@link #remove()}.
+   * O SDK continuará tentando realizar a subscrição periodicamente
+   * independente do erro acusado, até conseguir ou até que a mesma seja
+   * removida pelo usuário através do método {@link #remove()}.
    *
-   * Caso a subscrio no esteja cadastrada no barramento no momento da
-   * chamada ou no haja um login vlido, a chamada ficar bloqueada at que
-   * essas condies sejam cumpridas ou o tempo se esgote. Caso seja
-   * interrompida, retornar false e se manter interrompida.
+   * Caso a subscrição não esteja cadastrada no barramento no momento da
+   * chamada ou não haja um login válido, a chamada ficará bloqueada até que
+   * essas condições sejam cumpridas ou o tempo se esgote. Caso seja
+   * interrompida, retornará false e se manterá interrompida.
    *
-   * @param timeoutMillis O tempo mximo a aguardar pela subscrio do
+   * @param timeoutMillis O tempo máximo a aguardar pela subscrição do
    *                      observador de registro de oferta, em milisegundos.
    * @throws ServiceFailure Caso haja algum erro inesperado no barramento ao
-   * realizar a subscrio.
+   * realizar a subscrição.
    * @throws TimeoutException O tempo especificado se esgotou antes de a
-   * subscrio ser completada.
-   * @return True caso a subscrio esteja ativa, false caso tenha sido
-   * cancelada pelo usurio atravs do mtodo {@link #remove()}.
+   * subscrição ser completada.
+   * @return True caso a subscrição esteja ativa, false caso tenha sido
+   * cancelada pelo usuário através do método {@link #remove()}.
    */
   boolean subscribed(long timeoutMillis) throws ServiceFailure,
     TimeoutException;
 
   /**
-   * Fornece a referncia para o observador inscrito pela aplicao.
+   * Fornece a referência para o observador inscrito pela aplicação.
    * 
    * @return O observador.
    */
   OfferRegistryObserver observer();
 
   /**
-   * Fornece a lista de propriedades de oferta nas quais o observador est
+   * Fornece a lista de propriedades de oferta nas quais o observador está
    * interessado.
    * 
    * @return A lista de propriedades.
@@ -84,14 +84,14 @@ public interface OfferRegistrySubscription {
   ArrayListMultimap<String, String> properties();
 
   /**
-   * Remove a incrio do observador, localmente. Uma outra thread ser
+   * Remove a incrição do observador, localmente. Uma outra thread será
    * encarregada de remover o observador do barramento.
    *
-   * Essa operao pode bloquear enquanto no houver um login ativo. Caso seja
-   * interrompida, retornar e se manter interrompida.
+   * Essa operação pode bloquear enquanto não houver um login ativo. Caso seja
+   * interrompida, retornará e se manterá interrompida.
    *
-   * Aps a execuo deste mtodo, os mtodos {@link #subscribed()} e
-   * {@link #subscribed(long)} retornaro {@code false}.
+   * Após a execução deste método, os métodos {@link #subscribed()} e
+   * {@link #subscribed(long)} retornarão {@code false}.
    */
   void remove();
 }
\ No newline at end of file
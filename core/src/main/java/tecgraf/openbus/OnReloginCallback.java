@@ -5,18 +5,18 @@ import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 /**
  * Callback de login refeito.
  * <p>
- * Interface responsvel por notificaes de que o login foi refeito, para
- * que a aplicao possa gerenciar seus prprios recursos dependentes do
+ * Interface responsável por notificações de que o login foi refeito, para
+ * que a aplicação possa gerenciar seus próprios recursos dependentes do
  * login.
  *
  * Como o login pode ser refeito a qualquer momento, diversas
- * <i>callbacks</i> podem executar ao mesmo tempo. Portanto, a aplicao
- * deve tratar questes de concorrncia de acordo.
+ * <i>callbacks</i> podem executar ao mesmo tempo. Portanto, a aplicação
+ * deve tratar questões de concorrência de acordo.
  *
- * Recursos associados a funcionalidades bsicas do barramento (logins,
+ * Recursos associados a funcionalidades básicas do barramento (logins,
  * ofertas, observadores de login, observadores de registro de oferta e
- * observadores de oferta) so gerenciados automaticamente pela biblioteca e
- * no precisam ser refeitos pela aplicao.
+ * observadores de oferta) são gerenciados automaticamente pela biblioteca e
+ * não precisam ser refeitos pela aplicação.
  *
  * @author Tecgraf
  */
@@ -24,11 +24,11 @@ public interface OnReloginCallback {
   /**
    * Callback de login refeito.
    * <p>
-   * Notifica que um login foi refeito. Caso este mtodo resulte em alguma
-   * exceo, o erro ser capturado pela biblioteca e registrado no log.
+   * Notifica que um login foi refeito. Caso este método resulte em alguma
+   * exceção, o erro será capturado pela biblioteca e registrado no log.
    *
-   * @param connection Conexo que teve o login refeito.
-   * @param oldLogin Login que se tornou invlido.
+   * @param connection Conexão que teve o login refeito.
+   * @param oldLogin Login que se tornou inválido.
    */
   void onRelogin(Connection connection, LoginInfo oldLogin);
 }
@@ -12,31 +12,31 @@ import tecgraf.openbus.exception.InvalidPropertyValue;
 
 /**
  * Permite controlar o contexto das chamadas de um {@link ORB} para acessar
- * informaes que identificam essas chamadas em barramentos OpenBus.
+ * informações que identificam essas chamadas em barramentos OpenBus.
  * <p>
- * O contexto de uma chamada pode ser definido pela linha de execuo atual do
+ * O contexto de uma chamada pode ser definido pela linha de execução atual do
  * programa em que executa uma chamada, o que pode ser a <i>thread</i> em
- * execuo ou mais comumente o {@link Current} do padro CORBA. As
- * informaes acessveis atravs do {@link OpenBusContext} se referem
- * basicamente  identificao da origem das chamadas, ou seja, o nome das
+ * execução ou mais comumente o {@link Current} do padrão CORBA. As
+ * informações acessíveis através do {@link OpenBusContext} se referem
+ * basicamente à identificação da origem das chamadas, ou seja, o nome das
  * entidades que autenticaram os acessos ao barramento que originaram as
  * chamadas.
  * <p>
- * A identificao de chamadas no barramento  controlada no OpenBusContext
- * atravs da manipulao de duas abstraes representadas pelas seguintes
+ * A identificação de chamadas no barramento é controlada no OpenBusContext
+ * através da manipulação de duas abstrações representadas pelas seguintes
  * interfaces:
  * <ul>
- * <li> {@link Connection}: Representa um acesso ao barramento, que  usado
- * tanto para fazer chamadas como para receber chamadas atravs do barramento
- * . Para tal a conexo precisa estar autenticada, ou seja, ter um login. Cada
- * chamada feita atravs do ORB  enviada com as informaes do login da conexo
+ * <li> {@link Connection}: Representa um acesso ao barramento, que é usado
+ * tanto para fazer chamadas como para receber chamadas através do barramento
+ * . Para tal a conexão precisa estar autenticada, ou seja, ter um login. Cada
+ * chamada feita através do ORB é enviada com as informações do login da conexão
  * associada ao contexto em que a chamada foi realizada. Cada chamada recebida
- * tambm deve vir atravs de uma conexo com login, que deve ser o mesmo login
+ * também deve vir através de uma conexão com login, que deve ser o mesmo login
  * com que chamadas aninhadas a essa chamada original devem ser feitas.
- * <li> {@link CallChain}: Representa a identificao de todos os acessos ao
- * barramento que originaram uma chamada recebida. Sempre que uma chamada 
- * recebida e executada,  possvel obter uma cadeia de chamadas atravs da
- * qual  possvel inspecionar as informaes de acesso que originaram a chamada
+ * <li> {@link CallChain}: Representa a identificação de todos os acessos ao
+ * barramento que originaram uma chamada recebida. Sempre que uma chamada é
+ * recebida e executada, é possível obter uma cadeia de chamadas através da
+ * qual é possível inspecionar as informações de acesso que originaram a chamada
  * recebida.
  * </ul>
  * 
@@ -53,33 +53,33 @@ public interface OpenBusContext {
 
   /**
    * Fornece o POA associado ao OpenBusContext. Inicialmente o contexto
-   * utiliza o RootPOA, mas  possvel alterar o POA atravs do mtodo
+   * utiliza o RootPOA, mas é possível alterar o POA através do método
    * {@link #POA(POA)}.
    *
-   * @return O POA a ser utilizado ao criar conexes.
+   * @return O POA a ser utilizado ao criar conexões.
    */
   POA POA();
 
   /**
-   * Configura o POA que o OpenBusContext utilizar ao criar conexes.
+   * Configura o POA que o OpenBusContext utilizará ao criar conexões.
    *
    * @param poa O POA a ser utilizado.
    */
   void POA(POA poa);
 
   /**
-   * <i>Callback</i> a ser chamada para determinar a conexo a ser utilizada
+   * <i>Callback</i> a ser chamada para determinar a conexão a ser utilizada
    * para receber cada chamada.
    * <p>
-   * Essa callback deve fornecer a conexo a ser utilizada para para receber
-   * uma chamada. Essa conexo ser a nica conexo atravs da qual novas
-   * chamadas aninhadas  chamada recebida podero ser feitas (veja a
-   * operao {@link #joinChain}).
+   * Essa callback deve fornecer a conexão a ser utilizada para para receber
+   * uma chamada. Essa conexão será a única conexão através da qual novas
+   * chamadas aninhadas à chamada recebida poderão ser feitas (veja a
+   * operação {@link #joinChain}).
    * <p>
    * Se a <i>callback</i> estiver definida como {@code null} e houver uma
-   * conexo padro definida, a conexo padro ser utilizada para receber a
-   * chamada. Caso ambos sejam {@code null}, a chamada no poder ser
-   * atendida e retornar um erro para o cliente remoto.
+   * conexão padrão definida, a conexão padrão será utilizada para receber a
+   * chamada. Caso ambos sejam {@code null}, a chamada não poderá ser
+   * atendida e retornará um erro para o cliente remoto.
    *
    * @param callback Objeto que implementa a interface de <i>callback</i> ou
    * {@code null} para remover o objeto atual.
@@ -89,200 +89,200 @@ public interface OpenBusContext {
   /**
    * Fornece a callback configurada para receber chamadas.
    * 
-   * @return A callback ou {@code null} caso ela no tenha sido definida.
+   * @return A callback ou {@code null} caso ela não tenha sido definida.
    */
   CallDispatchCallback onCallDispatch();
 
   /**
-   * Cria uma conexo para um barramento. O barramento  definido por um nome ou
-   * endereo de rede e um nmero de porta, onde os servios ncleo daquele
-   * barramento esto executando.
+   * Cria uma conexão para um barramento. O barramento é definido por um nome ou
+   * endereço de rede e um número de porta, onde os serviços núcleo daquele
+   * barramento estão executando.
    *
-   * Esta chamada no implica em chamadas remotas, apenas realiza a
-   * configurao necessria para acessar um barramento e realizar
-   * autenticaes.
+   * Esta chamada não implica em chamadas remotas, apenas realiza a
+   * configuração necessária para acessar um barramento e realizar
+   * autenticações.
    * 
-   * @param host Endereo ou nome de rede onde os servios ncleo do barramento
-   *        esto executando.
-   * @param port Porta onde os servios ncleo do barramento esto executando.
+   * @param host Endereço ou nome de rede onde os serviços núcleo do barramento
+   *        estão executando.
+   * @param port Porta onde os serviços núcleo do barramento estão executando.
    * 
-   * @return A conexo criada.
+   * @return A conexão criada.
    */
   Connection connectByAddress(String host, int port);
 
   /**
-   * Cria uma conexo para um barramento. O barramento  definido por um nome ou
-   * endereo de rede e um nmero de porta, onde os servios ncleo daquele
-   * barramento esto executando.
+   * Cria uma conexão para um barramento. O barramento é definido por um nome ou
+   * endereço de rede e um número de porta, onde os serviços núcleo daquele
+   * barramento estão executando.
    *
-   * Esta chamada no implica em chamadas remotas, apenas realiza a
-   * configurao necessria para acessar um barramento e realizar
-   * autenticaes.
+   * Esta chamada não implica em chamadas remotas, apenas realiza a
+   * configuração necessária para acessar um barramento e realizar
+   * autenticações.
    *
-   * @param host Endereo ou nome de rede onde os servios ncleo do barramento
-   *        esto executando.
-   * @param port Porta onde os servios ncleo do barramento esto executando.
+   * @param host Endereço ou nome de rede onde os serviços núcleo do barramento
+   *        estão executando.
+   * @param port Porta onde os serviços núcleo do barramento estão executando.
    * @param props Lista opcional de propriedades que definem algumas
-   *        configuraes sobre a forma que as chamadas realizadas ou validadas
-   *        com essa conexo so feitas. As propriedades vlidas esto
+   *        configurações sobre a forma que as chamadas realizadas ou validadas
+   *        com essa conexão são feitas. As propriedades válidas estão
    *        definidas em {@link tecgraf.openbus.core.OpenBusProperty}.
    * 
-   * @return A conexo criada.
+   * @return A conexão criada.
    * 
-   * @throws InvalidPropertyValue O valor de uma propriedade no  vlido.
+   * @throws InvalidPropertyValue O valor de uma propriedade não é válido.
    */
   Connection connectByAddress(String host, int port, Properties props)
     throws InvalidPropertyValue;
 
   /**
-   * Cria uma conexo para um barramento. O barramento  definido por uma
-   * referncia CORBA a um componente SCS que representa os servios ncleo do
-   * barramento. Essa funo deve ser utilizada ao invs da
+   * Cria uma conexão para um barramento. O barramento é definido por uma
+   * referência CORBA a um componente SCS que representa os serviços núcleo do
+   * barramento. Essa função deve ser utilizada ao invés da
    * {@link #connectByAddress} para permitir o uso de SSL nas
-   * comunicaes com o ncleo do barramento.
+   * comunicações com o núcleo do barramento.
    *
-   * Esta chamada no implica em chamadas remotas, apenas realiza a
-   * configurao necessria para acessar um barramento e realizar
-   * autenticaes.
+   * Esta chamada não implica em chamadas remotas, apenas realiza a
+   * configuração necessária para acessar um barramento e realizar
+   * autenticações.
    *
-   * @param reference Referncia CORBA a um componente SCS que representa os
-   *        servios ncleo do barramento.
+   * @param reference Referência CORBA a um componente SCS que representa os
+   *        serviços núcleo do barramento.
    * 
-   * @return A conexo criada.
+   * @return A conexão criada.
    */
   Connection connectByReference(org.omg.CORBA.Object reference);
 
   /**
-   * Cria uma conexo para um barramento. O barramento  definido por uma
-   * referncia CORBA a um componente SCS que representa os servios ncleo do
-   * barramento. Essa funo deve ser utilizada ao invs da
+   * Cria uma conexão para um barramento. O barramento é definido por uma
+   * referência CORBA a um componente SCS que representa os serviços núcleo do
+   * barramento. Essa função deve ser utilizada ao invés da
    * {@link #connectByAddress} para permitir o uso de SSL nas
-   * comunicaes com o ncleo do barramento.
+   * comunicações com o núcleo do barramento.
    *
-   * Esta chamada no implica em chamadas remotas, apenas realiza a
-   * configurao necessria para acessar um barramento e realizar
-   * autenticaes.
+   * Esta chamada não implica em chamadas remotas, apenas realiza a
+   * configuração necessária para acessar um barramento e realizar
+   * autenticações.
    *
-   * @param reference Referncia CORBA a um componente SCS que representa os
-   *        servios ncleo do barramento.
+   * @param reference Referência CORBA a um componente SCS que representa os
+   *        serviços núcleo do barramento.
    * @param props Lista opcional de propriedades que definem algumas
-   *        configuraes sobre a forma que as chamadas realizadas ou validadas
-   *        com essa conexo so feitas. As propriedades vlidas esto
+   *        configurações sobre a forma que as chamadas realizadas ou validadas
+   *        com essa conexão são feitas. As propriedades válidas estão
    *        definidas em {@link tecgraf.openbus.core.OpenBusProperty}.
    * 
-   * @return A conexo criada.
+   * @return A conexão criada.
    * 
-   * @throws InvalidPropertyValue O valor de uma propriedade no  vlido.
+   * @throws InvalidPropertyValue O valor de uma propriedade não é válido.
    */
   Connection connectByReference(org.omg.CORBA.Object reference, Properties props)
     throws InvalidPropertyValue;
 
   /**
-   * Cria uma conexo para um barramento. O barramento  definido por um nome ou
-   * endereo de rede e um nmero de porta, onde os servios ncleo daquele
-   * barramento esto executando.
+   * Cria uma conexão para um barramento. O barramento é definido por um nome ou
+   * endereço de rede e um número de porta, onde os serviços núcleo daquele
+   * barramento estão executando.
    *
-   * Esta chamada no implica em chamadas remotas, apenas realiza a
-   * configurao necessria para acessar um barramento e realizar
-   * autenticaes.
+   * Esta chamada não implica em chamadas remotas, apenas realiza a
+   * configuração necessária para acessar um barramento e realizar
+   * autenticações.
    *
-   * @param host Endereo ou nome de rede onde os servios ncleo do barramento
-   *        esto executando.
-   * @param port Porta onde os servios ncleo do barramento esto executando.
+   * @param host Endereço ou nome de rede onde os serviços núcleo do barramento
+   *        estão executando.
+   * @param port Porta onde os serviços núcleo do barramento estão executando.
    * 
-   * @return A conexo criada.
+   * @return A conexão criada.
    */
   @Deprecated
   Connection createConnection(String host, int port);
 
   /**
-   * Cria uma conexo para um barramento. O barramento  definido por um nome ou
-   * endereo de rede e um nmero de porta, onde os servios ncleo daquele
-   * barramento esto executando.
+   * Cria uma conexão para um barramento. O barramento é definido por um nome ou
+   * endereço de rede e um número de porta, onde os serviços núcleo daquele
+   * barramento estão executando.
    *
-   * Esta chamada no implica em chamadas remotas, apenas realiza a
-   * configurao necessria para acessar um barramento e realizar
-   * autenticaes.
+   * Esta chamada não implica em chamadas remotas, apenas realiza a
+   * configuração necessária para acessar um barramento e realizar
+   * autenticações.
    *
-   * @param host Endereo ou nome de rede onde os servios ncleo do barramento
-   *        esto executando.
-   * @param port Porta onde os servios ncleo do barramento esto executando.
+   * @param host Endereço ou nome de rede onde os serviços núcleo do barramento
+   *        estão executando.
+   * @param port Porta onde os serviços núcleo do barramento estão executando.
    * @param props Lista opcional de propriedades que definem algumas
-   *        configuraes sobre a forma que as chamadas realizadas ou validadas
-   *        com essa conexo so feitas. As propriedades vlidas esto
+   *        configurações sobre a forma que as chamadas realizadas ou validadas
+   *        com essa conexão são feitas. As propriedades válidas estão
    *        definidas em {@link tecgraf.openbus.core.OpenBusProperty}.
    * 
-   * @return A conexo criada.
+   * @return A conexão criada.
    * 
-   * @throws InvalidPropertyValue O valor de uma propriedade no  vlido.
+   * @throws InvalidPropertyValue O valor de uma propriedade não é válido.
    */
   @Deprecated
   Connection createConnection(String host, int port, Properties props)
     throws InvalidPropertyValue;
 
   /**
-   * Define a conexo padro a ser utilizada em chamadas sempre que no houver
-   * uma conexo especfica definida no contexto atual, como  feito atravs das
-   * operaes {@link #currentConnection(Connection)} e
+   * Define a conexão padrão a ser utilizada em chamadas sempre que não houver
+   * uma conexão específica definida no contexto atual, como é feito através das
+   * operações {@link #currentConnection(Connection)} e
    * {@link #onCallDispatch(CallDispatchCallback)}.
    *
-   * A conexo padro no afeta chamadas feitas por recursos de uma conexo.
+   * A conexão padrão não afeta chamadas feitas por recursos de uma conexão.
    * 
-   * @param connection A conexo a ser definida como conexo padro.
+   * @param connection A conexão a ser definida como conexão padrão.
    * 
-   * @return A conexo definida como conexo padro anteriormente, ou
-   *         {@code null} se no havia conexo padro definida.
+   * @return A conexão definida como conexão padrão anteriormente, ou
+   *         {@code null} se não havia conexão padrão definida.
    */
   Connection defaultConnection(Connection connection);
 
   /**
-   * Fornece a conexo padro a ser usada nas chamadas. Veja operao
+   * Fornece a conexão padrão a ser usada nas chamadas. Veja operação
    * {@link #defaultConnection defaultConnection}.
    *
-   * A conexo padro no afeta chamadas feitas por recursos de uma conexo.
+   * A conexão padrão não afeta chamadas feitas por recursos de uma conexão.
    *
-   * @return A conexo definida como conexo padro.
+   * @return A conexão definida como conexão padrão.
    */
   Connection defaultConnection();
 
   /**
-   * Define a conexo a ser utilizada em todas as chamadas feitas no contexto
+   * Define a conexão a ser utilizada em todas as chamadas feitas no contexto
    * atual.
    *
-   * Se a conexo corrente estiver definida como {@code null} e houver uma
-   * conexo padro definida, a conexo padro ser utilizada para realizar
-   * chamadas. Caso ambas sejam {@code null}, chamadas no podero ser
-   * realizadas e um erro ser lanado para a aplicao.
+   * Se a conexão corrente estiver definida como {@code null} e houver uma
+   * conexão padrão definida, a conexão padrão será utilizada para realizar
+   * chamadas. Caso ambas sejam {@code null}, chamadas não poderão ser
+   * realizadas e um erro será lançado para a aplicação.
    *
-   * A conexo corrente no afeta chamadas feitas por recursos de uma conexo.
+   * A conexão corrente não afeta chamadas feitas por recursos de uma conexão.
    *
-   * @param connection A conexo a ser associada ao contexto corrente.
+   * @param connection A conexão a ser associada ao contexto corrente.
    * 
-   * @return A conexo definida como a conexo corrente anteriormente, ou
-   * {@code null} se no havia conexo definida.
+   * @return A conexão definida como a conexão corrente anteriormente, ou
+   * {@code null} se não havia conexão definida.
    */
   Connection currentConnection(Connection connection);
 
   /**
-   * Fornece a conexo associada ao contexto corrente e que ser utilizada em
-   * chamadas. Ela pode ter sido definida pela operao
+   * Fornece a conexão associada ao contexto corrente e que será utilizada em
+   * chamadas. Ela pode ter sido definida pela operação
    * {@link #currentConnection(Connection)} ou
    * {@link #defaultConnection(Connection)}.
    *
-   * A conexo padro no afeta chamadas feitas por recursos de uma conexo.
+   * A conexão padrão não afeta chamadas feitas por recursos de uma conexão.
    *
-   * @return A conexo associada ao contexto corrente, ou {@code null} caso
-   *         no haja nenhuma conexo associada.
+   * @return A conexão associada ao contexto corrente, ou {@code null} caso
+   *         não haja nenhuma conexão associada.
    */
   Connection currentConnection();
 
   /**
-   * Fornece a cadeia de chamadas  qual a execuo corrente pertence.
+   * Fornece a cadeia de chamadas à qual a execução corrente pertence.
    * <p>
-   * Essa operao devolve um objeto que representa a cadeia de chamadas do
+   * Essa operação devolve um objeto que representa a cadeia de chamadas do
    * barramento que esta chamada faz parte.
    *
-   * @return A cadeia da chamada em execuo.
+   * @return A cadeia da chamada em execução.
    */
   CallerChain callerChain();
 
@@ -304,7 +304,7 @@ public interface OpenBusContext {
   void joinChain();
 
   /**
-   * Remove a associao da cadeia de chamadas ao contexto corrente (e.g.
+   * Remove a associação da cadeia de chamadas ao contexto corrente (e.g.
    * definido pelo {@link Current}), fazendo com que todas as chamadas seguintes
    * feitas neste mesmo contexto deixem de fazer parte da cadeia de chamadas
    * associada previamente. Ou seja, todas as chamadas passam a iniciar novas
@@ -315,9 +315,9 @@ public interface OpenBusContext {
   /**
    * Fornece a cadeia de chamadas associada ao contexto corrente (e.g.
    * definido pelo {@link Current}). A cadeia de chamadas informada foi
-   * associada previamente pela operao
-   * {@link #joinChain(CallerChain) joinChain}. Caso o contexto corrente no
-   * tenha nenhuma cadeia associada, essa operao retornar {@code null}.
+   * associada previamente pela operação
+   * {@link #joinChain(CallerChain) joinChain}. Caso o contexto corrente não
+   * tenha nenhuma cadeia associada, essa operação retornará {@code null}.
    *
    * @return A cadeia de chamadas associada ao contexto corrente ou {@code
    * null} .
@@ -325,8 +325,34 @@ public interface OpenBusContext {
   CallerChain joinedChain();
 
   /**
-   * Codifica uma cadeia de chamadas para permitir a persistncia ou
-   * transferncia da informao.
+   * Define a conexão corrente até que o escopo devolvido seja fechado,
+   * quando a conexão corrente definida anteriormente é restaurada. A cadeia
+   * de chamadas associada ao contexto corrente não é alterada.
+   *
+   * @param connection A conexão a ser associada ao contexto corrente, ou
+   *        {@code null} para manter a conexão corrente.
+   * @return O escopo da alteração.
+   */
+  ContextScope scope(Connection connection);
+
+  /**
+   * Define a conexão corrente e associa uma cadeia de chamadas ao contexto
+   * corrente até que o escopo devolvido seja fechado, quando ambas são
+   * restauradas. Diferente de {@link #joinChain(CallerChain)}, uma cadeia
+   * {@code null} faz com que as chamadas feitas dentro do escopo iniciem
+   * novas cadeias de chamada, como em {@link #exitChain()}.
+   *
+   * @param connection A conexão a ser associada ao contexto corrente, ou
+   *        {@code null} para manter a conexão corrente.
+   * @param chain A cadeia de chamadas a ser associada ao contexto corrente,
+   *        ou {@code null} para nenhuma cadeia.
+   * @return O escopo da alteração.
+   */
+  ContextScope scope(Connection connection, CallerChain chain);
+
+  /**
+   * Codifica uma cadeia de chamadas para permitir a persistência ou
+   * transferência da informação.
    *
    * @param chain A cadeia a ser codificada.
    * @return A cadeia codificada.
@@ -338,26 +364,26 @@ public interface OpenBusContext {
    *
    * @param encoded Os bytes que representam a cadeia.
    * @return A cadeia de chamadas no formato {@link CallerChain}.
-   * @throws InvalidEncodedStream Caso a cadeia no esteja no formato esperado.
+   * @throws InvalidEncodedStream Caso a cadeia não esteja no formato esperado.
    */
   CallerChain decodeChain(byte[] encoded) throws InvalidEncodedStream;
 
   /**
-   * Codifica um segredo de autenticao compartilhada para permitir a
-   * persistncia ou transferncia da informao.
+   * Codifica um segredo de autenticação compartilhada para permitir a
+   * persistência ou transferência da informação.
    *
-   * @param secret O segredo de autenticao compartilhada a ser codificado.
+   * @param secret O segredo de autenticação compartilhada a ser codificado.
    * @return O segredo codificado.
    */
   byte[] encodeSharedAuth(SharedAuthSecret secret);
 
   /**
-   * Decodifica um segredo de autenticao compartilhada para o formato
+   * Decodifica um segredo de autenticação compartilhada para o formato
    * ({@link SharedAuthSecret}).
    *
    * @param encoded Os bytes que representam o segredo.
-   * @return O segredo de autenticao compartilhada decodificado.
-   * @throws InvalidEncodedStream Caso o segredo no esteja no formato
+   * @return O segredo de autenticação compartilhada decodificado.
+   * @throws InvalidEncodedStream Caso o segredo não esteja no formato
    * esperado.
    */
   SharedAuthSecret decodeSharedAuth(byte[] encoded) throws InvalidEncodedStream;
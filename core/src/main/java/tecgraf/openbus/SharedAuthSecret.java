@@ -1,15 +1,15 @@
 package tecgraf.openbus;
 
 /**
- * Segredo para compartilhamento de autenticao.
+ * Segredo para compartilhamento de autenticação.
  * <p>
- * Objeto que representa uma tentativa de compartilhamento de autenticao
- * atravs do compartilhamento de um segredo, que pode ser utilizado para
- * realizar uma autenticao junto ao barramento em nome da mesma entidade que
+ * Objeto que representa uma tentativa de compartilhamento de autenticação
+ * através do compartilhamento de um segredo, que pode ser utilizado para
+ * realizar uma autenticação junto ao barramento em nome da mesma entidade que
  * gerou e compartilhou o segredo.
  *
- * Cada segredo de autenticao compartilhada pertence a um nico barramento e
- * s pode utilizado em uma nica autenticao.
+ * Cada segredo de autenticação compartilhada pertence a um único barramento e
+ * só pode utilizado em uma única autenticação.
  */
 public interface SharedAuthSecret {
 
@@ -21,9 +21,9 @@ public interface SharedAuthSecret {
   String busid();
 
   /**
-   * Mtodo que cancela o segredo, tornando-o inutilizvel.
+   * Método que cancela o segredo, tornando-o inutilizável.
    * <p>
-   * Cancela o segredo caso ainda esteja ativo, de forma que no poder mais
+   * Cancela o segredo caso ainda esteja ativo, de forma que não poderá mais
    * ser utilizado.
    */
   void cancel();
@@ -5,31 +5,31 @@ import java.security.interfaces.RSAPrivateKey;
 import tecgraf.openbus.SharedAuthSecret;
 
 /**
- * Informaes de autenticao de uma entidade.
+ * Informações de autenticação de uma entidade.
  *
  * @author Tecgraf
  */
 public class AuthArgs {
 
   /**
-   * Enumerao dos tipos de autenticao suportados.
+   * Enumeração dos tipos de autenticação suportados.
    */
   enum AuthMode {
-    /** Autenticao por senha */
+    /** Autenticação por senha */
     AuthByPassword,
-    /** Autenticao por certificado */
+    /** Autenticação por certificado */
     AuthByPrivateKey,
-    /** Autenticao compartilhada */
+    /** Autenticação compartilhada */
     AuthBySharedSecret,
   }
 
-  /** Modo de autenticao */
+  /** Modo de autenticação */
   AuthMode mode;
   /** Entidade */
   String entity;
   /** Senha */
   byte[] password;
-  /** Domnio */
+  /** Domínio */
   String domain;
   /** Chave privada */
   RSAPrivateKey privkey;
@@ -37,16 +37,16 @@ public class AuthArgs {
   SharedAuthSecret secret;
 
   /**
-   * Construtor para realizar autenticao por senha.
+   * Construtor para realizar autenticação por senha.
    *
    * @param entity Identificador da entidade a ser autenticada.
-   * @param password Senha de autenticao da entidade no barramento.
-   * @param domain Identificador do domnio de autenticao.
+   * @param password Senha de autenticação da entidade no barramento.
+   * @param domain Identificador do domínio de autenticação.
    */
   public AuthArgs(String entity, byte[] password, String domain) {
     if (entity == null || password == null || domain == null) {
       throw new IllegalArgumentException(
-        "Entidade, senha e domnio devem ser diferentes de nulo.");
+        "Entidade, senha e domínio devem ser diferentes de nulo.");
     }
     this.entity = entity;
     this.password = password;
@@ -55,11 +55,11 @@ public class AuthArgs {
   }
 
   /**
-   * Construtor para realizar autenticao por chave privada.
+   * Construtor para realizar autenticação por chave privada.
    *
    * @param entity Identificador da entidade a ser autenticada.
    * @param privateKey Chave privada correspondente ao certificado
-   *                   registrado, a ser utilizada na autenticao.
+   *                   registrado, a ser utilizada na autenticação.
    */
   public AuthArgs(String entity, RSAPrivateKey privateKey) {
     if (entity == null || privateKey == null) {
@@ -72,9 +72,9 @@ public class AuthArgs {
   }
 
   /**
-   * Construtor para realizar autenticao compartilhada.
+   * Construtor para realizar autenticação compartilhada.
    *
-   * @param secret Segredo para compartilhamento de autenticao.
+   * @param secret Segredo para compartilhamento de autenticação.
    */
   public AuthArgs(SharedAuthSecret secret) {
     if (secret == null) {
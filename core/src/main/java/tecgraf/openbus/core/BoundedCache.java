@@ -0,0 +1,832 @@
+package tecgraf.openbus.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache concorrente de tamanho limitado.
+ * <p>
+ * As leituras não utilizam bloqueio: os acessos são registrados em buffers
+ * circulares e aplicados à política de substituição em lote, quando um buffer
+ * enche ou quando ocorre uma escrita. Se um buffer estiver cheio, o registro
+ * do acesso é descartado, o que apenas reduz a precisão da política.
+ * <p>
+ * A política de substituição segue o modelo W-TinyLFU: as novas entradas são
+ * colocadas em uma pequena janela LRU e, ao saírem da janela, só são
+ * admitidas na área principal se forem mais frequentes que a entrada que
+ * seria removida para dar lugar a elas. A frequência das chaves é estimada
+ * por um <i>count-min sketch</i> de 4 bits, cujos contadores são reduzidos
+ * pela metade periodicamente. A área principal é uma LRU segmentada, em que
+ * as entradas acessadas mais de uma vez ficam protegidas.
+ * <p>
+ * O filtro de frequência pode ser desligado para caches cujas novas entradas
+ * precisam sobreviver até o seu primeiro uso, como as sessões criadas por um
+ * reinício de credencial, que só são utilizadas na retentativa da chamada.
+ * Sem ele, as entradas que saem da janela são sempre admitidas e a área
+ * principal se comporta como uma LRU segmentada.
+ * <p>
+ * A cache notifica as entradas removidas por falta de espaço, depois de
+ * liberar o bloqueio interno. Remoções explícitas não são notificadas.
+ *
+ * @author Tecgraf
+ * @param <K> Tipo da chave da cache
+ * @param <V> Tipo do valor da cache
+ */
+final class BoundedCache<K, V> {
+
+  /** Percentual da cache ocupado pela janela de admissão */
+  private static final int WINDOW_PERCENT = 1;
+  /** Percentual da área principal ocupado pelas entradas protegidas */
+  private static final int PROTECTED_PERCENT = 80;
+
+  /** Entradas da cache */
+  private final ConcurrentHashMap<K, Node<K, V>> data;
+  /** Observador das entradas removidas por falta de espaço */
+  private final EvictionListener<K, V> listener;
+  /** Indicador se a admissão na área principal depende da frequência */
+  private final boolean admission;
+  /** Bloqueio da política de substituição */
+  private final ReentrantLock evictionLock;
+  /** Buffer de acessos ainda não aplicados à política */
+  private final ReadBuffer<K, V> readBuffer;
+  /** Estimativa da frequência das chaves */
+  private final FrequencySketch sketch;
+  /** Janela de admissão */
+  private final AccessOrder<K, V> window;
+  /** Entradas da área principal acessadas uma única vez */
+  private final AccessOrder<K, V> probation;
+  /** Entradas da área principal acessadas mais de uma vez */
+  private final AccessOrder<K, V> protectedOrder;
+  /** Tamanho máximo da cache */
+  private int maximum;
+  /** Tamanho máximo da janela de admissão */
+  private int windowMaximum;
+  /** Tamanho máximo das entradas protegidas */
+  private int protectedMaximum;
+  /** Número de leituras atendidas */
+  private final LongAdder hits;
+  /** Número de leituras não atendidas */
+  private final LongAdder misses;
+  /** Número de entradas removidas por falta de espaço */
+  private final LongAdder evictions;
+
+  /**
+   * Construtor.
+   *
+   * @param size tamanho máximo da cache.
+   */
+  BoundedCache(int size) {
+    this(size, null);
+  }
+
+  /**
+   * Construtor.
+   *
+   * @param size tamanho máximo da cache.
+   * @param listener observador das entradas removidas por falta de espaço.
+   */
+  BoundedCache(int size, EvictionListener<K, V> listener) {
+    this(size, listener, true);
+  }
+
+  /**
+   * Construtor.
+   *
+   * @param size tamanho máximo da cache.
+   * @param listener observador das entradas removidas por falta de espaço.
+   * @param admission {@code true} caso as entradas que saem da janela só
+   *        sejam admitidas na área principal se forem mais frequentes que a
+   *        entrada que seria removida, e {@code false} caso sejam sempre
+   *        admitidas.
+   */
+  BoundedCache(int size, EvictionListener<K, V> listener, boolean admission) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("Tamanho de cache inválido: " + size);
+    }
+    this.data = new ConcurrentHashMap<>();
+    this.listener = listener;
+    this.admission = admission;
+    this.evictionLock = new ReentrantLock();
+    this.readBuffer = new ReadBuffer<>();
+    this.sketch = new FrequencySketch();
+    this.window = new AccessOrder<>();
+    this.probation = new AccessOrder<>();
+    this.protectedOrder = new AccessOrder<>();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.evictions = new LongAdder();
+    resize(size);
+  }
+
+  /**
+   * Recupera o valor associado à chave, registrando o acesso.
+   *
+   * @param key a chave.
+   * @return o valor, ou {@code null} caso a chave não esteja na cache.
+   */
+  V get(K key) {
+    Node<K, V> node = data.get(key);
+    if (node == null) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    if (!readBuffer.offer(node)) {
+      tryDrain();
+    }
+    return node.value;
+  }
+
+  /**
+   * Recupera o valor associado à chave, sem registrar o acesso.
+   *
+   * @param key a chave.
+   * @return o valor, ou {@code null} caso a chave não esteja na cache.
+   */
+  V peek(K key) {
+    Node<K, V> node = data.get(key);
+    return node == null ? null : node.value;
+  }
+
+  /**
+   * Associa o valor à chave.
+   *
+   * @param key a chave.
+   * @param value o valor.
+   * @return o valor associado anteriormente à chave, ou {@code null} caso não
+   *         houvesse.
+   */
+  V put(K key, V value) {
+    List<Node<K, V>> evicted;
+    V old = null;
+    evictionLock.lock();
+    try {
+      drainReadBuffer();
+      Node<K, V> node = data.get(key);
+      if (node != null) {
+        old = node.value;
+        node.value = value;
+        onAccess(node);
+      }
+      else {
+        node = new Node<>(key, value);
+        data.put(key, node);
+        window.addLast(node);
+        sketch.increment(key);
+      }
+      evicted = evict();
+    }
+    finally {
+      evictionLock.unlock();
+    }
+    notifyEvicted(evicted);
+    return old;
+  }
+
+  /**
+   * Remove a chave da cache.
+   *
+   * @param key a chave.
+   * @return o valor associado à chave, ou {@code null} caso não houvesse.
+   */
+  V remove(K key) {
+    evictionLock.lock();
+    try {
+      Node<K, V> node = data.remove(key);
+      if (node == null) {
+        return null;
+      }
+      unlink(node);
+      return node.value;
+    }
+    finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Remove todas as entradas da cache.
+   */
+  void clear() {
+    evictionLock.lock();
+    try {
+      readBuffer.drainTo(null);
+      data.clear();
+      window.clear();
+      probation.clear();
+      protectedOrder.clear();
+    }
+    finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Recupera o número de entradas da cache.
+   *
+   * @return o número de entradas.
+   */
+  int size() {
+    return data.size();
+  }
+
+  /**
+   * Recupera o tamanho máximo da cache.
+   *
+   * @return o tamanho máximo.
+   */
+  int maximum() {
+    evictionLock.lock();
+    try {
+      return maximum;
+    }
+    finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Altera o tamanho máximo da cache, removendo as entradas excedentes.
+   *
+   * @param size o novo tamanho máximo.
+   */
+  void resize(int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("Tamanho de cache inválido: " + size);
+    }
+    List<Node<K, V>> evicted;
+    evictionLock.lock();
+    try {
+      this.maximum = size;
+      this.windowMaximum = Math.max(1, size * WINDOW_PERCENT / 100);
+      this.protectedMaximum =
+        (size - windowMaximum) * PROTECTED_PERCENT / 100;
+      this.sketch.ensureCapacity(size);
+      drainReadBuffer();
+      while (protectedOrder.size > protectedMaximum) {
+        demote(protectedOrder.first());
+      }
+      evicted = evict();
+    }
+    finally {
+      evictionLock.unlock();
+    }
+    notifyEvicted(evicted);
+  }
+
+  /**
+   * Recupera as estatísticas de uso da cache.
+   *
+   * @return as estatísticas.
+   */
+  Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  /**
+   * Aplica os acessos registrados à política, caso o bloqueio esteja livre.
+   */
+  private void tryDrain() {
+    if (evictionLock.tryLock()) {
+      try {
+        drainReadBuffer();
+      }
+      finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Aplica os acessos registrados à política. Deve ser chamado com o bloqueio
+   * adquirido.
+   */
+  private void drainReadBuffer() {
+    readBuffer.drainTo(this);
+  }
+
+  /**
+   * Aplica um acesso à política. Deve ser chamado com o bloqueio adquirido.
+   *
+   * @param node a entrada acessada.
+   */
+  private void onAccess(Node<K, V> node) {
+    if (node.order == null) {
+      // entrada já removida
+      return;
+    }
+    sketch.increment(node.key);
+    if (node.order == probation) {
+      probation.remove(node);
+      protectedOrder.addLast(node);
+      while (protectedOrder.size > protectedMaximum) {
+        demote(protectedOrder.first());
+      }
+    }
+    else {
+      node.order.moveToLast(node);
+    }
+  }
+
+  /**
+   * Move uma entrada protegida de volta para a área de entradas acessadas uma
+   * única vez.
+   *
+   * @param node a entrada.
+   */
+  private void demote(Node<K, V> node) {
+    protectedOrder.remove(node);
+    probation.addLast(node);
+  }
+
+  /**
+   * Remove as entradas excedentes. Deve ser chamado com o bloqueio adquirido.
+   *
+   * @return as entradas removidas.
+   */
+  private List<Node<K, V>> evict() {
+    // entradas que saem da janela tornam-se candidatas à área principal
+    while (window.size > windowMaximum) {
+      Node<K, V> candidate = window.first();
+      window.remove(candidate);
+      probation.addLast(candidate);
+    }
+    List<Node<K, V>> evicted = null;
+    while (window.size + probation.size + protectedOrder.size > maximum) {
+      Node<K, V> victim;
+      if (probation.size > 0) {
+        victim = probation.first();
+        Node<K, V> candidate = probation.last();
+        if (admission && candidate != victim
+          && sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+          // candidata não é mais frequente que a vítima e não é admitida
+          victim = candidate;
+        }
+      }
+      else if (protectedOrder.size > 0) {
+        victim = protectedOrder.first();
+      }
+      else {
+        victim = window.first();
+      }
+      unlink(victim);
+      data.remove(victim.key, victim);
+      evictions.increment();
+      if (evicted == null) {
+        evicted = new ArrayList<>();
+      }
+      evicted.add(victim);
+    }
+    return evicted;
+  }
+
+  /**
+   * Remove a entrada da política.
+   *
+   * @param node a entrada.
+   */
+  private void unlink(Node<K, V> node) {
+    if (node.order != null) {
+      node.order.remove(node);
+    }
+  }
+
+  /**
+   * Notifica as entradas removidas por falta de espaço.
+   *
+   * @param evicted as entradas removidas, ou {@code null}.
+   */
+  private void notifyEvicted(List<Node<K, V>> evicted) {
+    if (evicted == null || listener == null) {
+      return;
+    }
+    for (Node<K, V> node : evicted) {
+      listener.evicted(node.key, node.value);
+    }
+  }
+
+  /**
+   * Observador das entradas removidas da cache por falta de espaço.
+   *
+   * @author Tecgraf
+   * @param <K> Tipo da chave da cache
+   * @param <V> Tipo do valor da cache
+   */
+  interface EvictionListener<K, V> {
+    /**
+     * Notifica a remoção de uma entrada.
+     *
+     * @param key a chave.
+     * @param value o valor.
+     */
+    void evicted(K key, V value);
+  }
+
+  /**
+   * Estatísticas de uso da cache.
+   *
+   * @author Tecgraf
+   */
+  static final class Stats {
+    /** Número de leituras atendidas */
+    final long hits;
+    /** Número de leituras não atendidas */
+    final long misses;
+    /** Número de entradas removidas por falta de espaço */
+    final long evictions;
+
+    /**
+     * Construtor.
+     *
+     * @param hits número de leituras atendidas.
+     * @param misses número de leituras não atendidas.
+     * @param evictions número de entradas removidas por falta de espaço.
+     */
+    Stats(long hits, long misses, long evictions) {
+      this.hits = hits;
+      this.misses = misses;
+      this.evictions = evictions;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("hits (%d) misses (%d) evictions (%d)", hits,
+        misses, evictions);
+    }
+  }
+
+  /**
+   * Entrada da cache.
+   *
+   * @author Tecgraf
+   * @param <K> Tipo da chave
+   * @param <V> Tipo do valor
+   */
+  private static final class Node<K, V> {
+    /** A chave */
+    final K key;
+    /** O valor */
+    volatile V value;
+    /** Lista da política em que a entrada está, ou {@code null} */
+    AccessOrder<K, V> order;
+    /** Entrada anterior na lista */
+    Node<K, V> prev;
+    /** Entrada seguinte na lista */
+    Node<K, V> next;
+
+    /**
+     * Construtor.
+     *
+     * @param key a chave.
+     * @param value o valor.
+     */
+    Node(K key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  /**
+   * Lista de entradas em ordem de acesso, da menos para a mais recente.
+   *
+   * @author Tecgraf
+   * @param <K> Tipo da chave
+   * @param <V> Tipo do valor
+   */
+  private static final class AccessOrder<K, V> {
+    /** Primeira entrada */
+    private Node<K, V> head;
+    /** Última entrada */
+    private Node<K, V> tail;
+    /** Número de entradas */
+    int size;
+
+    /**
+     * Recupera a entrada acessada há mais tempo.
+     *
+     * @return a entrada, ou {@code null} caso a lista esteja vazia.
+     */
+    Node<K, V> first() {
+      return head;
+    }
+
+    /**
+     * Recupera a entrada acessada mais recentemente.
+     *
+     * @return a entrada, ou {@code null} caso a lista esteja vazia.
+     */
+    Node<K, V> last() {
+      return tail;
+    }
+
+    /**
+     * Adiciona a entrada ao final da lista.
+     *
+     * @param node a entrada.
+     */
+    void addLast(Node<K, V> node) {
+      node.order = this;
+      node.prev = tail;
+      node.next = null;
+      if (tail == null) {
+        head = node;
+      }
+      else {
+        tail.next = node;
+      }
+      tail = node;
+      size++;
+    }
+
+    /**
+     * Remove a entrada da lista.
+     *
+     * @param node a entrada.
+     */
+    void remove(Node<K, V> node) {
+      if (node.prev == null) {
+        head = node.next;
+      }
+      else {
+        node.prev.next = node.next;
+      }
+      if (node.next == null) {
+        tail = node.prev;
+      }
+      else {
+        node.next.prev = node.prev;
+      }
+      node.prev = null;
+      node.next = null;
+      node.order = null;
+      size--;
+    }
+
+    /**
+     * Move a entrada para o final da lista.
+     *
+     * @param node a entrada.
+     */
+    void moveToLast(Node<K, V> node) {
+      if (node != tail) {
+        remove(node);
+        addLast(node);
+      }
+    }
+
+    /**
+     * Esvazia a lista.
+     */
+    void clear() {
+      for (Node<K, V> node = head; node != null;) {
+        Node<K, V> next = node.next;
+        node.prev = null;
+        node.next = null;
+        node.order = null;
+        node = next;
+      }
+      head = null;
+      tail = null;
+      size = 0;
+    }
+  }
+
+  /**
+   * Buffers circulares de acessos, distribuídos entre as threads para reduzir
+   * a disputa. Os acessos são descartados quando o buffer está cheio.
+   *
+   * @author Tecgraf
+   * @param <K> Tipo da chave
+   * @param <V> Tipo do valor
+   */
+  private static final class ReadBuffer<K, V> {
+    /** Número de buffers */
+    private static final int STRIPES = stripes();
+    /** Tamanho de cada buffer */
+    private static final int SIZE = 16;
+    /** Máscara do índice de cada buffer */
+    private static final int MASK = SIZE - 1;
+
+    /** Acessos registrados em cada buffer */
+    private final AtomicReferenceArray<Node<K, V>> buffer;
+    /** Número de acessos registrados em cada buffer */
+    private final AtomicLong[] writes;
+    /** Número de acessos consumidos de cada buffer */
+    private final AtomicLong[] reads;
+
+    /**
+     * Construtor.
+     */
+    ReadBuffer() {
+      this.buffer = new AtomicReferenceArray<>(STRIPES * SIZE);
+      this.writes = new AtomicLong[STRIPES];
+      this.reads = new AtomicLong[STRIPES];
+      for (int i = 0; i < STRIPES; i++) {
+        writes[i] = new AtomicLong();
+        reads[i] = new AtomicLong();
+      }
+    }
+
+    /**
+     * Calcula o número de buffers, uma potência de 2 próxima do número de
+     * processadores.
+     *
+     * @return o número de buffers.
+     */
+    private static int stripes() {
+      int processors = Runtime.getRuntime().availableProcessors();
+      return Math.min(64, Integer.highestOneBit(Math.max(1, processors)) * 2);
+    }
+
+    /**
+     * Registra um acesso.
+     *
+     * @param node a entrada acessada.
+     * @return {@code false} caso o buffer esteja cheio e precise ser
+     *         consumido, e {@code true} caso contrário.
+     */
+    boolean offer(Node<K, V> node) {
+      int stripe = probe() & (STRIPES - 1);
+      AtomicLong write = writes[stripe];
+      long tail = write.get();
+      if (tail - reads[stripe].get() >= SIZE) {
+        return false;
+      }
+      if (write.compareAndSet(tail, tail + 1)) {
+        buffer.lazySet(stripe * SIZE + (int) (tail & MASK), node);
+      }
+      return true;
+    }
+
+    /**
+     * Consome os acessos registrados. Deve ser chamado com o bloqueio da
+     * cache adquirido.
+     *
+     * @param cache a cache à qual os acessos são aplicados, ou {@code null}
+     *        para descartá-los.
+     */
+    void drainTo(BoundedCache<K, V> cache) {
+      for (int stripe = 0; stripe < STRIPES; stripe++) {
+        long head = reads[stripe].get();
+        long tail = writes[stripe].get();
+        for (; head < tail; head++) {
+          int index = stripe * SIZE + (int) (head & MASK);
+          Node<K, V> node = buffer.get(index);
+          if (node == null) {
+            // registro ainda não publicado pela thread que o fez
+            break;
+          }
+          buffer.lazySet(index, null);
+          if (cache != null) {
+            cache.onAccess(node);
+          }
+        }
+        reads[stripe].set(head);
+      }
+    }
+
+    /**
+     * Calcula o identificador da thread corrente para a escolha do buffer.
+     *
+     * @return o identificador.
+     */
+    private static int probe() {
+      long id = Thread.currentThread().getId();
+      int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+      return hash ^ (hash >>> 16);
+    }
+  }
+
+  /**
+   * Estimativa da frequência das chaves através de um <i>count-min
+   * sketch</i> com contadores de 4 bits. Os contadores são reduzidos pela
+   * metade quando o número de incrementos atinge dez vezes o tamanho da
+   * cache, de forma que a estimativa reflita os acessos recentes.
+   *
+   * @author Tecgraf
+   */
+  private static final class FrequencySketch {
+    /** Máscara para a redução dos contadores pela metade */
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    /** Contadores, 16 por posição */
+    private long[] table;
+    /** Máscara do índice da tabela */
+    private int tableMask;
+    /** Número de incrementos até a redução dos contadores */
+    private int sampleSize;
+    /** Número de incrementos desde a última redução */
+    private int additions;
+
+    /**
+     * Ajusta a capacidade da estimativa ao tamanho da cache.
+     *
+     * @param maximum o tamanho da cache.
+     */
+    void ensureCapacity(int maximum) {
+      sampleSize = 10 * Math.min(maximum, Integer.MAX_VALUE / 10);
+      int capacity =
+        Integer.highestOneBit(Math.max(2, Math.min(maximum, 1 << 30)) - 1) << 1;
+      if (table != null && table.length >= capacity) {
+        return;
+      }
+      table = new long[capacity];
+      tableMask = capacity - 1;
+      additions = 0;
+    }
+
+    /**
+     * Estima a frequência da chave.
+     *
+     * @param key a chave.
+     * @return a frequência estimada, entre 0 e 15.
+     */
+    int frequency(Object key) {
+      int hash = spread(key.hashCode());
+      int step = rehash(hash);
+      int start = (hash & 3) << 2;
+      int frequency = Integer.MAX_VALUE;
+      for (int i = 0; i < 4; i++) {
+        int index = (hash + i * step) & tableMask;
+        int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+        frequency = Math.min(frequency, count);
+      }
+      return frequency;
+    }
+
+    /**
+     * Incrementa a frequência da chave.
+     *
+     * @param key a chave.
+     */
+    void increment(Object key) {
+      int hash = spread(key.hashCode());
+      int step = rehash(hash);
+      int start = (hash & 3) << 2;
+      boolean added = false;
+      for (int i = 0; i < 4; i++) {
+        added |= incrementAt((hash + i * step) & tableMask, start + i);
+      }
+      if (added && ++additions >= sampleSize) {
+        reset();
+      }
+    }
+
+    /**
+     * Incrementa um contador, caso ele não esteja saturado.
+     *
+     * @param index a posição da tabela.
+     * @param counter o contador dentro da posição.
+     * @return {@code true} caso o contador tenha sido incrementado.
+     */
+    private boolean incrementAt(int index, int counter) {
+      int offset = counter << 2;
+      long mask = 0xfL << offset;
+      if ((table[index] & mask) != mask) {
+        table[index] += 1L << offset;
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Reduz todos os contadores pela metade.
+     */
+    private void reset() {
+      for (int i = 0; i < table.length; i++) {
+        table[i] = (table[i] >>> 1) & RESET_MASK;
+      }
+      additions /= 2;
+    }
+
+    /**
+     * Calcula o passo entre as posições da tabela de cada linha do sketch
+     * (hash duplo).
+     *
+     * @param hash o hash da chave.
+     * @return o passo, sempre ímpar.
+     */
+    private static int rehash(int hash) {
+      int x = hash * 0x31848bab;
+      x ^= x >>> 14;
+      return x | 1;
+    }
+
+    /**
+     * Espalha os bits do hash da chave.
+     *
+     * @param x o hash da chave.
+     * @return o hash espalhado.
+     */
+    private static int spread(int x) {
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      return (x >>> 16) ^ x;
+    }
+  }
+}
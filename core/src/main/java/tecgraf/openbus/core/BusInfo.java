@@ -19,37 +19,37 @@ import tecgraf.openbus.exception.CryptographyException;
 import tecgraf.openbus.security.Cryptography;
 
 /**
- * Classe utiliria para agrupar as informaes do barramento.
+ * Classe utiliária para agrupar as informações do barramento.
  * 
  * @author Tecgraf
  */
 final class BusInfo {
-  /** Referncia CORBA::Object do barramento */
+  /** Referência CORBA::Object do barramento */
   private final org.omg.CORBA.Object rawObject;
   /** Certificado do barramento vindo das propriedades */
   private final X509Certificate busCert;
 
   /** Identificador do barramento */
   private String id;
-  /** Chave pblica do barramento */
+  /** Chave pública do barramento */
   private RSAPublicKey publicKey;
-  /** Referncia para o barramento */
+  /** Referência para o barramento */
   private IComponent bus;
 
-  /** Referncia para o controle de acesso do barramento */
+  /** Referência para o controle de acesso do barramento */
   private AccessControl accessControl;
-  /** Referncia para o registro de login do barramento */
+  /** Referência para o registro de login do barramento */
   private LoginRegistry loginRegistry;
-  /** Referncia para o registro de ofertas do barramento */
+  /** Referência para o registro de ofertas do barramento */
   private OfferRegistry offerRegistry;
 
-  /** Lock para controle de concorrncia no acesso ao barramento */
+  /** Lock para controle de concorrência no acesso ao barramento */
   private final Object lock = new Object();
 
   /**
    * Construtor.
    * 
-   * @param obj referncia para o barramento.
+   * @param obj referência para o barramento.
    * @param busCert certificado do barramento.
    */
   BusInfo(org.omg.CORBA.Object obj, X509Certificate busCert) {
@@ -58,7 +58,7 @@ final class BusInfo {
   }
 
   /**
-   * Obtm as referncias bsicas para realizar o login com o barramento.
+   * Obtém as referências básicas para realizar o login com o barramento.
    */
   void basicBusInitialization() throws ServiceFailure {
     IComponent ic;
@@ -69,12 +69,12 @@ final class BusInfo {
     if (ic == null) {
       ic = IComponentHelper.narrow(this.rawObject);
       if (ic == null) {
-        throw new OBJECT_NOT_EXIST("Referncia obtida no corresponde a um " +
+        throw new OBJECT_NOT_EXIST("Referência obtida não corresponde a um " +
           IComponentHelper.id());
       }
       org.omg.CORBA.Object obj = ic.getFacet(AccessControlHelper.id());
       if (obj == null) {
-        throw new OBJECT_NOT_EXIST("Referncia obtida no atende ao servio " +
+        throw new OBJECT_NOT_EXIST("Referência obtida não atende ao serviço " +
           AccessControlHelper.id());
       }
       AccessControl ac = AccessControlHelper.narrow(obj);
@@ -86,19 +86,19 @@ final class BusInfo {
               .certificate());
         }
         catch (CryptographyException | IOException e) {
-          throw new ServiceFailure("Erro ao obter a chave pblica do " +
+          throw new ServiceFailure("Erro ao obter a chave pública do " +
             "barramento: " + e.getMessage());
         }
       }
       obj = ic.getFacet(LoginRegistryHelper.id());
       if (obj == null) {
-        throw new OBJECT_NOT_EXIST("Referncia obtida no atende ao servio " +
+        throw new OBJECT_NOT_EXIST("Referência obtida não atende ao serviço " +
           LoginRegistryHelper.id());
       }
       LoginRegistry login = LoginRegistryHelper.narrow(obj);
       obj = ic.getFacet(OfferRegistryHelper.id());
       if (obj == null) {
-        throw new OBJECT_NOT_EXIST("Referncia obtida no atende ao servio " +
+        throw new OBJECT_NOT_EXIST("Referência obtida não atende ao serviço " +
           OfferRegistryHelper.id());
       }
       OfferRegistry registry = OfferRegistryHelper.narrow(obj);
@@ -115,7 +115,7 @@ final class BusInfo {
   }
 
   /**
-   * Apaga a informao de identificador e chave do barramento.
+   * Apaga a informação de identificador e chave do barramento.
    */
   void clearBusInfos() {
     synchronized (lock) {
@@ -140,9 +140,9 @@ final class BusInfo {
   }
 
   /**
-   * Recupera a chave pblica do barramento.
+   * Recupera a chave pública do barramento.
    * 
-   * @return a chave pblica do barramento.
+   * @return a chave pública do barramento.
    */
   RSAPublicKey getPublicKey() {
     synchronized (lock) {
@@ -151,7 +151,7 @@ final class BusInfo {
   }
 
   /**
-   * Recupera a referncia para o controle de acesso do barramento.
+   * Recupera a referência para o controle de acesso do barramento.
    * 
    * @return o controle de acesso do barramento.
    */
@@ -162,7 +162,7 @@ final class BusInfo {
   }
 
   /**
-   * Recupera a referncia para o registro de login do barramento.
+   * Recupera a referência para o registro de login do barramento.
    * 
    * @return o registro de login do barramento.
    */
@@ -173,7 +173,7 @@ final class BusInfo {
   }
 
   /**
-   * Recupera a referncia para o registro de ofertas do barramento.
+   * Recupera a referência para o registro de ofertas do barramento.
    * 
    * @return o registro de ofertas do barramento.
    */
@@ -184,7 +184,7 @@ final class BusInfo {
   }
 
   /**
-   * Recupera a referncia para a faceta {@link IComponent}
+   * Recupera a referência para a faceta {@link IComponent}
    * 
    * @return a faceta do componente.
    */
@@ -11,7 +11,7 @@ abstract class BusResource {
   protected Throwable lastError = null;
   protected boolean loggedOut = false;
   protected boolean cancelled = false;
-  // No vale a pena usar ReentrantLock pois s tenho uma condio; E no
+  // Não vale a pena usar ReentrantLock pois só tenho uma condição; E não
   // posso usar Monitor por causa do teste de loggedOut.
   protected final Object lock = new Object();
 
@@ -47,7 +47,7 @@ abstract class BusResource {
   }
 
   protected void logInterruptError(Logger logger, Exception e) {
-    logger.log(Level.SEVERE, "Interrupo recebida ao aguardar por uma oferta" +
+    logger.log(Level.SEVERE, "Interrupção recebida ao aguardar por uma oferta" +
       " remota.", e);
   }
 }
@@ -1,7 +1,5 @@
 package tecgraf.openbus.core;
 
-import org.omg.CORBA.Any;
-import org.omg.IOP.Codec;
 import org.omg.IOP.CodecPackage.FormatMismatch;
 import org.omg.IOP.CodecPackage.TypeMismatch;
 
@@ -10,12 +8,11 @@ import tecgraf.openbus.core.Credential.Chain;
 import tecgraf.openbus.core.v2_0.credential.SignedCallChain;
 import tecgraf.openbus.core.v2_1.credential.SignedData;
 import tecgraf.openbus.core.v2_1.services.access_control.CallChain;
-import tecgraf.openbus.core.v2_1.services.access_control.CallChainHelper;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 import tecgraf.openbus.interceptors.CallChainInfo;
 
 /**
- * Implementao do {@link CallerChain}
+ * Implementação do {@link CallerChain}
  * 
  * @author Tecgraf
  */
@@ -85,40 +82,33 @@ final class CallerChainImpl implements CallerChain {
   }
 
   /**
-   * Recupera a representao interna de cadeia
+   * Recupera a representação interna de cadeia
    * 
-   * @return a representao interna de cadeia
+   * @return a representação interna de cadeia
    */
   Chain internal_chain() {
     return chain;
   }
 
   /**
-   * Constri uma {@link CallerChain} a partir das informaes passadas via
+   * Constrói uma {@link CallerChain} a partir das informações passadas via
    * contexto ({@link CallChainInfo})
    * 
-   * @param info as informaes sobre a cadeia
-   * @param codec o codec
-   * @return a represetao em {@link CallerChain} das informaes.
+   * @param info as informações sobre a cadeia
+   * @param chains a cache de cadeias decodificadas
+   * @return a represetação em {@link CallerChain} das informações.
    * @throws FormatMismatch
    * @throws TypeMismatch
    */
-  static CallerChainImpl info2CallerChain(CallChainInfo info, Codec codec)
-    throws FormatMismatch, TypeMismatch {
+  static CallerChainImpl info2CallerChain(CallChainInfo info,
+    DecodedChainCache chains) throws FormatMismatch, TypeMismatch {
     if (!info.legacy) {
-      Any anyChain =
-        codec.decode_value(info.chain.encoded, CallChainHelper.type());
-      CallChain callchain = CallChainHelper.extract(anyChain);
+      CallChain callchain = chains.decode(info.chain);
       return new CallerChainImpl(callchain, info.chain, info.legacy_chain);
     }
     else {
-      Any anyChain =
-        codec.decode_value(info.legacy_chain.encoded,
-          tecgraf.openbus.core.v2_0.services.access_control.CallChainHelper
-            .type());
       tecgraf.openbus.core.v2_0.services.access_control.CallChain callchain =
-        tecgraf.openbus.core.v2_0.services.access_control.CallChainHelper
-          .extract(anyChain);
+        chains.decode(info.legacy_chain);
       return new CallerChainImpl(info.bus, callchain, info.legacy_chain);
     }
   }
@@ -14,7 +14,7 @@ class ChainCacheKey {
    */
   private final boolean legacy;
   /**
-   * Entidade do alvo da requisio
+   * Entidade do alvo da requisição
    */
   private final String callee;
   /**
@@ -25,9 +25,9 @@ class ChainCacheKey {
   /**
    * Construtor.
    * 
-   * @param callee entidade do alvo da requisio
+   * @param callee entidade do alvo da requisição
    * @param signature assinatura da cadeia que esta joined
-   * @param legacy se em modo legado ou no
+   * @param legacy se em modo legado ou não
    */
   public ChainCacheKey(String callee, byte[] signature, boolean legacy) {
     this.callee = callee;
@@ -0,0 +1,254 @@
+package tecgraf.openbus.core;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tecgraf.openbus.ContextScope;
+import tecgraf.openbus.core.v2_1.services.access_control.LoginInfoHolder;
+
+/**
+ * Renovador antecipado das cadeias assinadas da cache do interceptador
+ * cliente.
+ * <p>
+ * A cache registra a frequência de acesso às cadeias que não estão associadas
+ * a uma cadeia em que se está <i>joined</i>. Após um relogin, que descarta as
+ * cadeias assinadas, as cadeias mais acessadas são assinadas novamente em
+ * segundo plano. Da mesma forma, uma cadeia frequentemente acessada que sai da
+ * cache por falta de espaço é assinada novamente. Assim, as primeiras chamadas
+ * após esses eventos não precisam esperar pela assinatura da cadeia. As
+ * frequências são reduzidas pela metade a cada relogin, para que reflitam o
+ * uso recente das cadeias.
+ * <p>
+ * O registro dos acessos é feito a cada chamada sem cadeia unida e, por isso,
+ * não utiliza bloqueio. O número de cadeias registradas acompanha o tamanho da
+ * cache de cadeias assinadas; quando ele é excedido, as cadeias menos
+ * acessadas são descartadas em lote.
+ *
+ * @author Tecgraf
+ */
+final class ChainRefresher {
+
+  /** Número máximo de cadeias assinadas novamente após um relogin */
+  private static final int REFRESH_LIMIT = 32;
+  /** Número mínimo de acessos para renovar uma cadeia que saiu da cache */
+  private static final long EVICTION_THRESHOLD = 8;
+
+  /** A conexão */
+  private final ConnectionImpl conn;
+  /** Acessos registrados por cadeia */
+  private final ConcurrentHashMap<ChainCacheKey, Access> accesses;
+  /** Número máximo de cadeias cujos acessos são registrados */
+  private volatile int maximum;
+  /** Indica se as cadeias excedentes estão sendo descartadas */
+  private final AtomicBoolean trimming;
+  /** Indica se a thread corrente está renovando uma cadeia */
+  private final ThreadLocal<Boolean> refreshing;
+  /** Instância de logging. */
+  private static final Logger logger = Logger.getLogger(ChainRefresher.class
+    .getName());
+
+  /**
+   * Construtor.
+   *
+   * @param conn a conexão.
+   * @param size número máximo de cadeias cujos acessos são registrados.
+   */
+  ChainRefresher(ConnectionImpl conn, int size) {
+    this.conn = conn;
+    this.accesses = new ConcurrentHashMap<>();
+    this.maximum = size;
+    this.trimming = new AtomicBoolean();
+    this.refreshing = new ThreadLocal<>();
+  }
+
+  /**
+   * Altera o número máximo de cadeias cujos acessos são registrados,
+   * acompanhando o tamanho da cache de cadeias assinadas.
+   *
+   * @param size o novo número máximo.
+   */
+  void resize(int size) {
+    this.maximum = size;
+    trim();
+  }
+
+  /**
+   * Registra o acesso a uma cadeia.
+   *
+   * @param key a chave da cadeia.
+   * @param entity entidade alvo da cadeia.
+   * @param target identificador do login alvo da cadeia.
+   * @param legacy indicador se a cadeia é legada.
+   */
+  void accessed(ChainCacheKey key, String entity, String target,
+    boolean legacy) {
+    Access access = accesses.get(key);
+    if (access == null) {
+      access =
+        accesses.computeIfAbsent(key, k -> new Access(k, entity, target,
+          legacy));
+      access.hits.increment();
+      if (accesses.size() > maximum) {
+        trim();
+      }
+      return;
+    }
+    if (!target.equals(access.target)) {
+      // o alvo refez o login
+      access.target = target;
+    }
+    access.hits.increment();
+  }
+
+  /**
+   * Trata a saída de uma cadeia da cache por falta de espaço.
+   *
+   * @param key a chave da cadeia.
+   */
+  void evicted(ChainCacheKey key) {
+    if (refreshing.get() != null) {
+      // evita que renovações provoquem outras renovações em cascata
+      return;
+    }
+    Access access = accesses.get(key);
+    if (access != null && access.hits.sum() >= EVICTION_THRESHOLD) {
+      refresh(access);
+    }
+  }
+
+  /**
+   * Assina novamente em segundo plano as cadeias mais acessadas após um
+   * relogin.
+   */
+  void relogged() {
+    List<Access> hottest = hottest();
+    int count = 0;
+    for (Access access : hottest) {
+      long hits = access.hits.sum();
+      access.hits.add(-(hits / 2));
+      if (hits > 0 && count++ < REFRESH_LIMIT) {
+        refresh(access);
+      }
+    }
+  }
+
+  /**
+   * Descarta os acessos registrados.
+   */
+  void clear() {
+    accesses.clear();
+  }
+
+  /**
+   * Recupera as cadeias registradas, da mais para a menos acessada.
+   *
+   * @return as cadeias.
+   */
+  private List<Access> hottest() {
+    // a ordenação usa uma cópia dos acessos, que continuam sendo registrados
+    List<SimpleImmutableEntry<Access, Long>> counts = new ArrayList<>();
+    for (Access access : accesses.values()) {
+      counts.add(new SimpleImmutableEntry<>(access, access.hits.sum()));
+    }
+    counts.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+    List<Access> hottest = new ArrayList<>(counts.size());
+    for (SimpleImmutableEntry<Access, Long> count : counts) {
+      hottest.add(count.getKey());
+    }
+    return hottest;
+  }
+
+  /**
+   * Descarta as cadeias menos acessadas, caso o número máximo de cadeias
+   * registradas tenha sido excedido. O descarte deixa uma folga de um quarto
+   * do número máximo, para que não seja repetido a cada novo registro.
+   */
+  private void trim() {
+    if (accesses.size() <= maximum || !trimming.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      int keep = maximum - maximum / 4;
+      List<Access> hottest = hottest();
+      for (int i = keep; i < hottest.size(); i++) {
+        Access access = hottest.get(i);
+        accesses.remove(access.key, access);
+      }
+    }
+    finally {
+      trimming.set(false);
+    }
+  }
+
+  /**
+   * Submete a renovação de uma cadeia ao executor da conexão.
+   *
+   * @param access os acessos da cadeia.
+   */
+  private void refresh(final Access access) {
+    try {
+      conn.localLogins().pool().pool().submit(() -> {
+        refreshing.set(Boolean.TRUE);
+        // só são renovadas as cadeias assinadas sem cadeia unida
+        try (ContextScope scope = conn.context().scope(conn, null)) {
+          conn.signedChain(access.key, access.entity, access.target,
+            access.legacy, new LoginInfoHolder());
+        }
+        catch (Exception e) {
+          // o alvo deixou de existir ou o barramento está inacessível
+          accesses.remove(access.key, access);
+          logger.log(Level.FINE, String.format(
+            "Falha ao renovar a cadeia assinada para a entidade (%s).",
+            access.entity), e);
+        }
+        finally {
+          refreshing.remove();
+        }
+      });
+    }
+    catch (RejectedExecutionException e) {
+      // conexão sendo finalizada
+    }
+  }
+
+  /**
+   * Acessos registrados de uma cadeia.
+   *
+   * @author Tecgraf
+   */
+  private static final class Access {
+    /** A chave da cadeia */
+    final ChainCacheKey key;
+    /** Entidade alvo da cadeia */
+    final String entity;
+    /** Identificador do login alvo da cadeia */
+    volatile String target;
+    /** Indicador se a cadeia é legada */
+    final boolean legacy;
+    /** Número de acessos */
+    final LongAdder hits;
+
+    /**
+     * Construtor.
+     *
+     * @param key a chave da cadeia.
+     * @param entity entidade alvo da cadeia.
+     * @param target identificador do login alvo da cadeia.
+     * @param legacy indicador se a cadeia é legada.
+     */
+    Access(ChainCacheKey key, String entity, String target, boolean legacy) {
+      this.key = key;
+      this.entity = entity;
+      this.target = target;
+      this.legacy = legacy;
+      this.hits = new LongAdder();
+    }
+  }
+}
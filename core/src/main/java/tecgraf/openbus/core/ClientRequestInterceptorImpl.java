@@ -1,11 +1,8 @@
 package tecgraf.openbus.core;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -38,13 +35,10 @@ import tecgraf.openbus.core.v2_0.credential.SignedCallChain;
 import tecgraf.openbus.core.v2_0.services.access_control.InvalidLogins;
 import tecgraf.openbus.core.v2_1.BusLogin;
 import tecgraf.openbus.core.v2_1.credential.CredentialContextId;
-import tecgraf.openbus.core.v2_1.credential.CredentialData;
 import tecgraf.openbus.core.v2_1.credential.CredentialReset;
 import tecgraf.openbus.core.v2_1.credential.CredentialResetHelper;
-import tecgraf.openbus.core.v2_1.credential.SignedData;
 import tecgraf.openbus.core.v2_1.services.ServiceFailure;
 import tecgraf.openbus.core.v2_1.services.access_control.CallChain;
-import tecgraf.openbus.core.v2_1.services.access_control.CallChainHelper;
 import tecgraf.openbus.core.v2_1.services.access_control.InvalidChainCode;
 import tecgraf.openbus.core.v2_1.services.access_control.InvalidCredentialCode;
 import tecgraf.openbus.core.v2_1.services.access_control.InvalidLoginCode;
@@ -61,21 +55,33 @@ import tecgraf.openbus.interceptors.CallChainInfoHelper;
 import tecgraf.openbus.security.Cryptography;
 
 /**
- * Implementao do interceptador cliente.
+ * Implementação do interceptador cliente.
  * 
  * @author Tecgraf
  */
 final class ClientRequestInterceptorImpl extends InterceptorImpl implements
   ClientRequestInterceptor {
 
-  /** Instncia de logging. */
+  /** Instância de logging. */
   private static final Logger logger = Logger
     .getLogger(ClientRequestInterceptorImpl.class.getName());
 
-  /** Mapa interno do interceptador que associa a conexo ao requestId */
-  private final Map<Integer, ConnectionImpl> uniqueId2Conn;
-  /** Mapa interno do interceptador que associa o loginId ao requestId */
-  private final Map<Integer, String> uniqueId2LoginId;
+  /** Cadeia nula utilizada na credencial de início do handshake */
+  private static final Chain NULL_CHAIN = new Chain(NULL_SIGNED_CALL_CHAIN);
+  /** Cadeia nula legada utilizada na credencial de início do handshake */
+  private static final Chain NULL_LEGACY_CHAIN = new Chain(
+    NULL_SIGNED_LEGACY_CALL_CHAIN);
+
+  /**
+   * Mapa interno do interceptador que associa a conexão e o loginId utilizados
+   * ao requestId
+   */
+  private final Map<Long, PendingRequest> pendingRequests;
+  /**
+   * Contador gerador dos identificadores de requisição. Por ser de 64 bits,
+   * não há risco de colisão entre requisições em andamento.
+   */
+  private final AtomicLong requestCounter;
 
   /**
    * Construtor.
@@ -85,19 +91,17 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
    */
   ClientRequestInterceptorImpl(String name, ORBMediator mediator) {
     super(name, mediator);
-    this.uniqueId2Conn =
-      Collections.synchronizedMap(new HashMap<>());
-    this.uniqueId2LoginId =
-      Collections.synchronizedMap(new HashMap<>());
+    this.pendingRequests = new ConcurrentHashMap<>();
+    this.requestCounter = new AtomicLong();
   }
 
   /**
-   * Verifica se o booleando do slot est configurado.
+   * Verifica se o booleando do slot está configurado.
    *
-   * @param ri informao da requisio
+   * @param ri informação da requisição
    * @param slotId identificador do slot
    * @return {@code true} se o slot esta ativado, e {@code false} caso
-   *         contrrio.
+   *         contrário.
    */
   private boolean checkSlotIdFlag(ClientRequestInfo ri, int slotId) {
     try {
@@ -118,7 +122,7 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
     String operation = ri.operation();
     if (checkSlotIdFlag(ri, context().getIgnoreThreadSlotId())) {
       logger.finest(String.format(
-        "Realizando chamada fora do barramento: operao (%s)", operation));
+        "Realizando chamada fora do barramento: operação (%s)", operation));
       return;
     }
     ConnectionImpl conn = (ConnectionImpl) this.getCurrentConnection(ri);
@@ -126,7 +130,7 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
     if (currLogin == null) {
       String message =
         String.format(
-          "Chamada cancelada. Conexo no possui login. operao (%s)",
+          "Chamada cancelada. Conexão não possui login. operação (%s)",
           operation);
       logger.info(message);
       throw new NO_PERMISSION(message, NoLoginCode.value,
@@ -136,28 +140,33 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
     holder.value = currLogin;
 
     try {
-      Credential credential = this.generateCredential(ri, conn, holder);
-      if (credential.legacy != null) {
-        ri.add_request_service_context(credential.toServiceContext(orb(),
-          codec()), false);
+      ServiceContext credential = this.generateCredential(ri, conn, holder);
+      if (credential != null) {
+        ri.add_request_service_context(credential, false);
       }
       else {
-        // enviando credencial para incio do handshake 
-        Credential curr =
-          new Credential(new CredentialData(credential.bus, credential.login,
-            credential.session, credential.ticket, credential.hash,
-            NULL_SIGNED_CALL_CHAIN));
-        ri.add_request_service_context(curr.toServiceContext(orb(), codec()),
-          false);
-        if (conn.legacy()) {
-          Credential legacy =
-            new Credential(
-              new tecgraf.openbus.core.v2_0.credential.CredentialData(
-                credential.bus, credential.login, credential.session,
-                credential.ticket, credential.hash,
-                NULL_SIGNED_LEGACY_CALL_CHAIN));
-          ri.add_request_service_context(legacy
-            .toServiceContext(orb(), codec()), false);
+        // enviando credencial para início do handshake 
+        String bus = conn.busId();
+        String login = holder.value.id;
+        CredentialTemplate nullCredential = conn.cache.nullCredential;
+        if (nullCredential == null
+          || !nullCredential.matches(bus, login, NULL_CHAIN)) {
+          nullCredential = createTemplate(bus, login, 0, NULL_CHAIN, false);
+          conn.cache.nullCredential = nullCredential;
+        }
+        ri.add_request_service_context(nullCredential.toServiceContext(0,
+          NULL_HASH_VALUE), false);
+        if (conn.legacyEnabled()
+          && conn.cache.legacyTargets.get(new EffectiveProfile(ri
+            .effective_profile())) != null) {
+          CredentialTemplate legacy = conn.cache.nullLegacyCredential;
+          if (legacy == null
+            || !legacy.matches(bus, login, NULL_LEGACY_CHAIN)) {
+            legacy = createTemplate(bus, login, 0, NULL_LEGACY_CHAIN, true);
+            conn.cache.nullLegacyCredential = legacy;
+          }
+          ri.add_request_service_context(legacy.toServiceContext(0,
+            NULL_HASH_VALUE), false);
         }
       }
     }
@@ -166,17 +175,16 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
       logger.log(Level.SEVERE, message, e);
       throw new INTERNAL(message);
     }
-    // salvando informaes da conexo e login que foram utilizados no request
-    int uniqueId = mediator().getUniqueId();
+    // salvando informações da conexão e login que foram utilizados no request
+    long uniqueId = requestCounter.incrementAndGet();
     Any uniqueAny = orb().create_any();
-    uniqueAny.insert_long(uniqueId);
+    uniqueAny.insert_longlong(uniqueId);
     try {
       Current current = ORBUtils.getPICurrent(orb());
       current.set_slot(this.mediator().getUniqueIdSlot(), uniqueAny);
-      uniqueId2Conn.put(uniqueId, conn);
-      uniqueId2LoginId.put(uniqueId, currLogin.id);
+      pendingRequests.put(uniqueId, new PendingRequest(conn, currLogin.id));
       logger.finest(String.format(
-        "associando o ID '%d' com o login '%s'. operao (%s)", uniqueId,
+        "associando o ID '%d' com o login '%s'. operação (%s)", uniqueId,
         holder.value.id, operation));
     }
     catch (InvalidSlot e) {
@@ -187,16 +195,18 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
   }
 
   /**
-   * Gera uma credencial para a chamada.
+   * Gera a credencial para a chamada a partir do modelo codificado da sessão.
    * 
-   * @param ri Informao do request
-   * @param conn A conexo em uso.
+   * @param ri Informação do request
+   * @param conn A conexão em uso.
    * @param holder o login em uso.
-   * @return A credencial vlida para a sesso, ou uma credencial para forar o
-   *         reset da sesso.
+   * @return A credencial válida para a sessão, ou {@code null} caso não exista
+   *         sessão e seja necessário enviar uma credencial para forçar o reset
+   *         da sessão.
+   * @throws InvalidTypeForEncoding
    */
-  private Credential generateCredential(ClientRequestInfo ri,
-    ConnectionImpl conn, LoginInfoHolder holder) {
+  private ServiceContext generateCredential(ClientRequestInfo ri,
+    ConnectionImpl conn, LoginInfoHolder holder) throws InvalidTypeForEncoding {
     String operation = ri.operation();
     String bus = conn.busId();
     EffectiveProfile ep = new EffectiveProfile(ri.effective_profile());
@@ -208,37 +218,68 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
         boolean isLegacy = chain.isLegacy();
         int ticket = session.nextTicket();
         byte[] credentialDataHash =
-          this.generateCredentialDataHash(ri, session.getSecret(), ticket,
-            isLegacy);
-        logger.finest(String.format("utilizando sesso: id = %d ticket = %d",
+          this.generateCredentialDataHash(ri, session, ticket, isLegacy);
+        logger.finest(String.format("utilizando sessão: id = %d ticket = %d",
           session.getSession(), ticket));
         logger.fine(String.format(
-          "Realizando chamada via barramento: target (%s) operao (%s)",
+          "Realizando chamada via barramento: target (%s) operação (%s)",
           targetId, operation));
-        return new Credential(bus, holder.value.id, session.getSession(),
-          ticket, credentialDataHash, chain, isLegacy);
+        String login = holder.value.id;
+        CredentialTemplate template = session.template();
+        if (template == null || !template.matches(bus, login, chain)) {
+          template =
+            createTemplate(bus, login, session.getSession(), chain, isLegacy);
+          session.template(template);
+        }
+        return template.toServiceContext(ticket, credentialDataHash);
       }
     }
     logger.finest(String.format(
-      "Realizando chamada sem credencial: login (%s) operao (%s)",
+      "Realizando chamada sem credencial: login (%s) operação (%s)",
       holder.value.id, operation));
-    return new Credential(bus, holder.value.id, 0, 0, NULL_HASH_VALUE, null,
-      null);
+    return null;
   }
 
   /**
-   * Recupera a cadeia assinada que deve ser anexada a requisio.
+   * Cria o modelo codificado de uma credencial.
    * 
-   * @param ri informao do request
-   * @param conn a conexo em uso
+   * @param bus identificador de barramento
+   * @param login identificador de login do caller
+   * @param session identificador da sessão
+   * @param chain cadeia associada
+   * @param legacy indicador se em modo legado
+   * @return o modelo da credencial.
+   * @throws InvalidTypeForEncoding
+   */
+  private CredentialTemplate createTemplate(String bus, String login,
+    int session, Chain chain, boolean legacy) throws InvalidTypeForEncoding {
+    CredentialTemplate template =
+      CredentialTemplate.create(orb(), codec(), bus, login, session, chain,
+        legacy);
+    if (template == null) {
+      String message = "Falha ao localizar os campos da credencial codificada";
+      logger.log(Level.SEVERE, message);
+      throw new INTERNAL(message);
+    }
+    return template;
+  }
+
+  /**
+   * Recupera a cadeia assinada que deve ser anexada a requisição.
+   * 
+   * @param ri informação do request
+   * @param conn a conexão em uso
    * @param holder o login em uso.
    * @param target identificador do alvo do request
-   * @param session a sesso em uso pela requisio
+   * @param session a sessão em uso pela requisição
    * @return A cadeia assinada.
    */
   private Chain getCallChain(ClientRequestInfo ri, ConnectionImpl conn,
     LoginInfoHolder holder, String target, ClientSideSession session) {
     Chain joined = getJoinedChain(ri);
+    if (session.legacy()) {
+      joined = getLegacyChain(ri, conn, joined);
+    }
     if (target.equals(BusLogin.value)) {
       return joined;
     }
@@ -250,49 +291,25 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
         ChainCacheKey key =
           new ChainCacheKey(entity, joined.signature(), legacy);
         Chain chain = conn.cache.chains.get(key);
+        if (joined.isNull()) {
+          conn.cache.refresher.accessed(key, entity, target, legacy);
+        }
         if (chain == null) {
-          if (legacy) {
-            SignedCallChain chainFor;
-            do {
-              chainFor = conn.legacySupport().access().signChainFor(target);
-              curr = conn.getLogin();
-            } while (!decodeSignedLegacyChain(chainFor).caller.id
-              .equals(curr.id));
-            chain = new Chain(chainFor);
-            chain.updateInfos(conn.busId(), decodeSignedLegacyChain(chainFor));
-            conn.cache.chains.put(key, chain);
-          }
-          else if (joined.isLegacy() && !conn.legacy()) {
-            String error = "no  possvel unir-se a cadeia legada";
+          if (joined.isLegacy() && !legacy && !conn.requireLegacy()) {
+            String error = "não é possível unir-se a cadeia legada";
             logger.log(Level.SEVERE, error);
             throw new NO_PERMISSION(error, InvalidChainCode.value,
               CompletionStatus.COMPLETED_NO);
           }
-          else {
-            SignedData chainFor;
-            do {
-              chainFor = conn.access().signChainFor(entity);
-              curr = conn.getLogin();
-            } while (!decodeSignedChain(chainFor).caller.id.equals(curr.id));
-            chain = new Chain(chainFor);
-            chain.updateInfos(decodeSignedChain(chainFor));
-            conn.cache.chains.put(key, chain);
-          }
+          LoginInfoHolder signer = new LoginInfoHolder(curr);
+          chain = conn.signedChain(key, entity, target, legacy, signer);
+          curr = signer.value;
         }
         holder.value = curr;
         return chain;
       }
       catch (InvalidLogins e) {
-        Map<EffectiveProfile, String> cache = conn.cache.entities;
-        List<EffectiveProfile> toRemove = new ArrayList<>();
-        for (Entry<EffectiveProfile, String> entry : cache.entrySet()) {
-          if (target.equals(entry.getValue())) {
-            toRemove.add(entry.getKey());
-          }
-        }
-        for (EffectiveProfile ep : toRemove) {
-          cache.remove(ep);
-        }
+        conn.cache.entities.removeTarget(target);
         String message =
           String.format("Erro ao assinar cadeia para target: (%s)",
             e.loginIds[0]);
@@ -325,42 +342,9 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
   }
 
   /**
-   * Decodifica a cadeia
+   * Recupera a cadeia assinada que deve ser anexada a requisição
    * 
-   * @param data o dado codificado
-   * @return a cadeia
-   * @throws FormatMismatch
-   * @throws TypeMismatch
-   */
-  private CallChain decodeSignedChain(SignedData data) throws FormatMismatch,
-    TypeMismatch {
-    Any any = codec().decode_value(data.encoded, CallChainHelper.type());
-    return CallChainHelper.extract(any);
-  }
-
-  /**
-   * Decodifica a cadeia
-   * 
-   * @param data o dado codificado
-   * @return a cadeia
-   * @throws FormatMismatch
-   * @throws TypeMismatch
-   */
-  private tecgraf.openbus.core.v2_0.services.access_control.CallChain decodeSignedLegacyChain(
-    SignedCallChain data) throws FormatMismatch, TypeMismatch {
-    Any any =
-      codec().decode_value(
-        data.encoded,
-        tecgraf.openbus.core.v2_0.services.access_control.CallChainHelper
-          .type());
-    return tecgraf.openbus.core.v2_0.services.access_control.CallChainHelper
-      .extract(any);
-  }
-
-  /**
-   * Recupera a cadeia assinada que deve ser anexada a requisio
-   * 
-   * @param ri informao do request
+   * @param ri informação do request
    * @return A cadeia que esta joined ou uma cadeia nula.
    */
   private Chain getJoinedChain(ClientRequestInfo ri) {
@@ -370,7 +354,8 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
       if (any.type().kind().value() != TCKind._tk_null) {
         CallChainInfo info = CallChainInfoHelper.extract(any);
         CallerChainImpl callerChain =
-          CallerChainImpl.info2CallerChain(info, codec());
+          CallerChainImpl.info2CallerChain(info,
+            mediator().getDecodedChains());
         chain = callerChain.internal_chain();
       }
       else {
@@ -390,6 +375,49 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
     return chain;
   }
 
+  /**
+   * Completa a cadeia unida com a sua versão legada, caso ela tenha sido
+   * recebida sem essa versão por uma conexão que faz a conversão sob demanda.
+   * Sem a cadeia legada, a credencial enviada a um alvo legado não propagaria
+   * a cadeia unida.
+   * 
+   * @param ri informação do request
+   * @param conn a conexão em uso
+   * @param joined a cadeia unida
+   * @return A cadeia unida com a versão legada, ou a própria cadeia unida caso
+   *         a conversão não seja necessária ou possível.
+   */
+  private Chain getLegacyChain(ClientRequestInfo ri, ConnectionImpl conn,
+    Chain joined) {
+    if (joined.isNull() || joined.isLegacy()
+      || joined.signedLegacy != NULL_SIGNED_LEGACY_CALL_CHAIN
+      || !joined.bus.equals(conn.busId())
+      || conn.legacySupport().converter() == null) {
+      return joined;
+    }
+    CallChain callchain =
+      new CallChain(joined.bus, joined.target, joined.originators,
+        joined.caller);
+    SignedCallChain legacy;
+    try {
+      legacy =
+        conn.cache.legacyChains.convert(conn, new CallerChainImpl(callchain,
+          joined.signedChain));
+    }
+    catch (ServiceFailure | SystemException e) {
+      String message =
+        String.format(
+          "Falha ao converter cadeia assinada: operação (%s) requestId (%d)",
+          ri.operation(), ri.request_id());
+      logger.log(Level.SEVERE, message, e);
+      throw new NO_PERMISSION(message, InvalidChainCode.value,
+        CompletionStatus.COMPLETED_NO);
+    }
+    Chain chain = new Chain(joined.signedChain, legacy);
+    chain.updateInfos(callchain);
+    return chain;
+  }
+
   @Override
   public void send_poll(ClientRequestInfo ri) {
     logger.finest(String.format("[inout] send_pool: %s", ri.operation()));
@@ -402,14 +430,14 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
     if (!checkSlotIdFlag(ri, context().getIgnoreThreadSlotId())) {
       clearRequestUniqueId();
       logger.fine(String.format(
-        "requisio atendida com sucesso: operao (%s)", ri.operation()));
+        "requisição atendida com sucesso: operação (%s)", ri.operation()));
     }
     logger.finest(String.format("[out] receive_reply: %s", operation));
   }
 
   @Override
   public void receive_exception(ClientRequestInfo ri) throws ForwardRequest {
-    Integer uniqueId;
+    Long uniqueId;
     try {
       logger.finest(String.format("Exception: %s Request: %s", ri
         .received_exception_id(), ri.operation()));
@@ -424,43 +452,50 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
       }
 
       uniqueId = getRequestUniqueId();
-      ConnectionImpl conn = uniqueId2Conn.get(uniqueId);
-      String loginId = uniqueId2LoginId.get(uniqueId);
+      PendingRequest pending =
+        (uniqueId != null) ? pendingRequests.get(uniqueId) : null;
+      ConnectionImpl conn = (pending != null) ? pending.conn : null;
+      String loginId = (pending != null) ? pending.loginId : null;
       switch (exception.minor) {
 
         case InvalidCredentialCode.value:
           if (conn == null || loginId == null) {
-            String message = "Faltam informaes associadas a requisio";
+            String message = "Faltam informações associadas a requisição";
             logger.log(Level.SEVERE, message);
             throw new INTERNAL(message);
           }
           EffectiveProfile ep = new EffectiveProfile(ri.effective_profile());
-          Reset reset = getCredentialReset(ri, conn.legacy());
+          Reset reset = getCredentialReset(ri, conn.legacyEnabled());
           if (reset == null) {
-            // no recebeu o credential reset
+            // não recebeu o credential reset
             String message =
-              "Servidor no enviou o CredentialReset para negociar sesso)";
+              "Servidor não enviou o CredentialReset para negociar sessão)";
             logger.info(message);
             throw new NO_PERMISSION(message, InvalidRemoteCode.value,
               CompletionStatus.COMPLETED_NO);
           }
 
-          Cryptography crypto = Cryptography.getInstance();
-          byte[] secret;
-          try {
-            secret = crypto.decrypt(reset.challenge, conn.privateKey());
-          }
-          catch (CryptographyException e) {
-            String message = "Falha inesperada ao descriptografar segredo.";
-            logger.log(Level.SEVERE, message, e);
-            throw new NO_PERMISSION(message, InvalidRemoteCode.value,
-              CompletionStatus.COMPLETED_NO);
-          }
           conn.cache.entities.put(ep, reset.target);
-          conn.cache.cltSessions.put(reset.target, new ClientSideSession(reset,
-            secret));
+          ClientSideSession current = conn.cache.cltSessions.get(reset.target);
+          if (current == null || !current.sameReset(reset)) {
+            Cryptography crypto = Cryptography.getInstance();
+            byte[] secret;
+            try {
+              secret = crypto.decrypt(reset.challenge, conn.privateKey());
+            }
+            catch (CryptographyException e) {
+              String message = "Falha inesperada ao descriptografar segredo.";
+              logger.log(Level.SEVERE, message, e);
+              throw new NO_PERMISSION(message, InvalidRemoteCode.value,
+                CompletionStatus.COMPLETED_NO);
+            }
+            conn.cache.cltSessions.put(reset.target, new ClientSideSession(
+              reset, secret));
+          }
+          // senão o servidor compartilhou a sessão já estabelecida por outra
+          // chamada, cujos tickets devem continuar sendo utilizados
           logger.finest(String
-            .format("ForwardRequest: login (%s) operao (%s)", loginId, ri
+            .format("ForwardRequest: login (%s) operação (%s)", loginId, ri
               .operation()));
           throw new ForwardRequest(ri.target());
 
@@ -469,7 +504,7 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
             checkSlotIdFlag(ri, context().getSkipInvalidLoginSlotId());
           if (!skipInvLogin) {
             if (conn == null || loginId == null) {
-              String message = "Faltam informaes associadas a requisio";
+              String message = "Faltam informações associadas a requisição";
               logger.log(Level.SEVERE, message);
               throw new INTERNAL(message);
             }
@@ -485,14 +520,14 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
                   conn.localLogout(true);
                 }
                 logger.finest(String.format(
-                  "ForwardRequest: login (%s) operao (%s)", loginId, ri
+                  "ForwardRequest: login (%s) operação (%s)", loginId, ri
                     .operation()));
                 throw new ForwardRequest(ri.target());
               }
               else {
                 String msg =
                   String.format(
-                    "Erro em validao de login: login (%s) operao (%s)",
+                    "Erro em validação de login: login (%s) operação (%s)",
                     loginId, ri.operation());
                 logger.log(Level.SEVERE, msg, e);
                 throw new NO_PERMISSION(msg, UnavailableBusCode.value,
@@ -502,7 +537,7 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
             catch (Exception e) {
               String msg =
                 String.format(
-                  "Erro em validao de login: login (%s) operao (%s)",
+                  "Erro em validação de login: login (%s) operação (%s)",
                   loginId, ri.operation());
               logger.log(Level.SEVERE, msg, e);
               throw new NO_PERMISSION(msg, UnavailableBusCode.value,
@@ -514,7 +549,7 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
             if (validity > 0) {
               String msg =
                 String.format(
-                  "InvalidLogin equivocado: login (%s) operao (%s)", loginId,
+                  "InvalidLogin equivocado: login (%s) operação (%s)", loginId,
                   ri.operation());
               logger.info(msg);
               throw new NO_PERMISSION(msg, InvalidRemoteCode.value,
@@ -522,7 +557,7 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
             }
             else {
               logger.finest(String.format(
-                "ForwardRequest: login (%s) operao (%s)", loginId, ri
+                "ForwardRequest: login (%s) operação (%s)", loginId, ri
                   .operation()));
               throw new ForwardRequest(ri.target());
             }
@@ -534,18 +569,30 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
         case InvalidTargetCode.value:
         case InvalidRemoteCode.value:
           String message =
-            "Servidor repassou uma exceo NO_PERMISSION local: minor = %d";
+            "Servidor repassou uma exceção NO_PERMISSION local: minor = %d";
           String msg = String.format(message, exception.minor);
           logger.log(Level.WARNING, msg, exception);
           throw new NO_PERMISSION(msg, InvalidRemoteCode.value,
             CompletionStatus.COMPLETED_NO);
 
         case NoCredentialCode.value:
-          // deixa a exceo passar
+          if (conn != null && conn.legacyEnabled()) {
+            EffectiveProfile profile =
+              new EffectiveProfile(ri.effective_profile());
+            if (conn.cache.legacyTargets.get(profile) == null) {
+              // o alvo não reconheceu a credencial 2.1, então deve ser legado
+              conn.cache.legacyTargets.put(profile, Boolean.TRUE);
+              logger.fine(String.format(
+                "Alvo legado detectado, ForwardRequest: operação (%s)", ri
+                  .operation()));
+              throw new ForwardRequest(ri.target());
+            }
+          }
+          // deixa a exceção passar
           break;
 
         default:
-          // deixa a exceo passar
+          // deixa a exceção passar
           break;
       }
     }
@@ -555,11 +602,11 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
   }
 
   /**
-   * Recupera a informao do CredentialReset
+   * Recupera a informação do CredentialReset
    * 
-   * @param ri informaes da requisio
-   * @param legacy se a conexo possui o suporte legado ativo
-   * @return as informaes de Reset do handshake
+   * @param ri informações da requisição
+   * @param legacy se a conexão possui o suporte legado ativo
+   * @return as informações de Reset do handshake
    */
   private Reset getCredentialReset(ClientRequestInfo ri, boolean legacy) {
     try {
@@ -620,19 +667,19 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
   }
 
   /**
-   * Recupera o identificador nico associado ao request.
+   * Recupera o identificador único associado ao request.
    * 
    * @return o identificador associado.
    */
-  private Integer getRequestUniqueId() {
+  private Long getRequestUniqueId() {
     try {
       Current current = ORBUtils.getPICurrent(orb());
       Any uniqueAny = current.get_slot(this.mediator().getUniqueIdSlot());
       if (uniqueAny.type().kind().value() != TCKind._tk_null) {
-        return uniqueAny.extract_long();
+        return uniqueAny.extract_longlong();
       }
       else {
-        String message = "Any de chave nica de requestId est vazia!";
+        String message = "Any de chave única de requestId está vazia!";
         logger.fine(message);
         return null;
       }
@@ -648,10 +695,9 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
    * Libera os recursos associados ao identificador de request.
    */
   private void clearRequestUniqueId() {
-    Integer uniqueId = getRequestUniqueId();
+    Long uniqueId = getRequestUniqueId();
     if (uniqueId != null) {
-      uniqueId2Conn.remove(uniqueId);
-      uniqueId2LoginId.remove(uniqueId);
+      pendingRequests.remove(uniqueId);
       try {
         ORB orb = orb();
         Any emptyAny = orb.create_any();
@@ -667,10 +713,10 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
   }
 
   /**
-   * Recupera a conexo corrente.
+   * Recupera a conexão corrente.
    * 
-   * @param ri informao do request
-   * @return a conexo.
+   * @param ri informação do request
+   * @return a conexão.
    */
   private Connection getCurrentConnection(RequestInfo ri) {
     OpenBusContextImpl context = this.mediator().getContext();
@@ -679,17 +725,14 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
       any = ri.get_slot(context.getCurrentConnectionSlotId());
     }
     catch (InvalidSlot e) {
-      String message = "Falha inesperada ao obter o slot da conexo corrente";
+      String message = "Falha inesperada ao obter o slot da conexão corrente";
       throw new INTERNAL(message);
     }
-    if (any.type().kind().value() != TCKind._tk_null) {
-      int id = any.extract_long();
-      Connection connection = context.getConnectionById(id);
-      if (connection != null) {
-        return connection;
-      }
+    Connection connection = context.getConnectionBySlot(any);
+    if (connection != null) {
+      return connection;
     }
-    Connection connection = context.defaultConnection();
+    connection = context.defaultConnection();
     if (connection != null) {
       return connection;
     }
@@ -701,4 +744,27 @@ final class ClientRequestInterceptorImpl extends InterceptorImpl implements
     logger.finest(String.format("[inout] receive_other: %s", ri.operation()));
   }
 
+  /**
+   * Informações associadas a uma requisição em andamento.
+   * 
+   * @author Tecgraf
+   */
+  private static final class PendingRequest {
+    /** A conexão utilizada na requisição */
+    final ConnectionImpl conn;
+    /** O identificador de login utilizado na requisição */
+    final String loginId;
+
+    /**
+     * Construtor.
+     * 
+     * @param conn a conexão utilizada na requisição
+     * @param loginId o identificador de login utilizado na requisição
+     */
+    PendingRequest(ConnectionImpl conn, String loginId) {
+      this.conn = conn;
+      this.loginId = loginId;
+    }
+  }
+
 }
@@ -1,5 +1,8 @@
 package tecgraf.openbus.core;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.Uninterruptibles;
 import org.omg.CORBA.Any;
 import org.omg.CORBA.IntHolder;
@@ -7,21 +10,28 @@ import org.omg.CORBA.NO_PERMISSION;
 import org.omg.CORBA.OBJECT_NOT_EXIST;
 import org.omg.CORBA.ORB;
 import org.omg.CORBA.SystemException;
+import org.omg.CORBA.UserException;
 import org.omg.IOP.CodecPackage.InvalidTypeForEncoding;
 import org.omg.PortableServer.POA;
 import scs.core.IComponent;
 import scs.core.IComponentHelper;
+import tecgraf.openbus.CacheStatistics;
 import tecgraf.openbus.CallerChain;
 import tecgraf.openbus.Connection;
+import tecgraf.openbus.ContextScope;
+import tecgraf.openbus.InterceptorCache;
 import tecgraf.openbus.LoginCallback;
 import tecgraf.openbus.OnReloginCallback;
 import tecgraf.openbus.OpenBusContext;
+import tecgraf.openbus.RemoteOffer;
 import tecgraf.openbus.SharedAuthSecret;
 import tecgraf.openbus.core.Credential.Chain;
 import tecgraf.openbus.core.Session.ClientSideSession;
 import tecgraf.openbus.core.Session.ServerSideSession;
+import tecgraf.openbus.core.v2_0.credential.SignedCallChain;
 import tecgraf.openbus.core.v2_0.services.access_control.AccessControlHelper;
 import tecgraf.openbus.core.v2_1.EncryptedBlockHolder;
+import tecgraf.openbus.core.v2_1.credential.SignedData;
 import tecgraf.openbus.core.v2_1.services.ServiceFailure;
 import tecgraf.openbus.core.v2_1.services.access_control.AccessControl;
 import tecgraf.openbus.core.v2_1.services.access_control.AccessDenied;
@@ -31,6 +41,7 @@ import tecgraf.openbus.core.v2_1.services.access_control.InvalidToken;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginAuthenticationInfo;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginAuthenticationInfoHelper;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
+import tecgraf.openbus.core.v2_1.services.access_control.LoginInfoHolder;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginProcess;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginRegistry;
 import tecgraf.openbus.core.v2_1.services.access_control.MissingCertificate;
@@ -55,10 +66,13 @@ import java.security.cert.X509Certificate;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.spec.InvalidKeySpecException;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
@@ -67,28 +81,30 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Implementao da Interface {@link Connection}
+ * Implementação da Interface {@link Connection}
  * 
  * @author Tecgraf
  */
 final class ConnectionImpl implements Connection {
 
-  /** Identificador da conexo */
+  /** Identificador da conexão */
   private final String connId = UUID.randomUUID().toString();
-  /** Instncia do logger */
+  /** Instância do logger */
   private static final Logger logger = Logger.getLogger(ConnectionImpl.class
     .getName());
-  /** Instncia auxiliar para tratar de criptografia */
+  /** Razão padrão entre o intervalo máximo e o inicial entre relogins */
+  private static final long RELOGIN_INTERVAL_FACTOR = 32;
+  /** Instância auxiliar para tratar de criptografia */
   private Cryptography crypto;
 
-  /** ORB associado a esta conexo */
+  /** ORB associado a esta conexão */
   private final ORB orb;
-  /** POA que essa conexo deve utilizar. Aqui na conexo esse objeto  final
-   para evitar contenes. */
+  /** POA que essa conexão deve utilizar. Aqui na conexão esse objeto é final
+   para evitar contenções. */
   private final POA poa;
-  /** Gerente da conexo. */
+  /** Gerente da conexão. */
   private final OpenBusContextImpl context;
-  /** Informaes sobre o barramento ao qual a conexo pertence */
+  /** Informações sobre o barramento ao qual a conexão pertence */
   private final BusInfo bus;
   /** Registro de logins local */
   private final LoginRegistryImpl loginRegistry;
@@ -98,45 +114,55 @@ final class ConnectionImpl implements Connection {
   private final long interval;
   /** Unidade de tempo do intervalo */
   private final TimeUnit unit;
-  /** Chave pblica do sdk */
+  /** Intervalo de tempo máximo entre tentativas de relogin */
+  private final long maxReloginInterval;
+  /** Relogins em andamento, por login inválido */
+  private final SingleFlight<String, LoginInfo> relogins;
+  /** Chave pública do sdk */
   private RSAPublicKey publicKey;
   /** Chave privada do sdk */
   private RSAPrivateKey privateKey;
-  /** Informao do login associado a esta conexo. */
+  /** Informação do login associado a esta conexão. */
   private InternalLogin internalLogin;
   /** Callback a ser disparada caso o login seja refeito */
   private volatile OnReloginCallback reloginCallback;
-  /** Lock para operaes sobre o login */
+  /** Lock para operações sobre o login */
   private final ReentrantReadWriteLock rwlock =
     new ReentrantReadWriteLock(true);
-  /** Lock de leitura para operaes sobre o login */
+  /** Lock de leitura para operações sobre o login */
   private final ReadLock readLock = rwlock.readLock();
-  /** Lock de escrita para operaes sobre o login */
+  /** Lock de escrita para operações sobre o login */
   private final WriteLock writeLock = rwlock.writeLock();
 
-  /** Thread de renovao de login */
-  private LeaseRenewer renewer;
-  /** Callback com dados de autenticao para login */
+  /** Renovação agendada do login */
+  private LeaseScheduler.Lease<ConnectionImpl> renewer;
+  /** Tempo de lease em segundos recebido no login */
+  private volatile int lease;
+  /** Callback com dados de autenticação para login */
   private LoginCallback cb;
 
-  /** Caches da conexo */
+  /** Caches da conexão */
   Caches cache;
+  /** Tamanho do histórico de tickets das sessões servidor */
+  private final int ticketsHistorySize;
 
   /* Suporte Legado. */
-  /** Informa se o suporte legado esta ativo */
-  private boolean legacy;
-  /** Suporte legado */
-  private LegacySupport legacySupport;
+  /** Informa se o suporte legado esta habilitado */
+  private volatile boolean legacy;
+  /** Informa se as cadeias legadas são convertidas apenas quando utilizadas */
+  private final boolean lazyLegacyChain;
+  /** Suporte legado, ativado no primeiro uso */
+  private volatile LegacySupport legacySupport;
 
   /**
    * Construtor.
    * 
-   * @param reference refercia para o barramento
-   * @param context Implementao do multiplexador de conexo.
-   * @param orb ORB que essa conexo ira utilizar;
-   * @param poa POA que essa conexo ira utilizar;
-   * @param props Propriedades da conexo.
-   * @throws InvalidPropertyValue Existe uma propriedade com um valor invlido.
+   * @param reference referêcia para o barramento
+   * @param context Implementação do multiplexador de conexão.
+   * @param orb ORB que essa conexão ira utilizar;
+   * @param poa POA que essa conexão ira utilizar;
+   * @param props Propriedades da conexão.
+   * @throws InvalidPropertyValue Existe uma propriedade com um valor inválido.
    */
   ConnectionImpl(org.omg.CORBA.Object reference,
     OpenBusContextImpl context, ORB orb, POA poa, Properties props)
@@ -166,7 +192,7 @@ final class ConnectionImpl implements Connection {
     String threads = OpenBusProperty.THREAD_NUMBER.getProperty(props);
     int threadNum;
     try {
-      // nunca ser null apesar do warning
+      // nunca será null apesar do warning
       threadNum = Integer.parseInt(threads);
       if (threadNum <= 0) {
         throw new InvalidPropertyValue(OpenBusProperty.THREAD_NUMBER.getKey(),
@@ -180,7 +206,7 @@ final class ConnectionImpl implements Connection {
     RetryTaskPool pool = new RetryTaskPool(threadNum);
     String interval = OpenBusProperty.TIME_INTERVAL.getProperty(props);
     try {
-      // nunca ser null apesar do warning
+      // nunca será null apesar do warning
       this.interval = Long.parseLong(interval);
       if (this.interval < 0) {
         throw new InvalidPropertyValue(OpenBusProperty.TIME_INTERVAL.getKey(),
@@ -193,6 +219,27 @@ final class ConnectionImpl implements Connection {
     }
     String unit = OpenBusProperty.TIME_UNIT.getProperty(props);
     this.unit = convertUnitPropertyToTimeUnit(unit);
+    String maxInterval =
+      OpenBusProperty.RELOGIN_MAX_INTERVAL.getProperty(props);
+    if (maxInterval != null) {
+      try {
+        this.maxReloginInterval = Long.parseLong(maxInterval);
+        if (this.maxReloginInterval < 0) {
+          throw new InvalidPropertyValue(
+            OpenBusProperty.RELOGIN_MAX_INTERVAL.getKey(), maxInterval);
+        }
+      }
+      catch (NumberFormatException e) {
+        throw new InvalidPropertyValue(
+          OpenBusProperty.RELOGIN_MAX_INTERVAL.getKey(), maxInterval, e);
+      }
+    }
+    else {
+      this.maxReloginInterval =
+        this.interval > Long.MAX_VALUE / RELOGIN_INTERVAL_FACTOR
+          ? Long.MAX_VALUE : this.interval * RELOGIN_INTERVAL_FACTOR;
+    }
+    this.relogins = new SingleFlight<>();
 
     this.loginRegistry = new LoginRegistryImpl(context, this, poa, pool,
       this.interval, this.unit);
@@ -202,21 +249,66 @@ final class ConnectionImpl implements Connection {
     String prop = OpenBusProperty.LEGACY_DISABLE.getProperty(props);
     Boolean disabled = Boolean.valueOf(prop);
     this.legacy = !disabled;
+    prop = OpenBusProperty.LEGACY_CHAIN_LAZY.getProperty(props);
+    this.lazyLegacyChain = Boolean.valueOf(prop);
+
+    // verificando por valores de tamanho de cache
+    int size = cacheSize(props, OpenBusProperty.CACHE_SIZE, 0);
+    Map<InterceptorCache, Integer> sizes = new EnumMap<>(InterceptorCache.class);
+    sizes.put(InterceptorCache.ENTITIES, cacheSize(props,
+      OpenBusProperty.CACHE_ENTITIES_SIZE, size));
+    sizes.put(InterceptorCache.CLIENT_SESSIONS, cacheSize(props,
+      OpenBusProperty.CACHE_CLIENT_SESSIONS_SIZE, size));
+    sizes.put(InterceptorCache.CHAINS, cacheSize(props,
+      OpenBusProperty.CACHE_CHAINS_SIZE, size));
+    sizes.put(InterceptorCache.SERVER_SESSIONS, cacheSize(props,
+      OpenBusProperty.CACHE_SERVER_SESSIONS_SIZE, size));
+    sizes.put(InterceptorCache.LOGINS, cacheSize(props,
+      OpenBusProperty.CACHE_LOGINS_SIZE, size));
+    sizes.put(InterceptorCache.VERIFIED_CHAINS, cacheSize(props,
+      OpenBusProperty.CACHE_VERIFIED_CHAINS_SIZE, size));
+    sizes.put(InterceptorCache.LEGACY_CHAINS, cacheSize(props,
+      OpenBusProperty.CACHE_LEGACY_CHAINS_SIZE, size));
+    sizes.put(InterceptorCache.LEGACY_TARGETS, cacheSize(props,
+      OpenBusProperty.CACHE_LEGACY_TARGETS_SIZE, size));
+
+    // verificando por limite de reinícios de credencial
+    String srate = OpenBusProperty.RESETS_RATE.getProperty(props);
+    int rate;
+    try {
+      // nunca será null apesar do warning
+      rate = Integer.parseInt(srate);
+      if (rate < 0) {
+        throw new InvalidPropertyValue(OpenBusProperty.RESETS_RATE.getKey(),
+          srate);
+      }
+    }
+    catch (NumberFormatException e) {
+      throw new InvalidPropertyValue(OpenBusProperty.RESETS_RATE.getKey(),
+        srate, e);
+    }
+    this.cache = new Caches(this, size, sizes, rate);
+    // a cache de cadeias decodificadas é do ORB, e só é redimensionada quando
+    // a conexão define explicitamente o seu tamanho
+    int decoded =
+      cacheSize(props, OpenBusProperty.CACHE_DECODED_CHAINS_SIZE, 0);
+    if (decoded > 0) {
+      this.cache.decodedChains.entries().resize(decoded);
+    }
 
-    // verificando por valor de tamanho de cache
-    String ssize = OpenBusProperty.CACHE_SIZE.getProperty(props);
+    // verificando por valor de tamanho do histórico de tickets
+    String tsize = OpenBusProperty.TICKETS_HISTORY_SIZE.getProperty(props);
     try {
-      // nunca ser null apesar do warning
-      int size = Integer.parseInt(ssize);
-      if (size <= 0) {
-        throw new InvalidPropertyValue(OpenBusProperty.CACHE_SIZE.getKey(),
-          ssize);
+      // nunca será null apesar do warning
+      this.ticketsHistorySize = Integer.parseInt(tsize);
+      if (!TicketsHistory.isValidSize(this.ticketsHistorySize)) {
+        throw new InvalidPropertyValue(
+          OpenBusProperty.TICKETS_HISTORY_SIZE.getKey(), tsize);
       }
-      this.cache = new Caches(this, size);
     }
     catch (NumberFormatException e) {
-      throw new InvalidPropertyValue(OpenBusProperty.CACHE_SIZE.getKey(),
-        ssize, e);
+      throw new InvalidPropertyValue(
+        OpenBusProperty.TICKETS_HISTORY_SIZE.getKey(), tsize, e);
     }
 
     // verificando por definicao de chaves em propriedades
@@ -243,7 +335,7 @@ final class ConnectionImpl implements Connection {
       }
       catch (CryptographyException e) {
         throw new OpenBusInternalException(
-          "Erro inesperado na gerao do par de chaves.", e);
+          "Erro inesperado na geração do par de chaves.", e);
       }
     }
     this.publicKey = (RSAPublicKey) keyPair.getPublic();
@@ -288,7 +380,7 @@ final class ConnectionImpl implements Connection {
 
 
   /**
-   * Verifica se a conexo j est loggada, e lana a exceo
+   * Verifica se a conexão já está loggada, e lança a exceção
    * {@link AlreadyLoggedIn} caso positivo.
    * 
    * @throws AlreadyLoggedIn
@@ -307,10 +399,10 @@ final class ConnectionImpl implements Connection {
     try {
       loginByCallback(() -> new AuthArgs(login, password, domain));
     } catch (WrongBus | InvalidLoginProcess e) {
-      throw new OpenBusInternalException("Exceo de login por autenticao " +
+      throw new OpenBusInternalException("Exceção de login por autenticação " +
         "compartilhada recebida ao realizar login por senha.", e);
     } catch (MissingCertificate e) {
-      throw new OpenBusInternalException("Exceo de login por chave privada " +
+      throw new OpenBusInternalException("Exceção de login por chave privada " +
         "recebida ao realizar login por senha.", e);
     }
   }
@@ -336,7 +428,7 @@ final class ConnectionImpl implements Connection {
     }
     catch (InvalidPublicKey e) {
       throw new OpenBusInternalException(
-        "Falha no protocolo OpenBus: A chave de acesso gerada no foi aceita. Mensagem="
+        "Falha no protocolo OpenBus: A chave de acesso gerada não foi aceita. Mensagem="
           + e.message);
     }
     finally {
@@ -350,10 +442,10 @@ final class ConnectionImpl implements Connection {
   }
 
   /**
-   * Cria a estrutura {@link LoginAuthenticationInfo} encriptada com a pblica
+   * Cria a estrutura {@link LoginAuthenticationInfo} encriptada com a pública
    * do barramento.
    * 
-   * @param data Dado para autenticao.
+   * @param data Dado para autenticação.
    * @return O {@link LoginAuthenticationInfo} encriptado.
    * @throws OpenBusInternalException
    */
@@ -374,11 +466,11 @@ final class ConnectionImpl implements Connection {
     }
     catch (InvalidTypeForEncoding e) {
       throw new OpenBusInternalException(
-        "Falha inesperada ao codificar as informaes de autenticao", e);
+        "Falha inesperada ao codificar as informações de autenticação", e);
     }
     catch (CryptographyException e) {
       throw new OpenBusInternalException(
-        "Erro de criptografia com uso de chave pblica.", e);
+        "Erro de criptografia com uso de chave pública.", e);
     }
 
   }
@@ -390,10 +482,10 @@ final class ConnectionImpl implements Connection {
     try {
       loginByCallback(() -> new AuthArgs(entity, key));
     } catch (WrongBus | InvalidLoginProcess e) {
-      throw new OpenBusInternalException("Exceo de login por autenticao " +
+      throw new OpenBusInternalException("Exceção de login por autenticação " +
         "compartilhada recebida ao realizar login por chave privada.", e);
     } catch (TooManyAttempts | UnknownDomain e) {
-      throw new OpenBusInternalException("Exceo de login por senha " +
+      throw new OpenBusInternalException("Exceção de login por senha " +
         "recebida ao realizar login por chave privada.", e);
     }
   }
@@ -430,7 +522,7 @@ final class ConnectionImpl implements Connection {
     }
     catch (InvalidPublicKey e) {
       throw new OpenBusInternalException(
-        "Falha no protocolo OpenBus: A chave de acesso gerada no foi aceita. Mensagem="
+        "Falha no protocolo OpenBus: A chave de acesso gerada não foi aceita. Mensagem="
           + e.message);
     }
     finally {
@@ -457,53 +549,50 @@ final class ConnectionImpl implements Connection {
     byte[] secret = null;
     tecgraf.openbus.core.v2_0.services.access_control.LoginProcess legacyProcess =
       null;
-    Connection previousConnection = context.currentConnection();
-    try {
-      context.currentConnection(this);
+    try (ContextScope scope = context.scope(this)) {
       process = this.access().startLoginBySharedAuth(challenge);
-      secret = crypto.decrypt(challenge.value, this.privateKey());
-      if (legacy() && legacySupport().converter() != null) {
+      try {
+        secret = crypto.decrypt(challenge.value, this.privateKey());
+      }
+      catch (CryptographyException e) {
+        process.cancel();
+        throw new ServiceFailure("Erro ao decriptar segredo com chave " +
+          "privada: " + e.getMessage());
+      }
+      if (requireLegacy() && legacySupport().converter() != null) {
         try {
           legacyProcess =
             legacySupport().converter().convertSharedAuth(process);
         }
         catch (Exception e) {
           String msg =
-            "No foi possvel converter o compartilhamento de autenticao";
+            "Não foi possível converter o compartilhamento de autenticação";
           logger.log(Level.SEVERE, msg, e);
         }
       }
     }
-    catch (CryptographyException e) {
-      process.cancel();
-      throw new ServiceFailure("Erro ao decriptar segredo com chave " +
-        "privada: " + e.getMessage());
-    }
-    finally {
-      context.currentConnection(previousConnection);
-    }
     return new SharedAuthSecretImpl(busId(), process, legacyProcess, secret,
       context);
   }
 
   /**
-   * Efetua login de uma entidade usando autenticao compartilhada.
+   * Efetua login de uma entidade usando autenticação compartilhada.
    * <p>
-   * A autenticao compartilhada  feita a partir de um segredo obtido atravs
-   * da operao {@link #startSharedAuth() startSharedAuth} de uma conexo
+   * A autenticação compartilhada é feita a partir de um segredo obtido através
+   * da operação {@link #startSharedAuth() startSharedAuth} de uma conexão
    * autenticada.
    *
-   * @param secret Segredo a ser fornecido na concluso do processo de login.
+   * @param secret Segredo a ser fornecido na conclusão do processo de login.
    *
    * @exception InvalidLoginProcess A tentativa de login associada ao segredo
-   *            informado  invlido, por exemplo depois do segredo ser
-   *            cancelado, ter expirado, ou j ter sido utilizado.
-   * @exception AlreadyLoggedIn A conexo j est autenticada.
-   * @exception WrongBus O segredo no pertence ao barramento contactado.
-   * @exception AccessDenied O segredo fornecido no corresponde ao esperado
+   *            informado é inválido, por exemplo depois do segredo ser
+   *            cancelado, ter expirado, ou já ter sido utilizado.
+   * @exception AlreadyLoggedIn A conexão já está autenticada.
+   * @exception WrongBus O segredo não pertence ao barramento contactado.
+   * @exception AccessDenied O segredo fornecido não corresponde ao esperado
    *            pelo barramento.
-   * @exception ServiceFailure Ocorreu uma falha interna nos servios do
-   *            barramento que impediu a autenticao da conexo.
+   * @exception ServiceFailure Ocorreu uma falha interna nos serviços do
+   *            barramento que impediu a autenticação da conexão.
    */
   private void loginBySharedAuth(SharedAuthSecret secret, LoginCallback cb,
                                  boolean relogin, LoginInfo oldLogin)
@@ -539,16 +628,16 @@ final class ConnectionImpl implements Connection {
     catch (WrongEncoding | tecgraf.openbus.core.v2_0.services.access_control.WrongEncoding e) {
       throw new AccessDenied("Erro durante tentativa de login.");
     } catch (OBJECT_NOT_EXIST e) {
-      throw new InvalidLoginProcess("Objeto de processo de login  invlido");
+      throw new InvalidLoginProcess("Objeto de processo de login é inválido");
     }
     catch (InvalidPublicKey e) {
       throw new OpenBusInternalException(
-        "Falha no protocolo OpenBus: A chave de acesso gerada no foi aceita. Mensagem="
+        "Falha no protocolo OpenBus: A chave de acesso gerada não foi aceita. Mensagem="
           + e.message);
     }
     catch (tecgraf.openbus.core.v2_0.services.access_control.InvalidPublicKey e) {
       throw new OpenBusInternalException(
-        "Falha no protocolo OpenBus: A chave de acesso gerada no foi aceita. Mensagem="
+        "Falha no protocolo OpenBus: A chave de acesso gerada não foi aceita. Mensagem="
           + e.message);
     }
     catch (tecgraf.openbus.core.v2_0.services.access_control.AccessDenied e) {
@@ -565,7 +654,7 @@ final class ConnectionImpl implements Connection {
     logger
       .info(String
         .format(
-          "Login por compatilhamento de autenticao efetuado com sucesso: busId (%s) login (%s) entidade (%s)",
+          "Login por compatilhamento de autenticação efetuado com sucesso: busId (%s) login (%s) entidade (%s)",
           busId(), newLogin.id, newLogin.entity));
   }
 
@@ -590,25 +679,40 @@ final class ConnectionImpl implements Connection {
   }
 
   /**
-   * Callback de login invlido.
+   * Callback de login inválido.
    * <p>
-   * Mtodo a ser chamado quando uma notificao de login invlido  recebida.
-   * Caso alguma exceo ocorra durante a execuo do mtodo e no seja
-   * tratada, o erro ser capturado pelo interceptador e registrado no log.
+   * Método a ser chamado quando uma notificação de login inválido é recebida.
+   * Caso alguma exceção ocorra durante a execução do método e não seja
+   * tratada, o erro será capturado pelo interceptador e registrado no log.
    *
-   * @param loginInfo Informaes do login que se tornou invlido.
+   * @param loginInfo Informações do login que se tornou inválido.
    */
   public void invalidLogin(LoginInfo loginInfo) {
-    logger.info("Refazendo login da entidade " + loginInfo.entity +
-      ". Login perdido: " + loginInfo.id);
-    boolean retry = true;
-    boolean loggedOut = true;
     if (login() != null) {
-      // j possui um login vlido
-      retry = false;
-      loggedOut = false;
+      // já possui um login válido
+      return;
     }
-    while (retry && loggedOut) {
+    try {
+      // as demais threads aguardam o relogin em andamento
+      relogins.execute(loginInfo.id, () -> relogin(loginInfo));
+    }
+    catch (UserException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Refaz o login através da callback de login, retentando com intervalos
+   * crescentes até que o login seja refeito.
+   *
+   * @param loginInfo Informações do login que se tornou inválido.
+   * @return o novo login, ou {@code null} caso a conexão tenha sido deslogada.
+   */
+  private LoginInfo relogin(LoginInfo loginInfo) {
+    logger.info("Refazendo login da entidade " + loginInfo.entity +
+      ". Login perdido: " + loginInfo.id);
+    int attempt = 0;
+    while (login() == null) {
       try {
         LoginCallback cb;
         this.readLock.lock();
@@ -619,19 +723,36 @@ final class ConnectionImpl implements Connection {
           this.readLock.unlock();
         }
         loginByCallback(cb, true, loginInfo);
-        retry = false;
+        break;
       } catch (AlreadyLoggedIn e) {
-        retry = false;
+        break;
       } catch (Exception e) {
         logger.warning("Erro ao tentar refazer o login. " + e);
-        retry = true;
       }
-      if (retry) {
-        Uninterruptibles.sleepUninterruptibly(interval, unit);
-      }
-      loggedOut = login() == null;
+      Uninterruptibles.sleepUninterruptibly(
+        backoff(interval, maxReloginInterval, attempt++), unit);
     }
     logger.info("Login refeito.");
+    return login();
+  }
+
+  /**
+   * Calcula o intervalo até a próxima tentativa de relogin: o intervalo
+   * inicial dobra a cada tentativa até o máximo, e o valor devolvido é
+   * sorteado entre a metade e o total do intervalo da tentativa.
+   *
+   * @param interval o intervalo inicial.
+   * @param max o intervalo máximo.
+   * @param attempt o índice da tentativa que falhou, a partir de zero.
+   * @return o intervalo.
+   */
+  static long backoff(long interval, long max, int attempt) {
+    long delay = Math.min(interval, max);
+    for (int i = 0; i < attempt && delay < max; i++) {
+      delay = delay > max / 2 ? max : delay * 2;
+    }
+    long half = delay / 2;
+    return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
   }
 
   @Override
@@ -656,24 +777,111 @@ final class ConnectionImpl implements Connection {
 
   @Override
   public CallerChain makeChainFor(String entity) throws ServiceFailure {
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(this);
+    try (ContextScope scope = context.scope(this)) {
       return context.makeChainFor(entity);
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
   @Override
   public CallerChain importChain(byte[] token, String domain)
     throws InvalidToken, UnknownDomain, WrongEncoding, ServiceFailure {
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(this);
+    try (ContextScope scope = context.scope(this)) {
       return context.importChain(token, domain);
-    } finally {
-      context.currentConnection(prev);
+    }
+  }
+
+  @Override
+  public ListenableFuture<List<Boolean>> warmUp(
+    List<? extends org.omg.CORBA.Object> references) {
+    ListeningExecutorService pool = context.warmUps();
+    List<ListenableFuture<Boolean>> results =
+      new ArrayList<>(references.size());
+    for (org.omg.CORBA.Object reference : references) {
+      results.add(pool.submit(() -> warmUpSession(reference)));
+    }
+    return Futures.allAsList(results);
+  }
+
+  @Override
+  public ListenableFuture<List<Boolean>> warmUpOffers(
+    List<RemoteOffer> offers) {
+    List<IComponent> services = new ArrayList<>(offers.size());
+    for (RemoteOffer offer : offers) {
+      services.add(offer.service());
+    }
+    return warmUp(services);
+  }
+
+  /**
+   * Estabelece a sessão com o servidor da referência, caso ela ainda não
+   * exista.
+   * 
+   * @param reference a referência.
+   * @return {@code true} caso a chamada tenha sido atendida e o objeto
+   *         exista, e {@code false} caso contrário.
+   */
+  private boolean warmUpSession(org.omg.CORBA.Object reference) {
+    try (ContextScope scope = context.scope(this)) {
+      return !reference._non_existent();
+    }
+    catch (SystemException e) {
+      logger.log(Level.WARNING, String.format(
+        "Falha ao estabelecer antecipadamente a sessão: busId (%s)", busId()),
+        e);
+      return false;
+    }
+  }
+
+  @Override
+  public int cacheSize(InterceptorCache cache) {
+    return this.cache.entries(cache).maximum();
+  }
+
+  @Override
+  public void cacheSize(InterceptorCache cache, int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("Tamanho de cache inválido: " + size);
+    }
+    this.cache.entries(cache).resize(size);
+    if (cache == InterceptorCache.CHAINS) {
+      this.cache.refresher.resize(size);
+    }
+  }
+
+  @Override
+  public CacheStatistics cacheStatistics(InterceptorCache cache) {
+    BoundedCache<?, ?> entries = this.cache.entries(cache);
+    BoundedCache.Stats stats = entries.stats();
+    return new CacheStatistics(entries.size(), entries.maximum(), stats.hits,
+      stats.misses, stats.evictions);
+  }
+
+  /**
+   * Recupera o tamanho de cache definido por uma propriedade.
+   * 
+   * @param props as propriedades da conexão.
+   * @param property a propriedade.
+   * @param defaultSize o tamanho utilizado caso a propriedade não esteja
+   *        definida.
+   * @return o tamanho da cache.
+   * @throws InvalidPropertyValue caso o valor da propriedade não seja um
+   *         número positivo.
+   */
+  private static int cacheSize(Properties props, OpenBusProperty property,
+    int defaultSize) throws InvalidPropertyValue {
+    String value = property.getProperty(props);
+    if (value == null) {
+      return defaultSize;
+    }
+    try {
+      int size = Integer.parseInt(value);
+      if (size <= 0) {
+        throw new InvalidPropertyValue(property.getKey(), value);
+      }
+      return size;
+    }
+    catch (NumberFormatException e) {
+      throw new InvalidPropertyValue(property.getKey(), value, e);
     }
   }
 
@@ -718,24 +926,23 @@ final class ConnectionImpl implements Connection {
   }
 
   /**
-   * Dispara a thread de renovao de Login
+   * Agenda a renovação de Login
    * 
-   * @param defaultLease tempo de lease padro.
+   * @param defaultLease tempo de lease padrão.
    */
-  private void fireRenewerThread(int defaultLease) {
+  private void scheduleRenewer(int defaultLease) {
     if (this.renewer != null) {
-      this.renewer.stop();
+      this.renewer.cancel();
     }
-    this.renewer = new LeaseRenewer(this, defaultLease);
-    this.renewer.start();
+    this.renewer = this.context.leases().schedule(this, defaultLease);
   }
 
   /**
-   * Finaliza a thread de renovao de Login.
+   * Cancela a renovação de Login.
    */
-  private void stopRenewerThread() {
+  private void cancelRenewer() {
     if (this.renewer != null) {
-      this.renewer.stop();
+      this.renewer.cancel();
     }
     this.renewer = null;
   }
@@ -746,8 +953,8 @@ final class ConnectionImpl implements Connection {
   }
 
   /**
-   * Recupera o login associado a conexo, mas tenta refazer o login via
-   * callback, caso a conexo esteja com login invlido.
+   * Recupera o login associado a conexão, mas tenta refazer o login via
+   * callback, caso a conexão esteja com login inválido.
    * 
    * @return o login.
    */
@@ -758,22 +965,20 @@ final class ConnectionImpl implements Connection {
   /**
    * Realiza o login localmente.
    * 
-   * @param newLogin a nova informao de login.
+   * @param newLogin a nova informação de login.
    * @param validity tempo de validade do login.
-   * @throws AlreadyLoggedIn se a conexo j estiver logada.
+   * @throws AlreadyLoggedIn se a conexão já estiver logada.
    */
   private void localLogin(LoginInfo newLogin, int validity, LoginCallback cb,
                           boolean relogin, LoginInfo oldLogin)
     throws AlreadyLoggedIn {
-    if (legacy) {
-      activateLegacySupport();
-    }
     writeLock().lock();
     try {
       checkLoggedIn();
       internalLogin.setLoggedIn(newLogin);
       this.cb = cb;
-      fireRenewerThread(validity);
+      this.lease = validity;
+      scheduleRenewer(validity);
     }
     finally {
       writeLock().unlock();
@@ -781,6 +986,7 @@ final class ConnectionImpl implements Connection {
     readLock().lock();
     try {
       if (relogin) {
+        cache.refresher.relogged();
         loginRegistry.fireEvent(LoginEvent.RELOGIN, newLogin);
         offerRegistry.fireEvent(LoginEvent.RELOGIN, newLogin);
         OnReloginCallback callback = onReloginCallback();
@@ -801,10 +1007,10 @@ final class ConnectionImpl implements Connection {
   @Override
   public boolean logout() throws ServiceFailure {
     LoginInfo login;
-    // adianta a finalizao da thread de renovao de login
+    // adianta o cancelamento da renovação de login
     this.writeLock().lock();
     try {
-      stopRenewerThread();
+      cancelRenewer();
       login = this.internalLogin.login();
       if (login == null) {
         if (this.internalLogin.invalid() != null) {
@@ -817,16 +1023,11 @@ final class ConnectionImpl implements Connection {
       this.writeLock().unlock();
     }
 
-    Connection previousConnection = context.currentConnection();
-    CallerChain previousChain = context.joinedChain();
-    try {
-      context.exitChain();
-      context.currentConnection(this);
-      context.ignoreInvLogin();
+    try (ContextScope scope = context.scope(this, true, null, true, false)) {
       this.access().logout();
     }
     catch (NO_PERMISSION e) {
-      // ignora erro se for invalidlogin. O resultado  o mesmo de uma
+      // ignora erro se for invalidlogin. O resultado é o mesmo de uma
       // chamada bem-sucedida a logout
       if (e.minor != InvalidLoginCode.value) {
         logger.log(Level.WARNING, String.format(
@@ -844,31 +1045,92 @@ final class ConnectionImpl implements Connection {
       return false;
     }
     finally {
-      context.currentConnection(previousConnection);
-      context.joinChain(previousChain);
-      context.unignoreInvLogin();
       localLogout(false);
     }
     return true;
   }
 
   /**
-   * Realiza o logout localmente. Se o parmetro "invalidated" for
-   * {@code true} seta o estado da conexo para INVLIDO, se for
+   * Recupera a cadeia assinada para o alvo da cache de cadeias, ou solicita a
+   * sua assinatura ao barramento caso ela não esteja na cache. Assinaturas
+   * concorrentes da mesma cadeia aguardam a primeira.
+   * 
+   * @param key a chave da cadeia na cache.
+   * @param entity entidade alvo da cadeia.
+   * @param target identificador do login alvo da cadeia.
+   * @param legacy indicador se a cadeia deve ser legada.
+   * @param holder recebe o login com o qual a cadeia foi assinada, caso a
+   *        assinatura tenha sido solicitada por esta chamada.
+   * @return a cadeia assinada.
+   * @throws UserException
+   */
+  Chain signedChain(ChainCacheKey key, String entity, String target,
+    boolean legacy, LoginInfoHolder holder) throws UserException {
+    return cache.signings.execute(key, () -> {
+      Chain chain = cache.chains.get(key);
+      if (chain == null) {
+        chain = signChain(entity, target, legacy, holder);
+        cache.chains.put(key, chain);
+      }
+      return chain;
+    });
+  }
+
+  /**
+   * Solicita ao barramento a assinatura de uma cadeia para o alvo.
+   * 
+   * @param entity entidade alvo da cadeia.
+   * @param target identificador do login alvo da cadeia.
+   * @param legacy indicador se a cadeia deve ser legada.
+   * @param holder recebe o login com o qual a cadeia foi assinada.
+   * @return a cadeia assinada.
+   * @throws UserException
+   */
+  private Chain signChain(String entity, String target, boolean legacy,
+    LoginInfoHolder holder) throws UserException {
+    DecodedChainCache decoder = cache.decodedChains;
+    Chain chain;
+    if (legacy) {
+      SignedCallChain chainFor;
+      do {
+        chainFor = legacySupport().access().signChainFor(target);
+        holder.value = getLogin();
+      } while (!decoder.decode(chainFor).caller.id.equals(holder.value.id));
+      chain = new Chain(chainFor);
+      chain.updateInfos(busId(), decoder.decode(chainFor));
+    }
+    else {
+      SignedData chainFor;
+      do {
+        chainFor = access().signChainFor(entity);
+        holder.value = getLogin();
+      } while (!decoder.decode(chainFor).caller.id.equals(holder.value.id));
+      chain = new Chain(chainFor);
+      chain.updateInfos(decoder.decode(chainFor));
+    }
+    return chain;
+  }
+
+  /**
+   * Realiza o logout localmente. Se o parâmetro "invalidated" for
+   * {@code true} seta o estado da conexão para INVÁLIDO, se for
    * {@code false} seta o estado para DESLOGADO.
    * 
-   * @param invalidated indica se o login est invlido
+   * @param invalidated indica se o login está inválido
    */
   void localLogout(boolean invalidated) {
     this.writeLock.lock();
     try {
       this.cache.clear();
       this.bus.clearBusInfos();
-      stopRenewerThread();
+      // o suporte legado é reativado sob demanda no próximo login
+      this.legacySupport = null;
+      cancelRenewer();
       if (invalidated) {
         this.internalLogin.setInvalid();
       }
       else {
+        this.cache.refresher.clear();
         LoginInfo old = this.internalLogin.setLoggedOut();
         loginRegistry.fireEvent(LoginEvent.LOGGED_OUT, null);
         offerRegistry.fireEvent(LoginEvent.LOGGED_OUT, null);
@@ -884,51 +1146,111 @@ final class ConnectionImpl implements Connection {
   }
 
   /**
-   * Recupera o servio de controle de acesso.
+   * Recupera o serviço de controle de acesso.
    * 
-   * @return o servio de controle de acesso.
+   * @return o serviço de controle de acesso.
    */
   AccessControl access() {
     return getBus().getAccessControl();
   }
 
   /**
-   * Recupera o servio de registro de logins.
+   * Recupera a representação local do registro de logins.
+   * 
+   * @return a representação local do registro de logins.
+   */
+  LoginRegistryImpl localLogins() {
+    return loginRegistry;
+  }
+
+  /**
+   * Recupera o tempo de lease recebido no último login da conexão.
+   * 
+   * @return o tempo de lease em segundos, ou 0 caso a conexão nunca tenha
+   *         sido logada.
+   */
+  int lease() {
+    return lease;
+  }
+
+  /**
+   * Recupera o serviço de registro de logins.
    * 
-   * @return o servio de registro de logins.
+   * @return o serviço de registro de logins.
    */
   LoginRegistry logins() {
     return getBus().getLoginRegistry();
   }
 
   /**
-   * Recupera o servio de registro.
+   * Recupera o serviço de registro.
    * 
-   * @return o servio de registro.
+   * @return o serviço de registro.
    */
   OfferRegistry offers() {
     return getBus().getOfferRegistry();
   }
 
   /**
-   * Verifica se o suporte legado est ativo.
+   * Verifica se o suporte legado está ativo.
    * <p>
-   * Mesmo que a conexo tenha sido configurada para permitir o suporte legado
+   * Mesmo que a conexão tenha sido configurada para permitir o suporte legado,
+   * ele só é ativado quando algum par legado é encontrado ou quando algum
+   * dado legado precisa ser gerado. Este método não ativa o suporte.
    * 
    * @return {@code true} caso o suporte esteja ativo, e {@code false}
-   *         caso contrrio.
+   *         caso contrário.
    */
   public boolean legacy() {
     return legacy && this.legacySupport != null;
   }
 
   /**
-   * Recupera os servios de apoio ao suporte legado.
+   * Verifica se o suporte legado está habilitado, mesmo que ainda não tenha
+   * sido ativado.
+   * 
+   * @return {@code true} caso o suporte esteja habilitado, e {@code false}
+   *         caso contrário.
+   */
+  boolean legacyEnabled() {
+    return legacy;
+  }
+
+  /**
+   * Ativa o suporte legado, caso esteja habilitado e ainda não tenha sido
+   * ativado.
+   * 
+   * @return {@code true} caso o suporte esteja ativo, e {@code false}
+   *         caso contrário.
+   */
+  boolean requireLegacy() {
+    return legacySupport() != null;
+  }
+
+  /**
+   * Verifica se as cadeias recebidas em chamadas 2.1 são convertidas para o
+   * formato legado apenas quando a cadeia legada for utilizada.
+   * 
+   * @return {@code true} caso a conversão seja sob demanda, e
+   *         {@code false} caso seja feita no recebimento da chamada.
+   */
+  boolean lazyLegacyChain() {
+    return lazyLegacyChain;
+  }
+
+  /**
+   * Recupera os serviços de apoio ao suporte legado, ativando-o caso esteja
+   * habilitado e ainda não tenha sido ativado.
    * 
-   * @return infra de suporte legado.
+   * @return infra de suporte legado, ou {@code null} caso o suporte não
+   *         esteja disponível.
    */
   LegacySupport legacySupport() {
-    return legacySupport;
+    LegacySupport support = this.legacySupport;
+    if (support == null && legacy) {
+      support = activateLegacySupport();
+    }
+    return support;
   }
 
   /**
@@ -959,29 +1281,30 @@ final class ConnectionImpl implements Connection {
   }
 
   /**
-   * Recupera o identificador desta conexo.
+   * Recupera o identificador desta conexão.
    * 
-   * @return o identificador da conexo.
+   * @return o identificador da conexão.
    */
   String connId() {
     return this.connId;
   }
 
   /**
-   * Recupera o prximo indentificador de sesso disponvel.
+   * Recupera o tamanho do histórico de tickets das sessões servidor.
+   * 
+   * @return o tamanho do histórico de tickets.
+   */
+  int ticketsHistorySize() {
+    return this.ticketsHistorySize;
+  }
+
+  /**
+   * Recupera o próximo indentificador de sessão disponível.
    * 
-   * @return o Identificador de sesso.
+   * @return o Identificador de sessão.
    */
   int nextAvailableSessionId() {
-    synchronized (this.cache.srvSessions) {
-      for (int i = 1; i <= this.cache.CACHE_SIZE + 1; i++) {
-        if (!this.cache.srvSessions.containsKey(i)) {
-          return i;
-        }
-      }
-    }
-    // no deveria chegar neste ponto
-    return this.cache.CACHE_SIZE + 1;
+    return this.cache.sessionIds.allocate();
   }
 
   @Override
@@ -1005,11 +1328,18 @@ final class ConnectionImpl implements Connection {
   }
 
   /**
-   * Ativa o suporte legado recuperando referncia para os servios necessrios.
+   * Ativa o suporte legado recuperando referência para os serviços necessários.
+   * 
+   * @return infra de suporte legado, ou {@code null} caso o suporte não
+   *         esteja disponível.
    */
-  private void activateLegacySupport() {
-    org.omg.CORBA.Object object =
-      bus.getComponent().getFacetByName("LegacySupport");
+  private synchronized LegacySupport activateLegacySupport() {
+    IComponent component = bus.getComponent();
+    if (legacySupport != null || !legacy || component == null) {
+      // sem login não há referência para o barramento
+      return legacySupport;
+    }
+    org.omg.CORBA.Object object = component.getFacetByName("LegacySupport");
     if (object != null) {
       IComponent comp = IComponentHelper.narrow(object);
       org.omg.CORBA.Object faccess = comp.getFacet(AccessControlHelper.id());
@@ -1022,65 +1352,135 @@ final class ConnectionImpl implements Connection {
           converter = LegacyConverterHelper.narrow(fconv);
         }
         else {
-          logger.warning("Exportao de dado legado desativado.");
+          logger.warning("Exportação de dado legado desativado.");
         }
         legacySupport = new LegacySupport(access, converter);
       }
       else {
         legacy = false;
         logger
-          .severe("Suporte legado desativado dado ausncia de controle de acesso");
+          .severe("Suporte legado desativado dado ausência de controle de acesso");
       }
     }
     else {
       legacy = false;
-      logger.warning("Suporte legado no disponvel");
+      logger.warning("Suporte legado não disponível");
     }
+    return legacySupport;
   }
 
   /**
-   * Classe interna para agrupar os caches utilizados pela conexo.
+   * Classe interna para agrupar os caches utilizados pela conexão.
    * 
    * @author Tecgraf
    */
   class Caches {
     /** Tamanho das caches dos interceptadores */
     final int CACHE_SIZE;
-    /* Caches Cliente da conexo */
+    /* Caches Cliente da conexão */
     /** Mapa de profile do interceptador para o cliente alvo da chamanha */
-    final Map<EffectiveProfile, String> entities;
-    /** Cache de sesso: mapa de cliente alvo da chamada para sesso */
-    final Map<String, ClientSideSession> cltSessions;
+    final EntityCache entities;
+    /** Cache de sessão: mapa de cliente alvo da chamada para sessão */
+    final BoundedCache<String, ClientSideSession> cltSessions;
     /** Cache de cadeias assinadas */
-    final Map<ChainCacheKey, Chain> chains;
-    /* Caches servidor da conexo */
-    /** Cache de sesso: mapa de cliente alvo da chamada para sesso */
-    final Map<Integer, ServerSideSession> srvSessions;
+    final BoundedCache<ChainCacheKey, Chain> chains;
+    /** Assinaturas de cadeias em andamento */
+    final SingleFlight<ChainCacheKey, Chain> signings;
+    /** Renovador antecipado das cadeias assinadas */
+    final ChainRefresher refresher;
+    /* Caches servidor da conexão */
+    /** Cache de sessão: mapa de cliente alvo da chamada para sessão */
+    final BoundedCache<Integer, ServerSideSession> srvSessions;
+    /** Alocador dos identificadores das sessões servidor */
+    final SessionIdAllocator sessionIds;
+    /** Reinícios de credencial compartilhados entre chamadas */
+    final ResetCoalescer resets;
     /** Cache de login */
     final LoginCache logins;
+    /** Cache de cadeias com assinatura verificada */
+    final VerifiedChainCache verifiedChains;
+    /** Cache de cadeias convertidas para o formato legado */
+    final LegacyChainCache legacyChains;
+    /** Perfis dos alvos que só reconhecem a credencial legada */
+    final BoundedCache<EffectiveProfile, Boolean> legacyTargets;
+    /** Cache de cadeias decodificadas, compartilhada pelas conexões do ORB */
+    final DecodedChainCache decodedChains;
+    /** Modelo da credencial nula utilizada para iniciar o handshake */
+    volatile CredentialTemplate nullCredential;
+    /** Modelo da credencial nula legada utilizada para iniciar o handshake */
+    volatile CredentialTemplate nullLegacyCredential;
 
     /**
      * Construtor.
      * 
-     * @param conn a referncia para a conexo ao qual os caches esto
+     * @param conn a referência para a conexão ao qual os caches estão
      *        referenciados.
-     * @param size tamanho de cada cache
+     * @param size tamanho padrão das caches
+     * @param sizes tamanho de cada cache do interceptador
+     * @param resetsRate número máximo de novas sessões servidor por segundo,
+     *        ou 0 caso sem limite
      */
-    public Caches(ConnectionImpl conn, int size) {
+    public Caches(ConnectionImpl conn, int size,
+      Map<InterceptorCache, Integer> sizes, int resetsRate) {
       this.CACHE_SIZE = size;
-      this.entities =
-        Collections.synchronizedMap(new LRUCache<>(
-          CACHE_SIZE));
+      this.entities = new EntityCache(sizes.get(InterceptorCache.ENTITIES));
+      // sessões recém-criadas não passam pelo filtro de frequência, para não
+      // serem removidas antes da retentativa da chamada que as criou
       this.cltSessions =
-        Collections.synchronizedMap(new LRUCache<>(
-          CACHE_SIZE));
+        new BoundedCache<>(sizes.get(InterceptorCache.CLIENT_SESSIONS), null,
+          false);
+      int chainsSize = sizes.get(InterceptorCache.CHAINS);
+      this.refresher = new ChainRefresher(conn, chainsSize);
       this.chains =
-        Collections.synchronizedMap(new LRUCache<>(
-          CACHE_SIZE));
+        new BoundedCache<>(chainsSize, (key, chain) -> refresher.evicted(key));
+      this.signings = new SingleFlight<>();
+      this.sessionIds = new SessionIdAllocator();
+      // identificador da sessão removida volta a ficar disponível, caso não
+      // tenha havido uma limpeza desde a sua alocação
       this.srvSessions =
-        Collections.synchronizedMap(new LRUCache<>(
-          CACHE_SIZE));
-      this.logins = new LoginCache(conn, CACHE_SIZE);
+        new BoundedCache<>(sizes.get(InterceptorCache.SERVER_SESSIONS), (id,
+          session) -> sessionIds.release(id, session.getEpoch()), false);
+      this.resets = new ResetCoalescer(conn, resetsRate);
+      this.logins = new LoginCache(conn, sizes.get(InterceptorCache.LOGINS));
+      this.verifiedChains =
+        new VerifiedChainCache(sizes.get(InterceptorCache.VERIFIED_CHAINS));
+      this.legacyChains =
+        new LegacyChainCache(sizes.get(InterceptorCache.LEGACY_CHAINS));
+      this.legacyTargets =
+        new BoundedCache<>(sizes.get(InterceptorCache.LEGACY_TARGETS));
+      this.decodedChains = ORBUtils.getMediator(conn.orb).getDecodedChains();
+    }
+
+    /**
+     * Recupera a cache limitada que guarda as entradas de uma das caches do
+     * interceptador.
+     * 
+     * @param cache a cache do interceptador.
+     * @return a cache das entradas.
+     */
+    BoundedCache<?, ?> entries(InterceptorCache cache) {
+      switch (cache) {
+        case ENTITIES:
+          return this.entities.entries();
+        case CLIENT_SESSIONS:
+          return this.cltSessions;
+        case CHAINS:
+          return this.chains;
+        case SERVER_SESSIONS:
+          return this.srvSessions;
+        case LOGINS:
+          return this.logins.entries();
+        case VERIFIED_CHAINS:
+          return this.verifiedChains.entries();
+        case LEGACY_CHAINS:
+          return this.legacyChains.entries();
+        case LEGACY_TARGETS:
+          return this.legacyTargets;
+        case DECODED_CHAINS:
+          return this.decodedChains.entries();
+        default:
+          throw new IllegalArgumentException("Cache desconhecida: " + cache);
+      }
     }
 
     /**
@@ -1091,7 +1491,14 @@ final class ConnectionImpl implements Connection {
       this.cltSessions.clear();
       this.chains.clear();
       this.srvSessions.clear();
+      this.sessionIds.clear();
+      this.resets.clear();
       this.logins.clear();
+      this.verifiedChains.clear();
+      this.legacyChains.clear();
+      this.legacyTargets.clear();
+      this.nullCredential = null;
+      this.nullLegacyCredential = null;
     }
   }
 }
@@ -0,0 +1,103 @@
+package tecgraf.openbus.core;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.omg.CORBA.Any;
+import org.omg.PortableInterceptor.Current;
+import org.omg.PortableInterceptor.InvalidSlot;
+
+import tecgraf.openbus.Connection;
+import tecgraf.openbus.ContextScope;
+import tecgraf.openbus.exception.OpenBusInternalException;
+
+/**
+ * Implementação do escopo de alteração do contexto corrente.
+ * <p>
+ * Guarda os valores originais dos slots do {@link Current} alterados pelo
+ * escopo, de forma que a restauração seja apenas a reescrita desses valores,
+ * sem decodificar a cadeia associada nem criar novos {@link Any}s.
+ *
+ * @author Tecgraf
+ */
+final class ContextScopeImpl implements ContextScope {
+
+  /** Instância de logging. */
+  private static final Logger logger = Logger.getLogger(ContextScopeImpl.class
+    .getName());
+
+  /** Número máximo de slots alterados por um escopo */
+  private static final int MAX_SLOTS = 3;
+
+  /** O contexto */
+  private final OpenBusContextImpl context;
+  /** O Current da thread que criou o escopo */
+  private final Current current;
+  /** Indica se o escopo alterou a conexão corrente */
+  private final boolean switched;
+  /** Conexão corrente definida antes do escopo */
+  private final Connection previous;
+  /** Identificadores dos slots alterados */
+  private final int[] slots;
+  /** Valores originais dos slots alterados */
+  private final Any[] values;
+  /** Número de slots alterados */
+  private int count;
+  /** Indica se o escopo já foi fechado */
+  private boolean closed;
+
+  /**
+   * Construtor.
+   *
+   * @param context o contexto.
+   * @param current o Current da thread corrente.
+   * @param connection a conexão a ser definida como corrente, ou {@code null}
+   *        para manter a conexão corrente.
+   */
+  ContextScopeImpl(OpenBusContextImpl context, Current current,
+    Connection connection) {
+    this.context = context;
+    this.current = current;
+    this.slots = new int[MAX_SLOTS];
+    this.values = new Any[MAX_SLOTS];
+    this.switched = connection != null;
+    this.previous = switched ? context.currentConnection(connection) : null;
+  }
+
+  /**
+   * Altera o valor de um slot, guardando o valor original para restauração.
+   *
+   * @param slot o identificador do slot.
+   * @param value o novo valor.
+   * @throws InvalidSlot
+   */
+  void replace(int slot, Any value) throws InvalidSlot {
+    slots[count] = slot;
+    values[count] = current.get_slot(slot);
+    count++;
+    current.set_slot(slot, value);
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      for (int i = count - 1; i >= 0; i--) {
+        current.set_slot(slots[i], values[i]);
+      }
+    }
+    catch (InvalidSlot e) {
+      String message = "Falha inesperada ao acessar o slot da thread corrente";
+      logger.log(Level.SEVERE, message, e);
+      throw new OpenBusInternalException(message, e);
+    }
+    finally {
+      if (switched) {
+        context.currentConnection(previous);
+      }
+    }
+  }
+}
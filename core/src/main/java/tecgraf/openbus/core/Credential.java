@@ -16,12 +16,11 @@ import tecgraf.openbus.core.v2_1.credential.CredentialReset;
 import tecgraf.openbus.core.v2_1.credential.CredentialResetHelper;
 import tecgraf.openbus.core.v2_1.credential.SignedData;
 import tecgraf.openbus.core.v2_1.services.access_control.CallChain;
-import tecgraf.openbus.core.v2_1.services.access_control.CallChainHelper;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 
 /**
- * Tipo interno para representao da credencial que procura abstrair se a mesma
- *  legada ou no.
+ * Tipo interno para representação da credencial que procura abstrair se a mesma
+ * é legada ou não.
  *
  * @author Tecgraf/PUC-Rio
  */
@@ -31,7 +30,7 @@ class Credential {
   public final java.lang.String bus;
   /** Identificador de login do caller */
   public final java.lang.String login;
-  /** Identificador da sesso */
+  /** Identificador da sessão */
   public final int session;
   /** Ticket */
   public final int ticket;
@@ -40,8 +39,8 @@ class Credential {
   /** Cadeia */
   public final Chain chain;
   /**
-   * Indicador se representa uma credencial legada ou no. Quando
-   * {@code null} significa que esta  uma credencial nula para iniciar o
+   * Indicador se representa uma credencial legada ou não. Quando
+   * {@code null} significa que esta é uma credencial nula para iniciar o
    * handshake
    */
   public Boolean legacy = null;
@@ -81,8 +80,8 @@ class Credential {
    * 
    * @param busId identificador de barramento
    * @param login identificador de login do caller
-   * @param session identificador da sesso associada
-   * @param ticket ticket associado  requisio
+   * @param session identificador da sessão associada
+   * @param ticket ticket associado à requisição
    * @param credentialDataHash hash da credencial
    * @param chain cadeia associada
    * @param legacy indicador se em modo legado
@@ -99,31 +98,22 @@ class Credential {
   }
 
   /**
-   * Decodifica a informao de cadeia
+   * Decodifica a informação de cadeia
    * 
-   * @param codec o codec
+   * @param chains a cache de cadeias decodificadas
    * 
    * @return a cadeia associada.
    * @throws TypeMismatch
    * @throws FormatMismatch
    */
-  Chain decodeChain(Codec codec) throws FormatMismatch, TypeMismatch {
+  Chain decodeChain(DecodedChainCache chains) throws FormatMismatch,
+    TypeMismatch {
     if (!legacy) {
-      Any any =
-        codec.decode_value(chain.signedChain.encoded, CallChainHelper.type());
-      CallChain callChain = CallChainHelper.extract(any);
-      chain.updateInfos(callChain);
+      chain.updateInfos(chains.decode(chain.signedChain));
       return chain;
     }
     else {
-      Any any =
-        codec.decode_value(chain.signedLegacy.encoded,
-          tecgraf.openbus.core.v2_0.services.access_control.CallChainHelper
-            .type());
-      tecgraf.openbus.core.v2_0.services.access_control.CallChain callChain =
-        tecgraf.openbus.core.v2_0.services.access_control.CallChainHelper
-          .extract(any);
-      chain.updateInfos(bus, callChain);
+      chain.updateInfos(bus, chains.decode(chain.signedLegacy));
       return chain;
     }
   }
@@ -162,8 +152,8 @@ class Credential {
   }
 
   /**
-   * Tipo interno para representao da cadeia que procura abstrair se a mesma 
-   * legada ou no.
+   * Tipo interno para representação da cadeia que procura abstrair se a mesma é
+   * legada ou não.
    *
    * @author Tecgraf/PUC-Rio
    */
@@ -221,21 +211,26 @@ class Credential {
     }
 
     /**
-     * Atualiza as informaes da cadeia com base na informao passada como
-     * argumento.
+     * Atualiza as informações da cadeia com base na informação passada como
+     * argumento. As informações de login são copiadas, pois a cadeia recebida
+     * pode ser a instância compartilhada da {@link DecodedChainCache}.
      * 
-     * @param callChain a cadeia com as informaes a serem referenciadas por
-     *        este tipo {@link Chain}
+     * @param callChain a cadeia com as informações a serem copiadas para este
+     *        tipo {@link Chain}
      */
     void updateInfos(CallChain callChain) {
       bus = callChain.bus;
       target = callChain.target;
-      caller = callChain.caller;
-      originators = callChain.originators;
+      caller = new LoginInfo(callChain.caller.id, callChain.caller.entity);
+      originators = new LoginInfo[callChain.originators.length];
+      for (int i = 0; i < callChain.originators.length; i++) {
+        LoginInfo info = callChain.originators[i];
+        originators[i] = new LoginInfo(info.id, info.entity);
+      }
     }
 
     /**
-     * Atualiza as informaes da cadeia.
+     * Atualiza as informações da cadeia.
      * 
      * @param busid identificador de barramento
      * @param callChain a cadeia legada.
@@ -282,21 +277,31 @@ class Credential {
     }
 
     /**
-     * Indicao se a cadeia  legada ou no.
+     * Indicação se a cadeia é legada ou não.
      * 
      * @return {@code true} caso seja legada, e {@code false} caso
-     *         contrrio.
+     *         contrário.
      */
     boolean isLegacy() {
       return signedChain == InterceptorImpl.NULL_SIGNED_CALL_CHAIN
         && signedLegacy != InterceptorImpl.NULL_SIGNED_LEGACY_CALL_CHAIN;
     }
 
+    /**
+     * Indicação se a cadeia é nula, ou seja, se não há cadeia assinada.
+     *
+     * @return {@code true} caso seja nula, e {@code false} caso contrário.
+     */
+    boolean isNull() {
+      return signedChain == InterceptorImpl.NULL_SIGNED_CALL_CHAIN
+        && signedLegacy == InterceptorImpl.NULL_SIGNED_LEGACY_CALL_CHAIN;
+    }
+
   }
 
   /**
-   * Tipo interno para representao do CredentialReset, abstraindo se o mesmo 
-   * legado ou no.
+   * Tipo interno para representação do CredentialReset, abstraindo se o mesmo é
+   * legado ou não.
    *
    * @author Tecgraf/PUC-Rio
    */
@@ -306,7 +311,7 @@ class Credential {
     public java.lang.String target;
     /** Nome da entidade alvo da chamada */
     public java.lang.String entity;
-    /** Identificador de sesso */
+    /** Identificador de sessão */
     public int session;
     /** Desafio */
     public byte[] challenge;
@@ -317,7 +322,7 @@ class Credential {
      * Construtor
      * 
      * @param login login do alvo da chamada
-     * @param session identificador da sesso
+     * @param session identificador da sessão
      * @param challenge o desafio
      * @param legacy se em modo legado
      */
@@ -331,8 +336,8 @@ class Credential {
 
     /**
      * Exporta o CredentialReset para o formato {@link ServiceContext},
-     * associando para o identificador de contexto associado  verso de
-     * protocolo adotada na comunicao.
+     * associando para o identificador de contexto associado à versão de
+     * protocolo adotada na comunicação.
      * 
      * @param orb o orb
      * @param codec o codificador
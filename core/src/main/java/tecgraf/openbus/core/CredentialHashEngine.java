@@ -0,0 +1,114 @@
+package tecgraf.openbus.core;
+
+import java.security.MessageDigest;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.omg.CORBA.INTERNAL;
+
+import tecgraf.openbus.exception.CryptographyException;
+import tecgraf.openbus.security.Cryptography;
+
+/**
+ * Calculadora do hash das credenciais.
+ * <p>
+ * Mantém um algoritmo de hash por <i>thread</i> e a codificação dos nomes de
+ * operação já utilizados, de forma que o cálculo do hash de uma credencial
+ * não precise obter um novo algoritmo nem codificar novamente a operação a
+ * cada chamada. A parte do hash que depende apenas da sessão (versão do
+ * protocolo e segredo) é fornecida já concatenada pela própria sessão.
+ *
+ * @author Tecgraf
+ */
+final class CredentialHashEngine {
+
+  /** Número máximo de operações com codificação guardada */
+  private static final int MAX_OPERATIONS = 1024;
+  /** Tamanho em bytes do ticket */
+  private static final int TICKET_SIZE = Integer.SIZE / 8;
+
+  /** Algoritmo de hash de cada thread */
+  private final ThreadLocal<MessageDigest> digests;
+  /** Codificação dos nomes de operação */
+  private final ConcurrentMap<String, byte[]> operations;
+
+  /**
+   * Construtor.
+   */
+  CredentialHashEngine() {
+    this.digests = new ThreadLocal<>();
+    this.operations = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Calcula o hash da credencial.
+   *
+   * @param prefix a parte da credencial que depende apenas da sessão.
+   * @param ticket o ticket utilizado.
+   * @param operation o nome da operação.
+   * @return o hash
+   */
+  byte[] hash(byte[] prefix, int ticket, String operation) {
+    MessageDigest digest = digest();
+    digest.update(prefix);
+    // ticket codificado em little endian
+    for (int i = 0; i < TICKET_SIZE; i++) {
+      digest.update((byte) (ticket >>> (i * 8)));
+    }
+    digest.update(encode(operation));
+    return digest.digest();
+  }
+
+  /**
+   * Monta a parte da credencial que depende apenas da sessão.
+   *
+   * @param major número de versão major do protocolo.
+   * @param minor número de versão minor do protocolo.
+   * @param secret o segredo da sessão.
+   * @return a parte da credencial que depende apenas da sessão.
+   */
+  static byte[] prefix(byte major, byte minor, byte[] secret) {
+    byte[] prefix = new byte[secret.length + 2];
+    prefix[0] = major;
+    prefix[1] = minor;
+    System.arraycopy(secret, 0, prefix, 2, secret.length);
+    return prefix;
+  }
+
+  /**
+   * Recupera o algoritmo de hash da thread corrente.
+   *
+   * @return o algoritmo de hash.
+   */
+  private MessageDigest digest() {
+    MessageDigest digest = digests.get();
+    if (digest == null) {
+      try {
+        digest = Cryptography.getInstance().getHashAlgorithm();
+      }
+      catch (CryptographyException e) {
+        String message = "Falha inesperada ao calcular o hash da credencial";
+        throw new INTERNAL(message);
+      }
+      digests.set(digest);
+    }
+    return digest;
+  }
+
+  /**
+   * Recupera a codificação do nome da operação.
+   *
+   * @param operation o nome da operação.
+   * @return a codificação do nome da operação.
+   */
+  private byte[] encode(String operation) {
+    byte[] encoded = operations.get(operation);
+    if (encoded == null) {
+      encoded = operation.getBytes(Cryptography.CHARSET);
+      if (operations.size() < MAX_OPERATIONS) {
+        operations.putIfAbsent(operation, encoded);
+      }
+    }
+    return encoded;
+  }
+}
@@ -0,0 +1,166 @@
+package tecgraf.openbus.core;
+
+import java.util.Arrays;
+
+import org.omg.CORBA.ORB;
+import org.omg.IOP.Codec;
+import org.omg.IOP.ServiceContext;
+import org.omg.IOP.CodecPackage.InvalidTypeForEncoding;
+
+import tecgraf.openbus.core.Credential.Chain;
+
+/**
+ * Modelo de credencial já codificada em CDR.
+ * <p>
+ * Dentro de uma mesma sessão, apenas o ticket e o hash da credencial mudam
+ * entre uma chamada e outra, enquanto a cadeia muda raramente. O modelo guarda
+ * a credencial codificada e a posição desses campos, de forma que cada chamada
+ * apenas copie o modelo e sobrescreva o ticket e o hash, sem passar pelo
+ * {@link Codec}.
+ *
+ * @author Tecgraf
+ */
+final class CredentialTemplate {
+
+  /** Tamanho em bytes do ticket codificado */
+  private static final int TICKET_SIZE = Integer.SIZE / 8;
+  /** Hash utilizado para localizar o campo de hash no modelo */
+  private static final byte[] PROBE_HASH = probeHash();
+
+  /** Identificador de barramento */
+  private final String bus;
+  /** Identificador de login do caller */
+  private final String login;
+  /** Cadeia associada */
+  private final Chain chain;
+  /** Identificador do contexto da credencial */
+  private final int contextId;
+  /** A credencial codificada */
+  private final byte[] encoded;
+  /** Posição do ticket na credencial codificada */
+  private final int ticketOffset;
+  /** Posição do hash na credencial codificada */
+  private final int hashOffset;
+  /** Indica se a codificação é little endian */
+  private final boolean littleEndian;
+
+  /**
+   * Construtor.
+   *
+   * @param bus identificador de barramento
+   * @param login identificador de login do caller
+   * @param chain cadeia associada
+   * @param contextId identificador do contexto da credencial
+   * @param encoded a credencial codificada
+   * @param ticketOffset posição do ticket na credencial codificada
+   */
+  private CredentialTemplate(String bus, String login, Chain chain,
+    int contextId, byte[] encoded, int ticketOffset) {
+    this.bus = bus;
+    this.login = login;
+    this.chain = chain;
+    this.contextId = contextId;
+    this.encoded = encoded;
+    this.ticketOffset = ticketOffset;
+    this.hashOffset = ticketOffset + TICKET_SIZE;
+    // o primeiro octeto de um encapsulamento CDR indica a ordem dos bytes
+    this.littleEndian = encoded[0] != 0;
+  }
+
+  /**
+   * Cria o modelo de credencial de uma sessão.
+   *
+   * @param orb o orb
+   * @param codec o codificador
+   * @param bus identificador de barramento
+   * @param login identificador de login do caller
+   * @param session identificador da sessão
+   * @param chain cadeia associada
+   * @param legacy indicador se em modo legado
+   * @return o modelo, ou {@code null} caso não seja possível localizar os
+   *         campos de ticket e hash na credencial codificada.
+   * @throws InvalidTypeForEncoding
+   */
+  static CredentialTemplate create(ORB orb, Codec codec, String bus,
+    String login, int session, Chain chain, boolean legacy)
+    throws InvalidTypeForEncoding {
+    ServiceContext base =
+      new Credential(bus, login, session, 0,
+        InterceptorImpl.NULL_HASH_VALUE, chain, legacy).toServiceContext(orb,
+        codec);
+    ServiceContext probe =
+      new Credential(bus, login, session, -1, PROBE_HASH, chain, legacy)
+        .toServiceContext(orb, codec);
+    byte[] encoded = base.context_data;
+    byte[] other = probe.context_data;
+    if (encoded.length != other.length) {
+      return null;
+    }
+    // ticket e hash são campos adjacentes e os únicos que diferem
+    int offset = 0;
+    while (offset < encoded.length && encoded[offset] == other[offset]) {
+      offset++;
+    }
+    int end = offset + TICKET_SIZE + PROBE_HASH.length;
+    if (end > encoded.length) {
+      return null;
+    }
+    for (int i = offset; i < end; i++) {
+      if (encoded[i] == other[i]) {
+        return null;
+      }
+    }
+    for (int i = end; i < encoded.length; i++) {
+      if (encoded[i] != other[i]) {
+        return null;
+      }
+    }
+    return new CredentialTemplate(bus, login, chain, base.context_id, encoded,
+      offset);
+  }
+
+  /**
+   * Verifica se o modelo corresponde aos dados de credencial informados.
+   *
+   * @param bus identificador de barramento
+   * @param login identificador de login do caller
+   * @param chain cadeia associada
+   * @return {@code true} caso o modelo possa ser utilizado, e {@code false}
+   *         caso contrário.
+   */
+  boolean matches(String bus, String login, Chain chain) {
+    return this.bus.equals(bus) && this.login.equals(login)
+      && (this.chain == chain || (this.chain.isLegacy() == chain.isLegacy()
+        && Arrays.equals(this.chain.signature(), chain.signature())));
+  }
+
+  /**
+   * Gera o {@link ServiceContext} da credencial a partir do modelo.
+   *
+   * @param ticket ticket associado à requisição
+   * @param hash hash da credencial
+   * @return o {@link ServiceContext} da credencial
+   */
+  ServiceContext toServiceContext(int ticket, byte[] hash) {
+    // o ORB mantém a referência do dado até o envio da requisição, portanto
+    // cada chamada precisa da sua própria cópia do modelo.
+    byte[] data = Arrays.copyOf(encoded, encoded.length);
+    for (int i = 0; i < TICKET_SIZE; i++) {
+      int shift = littleEndian ? i * 8 : (TICKET_SIZE - 1 - i) * 8;
+      data[ticketOffset + i] = (byte) (ticket >>> shift);
+    }
+    System.arraycopy(hash, 0, data, hashOffset, PROBE_HASH.length);
+    return new ServiceContext(contextId, data);
+  }
+
+  /**
+   * Cria um hash com todos os bits diferentes do hash nulo.
+   *
+   * @return o hash.
+   */
+  private static byte[] probeHash() {
+    byte[] hash = new byte[InterceptorImpl.HASH_VALUE_SIZE];
+    Arrays.fill(hash, (byte) 0xff);
+    return hash;
+  }
+}
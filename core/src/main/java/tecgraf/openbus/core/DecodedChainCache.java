@@ -0,0 +1,144 @@
+package tecgraf.openbus.core;
+
+import java.util.Arrays;
+
+import org.omg.CORBA.Any;
+import org.omg.IOP.Codec;
+import org.omg.IOP.CodecPackage.FormatMismatch;
+import org.omg.IOP.CodecPackage.TypeMismatch;
+
+import tecgraf.openbus.core.v2_0.credential.SignedCallChain;
+import tecgraf.openbus.core.v2_1.credential.SignedData;
+import tecgraf.openbus.core.v2_1.services.access_control.CallChain;
+import tecgraf.openbus.core.v2_1.services.access_control.CallChainHelper;
+
+/**
+ * Cache das cadeias decodificadas a partir das cadeias assinadas.
+ * <p>
+ * Uma mesma cadeia assinada é recebida em várias chamadas e consultada várias
+ * vezes pelos <i>servants</i> através de
+ * {@link tecgraf.openbus.OpenBusContext#callerChain()}. A cache guarda uma
+ * única instância decodificada por cadeia assinada distinta, compartilhada
+ * entre os interceptadores e o contexto, de forma que a decodificação CDR só
+ * seja feita na primeira vez. As instâncias retornadas são compartilhadas e
+ * não devem ser modificadas.
+ * <p>
+ * A cache é mantida por ORB e compartilhada pelas suas conexões, que a
+ * expõem como {@link tecgraf.openbus.InterceptorCache#DECODED_CHAINS}.
+ *
+ * @author Tecgraf
+ */
+final class DecodedChainCache {
+
+  /** O codificador */
+  private final Codec codec;
+  /** Cadeias decodificadas, atuais e legadas */
+  private final BoundedCache<EncodedKey, Object> chains;
+
+  /**
+   * Construtor.
+   *
+   * @param codec o codificador.
+   * @param size tamanho máximo da cache.
+   */
+  DecodedChainCache(Codec codec, int size) {
+    this.codec = codec;
+    this.chains = new BoundedCache<>(size);
+  }
+
+  /**
+   * Decodifica uma cadeia assinada.
+   *
+   * @param signed a cadeia assinada.
+   * @return a cadeia decodificada.
+   * @throws FormatMismatch
+   * @throws TypeMismatch
+   */
+  CallChain decode(SignedData signed) throws FormatMismatch, TypeMismatch {
+    EncodedKey key = new EncodedKey(signed.encoded, false);
+    CallChain chain = (CallChain) chains.get(key);
+    if (chain == null) {
+      Any any = codec.decode_value(signed.encoded, CallChainHelper.type());
+      chain = CallChainHelper.extract(any);
+      chains.put(key, chain);
+    }
+    return chain;
+  }
+
+  /**
+   * Decodifica uma cadeia legada assinada.
+   *
+   * @param signed a cadeia legada assinada.
+   * @return a cadeia legada decodificada.
+   * @throws FormatMismatch
+   * @throws TypeMismatch
+   */
+  tecgraf.openbus.core.v2_0.services.access_control.CallChain decode(
+    SignedCallChain signed) throws FormatMismatch, TypeMismatch {
+    EncodedKey key = new EncodedKey(signed.encoded, true);
+    tecgraf.openbus.core.v2_0.services.access_control.CallChain chain =
+      (tecgraf.openbus.core.v2_0.services.access_control.CallChain) chains
+        .get(key);
+    if (chain == null) {
+      Any any =
+        codec.decode_value(signed.encoded,
+          tecgraf.openbus.core.v2_0.services.access_control.CallChainHelper
+            .type());
+      chain =
+        tecgraf.openbus.core.v2_0.services.access_control.CallChainHelper
+          .extract(any);
+      chains.put(key, chain);
+    }
+    return chain;
+  }
+
+  /**
+   * Recupera a cache limitada que guarda as cadeias decodificadas.
+   *
+   * @return a cache das entradas.
+   */
+  BoundedCache<?, ?> entries() {
+    return chains;
+  }
+
+  /**
+   * Chave da cache: o conteúdo da cadeia codificada e o seu formato.
+   *
+   * @author Tecgraf
+   */
+  private static final class EncodedKey {
+    /** A cadeia codificada */
+    private final byte[] encoded;
+    /** Indicador se a cadeia é legada */
+    private final boolean legacy;
+    /** Hash da cadeia codificada */
+    private final int hash;
+
+    /**
+     * Construtor.
+     *
+     * @param encoded a cadeia codificada.
+     * @param legacy indicador se a cadeia é legada.
+     */
+    EncodedKey(byte[] encoded, boolean legacy) {
+      this.encoded = encoded;
+      this.legacy = legacy;
+      this.hash = 31 * Arrays.hashCode(encoded) + (legacy ? 1 : 0);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof EncodedKey) {
+        EncodedKey other = (EncodedKey) obj;
+        return hash == other.hash && legacy == other.legacy
+          && Arrays.equals(encoded, other.encoded);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
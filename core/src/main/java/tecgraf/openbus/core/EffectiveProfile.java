@@ -5,21 +5,21 @@ import java.util.Arrays;
 import org.omg.IOP.TaggedProfile;
 
 /**
- * Guarda a informao de perfil da requisio.
+ * Guarda a informação de perfil da requisição.
  * 
  * @author Tecgraf
  */
 class EffectiveProfile {
 
   /**
-   * Informao do profiler
+   * Informação do profiler
    */
   private final byte[] profile_data;
 
   /**
    * Construtor.
    * 
-   * @param effective_profile informao de perfil da requisio
+   * @param effective_profile informação de perfil da requisição
    */
   public EffectiveProfile(TaggedProfile effective_profile) {
     this.profile_data = effective_profile.profile_data;
@@ -0,0 +1,133 @@
+package tecgraf.openbus.core;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache do interceptador cliente que associa o perfil do alvo de uma chamada
+ * ao login do alvo.
+ * <p>
+ * Além do mapa de perfis para logins, a cache mantém um índice reverso dos
+ * perfis associados a cada login, de forma que a remoção de um login que
+ * deixou de existir seja proporcional ao número de perfis associados a ele, e
+ * não ao tamanho da cache. As consultas não utilizam bloqueio; as
+ * alterações são serializadas para manter o índice consistente.
+ *
+ * @author Tecgraf
+ */
+class EntityCache {
+
+  /** Mapa de perfil do alvo para o login do alvo */
+  private final BoundedCache<EffectiveProfile, String> targets;
+  /** Índice reverso de login do alvo para os seus perfis */
+  private final Map<String, Set<EffectiveProfile>> profiles;
+
+  /**
+   * Construtor.
+   *
+   * @param size tamanho máximo da cache.
+   */
+  EntityCache(int size) {
+    this.profiles = new HashMap<>();
+    this.targets = new BoundedCache<>(size, this::evicted);
+  }
+
+  /**
+   * Recupera o login do alvo associado ao perfil.
+   *
+   * @param profile o perfil.
+   * @return o login do alvo, ou {@code null} caso não esteja na cache.
+   */
+  String get(EffectiveProfile profile) {
+    return targets.get(profile);
+  }
+
+  /**
+   * Associa o perfil ao login do alvo.
+   *
+   * @param profile o perfil.
+   * @param target o login do alvo.
+   */
+  synchronized void put(EffectiveProfile profile, String target) {
+    String old = targets.put(profile, target);
+    if (old != null && !old.equals(target)) {
+      unindex(profile, old);
+    }
+    Set<EffectiveProfile> owned = profiles.get(target);
+    if (owned == null) {
+      owned = new HashSet<>();
+      profiles.put(target, owned);
+    }
+    owned.add(profile);
+  }
+
+  /**
+   * Remove todos os perfis associados ao login do alvo.
+   *
+   * @param target o login do alvo.
+   */
+  synchronized void removeTarget(String target) {
+    Set<EffectiveProfile> owned = profiles.remove(target);
+    if (owned != null) {
+      for (EffectiveProfile profile : owned) {
+        targets.remove(profile);
+      }
+    }
+  }
+
+  /**
+   * Recupera o número de perfis na cache.
+   *
+   * @return o número de perfis.
+   */
+  int size() {
+    return targets.size();
+  }
+
+  /**
+   * Limpa a cache.
+   */
+  synchronized void clear() {
+    targets.clear();
+    profiles.clear();
+  }
+
+  /**
+   * Recupera a cache limitada que guarda as entradas.
+   *
+   * @return a cache das entradas.
+   */
+  BoundedCache<EffectiveProfile, ?> entries() {
+    return targets;
+  }
+
+  /**
+   * Remove do índice reverso um perfil que saiu da cache por falta de espaço.
+   *
+   * @param profile o perfil.
+   * @param target o login do alvo ao qual o perfil estava associado.
+   */
+  private synchronized void evicted(EffectiveProfile profile, String target) {
+    if (!target.equals(targets.peek(profile))) {
+      unindex(profile, target);
+    }
+  }
+
+  /**
+   * Remove o perfil do índice reverso.
+   *
+   * @param profile o perfil.
+   * @param target o login do alvo ao qual o perfil estava associado.
+   */
+  private void unindex(EffectiveProfile profile, String target) {
+    Set<EffectiveProfile> owned = profiles.get(target);
+    if (owned != null) {
+      owned.remove(profile);
+      if (owned.isEmpty()) {
+        profiles.remove(target);
+      }
+    }
+  }
+}
@@ -1,10 +1,5 @@
 package tecgraf.openbus.core;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.security.MessageDigest;
-
-import org.omg.CORBA.INTERNAL;
 import org.omg.CORBA.LocalObject;
 import org.omg.CORBA.ORB;
 import org.omg.IOP.Codec;
@@ -17,8 +12,6 @@ import tecgraf.openbus.core.v2_1.HashValueSize;
 import tecgraf.openbus.core.v2_1.MajorVersion;
 import tecgraf.openbus.core.v2_1.MinorVersion;
 import tecgraf.openbus.core.v2_1.credential.SignedData;
-import tecgraf.openbus.exception.CryptographyException;
-import tecgraf.openbus.security.Cryptography;
 
 /**
  * Parte comum dos interceptadores cliente e servidor.
@@ -26,9 +19,9 @@ import tecgraf.openbus.security.Cryptography;
  * @author Tecgraf
  */
 abstract class InterceptorImpl extends LocalObject implements Interceptor {
-  /** Nmero de verso Major */
+  /** Número de versão Major */
   protected static final byte BUS_MAJOR_VERSION = MajorVersion.value;
-  /** Nmero de verso Minor */
+  /** Número de versão Minor */
   protected static final byte BUS_MINOR_VERSION = MinorVersion.value;
 
   /** Tamanho do hash */
@@ -44,10 +37,10 @@ abstract class InterceptorImpl extends LocalObject implements Interceptor {
   protected static final SignedData NULL_SIGNED_CALL_CHAIN = new SignedData(
     NULL_ENCRYPTED_BLOCK, new byte[0]);
 
-  /** Nmero de verso Legada Major */
+  /** Número de versão Legada Major */
   protected static final byte LEGACY_MAJOR_VERSION =
     tecgraf.openbus.core.v2_0.MajorVersion.value;
-  /** Nmero de verso Legada Minor */
+  /** Número de versão Legada Minor */
   protected static final byte LEGACY_MINOR_VERSION =
     tecgraf.openbus.core.v2_0.MinorVersion.value;
   /** Cadeia nula legada assinada. */
@@ -58,6 +51,8 @@ abstract class InterceptorImpl extends LocalObject implements Interceptor {
   private final String name;
   /** Mediador */
   private final ORBMediator mediator;
+  /** Calculadora do hash das credenciais */
+  private final CredentialHashEngine hashEngine;
 
   /**
    * Construtor.
@@ -68,6 +63,7 @@ abstract class InterceptorImpl extends LocalObject implements Interceptor {
   protected InterceptorImpl(String name, ORBMediator mediator) {
     this.name = name;
     this.mediator = mediator;
+    this.hashEngine = new CredentialHashEngine();
   }
 
   @Override
@@ -119,46 +115,15 @@ abstract class InterceptorImpl extends LocalObject implements Interceptor {
    * Calcula o hash da credencial.
    * 
    * @param ri o request da chamada.
-   * @param secret o segredo.
+   * @param session a sessão da credencial.
    * @param ticket o ticket utilizado.
    * @param legacy indicador se em modo legado.
    * @return o hash
    */
-  protected byte[] generateCredentialDataHash(RequestInfo ri, byte[] secret,
+  protected byte[] generateCredentialDataHash(RequestInfo ri, Session session,
     int ticket, boolean legacy) {
-    try {
-      Cryptography crypto = Cryptography.getInstance();
-
-      MessageDigest hashAlgorithm = crypto.getHashAlgorithm();
-      synchronized (hashAlgorithm) {
-        if (!legacy) {
-          hashAlgorithm.update(BUS_MAJOR_VERSION);
-          hashAlgorithm.update(BUS_MINOR_VERSION);
-          hashAlgorithm.update(secret);
-        }
-        else {
-          hashAlgorithm.update(LEGACY_MAJOR_VERSION);
-          hashAlgorithm.update(LEGACY_MINOR_VERSION);
-          hashAlgorithm.update(secret);
-        }
-
-        ByteBuffer ticketBuffer = ByteBuffer.allocate(Integer.SIZE / 8);
-        ticketBuffer.order(ByteOrder.LITTLE_ENDIAN);
-        ticketBuffer.putInt(ticket);
-        ticketBuffer.flip();
-        hashAlgorithm.update(ticketBuffer);
-
-        byte[] operationBytes = ri.operation().getBytes(Cryptography.CHARSET);
-        hashAlgorithm.update(operationBytes);
-
-        return hashAlgorithm.digest();
-      }
-    }
-    catch (CryptographyException e) {
-      String message = "Falha inesperada ao calcular o hash da credencial";
-      throw new INTERNAL(message);
-    }
-
+    return hashEngine.hash(session.getHashPrefix(legacy), ticket, ri
+      .operation());
   }
 
 }
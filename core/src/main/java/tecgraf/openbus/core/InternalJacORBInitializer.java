@@ -17,21 +17,21 @@ import org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateName;
 import org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidName;
 
 /**
- * Classe interna para inicializao do {@link ORB} do JacORB.
+ * Classe interna para inicialização do {@link ORB} do JacORB.
  *
- * Esta classe no deveria ser visvel fora deste pacote, mas o JacORB obriga
- * que ela seja pblica.
+ * Esta classe não deveria ser visível fora deste pacote, mas o JacORB obriga
+ * que ela seja pública.
  * 
  * @author Tecgraf
  */
 public final class InternalJacORBInitializer extends LocalObject implements
   ORBInitializer {
-  /** Instncia de logging */
+  /** Instância de logging */
   private static final Logger logger = Logger
     .getLogger(InternalJacORBInitializer.class.getName());
-  /** Major da verso do codificador. */
+  /** Major da versão do codificador. */
   private static final byte ENCODING_CDR_ENCAPS_MAJOR_VERSION = 1;
-  /** Minor da verso do codificador. */
+  /** Minor da versão do codificador. */
   private static final byte ENCODING_CDR_ENCAPS_MINOR_VERSION = 2;
 
   @Override
@@ -76,7 +76,7 @@ public final class InternalJacORBInitializer extends LocalObject implements
   /**
    * Inclui o interceptador cliente.
    * 
-   * @param info informao do ORB
+   * @param info informação do ORB
    * @param mediator mediador do ORB
    */
   private void addClientInterceptor(ORBInitInfo info, ORBMediator mediator) {
@@ -94,7 +94,7 @@ public final class InternalJacORBInitializer extends LocalObject implements
   /**
    * Inclui o interceptador servidor.
    * 
-   * @param info informao do ORB
+   * @param info informação do ORB
    * @param mediator mediador do ORB
    */
   private void addServerInterceptors(ORBInitInfo info, ORBMediator mediator) {
@@ -110,9 +110,9 @@ public final class InternalJacORBInitializer extends LocalObject implements
   }
 
   /**
-   * Cria uma instncia do Codec a ser utilizado pelos interceptadores.
+   * Cria uma instância do Codec a ser utilizado pelos interceptadores.
    * 
-   * @param info informao do ORB
+   * @param info informação do ORB
    * @return o Codec.
    */
   private Codec createCodec(ORBInitInfo info) {
@@ -6,27 +6,33 @@ import java.util.logging.Logger;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 
 /**
- * Classe que representa o login da conexo internamente.
+ * Classe que representa o login da conexão internamente.
+ * <p>
+ * O estado do login é publicado como um objeto imutável através de um campo
+ * volátil, de forma que as consultas feitas a cada chamada não utilizem o lock
+ * da conexão. As alterações continuam serializadas pelo lock de escrita da
+ * conexão.
  * 
  * @author Tecgraf
  */
 class InternalLogin {
 
-  /** Instncia de logging. */
+  /** Instância de logging. */
   private static final Logger logger = Logger.getLogger(ConnectionImpl.class
     .getName());
 
-  /** Informaes do login */
-  private LoginInfo login = null;
-  /** Informaes do login invlido */
-  private LoginInfo invalid = null;
-  /** A conexo deste login */
+  /** Estado sem login */
+  private static final State LOGGED_OUT = new State(null, null);
+
+  /** Estado atual do login */
+  private volatile State state = LOGGED_OUT;
+  /** A conexão deste login */
   private final ConnectionImpl conn;
 
   /**
    * Construtor.
    * 
-   * @param conn a conexo detentora do login.
+   * @param conn a conexão detentora do login.
    */
   InternalLogin(ConnectionImpl conn) {
     this.conn = conn;
@@ -34,46 +40,33 @@ class InternalLogin {
   }
 
   /**
-   * Recupera a informao do login atual.
+   * Recupera a informação do login atual.
    * 
-   * @return informao do login.
+   * @return informação do login.
    */
   LoginInfo login() {
-    conn.readLock().lock();
-    try {
-      return this.login;
-    }
-    finally {
-      conn.readLock().unlock();
-    }
+    return this.state.login;
   }
 
   /**
-   * Recupera a informao do login invlido.
+   * Recupera a informação do login inválido.
    * 
-   * @return informao do login invlido.
+   * @return informação do login inválido.
    */
   LoginInfo invalid() {
-    conn.readLock().lock();
-    try {
-      return this.invalid;
-    }
-    finally {
-      conn.readLock().unlock();
-    }
+    return this.state.invalid;
   }
 
   /**
-   * Retorna a informao do login, relizando a chamada da callback, caso o
-   * login esteja invlido.
+   * Retorna a informação do login, relizando a chamada da callback, caso o
+   * login esteja inválido.
    * 
-   * @return informaes do login.
+   * @return informações do login.
    */
   LoginInfo getLogin() {
-    conn.readLock().lock();
-    LoginInfo login = this.login;
-    LoginInfo invalid = this.invalid;
-    conn.readLock().unlock();
+    State state = this.state;
+    LoginInfo login = state.login;
+    LoginInfo invalid = state.invalid;
     if (login == null) {
       while (invalid != null) {
         try {
@@ -81,14 +74,17 @@ class InternalLogin {
         }
         catch (Exception ex) {
           logger.log(Level.SEVERE,
-            "Callback 'onInvalidLogin' gerou um erro durante execuo.", ex);
+            "Callback 'onInvalidLogin' gerou um erro durante execução.", ex);
         }
         LoginInfo curr = this.invalid();
         if (curr != null && curr.id.equals(invalid.id)
           && curr.entity.equals(invalid.entity)) {
           invalid = null;
           conn.writeLock().lock();
-          this.invalid = null;
+          State current = this.state;
+          if (current.invalid == curr) {
+            this.state = new State(current.login, null);
+          }
           conn.writeLock().unlock();
         }
         else {
@@ -103,12 +99,11 @@ class InternalLogin {
   /**
    * Configura o login como logado.
    * 
-   * @param login a informao do login.
+   * @param login a informação do login.
    */
   void setLoggedIn(LoginInfo login) {
     conn.writeLock().lock();
-    this.login = login;
-    this.invalid = null;
+    this.state = new State(login, null);
     conn.writeLock().unlock();
   }
 
@@ -119,21 +114,42 @@ class InternalLogin {
    */
   LoginInfo setLoggedOut() {
     conn.writeLock().lock();
-    LoginInfo old = login;
-    login = null;
-    invalid = null;
+    LoginInfo old = this.state.login;
+    this.state = LOGGED_OUT;
     conn.writeLock().unlock();
     return old;
   }
 
   /**
-   * Configura o login como invlido.
+   * Configura o login como inválido.
    */
   void setInvalid() {
     conn.writeLock().lock();
-    invalid = login;
-    login = null;
+    this.state = new State(null, this.state.login);
     conn.writeLock().unlock();
   }
 
+  /**
+   * Estado imutável do login.
+   * 
+   * @author Tecgraf
+   */
+  private static final class State {
+    /** Informações do login */
+    final LoginInfo login;
+    /** Informações do login inválido */
+    final LoginInfo invalid;
+
+    /**
+     * Construtor.
+     * 
+     * @param login informações do login.
+     * @param invalid informações do login inválido.
+     */
+    State(LoginInfo login, LoginInfo invalid) {
+      this.login = login;
+      this.invalid = invalid;
+    }
+  }
+
 }
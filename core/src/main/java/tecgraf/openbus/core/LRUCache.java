@@ -12,18 +12,18 @@ import java.util.LinkedHashMap;
 class LRUCache<k, v> extends LinkedHashMap<k, v> {
 
   /**
-   * Tamanho mximo da cache
+   * Tamanho máximo da cache
    */
   private final int MAX_SIZE;
 
   /**
    * Construtor.
    * 
-   * @param size tamanho mximo da cache
+   * @param size tamanho máximo da cache
    */
   public LRUCache(int size) {
-    // Fator de 0.75  o default especificado na API.
-    // 16  a capacidade incial default especificado na API
+    // Fator de 0.75 é o default especificado na API.
+    // 16 é a capacidade incial default especificado na API
     super(16, 0.75f, true);
     this.MAX_SIZE = size;
   }
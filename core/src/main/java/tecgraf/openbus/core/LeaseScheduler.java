@@ -0,0 +1,299 @@
+package tecgraf.openbus.core;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.omg.CORBA.Any;
+import org.omg.CORBA.NO_PERMISSION;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.PolicyError;
+import org.omg.CORBA.SetOverrideType;
+import org.omg.Messaging.RELATIVE_RT_TIMEOUT_POLICY_TYPE;
+import org.omg.TimeBase.TimeTHelper;
+
+import tecgraf.openbus.ContextScope;
+import tecgraf.openbus.core.v2_1.services.access_control.AccessControl;
+import tecgraf.openbus.core.v2_1.services.access_control.AccessControlHelper;
+
+/**
+ * Agendador das renovações de <i>lease</i> das conexões de um contexto.
+ * <p>
+ * Em vez de uma thread dormindo durante todo o <i>lease</i> de cada conexão,
+ * as renovações de todas as conexões do contexto são mantidas em uma fila de
+ * atraso atendida por um número fixo de threads. Cada renovação é feita antes
+ * do fim do <i>lease</i>, com uma variação aleatória que evita que conexões
+ * autenticadas ao mesmo tempo renovem juntas.
+ * <p>
+ * A renovação de uma conexão termina quando o barramento devolve um
+ * <i>lease</i> não positivo, quando é recusada com {@link NO_PERMISSION} ou
+ * quando a conexão é coletada. Outras falhas são registradas e a renovação é
+ * retentada após o <i>lease</i> padrão.
+ * <p>
+ * Como as threads de renovação são compartilhadas por todas as conexões do
+ * contexto, uma renovação que fica presa no barramento ocupa uma delas para
+ * todas as conexões, e não apenas atrasa a conexão renovada. Por isso, a
+ * chamada de renovação de uma conexão tem como tempo máximo de resposta a
+ * fração do <i>lease</i> antecipada na renovação; se o tempo se esgotar, a
+ * falha é tratada como as demais.
+ *
+ * @author Tecgraf
+ */
+final class LeaseScheduler {
+
+  /** Instância de logging. */
+  private static final Logger logger = Logger.getLogger(LeaseScheduler.class
+    .getName());
+
+  /** O nome das <i>threads</i> onde a renovação do lease é efetuada. */
+  private static final String RENEWER_THREAD_NAME = "RenewerThread-";
+  /** Número de threads de renovação */
+  private static final int THREADS = 4;
+  /** Tempo em segundos que uma thread de renovação ociosa é mantida */
+  private static final long KEEP_ALIVE = 60;
+  /** Fração do <i>lease</i> antecipada na renovação */
+  private static final double AHEAD = 0.2;
+  /** Fração máxima do <i>lease</i> sorteada como variação da renovação */
+  private static final double JITTER = 0.1;
+
+  /** Fila de renovações agendadas */
+  private final ScheduledExecutorService executor;
+
+  /**
+   * Construtor.
+   */
+  LeaseScheduler() {
+    this(newExecutor(THREADS));
+  }
+
+  /**
+   * Construtor.
+   *
+   * @param executor o executor que mantém a fila de renovações agendadas.
+   */
+  LeaseScheduler(ScheduledExecutorService executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Cria o executor das renovações.
+   *
+   * @param threads número de threads de renovação.
+   * @return o executor.
+   */
+  static ScheduledThreadPoolExecutor newExecutor(int threads) {
+    ScheduledThreadPoolExecutor executor =
+      new ScheduledThreadPoolExecutor(threads, task -> {
+        Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        thread.setName(RENEWER_THREAD_NAME + thread.getId());
+        return thread;
+      });
+    executor.setRemoveOnCancelPolicy(true);
+    executor.setKeepAliveTime(KEEP_ALIVE, TimeUnit.SECONDS);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Agenda a renovação do <i>lease</i> de uma conexão.
+   *
+   * @param conn a conexão.
+   * @param defaultLease tempo padrão de lease em segundos.
+   * @return a renovação agendada.
+   */
+  Lease<ConnectionImpl> schedule(ConnectionImpl conn, int defaultLease) {
+    return schedule(conn, defaultLease, LeaseScheduler::renew);
+  }
+
+  /**
+   * Agenda a renovação periódica de um <i>lease</i>.
+   *
+   * @param <T> tipo do dono do lease.
+   * @param owner o dono do lease, mantido através de uma referência fraca.
+   * @param defaultLease tempo padrão de lease em segundos.
+   * @param renewal a operação de renovação.
+   * @return a renovação agendada.
+   */
+  <T> Lease<T> schedule(T owner, int defaultLease, Renewal<T> renewal) {
+    Lease<T> lease = new Lease<>(owner, defaultLease, renewal);
+    lease.schedule(defaultLease);
+    return lease;
+  }
+
+  /**
+   * Calcula o atraso até a próxima renovação: entre 70% e 80% do
+   * <i>lease</i>.
+   *
+   * @param lease o tempo de lease em segundos.
+   * @return o atraso em milisegundos.
+   */
+  static long delay(int lease) {
+    long millis = TimeUnit.SECONDS.toMillis(lease);
+    long jitter = (long) (millis * JITTER);
+    long delay = millis - (long) (millis * AHEAD);
+    if (jitter > 0) {
+      delay -= ThreadLocalRandom.current().nextLong(jitter);
+    }
+    return delay;
+  }
+
+  /**
+   * Renova o <i>lease</i> de uma conexão.
+   *
+   * @param conn a conexão.
+   * @param defaultLease tempo padrão de lease em segundos.
+   * @return o novo tempo de lease.
+   * @throws Exception
+   */
+  private static int renew(ConnectionImpl conn, int defaultLease)
+    throws Exception {
+    try (ContextScope scope = conn.context().scope(conn)) {
+      AccessControl access = conn.access();
+      if (access == null) {
+        return defaultLease;
+      }
+      long timeout = (long) (TimeUnit.SECONDS.toMillis(defaultLease) * AHEAD);
+      return withTimeout(conn.ORB(), access, timeout).renew();
+    }
+  }
+
+  /**
+   * Recupera uma referência ao controle de acesso cujas chamadas têm um tempo
+   * máximo de resposta.
+   *
+   * @param orb o ORB.
+   * @param access o controle de acesso.
+   * @param timeout o tempo máximo em milisegundos.
+   * @return a referência com o tempo máximo de resposta.
+   * @throws PolicyError caso o ORB não suporte o tempo máximo de resposta.
+   */
+  private static AccessControl withTimeout(ORB orb, AccessControl access,
+    long timeout) throws PolicyError {
+    if (timeout <= 0) {
+      return access;
+    }
+    Any any = orb.create_any();
+    // o tempo é expresso em unidades de 100 nanosegundos
+    TimeTHelper.insert(any, TimeUnit.MILLISECONDS.toNanos(timeout) / 100);
+    Policy policy =
+      orb.create_policy(RELATIVE_RT_TIMEOUT_POLICY_TYPE.value, any);
+    return AccessControlHelper.unchecked_narrow(access._set_policy_override(
+      new Policy[] { policy }, SetOverrideType.ADD_OVERRIDE));
+  }
+
+  /**
+   * Operação de renovação de um <i>lease</i>.
+   *
+   * @param <T> tipo do dono do lease.
+   *
+   * @author Tecgraf
+   */
+  interface Renewal<T> {
+    /**
+     * Renova o <i>lease</i>.
+     *
+     * @param owner o dono do lease.
+     * @param defaultLease tempo padrão de lease em segundos.
+     * @return o novo tempo de lease em segundos. Um valor não positivo
+     *         encerra a renovação.
+     * @throws Exception
+     */
+    int renew(T owner, int defaultLease) throws Exception;
+  }
+
+  /**
+   * Renovação agendada de um <i>lease</i>.
+   *
+   * @param <T> tipo do dono do lease.
+   *
+   * @author Tecgraf
+   */
+  final class Lease<T> implements Runnable {
+    /** O dono do lease */
+    private final WeakReference<T> owner;
+    /** Tempo padrão de lease */
+    private final int defaultLease;
+    /** A operação de renovação */
+    private final Renewal<T> renewal;
+    /** A próxima renovação agendada */
+    private ScheduledFuture<?> future;
+    /** Indica se a renovação foi cancelada */
+    private boolean cancelled;
+
+    /**
+     * Construtor.
+     *
+     * @param owner o dono do lease.
+     * @param defaultLease tempo padrão de lease.
+     * @param renewal a operação de renovação.
+     */
+    private Lease(T owner, int defaultLease, Renewal<T> renewal) {
+      this.owner = new WeakReference<>(owner);
+      this.defaultLease = defaultLease;
+      this.renewal = renewal;
+    }
+
+    /**
+     * Cancela a renovação. Uma renovação em andamento não é interrompida, mas
+     * não é reagendada.
+     */
+    synchronized void cancel() {
+      this.cancelled = true;
+      if (this.future != null) {
+        this.future.cancel(false);
+        this.future = null;
+      }
+    }
+
+    @Override
+    public void run() {
+      T owner = this.owner.get();
+      if (owner == null || isCancelled()) {
+        return;
+      }
+      int lease;
+      try {
+        lease = renewal.renew(owner, defaultLease);
+      }
+      catch (NO_PERMISSION e) {
+        return;
+      }
+      catch (Exception e) {
+        logger.log(Level.SEVERE, "Falha na renovação da credencial", e);
+        lease = defaultLease;
+      }
+      if (lease > 0) {
+        schedule(lease);
+      }
+    }
+
+    /**
+     * Agenda a próxima renovação.
+     *
+     * @param lease o tempo de lease em segundos.
+     */
+    private synchronized void schedule(int lease) {
+      if (!cancelled) {
+        this.future =
+          executor.schedule(this, delay(lease), TimeUnit.MILLISECONDS);
+      }
+    }
+
+    /**
+     * Verifica se a renovação foi cancelada.
+     *
+     * @return {@code true} caso tenha sido cancelada, e {@code false} caso
+     *         contrário.
+     */
+    private synchronized boolean isCancelled() {
+      return cancelled;
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package tecgraf.openbus.core;
+
+import java.util.Arrays;
+
+import org.omg.CORBA.UserException;
+
+import tecgraf.openbus.ContextScope;
+import tecgraf.openbus.core.v2_0.credential.SignedCallChain;
+import tecgraf.openbus.core.v2_1.services.ServiceFailure;
+
+/**
+ * Cache de conversões de cadeias assinadas para o formato legado.
+ * <p>
+ * A conversão é uma chamada ao barramento, e um mesmo cliente envia a mesma
+ * cadeia assinada em todas as chamadas até que ela seja assinada novamente.
+ * As entradas são identificadas pela assinatura da cadeia, e conversões
+ * concorrentes da mesma cadeia aguardam a primeira.
+ *
+ * @author Tecgraf
+ */
+class LegacyChainCache {
+
+  /** Cadeias legadas indexadas pela assinatura da cadeia convertida */
+  private final BoundedCache<Key, SignedCallChain> converted;
+  /** Conversões em andamento */
+  private final SingleFlight<Key, SignedCallChain> conversions;
+
+  /**
+   * Construtor.
+   *
+   * @param size tamanho máximo da cache.
+   */
+  LegacyChainCache(int size) {
+    this.converted = new BoundedCache<>(size);
+    this.conversions = new SingleFlight<>();
+  }
+
+  /**
+   * Recupera a versão legada de uma cadeia, consultando antes a cache.
+   *
+   * @param conn a conexão utilizada na conversão.
+   * @param chain a cadeia a ser convertida.
+   * @return a cadeia legada assinada.
+   * @throws ServiceFailure
+   */
+  SignedCallChain convert(ConnectionImpl conn, CallerChainImpl chain)
+    throws ServiceFailure {
+    final Key key = new Key(chain.internal_chain().signedChain.signature);
+    SignedCallChain legacy = converted.get(key);
+    if (legacy != null) {
+      return legacy;
+    }
+    try {
+      return conversions.execute(key, () -> {
+        SignedCallChain result = converted.get(key);
+        if (result == null) {
+          result = doConvert(conn, chain);
+          converted.put(key, result);
+        }
+        return result;
+      });
+    }
+    catch (ServiceFailure e) {
+      throw e;
+    }
+    catch (UserException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Limpa a cache.
+   */
+  void clear() {
+    converted.clear();
+  }
+
+  /**
+   * Recupera a cache limitada que guarda as cadeias convertidas.
+   *
+   * @return a cache das entradas.
+   */
+  BoundedCache<?, ?> entries() {
+    return converted;
+  }
+
+  /**
+   * Solicita ao barramento a conversão da cadeia, unindo-se a ela durante a
+   * chamada e restaurando em seguida a cadeia unida anteriormente.
+   *
+   * @param conn a conexão utilizada na conversão.
+   * @param chain a cadeia a ser convertida.
+   * @return a cadeia legada assinada.
+   * @throws ServiceFailure
+   */
+  private static SignedCallChain doConvert(ConnectionImpl conn,
+    CallerChainImpl chain) throws ServiceFailure {
+    try (ContextScope scope = conn.context().scope(null, chain)) {
+      return conn.legacySupport().converter().convertSignedChain();
+    }
+  }
+
+  /**
+   * Chave da cache: assinatura da cadeia convertida.
+   *
+   * @author Tecgraf
+   */
+  private static final class Key {
+    /** Assinatura da cadeia */
+    private final byte[] signature;
+
+    /**
+     * Construtor.
+     *
+     * @param signature assinatura da cadeia.
+     */
+    Key(byte[] signature) {
+      this.signature = signature;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof Key) {
+        return Arrays.equals(signature, ((Key) obj).signature);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(signature);
+    }
+  }
+}
@@ -20,8 +20,8 @@ class LegacySupport {
   /**
    * Construtor do suporte legado 2.0
    * 
-   * @param access referncia para o controle de acesso legado.
-   * @param converter referncia para o conversor legado.
+   * @param access referência para o controle de acesso legado.
+   * @param converter referência para o conversor legado.
    */
   public LegacySupport(AccessControl access, LegacyConverter converter) {
     this.access = access;
@@ -38,7 +38,7 @@ class LegacySupport {
   }
 
   /**
-   * Recupera o suporte a converso de tipos legados
+   * Recupera o suporte a conversão de tipos legados
    * 
    * @return conversor legado.
    */
@@ -52,11 +52,11 @@ class LocalOfferImpl extends BusResource implements LocalOffer {
       throw new IllegalArgumentException("O timeout deve ser positivo.");
     }
     synchronized (lock) {
-      // O while  necessrio para retestar remote aps o wait, antes de
-      // retornar, devido  possibilidade de sinais esprios. A contagem de
-      // tempo abaixo pode ser altamente inacurada devido a preempes, mas o
-      // parmetro se refere ao tempo total passado, ento no h problema.
-      // OBS: timeoutMillis no pode ser 0, seno wait aguardar
+      // O while é necessário para retestar remote após o wait, antes de
+      // retornar, devido à possibilidade de sinais espúrios. A contagem de
+      // tempo abaixo pode ser altamente inacurada devido a preempções, mas o
+      // parâmetro se refere ao tempo total passado, então não há problema.
+      // OBS: timeoutMillis não pode ser 0, senão wait aguardará
       // indefinidamente.
       while (remote == null && lastError == null && timeoutMillis >= 0) {
         long initial = System.currentTimeMillis();
@@ -81,7 +81,7 @@ class LocalOfferImpl extends BusResource implements LocalOffer {
       }
       if (remote == null) {
         if (lastError == null) {
-          throw new TimeoutException("No foi possvel obter a oferta remota " +
+          throw new TimeoutException("Não foi possível obter a oferta remota " +
             "no tempo especificado.");
         } else {
           try {
@@ -90,7 +90,7 @@ class LocalOfferImpl extends BusResource implements LocalOffer {
             UnauthorizedFacets | RuntimeException | Error e) {
             throw e;
           } catch (Throwable e) {
-            throw new OpenBusInternalException("Exceo inesperada ao " +
+            throw new OpenBusInternalException("Exceção inesperada ao " +
               "tentar registrar uma oferta. Por favor contacte o " +
               "administrador do sistema e informe-o sobre este erro.", e);
           }
@@ -105,10 +105,10 @@ class LocalOfferImpl extends BusResource implements LocalOffer {
     cancel();
     // o pedido de cancelamento tem que ser feito fora do bloco synchronized
     // para evitar deadlocks. Assim se a tarefa estiver a ponto de fazer um
-    // set remote, ela poder faz-lo pois conseguir adquirir o lock.
+    // set remote, ela poderá fazê-lo pois conseguirá adquirir o lock.
     registry.cancelRegisterTask(this);
-    // a chamada abaixo apenas remove as referncias locais. A remoo do
-    // barramento  feita pelo mtodo previamente chamado cancelRegisterTask do
+    // a chamada abaixo apenas remove as referências locais. A remoção do
+    // barramento é feita pelo método previamente chamado cancelRegisterTask do
     // registry.
     removeOffer();
   }
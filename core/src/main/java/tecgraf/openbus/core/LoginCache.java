@@ -1,92 +1,140 @@
 package tecgraf.openbus.core;
 
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Map;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import org.omg.PortableServer.POAPackage.ServantNotActive;
+import org.omg.PortableServer.POAPackage.WrongPolicy;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import tecgraf.openbus.LoginObserver;
+import tecgraf.openbus.core.LoginResolver.Resolution;
 import tecgraf.openbus.core.v2_1.OctetSeqHolder;
 import tecgraf.openbus.core.v2_1.services.ServiceFailure;
 import tecgraf.openbus.core.v2_1.services.access_control.InvalidLogins;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
+import tecgraf.openbus.exception.CryptographyException;
+import tecgraf.openbus.security.Cryptography;
 
 /**
- * Cache de logins utilizado pelo interceptador cliente.
- * 
+ * Cache de logins utilizado pelo interceptador servidor.
+ * <p>
+ * As entradas próximas de expirar são renovadas em segundo plano, de forma que
+ * as chamadas recebidas não precisem esperar pela consulta ao barramento. Os
+ * logins guardados são observados através de uma inscrição mantida pelo
+ * {@link LoginRegistryImpl}, e removidos da cache assim que deixam de existir.
+ * Os logins a observar e a deixar de observar são acumulados e enviados ao
+ * barramento em lote, por uma única tarefa de cada vez.
+ * As consultas ao barramento são feitas através de um {@link LoginResolver},
+ * que agrupa as consultas concorrentes e já observa os logins cuja validade
+ * consulta.
+ *
  * @author Tecgraf
  */
 class LoginCache {
 
+  /**
+   * Fração final da validade de uma entrada a partir da qual ela é renovada
+   * em segundo plano.
+   */
+  private static final int REFRESH_AHEAD_DIVISOR = 4;
+
   /**
    * O mapa da cache de logins.
    */
-  private final Map<String, LoginEntry> logins;
+  private final BoundedCache<String, LoginEntry> logins;
   /**
-   * A conexo ao qual o cache esta associado.
+   * A conexão ao qual o cache esta associado.
    */
   private final ConnectionImpl conn;
+  /**
+   * Resolvedor das consultas ao barramento.
+   */
+  private final LoginResolver resolver;
+  /**
+   * Logins observados pela cache.
+   */
+  private final Set<String> watched;
+  /**
+   * Logins aguardando para serem observados.
+   */
+  private final Batch toWatch;
+  /**
+   * Logins aguardando para deixarem de ser observados.
+   */
+  private final Batch toForget;
+  /**
+   * Observador dos logins da cache.
+   */
+  private final LoginObserver observer;
+  /** Instância de logging. */
+  private static final Logger logger = Logger.getLogger(LoginCache.class
+    .getName());
 
   /**
    * Construtor.
-   * 
-   * @param conn a conexo ao qual o cache esta associado.
+   *
+   * @param conn a conexão ao qual o cache esta associado.
    * @param cacheSize tamanho da cache.
    */
   LoginCache(ConnectionImpl conn, int cacheSize) {
     this.conn = conn;
     this.logins =
-      Collections.synchronizedMap(new LRUCache<>(cacheSize));
+      new BoundedCache<>(cacheSize, (loginId, entry) -> forget(loginId));
+    this.resolver = new LoginResolver(conn, this);
+    this.watched = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    this.toWatch = new Batch(this::watchPending);
+    this.toForget = new Batch(this::forgetPending);
+    this.observer = new Observer();
   }
 
   /**
-   * Realiza a validao do Login.
-   * 
+   * Realiza a validação do Login.
+   *
    * @param loginId o login.
-   * @return {@code true} caso o login seja vlido, e {@code false}
-   *         caso contrrio.
+   * @return {@code true} caso o login seja válido, e {@code false}
+   *         caso contrário.
    * @throws ServiceFailure
    */
   boolean validateLogin(String loginId) throws ServiceFailure {
     LoginEntry entry = this.logins.get(loginId);
-    long time;
-    if (entry != null) {
-      synchronized (this.logins) {
-        time = System.currentTimeMillis();
-        Long elapsed = (time - entry.lastTime) / 1000;
-        if (elapsed.intValue() <= entry.validity) {
-          // login  valido
-          return true;
-        }
-      }
-    }
-
-    time = System.currentTimeMillis();
-    int validity = conn.logins().getLoginValidity(loginId);
-    synchronized (this.logins) {
-      LoginEntry loginEntry = this.logins.get(loginId);
-      if (loginEntry == null) {
-        loginEntry = new LoginEntry();
-        loginEntry.lastTime = time;
-        loginEntry.validity = validity;
-        this.logins.put(loginId, loginEntry);
-      }
-      else {
-        if (loginEntry.lastTime < time) {
-          loginEntry.lastTime = time;
-          loginEntry.validity = validity;
-        }
-        else {
-          validity = loginEntry.validity;
+    if (entry != null && entry.validity > 0) {
+      long validity = entry.validity * 1000L;
+      long remaining = entry.lastTime + validity - System.currentTimeMillis();
+      if (remaining >= 0) {
+        if (remaining <= validity / REFRESH_AHEAD_DIVISOR) {
+          // renovação em segundo plano
+          resolver.resolve(loginId, true, false);
         }
+        // login é valido
+        return true;
       }
     }
-    return validity > 0;
+    boolean info = entry == null || entry.entity == null;
+    Resolution resolution = await(resolver.resolve(loginId, true, info));
+    return resolution.validity > 0;
   }
 
   /**
    * Recupera o nome da entidade do login.
-   * 
+   *
    * @param loginId o login.
-   * @param pubkey holder para a chave pblica do login.
-   * @return O nome da entidade do login e a chave pblica do mesmo atrves do
+   * @param pubkey holder para a chave pública do login.
+   * @return O nome da entidade do login e a chave pública do mesmo atráves do
    *         holder de entrada pubkey.
    * @throws InvalidLogins
    * @throws ServiceFailure
@@ -94,63 +142,418 @@ class LoginCache {
   String getLoginEntity(String loginId, OctetSeqHolder pubkey)
     throws InvalidLogins, ServiceFailure {
     LoginEntry entry = this.logins.get(loginId);
-    if (entry != null) {
-      synchronized (this.logins) {
-        if (entry.entity != null) {
-          pubkey.value = entry.pubkey;
-          return entry.entity;
-        }
-      }
+    if (entry != null && entry.entity != null) {
+      pubkey.value = entry.pubkey;
+      return entry.entity;
+    }
+    Resolution resolution = await(resolver.resolve(loginId, false, true));
+    if (resolution.invalid != null) {
+      throw resolution.invalid;
+    }
+    if (resolution.entity == null) {
+      throw new InvalidLogins(new String[] { loginId });
+    }
+    pubkey.value = resolution.pubkey;
+    return resolution.entity;
+  }
+
+  /**
+   * Recupera a chave pública do login já decodificada. A decodificação é
+   * feita uma única vez por entrada da cache, e reaproveitada enquanto a
+   * chave pública do login não mudar.
+   *
+   * @param loginId o login.
+   * @param pubkey a chave pública codificada do login.
+   * @return a chave pública do login.
+   * @throws CryptographyException
+   */
+  RSAPublicKey getPublicKey(String loginId, byte[] pubkey)
+    throws CryptographyException {
+    LoginEntry entry = this.logins.peek(loginId);
+    if (entry != null && Arrays.equals(entry.pubkey, pubkey)) {
+      return entry.publicKey();
+    }
+    return Cryptography.getInstance().generateRSAPublicKeyFromX509EncodedKey(
+      pubkey);
+  }
+
+  /**
+   * Limpa a cache de logins.
+   */
+  public void clear() {
+    this.logins.clear();
+    this.watched.clear();
+  }
+
+  /**
+   * Recupera a cache limitada que guarda as entradas.
+   *
+   * @return a cache das entradas.
+   */
+  BoundedCache<String, ?> entries() {
+    return this.logins;
+  }
+
+  /**
+   * Atualiza a cache com o resultado de uma consulta ao barramento.
+   *
+   * @param loginId o login.
+   * @param resolution o resultado da consulta.
+   */
+  void update(String loginId, Resolution resolution) {
+    if (resolution.invalid != null) {
+      invalidate(loginId);
+      return;
     }
-    LoginInfo info = conn.logins().getLoginInfo(loginId, pubkey);
+    int validity;
     synchronized (this.logins) {
-      entry = this.logins.get(loginId);
+      LoginEntry entry = this.logins.peek(loginId);
       if (entry == null) {
-        entry = new LoginEntry();
-        entry.entity = info.entity;
-        entry.pubkey = pubkey.value;
-        entry.lastTime = System.currentTimeMillis();
-        entry.validity = 0;
-        this.logins.put(loginId, entry);
-        return entry.entity;
+        entry = new LoginEntry(0, 0, null, null, null);
+      }
+      validity = entry.validity;
+      long lastTime = entry.lastTime;
+      if (resolution.validity != null && lastTime < resolution.time) {
+        validity = resolution.validity;
+        lastTime = resolution.time;
+      }
+      String entity = entry.entity;
+      byte[] pubkey = entry.pubkey;
+      RSAPublicKey key = entry.key;
+      if (resolution.entity != null) {
+        entity = resolution.entity;
+        if (!Arrays.equals(pubkey, resolution.pubkey)) {
+          key = null;
+        }
+        pubkey = resolution.pubkey;
+      }
+      this.logins.put(loginId, new LoginEntry(validity, lastTime, entity,
+        pubkey, key));
+    }
+    if (validity > 0) {
+      if (resolution.watched) {
+        watched.add(loginId);
       }
       else {
-        entry.entity = info.entity;
-        entry.pubkey = pubkey.value;
-        return entry.entity;
+        watch(loginId);
+      }
+    }
+  }
+
+  /**
+   * Recupera a inscrição através da qual a cache observa os logins.
+   *
+   * @return a inscrição, ou {@code null} caso a conexão não esteja logada.
+   * @throws ServantNotActive
+   * @throws WrongPolicy
+   */
+  LoginSubscriptionImpl subscription() throws ServantNotActive, WrongPolicy {
+    return conn.localLogins().cacheSubscription(observer);
+  }
+
+  /**
+   * Aguarda o resultado de uma consulta ao barramento.
+   *
+   * @param future o resultado futuro da consulta.
+   * @return o resultado da consulta.
+   * @throws ServiceFailure
+   */
+  private static Resolution await(Future<Resolution> future)
+    throws ServiceFailure {
+    try {
+      return Uninterruptibles.getUninterruptibly(future);
+    }
+    catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof ServiceFailure) {
+        throw (ServiceFailure) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
       }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * Passa a observar o login em segundo plano, para que ele seja removido da
+   * cache assim que deixar de existir.
+   *
+   * @param loginId o login.
+   */
+  private void watch(String loginId) {
+    if (watched.add(loginId) && !toWatch.add(loginId)) {
+      watched.remove(loginId);
+    }
+  }
+
+  /**
+   * Deixa de observar em segundo plano um login que saiu da cache.
+   *
+   * @param loginId o login.
+   */
+  private void forget(String loginId) {
+    if (watched.remove(loginId)) {
+      toForget.add(loginId);
+    }
+  }
+
+  /**
+   * Observa em uma única chamada os logins acumulados.
+   */
+  private void watchPending() {
+    List<String> loginIds = toWatch.drain();
+    if (loginIds.isEmpty()) {
+      return;
+    }
+    try {
+      LoginSubscriptionImpl sub = subscription();
+      if (sub == null) {
+        watched.removeAll(loginIds);
+        return;
+      }
+      List<String> pending = new ArrayList<>();
+      for (String loginId : loginIds) {
+        if (!sub.isWatching(loginId)) {
+          pending.add(loginId);
+        }
+      }
+      for (String loginId : watchLogins(sub, pending)) {
+        // o login deixou de existir antes de ser observado
+        watched.remove(loginId);
+        logins.remove(loginId);
+      }
+    }
+    catch (Exception e) {
+      watched.removeAll(loginIds);
+      logger.log(Level.FINE, String.format(
+        "Falha ao observar os logins (%s) da cache.", loginIds), e);
+    }
+  }
+
+  /**
+   * Deixa de observar em uma única chamada os logins acumulados.
+   */
+  private void forgetPending() {
+    List<String> loginIds = toForget.drain();
+    if (loginIds.isEmpty()) {
+      return;
+    }
+    try {
+      LoginSubscriptionImpl sub = subscription();
+      if (sub != null) {
+        sub.forgetLogins(loginIds);
+      }
+    }
+    catch (Exception e) {
+      logger.log(Level.FINE, String.format(
+        "Falha ao deixar de observar os logins (%s) da cache.", loginIds), e);
+    }
+  }
+
+  /**
+   * Observa um conjunto de logins através da inscrição. Os logins que o
+   * barramento indica não existirem são retirados do conjunto e a observação
+   * dos demais é refeita.
+   *
+   * @param sub a inscrição.
+   * @param loginIds os logins.
+   * @return os logins que não existem.
+   * @throws InvalidLogins caso o barramento indique como inexistentes logins
+   *         que não foram informados.
+   * @throws ServiceFailure
+   */
+  static List<String> watchLogins(LoginSubscriptionImpl sub,
+    List<String> loginIds) throws InvalidLogins, ServiceFailure {
+    List<String> remaining = new ArrayList<>(loginIds);
+    List<String> invalid = new ArrayList<>();
+    while (!remaining.isEmpty()) {
+      try {
+        sub.watchLogins(remaining);
+        break;
+      }
+      catch (InvalidLogins e) {
+        List<String> ids = Arrays.asList(e.loginIds);
+        if (!remaining.removeAll(ids)) {
+          throw e;
+        }
+        invalid.addAll(ids);
+      }
+    }
+    return invalid;
+  }
+
+  /**
+   * Remove o login da cache e deixa de observá-lo.
+   *
+   * @param loginId o login.
+   */
+  private void invalidate(String loginId) {
+    this.logins.remove(loginId);
+    // remoções explícitas não são notificadas pela cache
+    forget(loginId);
+  }
+
+  /**
+   * Submete uma tarefa ao executor da conexão.
+   *
+   * @param task a tarefa.
+   * @return {@code true} caso a tarefa tenha sido submetida, e {@code false}
+   *         caso contrário.
+   */
+  private boolean submit(Runnable task) {
+    try {
+      conn.localLogins().pool().pool().submit(task);
+      return true;
+    }
+    catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Logins acumulados para uma mesma operação sobre a inscrição, executada
+   * em segundo plano por uma única tarefa de cada vez.
+   *
+   * @author Tecgraf
+   */
+  private final class Batch {
+    /** Logins acumulados */
+    private final Queue<String> loginIds;
+    /** Indica se há uma tarefa submetida para consumir os logins */
+    private final AtomicBoolean scheduled;
+    /** A operação sobre os logins acumulados */
+    private final Runnable task;
+
+    /**
+     * Construtor.
+     *
+     * @param task a operação sobre os logins acumulados.
+     */
+    Batch(Runnable task) {
+      this.loginIds = new ConcurrentLinkedQueue<>();
+      this.scheduled = new AtomicBoolean();
+      this.task = task;
+    }
+
+    /**
+     * Acumula um login, submetendo a operação caso não haja uma pendente.
+     *
+     * @param loginId o login.
+     * @return {@code false} caso a operação não possa ser submetida, e
+     *         {@code true} caso contrário.
+     */
+    boolean add(String loginId) {
+      loginIds.offer(loginId);
+      if (scheduled.compareAndSet(false, true) && !submit(task)) {
+        scheduled.set(false);
+        loginIds.remove(loginId);
+        return false;
+      }
+      return true;
+    }
+
+    /**
+     * Consome os logins acumulados. Logins acumulados depois do consumo
+     * submetem uma nova operação.
+     *
+     * @return os logins.
+     */
+    List<String> drain() {
+      scheduled.set(false);
+      List<String> drained = new ArrayList<>();
+      for (String loginId; (loginId = loginIds.poll()) != null;) {
+        drained.add(loginId);
+      }
+      return drained;
     }
   }
 
   /**
    * Valor do mapa de logins da cache.
-   * 
+   *
    * @author Tecgraf
    */
-  private class LoginEntry {
+  private static final class LoginEntry {
     /**
      * Tempo de validade.
      */
-    public Integer validity;
+    final int validity;
     /**
-     * Tempo em milisegundos de quando as informaes foram atualizadas.
+     * Tempo em milisegundos de quando a validade foi atualizada.
      */
-    public Long lastTime;
+    final long lastTime;
     /**
      * Nome da entidade
      */
-    public String entity;
+    final String entity;
     /**
-     * Chave pblica da entidade
+     * Chave pública da entidade
      */
-    public byte[] pubkey;
+    final byte[] pubkey;
+    /**
+     * Chave pública da entidade decodificada, ou {@code null} caso ainda não
+     * tenha sido utilizada.
+     */
+    volatile RSAPublicKey key;
+
+    /**
+     * Construtor.
+     *
+     * @param validity tempo de validade.
+     * @param lastTime tempo de atualização da validade.
+     * @param entity nome da entidade.
+     * @param pubkey chave pública da entidade.
+     * @param key chave pública da entidade decodificada, ou {@code null}.
+     */
+    LoginEntry(int validity, long lastTime, String entity, byte[] pubkey,
+      RSAPublicKey key) {
+      this.validity = validity;
+      this.lastTime = lastTime;
+      this.entity = entity;
+      this.pubkey = pubkey;
+      this.key = key;
+    }
+
+    /**
+     * Recupera a chave pública decodificada, decodificando-a no primeiro uso.
+     * Decodificações concorrentes produzem chaves equivalentes, de forma que
+     * não há necessidade de sincronização.
+     *
+     * @return a chave pública decodificada.
+     * @throws CryptographyException
+     */
+    RSAPublicKey publicKey() throws CryptographyException {
+      RSAPublicKey key = this.key;
+      if (key == null) {
+        key =
+          Cryptography.getInstance().generateRSAPublicKeyFromX509EncodedKey(
+            pubkey);
+        this.key = key;
+      }
+      return key;
+    }
   }
 
   /**
-   * Limpa a cache de logins.
+   * Observador que remove da cache os logins que deixaram de existir.
+   *
+   * @author Tecgraf
    */
-  public void clear() {
-    this.logins.clear();
-  }
+  private class Observer implements LoginObserver {
+    @Override
+    public void entityLogout(LoginInfo login) {
+      invalidate(login.id);
+    }
 
+    @Override
+    public void nonExistentLogins(String[] loginIds) {
+      for (String loginId : loginIds) {
+        invalidate(loginId);
+      }
+    }
+  }
 }
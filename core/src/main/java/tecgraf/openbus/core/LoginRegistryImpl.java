@@ -10,6 +10,7 @@ import org.omg.PortableServer.POA;
 import org.omg.PortableServer.POAPackage.ServantNotActive;
 import org.omg.PortableServer.POAPackage.WrongPolicy;
 import tecgraf.openbus.Connection;
+import tecgraf.openbus.ContextScope;
 import tecgraf.openbus.LoginSubscription;
 import tecgraf.openbus.core.v2_1.OctetSeqHolder;
 import tecgraf.openbus.core.v2_1.services.ServiceFailure;
@@ -37,12 +38,12 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Representao local do registro de logins
+ * Representação local do registro de logins
  * 
  * @author Tecgraf
  */
-// Essa classe faz multiplexao de um observador de logins para vrios
-// observadores do usurio
+// Essa classe faz multiplexação de um observador de logins para vários
+// observadores do usuário
 class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
   private final OpenBusContextImpl context;
   private final ConnectionImpl conn;
@@ -51,7 +52,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
   private final Object lock = new Object();
   private tecgraf.openbus.core.v2_1.services.access_control.LoginRegistry
     registry;
-  /** Mecanismo de execuo de tarefas com suporte a retentativas */
+  /** Mecanismo de execução de tarefas com suporte a retentativas */
   private final RetryTaskPool pool;
   private tecgraf.openbus.core.v2_1.services.access_control.LoginObserver
     observer;
@@ -60,6 +61,8 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
   private ListenableFuture<LoginObserverSubscription> futureReLogin;
   private LoginObserverSubscription sub;
   private List<LoginSubscriptionImpl> subs;
+  /** Inscrição utilizada pela cache de logins da conexão */
+  private LoginSubscriptionImpl cacheSub;
   private final long retryDelay;
   private final TimeUnit delayUnit;
   private static final Logger logger = Logger.getLogger(LoginRegistryImpl.class
@@ -88,12 +91,8 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
     if (registry == null) {
       return new ArrayList<>();
     }
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       return convertLoginArrayToList(registry.getAllLogins());
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
@@ -105,12 +104,8 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
     if (registry == null) {
       return new ArrayList<>();
     }
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       return convertLoginArrayToList(registry.getEntityLogins(entity));
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
@@ -119,12 +114,8 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
     UnauthorizedOperation {
     tecgraf.openbus.core.v2_1.services.access_control.LoginRegistry registry
       = registry();
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       return registry != null && registry.invalidateLogin(loginId);
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
@@ -136,12 +127,8 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
     if (registry == null) {
       return new LoginInfo();
     }
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       return registry.getLoginInfo(loginId, pubkey);
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
@@ -152,12 +139,8 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
     if (registry == null) {
       return -1;
     }
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       return registry.getLoginValidity(loginId);
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
@@ -169,9 +152,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
     if (registry == null) {
       return null;
     }
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       LoginSubscriptionImpl ret = new LoginSubscriptionImpl(callback, this);
       synchronized (lock) {
         List<LoginSubscriptionImpl> subs = subs();
@@ -192,14 +173,14 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
                 @Override
                 public void onFailure(Throwable ex) {
                   try {
-                    // so deve entrar aqui se a aplicao escolheu fazer um
+                    // so deve entrar aqui se a aplicação escolheu fazer um
                     // logout, ou se pararam as retentativas do RetryTask.
                     logger.log(Level.SEVERE, "Erro ao inserir o observador de " +
                       "logins no barramento.", ex);
                     lock.notifyAll();
                   } catch (Throwable e) {
                     logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                      "de subscrio de observador de login do LoginRegistry " +
+                      "de subscrição de observador de login do LoginRegistry " +
                       "mal-sucedida.", e);
                     throw e;
                   }
@@ -209,7 +190,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
                 public void onSuccess(LoginObserverSubscription sub) {
                   try {
                     synchronized (lock) {
-                      // no h como ter dois sucessos ao mesmo tempo, portanto
+                      // não há como ter dois sucessos ao mesmo tempo, portanto
                       // posso passar por cima do valor direto sem testar.
                       LoginRegistryImpl.this.sub = sub;
                       futureSub = null;
@@ -221,7 +202,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
                     }
                   } catch (Throwable e) {
                     logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                      "de subscrio de observador de login do LoginRegistry " +
+                      "de subscrição de observador de login do LoginRegistry " +
                       "bem-sucedida.", e);
                     throw e;
                   }
@@ -231,8 +212,6 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
         }
       }
       return ret;
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
@@ -243,7 +222,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
       if (this.subs == null) {
         return;
       }
-      // cpia rasa, s para liberar o mutex
+      // cópia rasa, só para liberar o mutex
       subs = new ArrayList<>(this.subs);
     }
     Thread t = new Thread(() -> {
@@ -253,7 +232,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
           sub1.observer().entityLogout(login);
           sub1.forgetLogin(login.id);
         } catch (Exception e) {
-          logger.log(Level.SEVERE, "Erro ao avisar um observador da aplicao" +
+          logger.log(Level.SEVERE, "Erro ao avisar um observador da aplicação" +
             " de que o login " + login.id + " da entidade " + login.entity +
             " foi desfeito.", e);
         }
@@ -262,6 +241,27 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
     t.start();
   }
 
+  /**
+   * Recupera a inscrição utilizada pela cache de logins da conexão para ser
+   * avisada dos logouts dos logins que ela guarda. A inscrição é criada na
+   * primeira chamada e mantida entre relogins, assim como as inscrições da
+   * aplicação. Após um logout, uma nova inscrição é criada.
+   *
+   * @param observer o observador da cache de logins.
+   * @return a inscrição, ou {@code null} caso não haja login.
+   * @throws ServantNotActive
+   * @throws WrongPolicy
+   */
+  protected LoginSubscriptionImpl cacheSubscription(LoginObserver observer)
+    throws ServantNotActive, WrongPolicy {
+    synchronized (lock) {
+      if (cacheSub == null) {
+        cacheSub = (LoginSubscriptionImpl) subscribeObserver(observer);
+      }
+      return cacheSub;
+    }
+  }
+
   protected void fireEvent(LoginEvent e, LoginInfo newLogin) {
     switch (e) {
       case LOGGED_IN:
@@ -278,27 +278,21 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
 
   protected boolean watchLogin(String loginId) throws ServiceFailure {
     LoginObserverSubscription sub = sub();
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       while (true) {
         try {
           return sub != null && sub.watchLogin(loginId);
         } catch (OBJECT_NOT_EXIST e) {
-          // ao tentar pegar novamente a referncia, detecta se foi feito logout.
+          // ao tentar pegar novamente a referência, detecta se foi feito logout.
           sub = sub();
         }
       }
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
   protected void forgetLogin(String loginId) throws ServiceFailure {
     LoginObserverSubscription sub = sub();
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       while (true) {
         try {
           if (sub == null) {
@@ -307,24 +301,20 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
           sub.forgetLogin(loginId);
           break;
         } catch (OBJECT_NOT_EXIST e) {
-          // ao tentar pegar novamente a referncia, detecta se foi feito
-          // relogin e refaz a chamada. Caso tenha sido uma remoo forada por
-          // um admin, um novo OBJECT_NOT_EXIST ser lanado e repassado para a
-          // aplicao.
+          // ao tentar pegar novamente a referência, detecta se foi feito
+          // relogin e refaz a chamada. Caso tenha sido uma remoção forçada por
+          // um admin, um novo OBJECT_NOT_EXIST será lançado e repassado para a
+          // aplicação.
           sub = sub();
         }
       }
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
   protected void watchLogins(List<String> loginIds) throws ServiceFailure,
     InvalidLogins {
     LoginObserverSubscription sub = sub();
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       while (true) {
         try {
           if (sub == null) {
@@ -333,23 +323,19 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
           sub.watchLogins(loginIds.toArray(new String[loginIds.size()]));
           break;
         } catch (OBJECT_NOT_EXIST e) {
-          // ao tentar pegar novamente a referncia, detecta se foi feito
-          // relogin e refaz a chamada. Caso tenha sido uma remoo forada por
-          // um admin, um novo OBJECT_NOT_EXIST ser lanado e repassado para a
-          // aplicao.
+          // ao tentar pegar novamente a referência, detecta se foi feito
+          // relogin e refaz a chamada. Caso tenha sido uma remoção forçada por
+          // um admin, um novo OBJECT_NOT_EXIST será lançado e repassado para a
+          // aplicação.
           sub = sub();
         }
       }
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
   protected void forgetLogins(List<String> loginIds) throws ServiceFailure {
     LoginObserverSubscription sub = sub();
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       while (true) {
         try {
           if (sub == null) {
@@ -358,23 +344,19 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
           sub.forgetLogins(loginIds.toArray(new String[loginIds.size()]));
           break;
         } catch (OBJECT_NOT_EXIST e) {
-          // ao tentar pegar novamente a referncia, detecta se foi feito
-          // relogin e refaz a chamada. Caso tenha sido uma remoo forada por
-          // um admin, um novo OBJECT_NOT_EXIST ser lanado e repassado para a
-          // aplicao.
+          // ao tentar pegar novamente a referência, detecta se foi feito
+          // relogin e refaz a chamada. Caso tenha sido uma remoção forçada por
+          // um admin, um novo OBJECT_NOT_EXIST será lançado e repassado para a
+          // aplicação.
           sub = sub();
         }
       }
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
   protected List<LoginInfo> getWatchedLogins() {
     LoginObserverSubscription sub = sub();
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       while (true) {
         try {
           if (sub == null) {
@@ -382,15 +364,13 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
           }
           return convertLoginArrayToList(sub.getWatchedLogins());
         } catch (OBJECT_NOT_EXIST e) {
-          // ao tentar pegar novamente a referncia, detecta se foi feito
-          // relogin e refaz a chamada. Caso tenha sido uma remoo forada por
-          // um admin, um novo OBJECT_NOT_EXIST ser lanado e repassado para a
-          // aplicao.
+          // ao tentar pegar novamente a referência, detecta se foi feito
+          // relogin e refaz a chamada. Caso tenha sido uma remoção forçada por
+          // um admin, um novo OBJECT_NOT_EXIST será lançado e repassado para a
+          // aplicação.
           sub = sub();
         }
       }
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
@@ -404,29 +384,29 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
       if (subs.isEmpty()) {
         final AtomicBoolean needRemove = new AtomicBoolean(false);
         if (futureSub != null) {
-          // tenta cancelar subscrio
+          // tenta cancelar subscrição
           if (!futureSub.cancel(false)) {
-            // a subscrio j havia terminado mas entrou aqui no cancelamento
+            // a subscrição já havia terminado mas entrou aqui no cancelamento
             // antes de registrar o sucesso da chamada
             needRemove.set(true);
           } else {
-            // como o cancel no interrompe a tarefa, ela pode conseguir terminar.
+            // como o cancel não interrompe a tarefa, ela pode conseguir terminar.
             Futures.addCallback(futureSub, new
               FutureCallback<LoginObserverSubscription> () {
                 @Override
                 public void onFailure(Throwable ex) {
-                  // a tarefa foi cancelada corretamente ou falhou, ento no 
-                  // necessrio fazer nada.
+                  // a tarefa foi cancelada corretamente ou falhou, então não é
+                  // necessário fazer nada.
                 }
 
                 @Override
                 public void onSuccess(LoginObserverSubscription remote) {
                   try {
-                    // a tarefa no foi cancelada a tempo. Cancelar manualmente.
+                    // a tarefa não foi cancelada a tempo. Cancelar manualmente.
                     needRemove.set(true);
                   } catch (Throwable e) {
                     logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                      "de remoo de observador de login do LoginRegistry " +
+                      "de remoção de observador de login do LoginRegistry " +
                       "bem-sucedida.", e);
                     throw e;
                   }
@@ -450,16 +430,16 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
                 @Override
                 public void onFailure(Throwable ex) {
                   try {
-                    // so deve entrar aqui se a aplicao escolheu fazer um
+                    // so deve entrar aqui se a aplicação escolheu fazer um
                     // logout, ou se pararam as retentativas do RetryTask. Como
-                    // o tipo de retentativas  o OpenBusRetryContext, se essa
+                    // o tipo de retentativas é o OpenBusRetryContext, se essa
                     // chamada receber uma UserException, COMM_FAILURE ou
-                    // OBJECT_NOT_EXIST, desistir e chegar aqui.
+                    // OBJECT_NOT_EXIST, desistirá e chegará aqui.
                     logger.log(Level.SEVERE, "Erro ao remover o observador de " +
                       "logins do barramento.", ex);
                   } catch (Throwable e) {
                     logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                      "de remoo de observador de login do LoginRegistry " +
+                      "de remoção de observador de login do LoginRegistry " +
                       "mal-sucedida.", e);
                     throw e;
                   }
@@ -475,7 +455,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
                     logger.info("Observador de login removido do barramento.");
                   } catch (Throwable e) {
                     logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                      "de remoo de observador de login do LoginRegistry " +
+                      "de remoção de observador de login do LoginRegistry " +
                       "bem-sucedida.", e);
                     throw e;
                   }
@@ -502,22 +482,18 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
 
   private void onLogin() {
     synchronized (lock) {
-      Connection prev = context.currentConnection();
-      try {
-        context.currentConnection(conn);
+      try (ContextScope scope = context.scope(conn)) {
         registry = context.getLoginRegistry();
         if (subs == null) {
           subs = new ArrayList<>();
         }
         lock.notifyAll();
-      } finally {
-        context.currentConnection(prev);
       }
     }
   }
 
   /***
-   * Chamado apenas em caso de logout por escolha da aplicao
+   * Chamado apenas em caso de logout por escolha da aplicação
    */
   private void onLogout() {
     synchronized (lock) {
@@ -526,6 +502,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
         this.subs.clear();
       }
       this.subs = null;
+      this.cacheSub = null;
       deactivateObserver();
       this.lock.notifyAll();
     }
@@ -550,7 +527,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
     synchronized (lock) {
       this.registry = null;
       this.sub = null;
-      // no interrompo pois pode estar em uma chamada remota/JacORB. Se o
+      // não interrompo pois pode estar em uma chamada remota/JacORB. Se o
       // cancelamento proceder, gera um evento fail da callback do objeto futuro.
       if (futureSub != null) {
         this.futureSub.cancel(false);
@@ -562,7 +539,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
       }
       this.futureRemove = null;
 
-      // no nulifico futureReLogin pois isso  usado como critrio para
+      // não nulifico futureReLogin pois isso é usado como critério para
       // acordar as threads de relogin
       if (futureReLogin != null) {
         this.futureReLogin.cancel(false);
@@ -571,23 +548,23 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
   }
 
   private void onRelogin(LoginInfo newLogin) {
-    // O relogin deve ser feito de forma sncrona (pode ser feito com
+    // O relogin deve ser feito de forma síncrona (pode ser feito com
     // tarefas mas deve-se sincronizar ao fim). Dado o funcionamento da
-    // conexo do SDK, s h como ter duas chamadas concorrentes desse mtodo
-    // caso enquanto uma thread estiver esperando pela tarefa de subscrio
+    // conexão do SDK, só há como ter duas chamadas concorrentes desse método
+    // caso enquanto uma thread estiver esperando pela tarefa de subscrição
     // de observador, o login for novamente perdido e refeito por outra thread.
     synchronized (lock) {
-      // sem subscries, no h nada a fazer.
+      // sem subscrições, não há nada a fazer.
       if (subs == null || subs.size() == 0) {
         return;
       }
-      // testar se h um relogin em andamento. Se houver, cancelar pois
-      // nesse caso houve perda de login enquanto a subscrio ainda estava
-      // sendo feita. Isso  importante pois caso a subscrio j tenha sido
-      // refeita, ela no valer mais e as tarefas de watch nunca terminaro
-      // pois ficaro num loop de OBJ_NOT_EXISTS.
+      // testar se há um relogin em andamento. Se houver, cancelar pois
+      // nesse caso houve perda de login enquanto a subscrição ainda estava
+      // sendo feita. Isso é importante pois caso a subscrição já tenha sido
+      // refeita, ela não valerá mais e as tarefas de watch nunca terminarão
+      // pois ficarão num loop de OBJ_NOT_EXISTS.
       while (futureReLogin != null) {
-        // o mtodo abaixo j cancela o relogin anterior em andamento
+        // o método abaixo já cancela o relogin anterior em andamento
         clearLoginState();
         try {
           // aguardo tarefa de relogin anterior terminar
@@ -596,20 +573,20 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
           logInterruptError(e);
         }
         // devo testar de novo pois posso ter sido acordado tanto por ter
-        // feito o relogin como por um logout. Se foi logout, no terei login
-        // e ento desisto. Se houve um novo relogin, o login atual no ser
-        // o mesmo que o que recebi por parmetro, ento desisto tb.
+        // feito o relogin como por um logout. Se foi logout, não terei login
+        // e então desisto. Se houve um novo relogin, o login atual não será
+        // o mesmo que o que recebi por parâmetro, então desisto tb.
         LoginInfo currLogin = conn.login();
         if ((currLogin == null) || (!newLogin.id.equals(currLogin.id))) {
           return;
         }
       }
-      // refao os passos de um login pois chamei clearstate.
+      // refaço os passos de um login pois chamei clearstate.
       onLogin();
-      // lanar assincronamente uma retrytask para refazer o observador e
+      // lançar assincronamente uma retrytask para refazer o observador e
       // watchs de logins
       Set<String> watchedLogins = new HashSet<>();
-      // insere todos os logins observados sem repeties
+      // insere todos os logins observados sem repetições
       for (LoginSubscriptionImpl sub : subs) {
         watchedLogins.addAll(sub.loginsCopy());
       }
@@ -619,13 +596,13 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
         @Override
         public void onSuccess(LoginObserverSubscription result) {
           try {
-            // redefinir sub j com logins watched, nulificar futureReLogin e
+            // redefinir sub já com logins watched, nulificar futureReLogin e
             // notificar quem estiver esperando.
             synchronized (lock) {
               if (futureReLogin != null && !futureReLogin.isCancelled()) {
-                // se a sub recebida for null  porque o objeto foi removido no
+                // se a sub recebida for null é porque o objeto foi removido no
                 // barramento por perda de login antes que os watch pudessem ser
-                // concludos.
+                // concluídos.
                 if (result != null) {
                   sub = result;
                 }
@@ -643,7 +620,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
         @Override
         public void onFailure(Throwable t) {
           try {
-            // S entra aqui se a aplicao fez logout ou um outro relogin
+            // Só entra aqui se a aplicação fez logout ou um outro relogin
             // cancelou esse. Basta desistir que o SDK cuida do login atual
             // depois.
             logger.log(Level.WARNING, "Erro ao reinserir o observador de " +
@@ -667,7 +644,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
     synchronized (lock) {
       while (registry == null) {
         if (futureReLogin == null) {
-          logger.severe("No h login para realizar a chamada.");
+          logger.severe("Não há login para realizar a chamada.");
           throw new NO_PERMISSION(NoLoginCode.value, CompletionStatus
             .COMPLETED_NO);
         }
@@ -689,25 +666,25 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
         if (futureReLogin == null) {
           if (futureSub != null) {
             if (futureSub.isCancelled()) {
-              //situao de logout
+              //situação de logout
               throw new NO_PERMISSION(NoLoginCode.value, CompletionStatus
                 .COMPLETED_NO);
             } else if (futureSub.isDone()) {
-              // no h relogin e a tarefa de subscrio terminou
-              // corretamente mas manteve sub null, ento a subscrio foi
+              // não há relogin e a tarefa de subscrição terminou
+              // corretamente mas manteve sub null, então a subscrição foi
               // removida do servidor
-              throw new OBJECT_NOT_EXIST("A subscrio foi removida do " +
-                "barramento por uma ao diferente de um logout ou relogin.");
+              throw new OBJECT_NOT_EXIST("A subscrição foi removida do " +
+                "barramento por uma ação diferente de um logout ou relogin.");
             }
           } else {
-            // no h relogin nem tarefa de subscrio em andamento, ento
-            // a subscrio foi removida do servidor
-            throw new OBJECT_NOT_EXIST("A subscrio foi removida do " +
-              "barramento por uma ao diferente de um logout ou relogin.");
+            // não há relogin nem tarefa de subscrição em andamento, então
+            // a subscrição foi removida do servidor
+            throw new OBJECT_NOT_EXIST("A subscrição foi removida do " +
+              "barramento por uma ação diferente de um logout ou relogin.");
           }
         }
         try {
-          // aguardo tarefa obter a subscrio
+          // aguardo tarefa obter a subscrição
           lock.wait();
         } catch (InterruptedException e) {
           logInterruptError(e);
@@ -723,7 +700,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
     synchronized (lock) {
       while (subs == null) {
         if (futureReLogin == null) {
-          logger.severe("No h login para realizar a chamada.");
+          logger.severe("Não há login para realizar a chamada.");
           throw new NO_PERMISSION(NoLoginCode.value, CompletionStatus
             .COMPLETED_NO);
         }
@@ -740,9 +717,9 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
   }
 
   private void logInterruptError(Exception e) {
-    logger.log(Level.SEVERE, "Interrupo no esperada ao refazer um login. " +
-      "Verifique se sua aplicao est tentando interromper a thread " +
-      "quando esta est executando cdigo alheio, como do SDK OpenBus " +
+    logger.log(Level.SEVERE, "Interrupção não esperada ao refazer um login. " +
+      "Verifique se sua aplicação está tentando interromper a thread " +
+      "quando esta está executando código alheio, como do SDK OpenBus " +
       "ou do JacORB.", e);
   }
 
@@ -789,8 +766,8 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
       context.currentConnection(conn);
       LoginObserverSubscription sub = registry.subscribeObserver(observer);
       // as chamadas remotas abaixo precisam ser feitas dentro do bloco
-      // synchronized, para no arriscar de perder algum pedido de watch
-      // login do usurio. Em caso de erro, a tarefa deixar estourar para
+      // synchronized, para não arriscar de perder algum pedido de watch
+      // login do usuário. Em caso de erro, a tarefa deixará estourar para
       // que o mutex seja liberado antes de uma nova tentativa.
       synchronized (lock) {
         if (watchedLogins != null) {
@@ -802,7 +779,7 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
               List<LoginSubscriptionImpl> subs = subs();
               if (subs != null) {
                 for (final LoginSubscriptionImpl loginSubscription : subs) {
-                  // arrisco criar vrias threads para no compartilhar subs
+                  // arrisco criar várias threads para não compartilhar subs
                   Thread t = new Thread(() -> {
                     loginSubscription.nonExistentLogins(e.loginIds);
                   });
@@ -810,28 +787,28 @@ class LoginRegistryImpl extends LoginObserverPOA implements LoginRegistry {
                 }
               }
             }
-            logger.log(Level.WARNING, "Alguns logins no puderam ser " +
-              "re-observados pois saram do barramento.", e);
+            logger.log(Level.WARNING, "Alguns logins não puderam ser " +
+              "re-observados pois saíram do barramento.", e);
             // atualmente com o catch de OBJECT_NOT_EXIST abaixo, se um
-            // administrador remover o meu observador, o mesmo no ser mais
-            // cadastrado e a API lanar OBJECT_NOT_EXIST para o usurio. O
-            // mesmo ter de fazer logout e login para cadastrar novamente.
-            // Uma outra opo seria deixar o erro estourar (como fao nos
+            // administrador remover o meu observador, o mesmo não será mais
+            // cadastrado e a API lançará OBJECT_NOT_EXIST para o usuário. O
+            // mesmo terá de fazer logout e login para cadastrar novamente.
+            // Uma outra opção seria deixar o erro estourar (como faço nos
             // outros erros), o que levaria a refazer o login automaticamente
-            // e refazer os observadores. O problema  que caso haja algo
-            // removendo o observador imediatamente aps ser cadastrado (como
-            // uma regra) esse efeito levaria a um loop e o usurio no teria
+            // e refazer os observadores. O problema é que caso haja algo
+            // removendo o observador imediatamente após ser cadastrado (como
+            // uma regra) esse efeito levaria a um loop e o usuário não teria
             // o login de volta nem teria como saber do erro.
           } catch (OBJECT_NOT_EXIST e) {
-            // significa que minha subscrio no existe mais. Caso isto tenha
-            // ocorrido por perda de login um novo relogin ser feito e tratar
+            // significa que minha subscrição não existe mais. Caso isto tenha
+            // ocorrido por perda de login um novo relogin será feito e tratará
             // do problema novamente. Caso a sub tenha sido removida por um
-            // admin, a sub local ser nula e se a aplicao tentar obt-la vai
-            // receber uma exceo OBJECT_NOT_EXIST lanada pelo mtodo sub().
+            // admin, a sub local será nula e se a aplicação tentar obtê-la vai
+            // receber uma exceção OBJECT_NOT_EXIST lançada pelo método sub().
             sub = null;
           } catch (Exception e) {
             // caso outro erro ocorra, tento como best-effort remover a
-            // subscrio e deixo a tarefa toda ser repetida.
+            // subscrição e deixo a tarefa toda ser repetida.
             try {
               sub.remove();
             } catch (Exception ignored) {}
@@ -0,0 +1,452 @@
+package tecgraf.openbus.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import tecgraf.openbus.ContextScope;
+import tecgraf.openbus.core.v2_1.OctetSeqHolder;
+import tecgraf.openbus.core.v2_1.services.ServiceFailure;
+import tecgraf.openbus.core.v2_1.services.access_control.InvalidLogins;
+import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
+
+/**
+ * Resolvedor das consultas ao registro de logins feitas pela cache de logins.
+ * <p>
+ * As consultas solicitadas durante uma pequena janela de tempo são acumuladas
+ * em um lote. A validade de todos os logins do lote é obtida em uma única
+ * chamada, que passa a observá-los através da inscrição da cache: o
+ * barramento indica quais logins não existem, e os demais são considerados
+ * válidos por um <i>lease</i> da conexão, já que a inscrição avisa a cache
+ * caso deixem de existir antes disso. Caso a inscrição não esteja disponível,
+ * a validade é consultada login a login. O registro não oferece uma operação
+ * para obter as informações de vários logins, e por isso essas consultas são
+ * feitas em paralelo, uma por login.
+ * <p>
+ * As consultas concorrentes sobre um mesmo login são unidas: quem chega
+ * durante uma consulta que já obtém o que ele precisa recebe o mesmo
+ * resultado, e quem chega antes do despacho do lote amplia a consulta
+ * acumulada. Cada resultado é guardado na cache antes de ser entregue aos
+ * interessados.
+ *
+ * @author Tecgraf
+ */
+final class LoginResolver {
+
+  /** O nome das <i>threads</i> onde as consultas são feitas. */
+  private static final String THREAD_NAME = "LoginResolverThread-";
+  /** Tempo em segundos que uma thread de consulta ociosa é mantida */
+  private static final long KEEP_ALIVE = 60;
+  /** Tempo em milisegundos durante o qual as consultas são acumuladas */
+  private static final long BATCH_WINDOW = 2;
+  /** Número máximo de consultas em um lote */
+  private static final int BATCH_LIMIT = 64;
+
+  /** A conexão */
+  private final ConnectionImpl conn;
+  /** A cache que recebe os resultados */
+  private final LoginCache cache;
+  /** Consulta mais recente acumulada ou em andamento por login */
+  private final Map<String, Request> pending;
+  /** Lote de consultas sendo acumulado, ou {@code null} caso não haja */
+  private List<Request> batch;
+  /** Executor das consultas */
+  private final ScheduledThreadPoolExecutor executor;
+  /** Instância de logging. */
+  private static final Logger logger = Logger.getLogger(LoginResolver.class
+    .getName());
+
+  /**
+   * Construtor.
+   *
+   * @param conn a conexão.
+   * @param cache a cache que recebe os resultados.
+   */
+  LoginResolver(ConnectionImpl conn, LoginCache cache) {
+    this.conn = conn;
+    this.cache = cache;
+    this.pending = new HashMap<>();
+    // tantas consultas simultâneas quanto as tarefas da conexão
+    this.executor =
+      new ScheduledThreadPoolExecutor(conn.localLogins().pool().poolSize,
+        task -> {
+          Thread thread = new Thread(task);
+          thread.setDaemon(true);
+          thread.setName(THREAD_NAME + thread.getId());
+          return thread;
+        });
+    this.executor.setKeepAliveTime(KEEP_ALIVE, TimeUnit.SECONDS);
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Solicita a consulta de um login. Caso já exista uma consulta acumulada ou
+   * em andamento para o mesmo login que atenda à solicitação, o mesmo
+   * resultado é compartilhado.
+   *
+   * @param loginId o login.
+   * @param validity indica se a validade do login deve ser obtida.
+   * @param info indica se as informações do login devem ser obtidas.
+   * @return o resultado futuro da consulta.
+   */
+  ListenableFuture<Resolution> resolve(String loginId, boolean validity,
+    boolean info) {
+    Request request;
+    List<Request> opened = null;
+    List<Request> full = null;
+    synchronized (pending) {
+      request = pending.get(loginId);
+      if (request != null) {
+        if ((!validity || request.validity) && (!info || request.info)) {
+          return request.future;
+        }
+        if (!request.dispatched) {
+          // consulta ainda acumulada no lote
+          request.validity |= validity;
+          request.info |= info;
+          return request.future;
+        }
+        validity |= request.validity;
+        info |= request.info;
+      }
+      request = new Request(loginId, validity, info);
+      pending.put(loginId, request);
+      if (batch == null) {
+        batch = new ArrayList<>();
+        opened = batch;
+      }
+      batch.add(request);
+      if (batch.size() >= BATCH_LIMIT) {
+        full = take(batch);
+      }
+    }
+    if (full != null) {
+      dispatch(full);
+    }
+    else if (opened != null) {
+      final List<Request> window = opened;
+      try {
+        executor.schedule(() -> flush(window), BATCH_WINDOW,
+          TimeUnit.MILLISECONDS);
+      }
+      catch (RejectedExecutionException e) {
+        flush(window);
+      }
+    }
+    return request.future;
+  }
+
+  /**
+   * Retira o lote que está sendo acumulado. Deve ser chamado com o bloqueio
+   * das consultas pendentes adquirido.
+   *
+   * @param requests o lote.
+   * @return o lote.
+   */
+  private List<Request> take(List<Request> requests) {
+    batch = null;
+    for (Request request : requests) {
+      request.dispatched = true;
+    }
+    return requests;
+  }
+
+  /**
+   * Despacha um lote ao fim da sua janela, caso ele ainda não tenha sido
+   * despachado por atingir o número máximo de consultas.
+   *
+   * @param window o lote aberto com a janela.
+   */
+  private void flush(List<Request> window) {
+    List<Request> requests;
+    synchronized (pending) {
+      if (batch != window) {
+        return;
+      }
+      requests = take(window);
+    }
+    run(requests);
+  }
+
+  /**
+   * Submete um lote ao executor, ou o realiza na thread corrente caso o
+   * executor não o aceite.
+   *
+   * @param requests o lote.
+   */
+  private void dispatch(final List<Request> requests) {
+    try {
+      executor.execute(() -> run(requests));
+    }
+    catch (RejectedExecutionException e) {
+      run(requests);
+    }
+  }
+
+  /**
+   * Realiza as consultas de um lote.
+   *
+   * @param requests o lote.
+   */
+  private void run(List<Request> requests) {
+    long time = System.currentTimeMillis();
+    List<String> loginIds = new ArrayList<>();
+    for (Request request : requests) {
+      if (request.validity) {
+        loginIds.add(request.loginId);
+      }
+    }
+    Validities validities;
+    try (ContextScope scope = conn.context().scope(conn)) {
+      validities = validities(loginIds);
+    }
+    catch (Throwable e) {
+      logger.log(Level.FINE, String.format(
+        "Falha ao consultar a validade dos logins (%s) no barramento.",
+        loginIds), e);
+      for (Request request : requests) {
+        finish(request, null, e);
+      }
+      return;
+    }
+    List<Request> infos = new ArrayList<>();
+    for (Request request : requests) {
+      Integer validity = validities.values.get(request.loginId);
+      boolean watched = validities.watched && validity != null;
+      if (request.info && (validity == null || validity > 0)) {
+        infos.add(request);
+      }
+      else {
+        finish(request, new Resolution(validity, time, null, null, null,
+          watched), null);
+      }
+    }
+    for (int i = 0; i < infos.size(); i++) {
+      final Request request = infos.get(i);
+      final Integer validity = validities.values.get(request.loginId);
+      final boolean watched = validities.watched && validity != null;
+      if (i == infos.size() - 1) {
+        info(request, validity, watched, time);
+        break;
+      }
+      try {
+        executor.execute(() -> info(request, validity, watched, time));
+      }
+      catch (RejectedExecutionException e) {
+        info(request, validity, watched, time);
+      }
+    }
+  }
+
+  /**
+   * Obtém a validade de um conjunto de logins. Os logins são observados
+   * através da inscrição da cache em uma única chamada, e os que o barramento
+   * não indica como inexistentes são válidos por um <i>lease</i> da conexão.
+   * Caso a inscrição não esteja disponível, a validade de cada login é
+   * consultada separadamente.
+   *
+   * @param loginIds os logins.
+   * @return a validade de cada login.
+   * @throws ServiceFailure
+   */
+  private Validities validities(List<String> loginIds) throws ServiceFailure {
+    Map<String, Integer> values = new HashMap<>();
+    if (loginIds.isEmpty()) {
+      return new Validities(values, false);
+    }
+    int lease = conn.lease();
+    if (lease > 0) {
+      try {
+        LoginSubscriptionImpl sub = cache.subscription();
+        if (sub != null) {
+          List<String> invalid = LoginCache.watchLogins(sub, loginIds);
+          for (String loginId : loginIds) {
+            values.put(loginId, lease);
+          }
+          for (String loginId : invalid) {
+            values.put(loginId, 0);
+          }
+          return new Validities(values, true);
+        }
+      }
+      catch (Exception e) {
+        logger.log(Level.FINE, String.format(
+          "Falha ao observar os logins (%s) da cache.", loginIds), e);
+      }
+    }
+    for (String loginId : loginIds) {
+      values.put(loginId, conn.logins().getLoginValidity(loginId));
+    }
+    return new Validities(values, false);
+  }
+
+  /**
+   * Obtém as informações de um login e conclui a sua consulta.
+   *
+   * @param request a consulta.
+   * @param validity validade do login, ou {@code null} caso não tenha sido
+   *        obtida.
+   * @param watched indica se o login passou a ser observado pela cache.
+   * @param time tempo de início da consulta.
+   */
+  private void info(Request request, Integer validity, boolean watched,
+    long time) {
+    String loginId = request.loginId;
+    try (ContextScope scope = conn.context().scope(conn)) {
+      String entity = null;
+      byte[] pubkey = null;
+      InvalidLogins invalid = null;
+      try {
+        OctetSeqHolder holder = new OctetSeqHolder();
+        LoginInfo info = conn.logins().getLoginInfo(loginId, holder);
+        entity = info.entity;
+        pubkey = holder.value;
+      }
+      catch (InvalidLogins e) {
+        invalid = e;
+      }
+      finish(request, new Resolution(validity, time, entity, pubkey, invalid,
+        watched), null);
+    }
+    catch (Throwable e) {
+      logger.log(Level.FINE, String.format(
+        "Falha ao consultar o login (%s) no barramento.", loginId), e);
+      finish(request, null, e);
+    }
+  }
+
+  /**
+   * Conclui uma consulta, guardando o resultado na cache antes de entregá-lo
+   * aos interessados.
+   *
+   * @param request a consulta.
+   * @param resolution o resultado, ou {@code null} em caso de falha.
+   * @param error a falha, ou {@code null} caso a consulta tenha sido
+   *        realizada.
+   */
+  private void finish(Request request, Resolution resolution, Throwable error) {
+    try {
+      if (error == null) {
+        cache.update(request.loginId, resolution);
+        request.future.set(resolution);
+      }
+      else {
+        request.future.setException(error);
+      }
+    }
+    catch (Throwable e) {
+      request.future.setException(e);
+    }
+    finally {
+      synchronized (pending) {
+        pending.remove(request.loginId, request);
+      }
+    }
+  }
+
+  /**
+   * Consulta pendente de um login. As indicações do que deve ser obtido
+   * podem ser ampliadas até o despacho do lote, sempre com o bloqueio das
+   * consultas pendentes adquirido.
+   *
+   * @author Tecgraf
+   */
+  private static final class Request {
+    /** O login */
+    final String loginId;
+    /** O resultado futuro */
+    final SettableFuture<Resolution> future;
+    /** Indica se a validade deve ser obtida */
+    boolean validity;
+    /** Indica se as informações devem ser obtidas */
+    boolean info;
+    /** Indica se o lote da consulta já foi despachado */
+    boolean dispatched;
+
+    /**
+     * Construtor.
+     *
+     * @param loginId o login.
+     * @param validity indica se a validade deve ser obtida.
+     * @param info indica se as informações devem ser obtidas.
+     */
+    Request(String loginId, boolean validity, boolean info) {
+      this.loginId = loginId;
+      this.future = SettableFuture.create();
+      this.validity = validity;
+      this.info = info;
+    }
+  }
+
+  /**
+   * Validade dos logins de um lote.
+   *
+   * @author Tecgraf
+   */
+  private static final class Validities {
+    /** Validade de cada login */
+    final Map<String, Integer> values;
+    /** Indica se os logins passaram a ser observados pela cache */
+    final boolean watched;
+
+    /**
+     * Construtor.
+     *
+     * @param values validade de cada login.
+     * @param watched indica se os logins passaram a ser observados.
+     */
+    Validities(Map<String, Integer> values, boolean watched) {
+      this.values = values;
+      this.watched = watched;
+    }
+  }
+
+  /**
+   * Resultado da consulta de um login.
+   *
+   * @author Tecgraf
+   */
+  static final class Resolution {
+    /** Validade do login, ou {@code null} caso não tenha sido obtida */
+    final Integer validity;
+    /** Tempo em milisegundos de quando a consulta foi iniciada */
+    final long time;
+    /** Nome da entidade, ou {@code null} caso não tenha sido obtido */
+    final String entity;
+    /** Chave pública da entidade */
+    final byte[] pubkey;
+    /** Exceção recebida ao obter as informações do login */
+    final InvalidLogins invalid;
+    /** Indica se o login passou a ser observado pela cache */
+    final boolean watched;
+
+    /**
+     * Construtor.
+     *
+     * @param validity validade do login.
+     * @param time tempo de início da consulta.
+     * @param entity nome da entidade.
+     * @param pubkey chave pública da entidade.
+     * @param invalid exceção recebida ao obter as informações do login.
+     * @param watched indica se o login passou a ser observado pela cache.
+     */
+    Resolution(Integer validity, long time, String entity, byte[] pubkey,
+      InvalidLogins invalid, boolean watched) {
+      this.validity = validity;
+      this.time = time;
+      this.entity = entity;
+      this.pubkey = pubkey;
+      this.invalid = invalid;
+      this.watched = watched;
+    }
+  }
+}
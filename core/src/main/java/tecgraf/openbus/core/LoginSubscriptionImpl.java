@@ -11,7 +11,7 @@ import tecgraf.openbus.LoginObserver;
 import tecgraf.openbus.LoginSubscription;
 
 /**
- * Representao local de uma inscrio de observao de login
+ * Representação local de uma inscrição de observação de login
  * 
  * @author Tecgraf
  */
@@ -20,7 +20,7 @@ class LoginSubscriptionImpl implements LoginSubscription, LoginObserver {
   private final LoginRegistryImpl registry;
   /** Observador */
   private final LoginObserver observer;
-  /** Lista de logins observveis pelo observador */
+  /** Lista de logins observáveis pelo observador */
   private final List<String> logins = new ArrayList<>();
   private final Object lock = new Object();
 
@@ -41,7 +41,9 @@ class LoginSubscriptionImpl implements LoginSubscription, LoginObserver {
     boolean ret = registry.watchLogin(loginId);
     if (ret) {
       synchronized (lock) {
-        logins.add(loginId);
+        if (!logins.contains(loginId)) {
+          logins.add(loginId);
+        }
       }
     }
     return ret;
@@ -60,7 +62,12 @@ class LoginSubscriptionImpl implements LoginSubscription, LoginObserver {
     ServiceFailure {
     registry.watchLogins(loginIds);
     synchronized (lock) {
-      logins.addAll(loginIds);
+      // o barramento observa cada login uma única vez
+      for (String loginId : loginIds) {
+        if (!logins.contains(loginId)) {
+          logins.add(loginId);
+        }
+      }
     }
   }
 
@@ -74,12 +81,12 @@ class LoginSubscriptionImpl implements LoginSubscription, LoginObserver {
 
   @Override
   public List<LoginInfo> watchedLogins() {
-    // watched  uma cpia no-compartilhada
+    // watched é uma cópia não-compartilhada
     List<LoginInfo> watched = registry.getWatchedLogins();
     List<LoginInfo> ret = new ArrayList<>();
-    // aqui fiquei na dvida se seria melhor colocar o synchronized dentro do
+    // aqui fiquei na dúvida se seria melhor colocar o synchronized dentro do
     // for. Deixei fora pois me parece que tipicamente o processamento dessa
-    // lista ser mais rpido do que realizar a sincronizao diversas vezes.
+    // lista será mais rápido do que realizar a sincronização diversas vezes.
     synchronized (lock) {
       for (LoginInfo info : watched) {
         if (logins.contains(info.id)) {
@@ -130,6 +137,12 @@ class LoginSubscriptionImpl implements LoginSubscription, LoginObserver {
     observer().nonExistentLogins(logins);
   }
 
+  protected boolean isWatching(String loginId) {
+    synchronized (lock) {
+      return logins.contains(loginId);
+    }
+  }
+
   protected List<String> loginsCopy() {
     synchronized (lock) {
       return new ArrayList<>(logins);
@@ -9,7 +9,7 @@ import org.omg.CORBA.ORB;
 import org.omg.CORBA.ORBPackage.InvalidName;
 
 /**
- * Classe responsvel por inicializar o {@link ORB}
+ * Classe responsável por inicializar o {@link ORB}
  * 
  * @author Tecgraf
  */
@@ -18,7 +18,7 @@ final class ORBBuilder {
   private final String[] args;
   /** Propriedades */
   private final Properties props;
-  /** Instncia de logging */
+  /** Instância de logging */
   private static final Logger logger = Logger.getLogger(ORBBuilder.class
     .getName());
 
@@ -56,20 +56,20 @@ final class ORBBuilder {
   public ORBBuilder(String[] args, Properties props) {
     this.args = args;
     this.props = new Properties();
-    // propriedades padres mas no obrigatrias (podem ser sobrescritas)
+    // propriedades padrões mas não obrigatórias (podem ser sobrescritas)
     this.props.put("jacorb.connection.client.disconnect_after_systemexception",
       false);
     if (props != null) {
       this.props.putAll(props);
     }
-    // propriedade obrigatria
+    // propriedade obrigatória
     this.props.setProperty("org.omg.CORBA.ORBClass", "org.jacorb.orb.ORB");
   }
 
   /**
-   * Configura as informaes do inicializador do ORB.
+   * Configura as informações do inicializador do ORB.
    * 
-   * @param initializer informaes do inicializador.
+   * @param initializer informações do inicializador.
    */
   public void addInitializer(ORBInitializerInfo initializer) {
     this.props.put("org.omg.PortableInterceptor.ORBInitializerClass."
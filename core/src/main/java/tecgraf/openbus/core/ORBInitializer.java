@@ -15,171 +15,171 @@ import tecgraf.openbus.core.v2_1.services.access_control.UnverifiedLoginCode;
 /**
  * Inicializador de {@link ORB}s para acesso a barramentos OpenBus.
  * <p>
- * Esse objeto  utilizado para obteno de {@link ORB}s CORBA a ser utilizados
- * exclusimamente para chamadas atravs de barramentos OpenBus.
+ * Esse objeto é utilizado para obtenção de {@link ORB}s CORBA a ser utilizados
+ * exclusimamente para chamadas através de barramentos OpenBus.
  * 
  * @author Tecgraf
  */
 public class ORBInitializer {
 
   /**
-   * Inicializa um {@link ORB} utilizado exclusivamente para chamadas atravs de
+   * Inicializa um {@link ORB} utilizado exclusivamente para chamadas através de
    * barramentos OpenBus.
    * <p>
-   * Inicializa um {@link ORB} utilizado exclusivamente para chamadas atravs de
-   * barramentos OpenBus, ou seja, esse ORB no pode ser utilizado para fazer
-   * chamadas CORBA ordinrias sem o controle de acesso do OpenBus que permite
-   * identificao da origem das chamadas. Esse controle de acesso  feito
-   * atravs conexes, que so obtidas e manipuladas atravs de um
+   * Inicializa um {@link ORB} utilizado exclusivamente para chamadas através de
+   * barramentos OpenBus, ou seja, esse ORB não pode ser utilizado para fazer
+   * chamadas CORBA ordinárias sem o controle de acesso do OpenBus que permite
+   * identificação da origem das chamadas. Esse controle de acesso é feito
+   * através conexões, que são obtidas e manipuladas através de um
    * {@link OpenBusContext}. Cada ORB possui um OpenBusContext associado, que
-   * pode ser obitido atravs do comando:
+   * pode ser obitido através do comando:
    * {@link ORB#resolve_initial_references(String)
    * resolve_initial_reference("OpenBusContext")}
    * <p>
-   * O ORB  inicializado da mesma forma feita pela operao {@link ORB#init}
-   * definida pelo padro CORBA. Em particular, algumas implementaes de CORBA
-   * no permitem inicializao de mltiplos ORBs num mesmo processo.
+   * O ORB é inicializado da mesma forma feita pela operação {@link ORB#init}
+   * definida pelo padrão CORBA. Em particular, algumas implementações de CORBA
+   * não permitem inicialização de múltiplos ORBs num mesmo processo.
    * <p>
-   * Chamadas realizadas e recebidas atravs deste ORB so interceptadas pela
-   * biblioteca de acesso do OpenBus e podem lanar excees de sistema de CORBA
-   * definidas pelo OpenBus. A seguir so apresentadas essas excees:
+   * Chamadas realizadas e recebidas através deste ORB são interceptadas pela
+   * biblioteca de acesso do OpenBus e podem lançar exceções de sistema de CORBA
+   * definidas pelo OpenBus. A seguir são apresentadas essas exceções:
    * <ul>
-   * <li>{@link NO_PERMISSION}[{@link NoLoginCode}]: Nenhuma conexo "Requester"
-   * com login vlido est associada ao contexto atual, ou seja, a conexo
-   * "Requester" corrente est desautenticada.
+   * <li>{@link NO_PERMISSION}[{@link NoLoginCode}]: Nenhuma conexão "Requester"
+   * com login válido está associada ao contexto atual, ou seja, a conexão
+   * "Requester" corrente está desautenticada.
    * <li>{@link NO_PERMISSION}[{@link InvalidChainCode}]: A cadeia de chamadas
-   * associada ao contexto atual no  compatvel com o login da conexo
-   * "Requester" desse mesmo contexto. Isso ocorre pois no  possvel fazer
-   * chamadas dentro de uma cadeia recebida por uma conexo com um login
+   * associada ao contexto atual não é compatível com o login da conexão
+   * "Requester" desse mesmo contexto. Isso ocorre pois não é possível fazer
+   * chamadas dentro de uma cadeia recebida por uma conexão com um login
    * diferente.
    * <li>{@link NO_PERMISSION}[{@link UnknownBusCode}]: O ORB remoto que recebeu
-   * a chamada indicou que no possui uma conexo com login vlido no barramento
-   * atravs do qual a chamada foi realizada, portanto no  capaz de validar a
+   * a chamada indicou que não possui uma conexão com login válido no barramento
+   * através do qual a chamada foi realizada, portanto não é capaz de validar a
    * chamada para que esta seja processada.
    * <li>{@link NO_PERMISSION}[{@link UnverifiedLoginCode}]: O ORB remoto que
-   * recebeu a chamada indicou que no no  capaz de validar a chamada para que
+   * recebeu a chamada indicou que não não é capaz de validar a chamada para que
    * esta seja processada. Isso indica que o lado remoto tem problemas de acesso
-   * aos servios ncleo do barramento.
+   * aos serviços núcleo do barramento.
    * <li>{@link NO_PERMISSION}[{@link InvalidRemoteCode}]: O ORB remoto que
-   * recebeu a chamada no est se comportando de acordo com o protocolo OpenBus
-   * 2.0, o que indica que est mal implementado e tipicamente representa um bug
-   * no servidor sendo chamado ou um erro de implantao do barramento.
+   * recebeu a chamada não está se comportando de acordo com o protocolo OpenBus
+   * 2.0, o que indica que está mal implementado e tipicamente representa um bug
+   * no servidor sendo chamado ou um erro de implantação do barramento.
    * </ul>
    * 
-   * @return O {@link ORB} inicializado, similar  operao {@link ORB#init}
-   *         definida pelo padro CORBA.
+   * @return O {@link ORB} inicializado, similar à operação {@link ORB#init}
+   *         definida pelo padrão CORBA.
    */
   public static ORB initORB() {
     return ORBInitializer.initORB(null, null);
   }
 
   /**
-   * Inicializa um {@link ORB} utilizado exclusivamente para chamadas atravs de
+   * Inicializa um {@link ORB} utilizado exclusivamente para chamadas através de
    * barramentos OpenBus.
    * <p>
-   * Inicializa um {@link ORB} utilizado exclusivamente para chamadas atravs de
-   * barramentos OpenBus, ou seja, esse ORB no pode ser utilizado para fazer
-   * chamadas CORBA ordinrias sem o controle de acesso do OpenBus que permite
-   * identificao da origem das chamadas. Esse controle de acesso  feito
-   * atravs conexes, que so obtidas e manipuladas atravs de um
+   * Inicializa um {@link ORB} utilizado exclusivamente para chamadas através de
+   * barramentos OpenBus, ou seja, esse ORB não pode ser utilizado para fazer
+   * chamadas CORBA ordinárias sem o controle de acesso do OpenBus que permite
+   * identificação da origem das chamadas. Esse controle de acesso é feito
+   * através conexões, que são obtidas e manipuladas através de um
    * {@link OpenBusContext}. Cada ORB possui um OpenBusContext associado, que
-   * pode ser obitido atravs do comando:
+   * pode ser obitido através do comando:
    * {@link ORB#resolve_initial_references(String)
    * resolve_initial_reference("OpenBusContext")}
    * <p>
-   * O ORB  inicializado da mesma forma feita pela operao {@link ORB#init}
-   * definida pelo padro CORBA. Em particular, algumas implementaes de CORBA
-   * no permitem inicializao de mltiplos ORBs num mesmo processo.
+   * O ORB é inicializado da mesma forma feita pela operação {@link ORB#init}
+   * definida pelo padrão CORBA. Em particular, algumas implementações de CORBA
+   * não permitem inicialização de múltiplos ORBs num mesmo processo.
    * <p>
-   * Chamadas realizadas e recebidas atravs deste ORB so interceptadas pela
-   * biblioteca de acesso do OpenBus e podem lanar excees de sistema de CORBA
-   * definidas pelo OpenBus. A seguir so apresentadas essas excees:
+   * Chamadas realizadas e recebidas através deste ORB são interceptadas pela
+   * biblioteca de acesso do OpenBus e podem lançar exceções de sistema de CORBA
+   * definidas pelo OpenBus. A seguir são apresentadas essas exceções:
    * <ul>
-   * <li>{@link NO_PERMISSION}[{@link NoLoginCode}]: Nenhuma conexo "Requester"
-   * com login vlido est associada ao contexto atual, ou seja, a conexo
-   * "Requester" corrente est desautenticada.
+   * <li>{@link NO_PERMISSION}[{@link NoLoginCode}]: Nenhuma conexão "Requester"
+   * com login válido está associada ao contexto atual, ou seja, a conexão
+   * "Requester" corrente está desautenticada.
    * <li>{@link NO_PERMISSION}[{@link InvalidChainCode}]: A cadeia de chamadas
-   * associada ao contexto atual no  compatvel com o login da conexo
-   * "Requester" desse mesmo contexto. Isso ocorre pois no  possvel fazer
-   * chamadas dentro de uma cadeia recebida por uma conexo com um login
+   * associada ao contexto atual não é compatível com o login da conexão
+   * "Requester" desse mesmo contexto. Isso ocorre pois não é possível fazer
+   * chamadas dentro de uma cadeia recebida por uma conexão com um login
    * diferente.
    * <li>{@link NO_PERMISSION}[{@link UnknownBusCode}]: O ORB remoto que recebeu
-   * a chamada indicou que no possui uma conexo com login vlido no barramento
-   * atravs do qual a chamada foi realizada, portanto no  capaz de validar a
+   * a chamada indicou que não possui uma conexão com login válido no barramento
+   * através do qual a chamada foi realizada, portanto não é capaz de validar a
    * chamada para que esta seja processada.
    * <li>{@link NO_PERMISSION}[{@link UnverifiedLoginCode}]: O ORB remoto que
-   * recebeu a chamada indicou que no no  capaz de validar a chamada para que
-   * esta seja processada por alguma falha ao acessar os servios ncleo do
+   * recebeu a chamada indicou que não não é capaz de validar a chamada para que
+   * esta seja processada por alguma falha ao acessar os serviços núcleo do
    * barramento. Isso tipicamente indica que o lado remoto tem problemas de
-   * acesso aos servios ncleo do barramento.
+   * acesso aos serviços núcleo do barramento.
    * <li>{@link NO_PERMISSION}[{@link InvalidRemoteCode}]: O ORB remoto que
-   * recebeu a chamada no est se comportando de acordo com o protocolo OpenBus
-   * 2.0, o que indica que est mal implementado e tipicamente representa um bug
-   * no servidor sendo chamado ou um erro de implantao do barramento.
+   * recebeu a chamada não está se comportando de acordo com o protocolo OpenBus
+   * 2.0, o que indica que está mal implementado e tipicamente representa um bug
+   * no servidor sendo chamado ou um erro de implantação do barramento.
    * </ul>
    * 
-   * @param args Parmetros usados na inicializao do {@link ORB}, similar 
-   *        operao {@link ORB#init} definida pelo padro CORBA.
+   * @param args Parâmetros usados na inicialização do {@link ORB}, similar à
+   *        operação {@link ORB#init} definida pelo padrão CORBA.
    * 
-   * @return O {@link ORB} inicializado, similar  operao {@link ORB#init}
-   *         definida pelo padro CORBA.
+   * @return O {@link ORB} inicializado, similar à operação {@link ORB#init}
+   *         definida pelo padrão CORBA.
    */
   public static ORB initORB(String[] args) {
     return ORBInitializer.initORB(args, null);
   }
 
   /**
-   * Inicializa um {@link ORB} utilizado exclusivamente para chamadas atravs de
+   * Inicializa um {@link ORB} utilizado exclusivamente para chamadas através de
    * barramentos OpenBus.
    * <p>
-   * Inicializa um {@link ORB} utilizado exclusivamente para chamadas atravs de
-   * barramentos OpenBus, ou seja, esse ORB no pode ser utilizado para fazer
-   * chamadas CORBA ordinrias sem o controle de acesso do OpenBus que permite
-   * identificao da origem das chamadas. Esse controle de acesso  feito
-   * atravs conexes, que so obtidas e manipuladas atravs de um
+   * Inicializa um {@link ORB} utilizado exclusivamente para chamadas através de
+   * barramentos OpenBus, ou seja, esse ORB não pode ser utilizado para fazer
+   * chamadas CORBA ordinárias sem o controle de acesso do OpenBus que permite
+   * identificação da origem das chamadas. Esse controle de acesso é feito
+   * através conexões, que são obtidas e manipuladas através de um
    * {@link OpenBusContext}. Cada ORB possui um OpenBusContext associado, que
-   * pode ser obitido atravs do comando:
+   * pode ser obitido através do comando:
    * {@link ORB#resolve_initial_references(String)
    * resolve_initial_reference("OpenBusContext")}
    * <p>
-   * O ORB  inicializado da mesma forma feita pela operao {@link ORB#init}
-   * definida pelo padro CORBA. Em particular, algumas implementaes de CORBA
-   * no permitem inicializao de mltiplos ORBs num mesmo processo.
+   * O ORB é inicializado da mesma forma feita pela operação {@link ORB#init}
+   * definida pelo padrão CORBA. Em particular, algumas implementações de CORBA
+   * não permitem inicialização de múltiplos ORBs num mesmo processo.
    * <p>
-   * Chamadas realizadas e recebidas atravs deste ORB so interceptadas pela
-   * biblioteca de acesso do OpenBus e podem lanar excees de sistema de CORBA
-   * definidas pelo OpenBus. A seguir so apresentadas essas excees:
+   * Chamadas realizadas e recebidas através deste ORB são interceptadas pela
+   * biblioteca de acesso do OpenBus e podem lançar exceções de sistema de CORBA
+   * definidas pelo OpenBus. A seguir são apresentadas essas exceções:
    * <ul>
-   * <li>{@link NO_PERMISSION}[{@link NoLoginCode}]: Nenhuma conexo "Requester"
-   * com login vlido est associada ao contexto atual, ou seja, a conexo
-   * "Requester" corrente est desautenticada.
+   * <li>{@link NO_PERMISSION}[{@link NoLoginCode}]: Nenhuma conexão "Requester"
+   * com login válido está associada ao contexto atual, ou seja, a conexão
+   * "Requester" corrente está desautenticada.
    * <li>{@link NO_PERMISSION}[{@link InvalidChainCode}]: A cadeia de chamadas
-   * associada ao contexto atual no  compatvel com o login da conexo
-   * "Requester" desse mesmo contexto. Isso ocorre pois no  possvel fazer
-   * chamadas dentro de uma cadeia recebida por uma conexo com um login
+   * associada ao contexto atual não é compatível com o login da conexão
+   * "Requester" desse mesmo contexto. Isso ocorre pois não é possível fazer
+   * chamadas dentro de uma cadeia recebida por uma conexão com um login
    * diferente.
    * <li>{@link NO_PERMISSION}[{@link UnknownBusCode}]: O ORB remoto que recebeu
-   * a chamada indicou que no possui uma conexo com login vlido no barramento
-   * atravs do qual a chamada foi realizada, portanto no  capaz de validar a
+   * a chamada indicou que não possui uma conexão com login válido no barramento
+   * através do qual a chamada foi realizada, portanto não é capaz de validar a
    * chamada para que esta seja processada.
    * <li>{@link NO_PERMISSION}[{@link UnverifiedLoginCode}]: O ORB remoto que
-   * recebeu a chamada indicou que no no  capaz de validar a chamada para que
-   * esta seja processada por alguma falha ao acessar os servios ncleo do
+   * recebeu a chamada indicou que não não é capaz de validar a chamada para que
+   * esta seja processada por alguma falha ao acessar os serviços núcleo do
    * barramento. Isso tipicamente indica que o lado remoto tem problemas de
-   * acesso aos servios ncleo do barramento.
+   * acesso aos serviços núcleo do barramento.
    * <li>{@link NO_PERMISSION}[{@link InvalidRemoteCode}]: O ORB remoto que
-   * recebeu a chamada no est se comportando de acordo com o protocolo OpenBus
-   * 2.0, o que indica que est mal implementado e tipicamente representa um bug
-   * no servidor sendo chamado ou um erro de implantao do barramento.
+   * recebeu a chamada não está se comportando de acordo com o protocolo OpenBus
+   * 2.0, o que indica que está mal implementado e tipicamente representa um bug
+   * no servidor sendo chamado ou um erro de implantação do barramento.
    * </ul>
    * 
-   * @param args Parmetros usados na inicializao do {@link ORB}, similar 
-   *        operao {@link ORB#init} definida pelo padro CORBA.
-   * @param props Propriedades usados na inicializao do {@link ORB}, similar 
-   *        operao {@link ORB#init} definida pelo padro CORBA.
+   * @param args Parâmetros usados na inicialização do {@link ORB}, similar à
+   *        operação {@link ORB#init} definida pelo padrão CORBA.
+   * @param props Propriedades usados na inicialização do {@link ORB}, similar à
+   *        operação {@link ORB#init} definida pelo padrão CORBA.
    *
-   * @return O {@link ORB} inicializado, similar  operao {@link ORB#init}
-   *         definida pelo padro CORBA.
+   * @return O {@link ORB} inicializado, similar à operação {@link ORB#init}
+   *         definida pelo padrão CORBA.
    */
   public static ORB initORB(String[] args, Properties props) {
     ORB orb = createORB(args, props);
@@ -4,8 +4,8 @@ import org.omg.CORBA.ORB;
 import org.omg.PortableInterceptor.ORBInitializer;
 
 /**
- * Classe que encapsula as informaes de nome da classe e identificador da
- * classe responsvel por inicializar o {@link ORB}.
+ * Classe que encapsula as informações de nome da classe e identificador da
+ * classe responsável por inicializar o {@link ORB}.
  * 
  * @author Tecgraf
  */
@@ -23,7 +23,7 @@ final class ORBInitializerInfo {
   /**
    * Construtor.
    * 
-   * @param clazz a classe responsvel por inicializar o {@link ORB}
+   * @param clazz a classe responsável por inicializar o {@link ORB}
    */
   public ORBInitializerInfo(Class<? extends ORBInitializer> clazz) {
     this(clazz, clazz.getName());
@@ -32,13 +32,13 @@ final class ORBInitializerInfo {
   /**
    * Construtor.
    * 
-   * @param clazz a classe responsvel por inicializar o {@link ORB}
+   * @param clazz a classe responsável por inicializar o {@link ORB}
    * @param id identificador do inicializador do {@link ORB}
    */
   public ORBInitializerInfo(Class<? extends ORBInitializer> clazz, String id) {
     if (id == null) {
       throw new IllegalArgumentException(
-        "O identificador do inicializador do ORB no pode ser nulo");
+        "O identificador do inicializador do ORB não pode ser nulo");
     }
     this.className = clazz.getName();
     this.id = id;
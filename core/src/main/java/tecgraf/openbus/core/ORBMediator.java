@@ -1,11 +1,13 @@
 package tecgraf.openbus.core;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.omg.CORBA.LocalObject;
 import org.omg.CORBA.ORB;
 import org.omg.IOP.Codec;
 
 /**
- * Classe utilizada para guardar informaes teis para os interceptadores.
+ * Classe utilizada para guardar informações úteis para os interceptadores.
  * 
  * @author Tecgraf
  */
@@ -13,8 +15,13 @@ final class ORBMediator extends LocalObject {
   /** Identificador do ORB Mediator */
   public static final String INITIAL_REFERENCE_ID = "openbus.ORBMediator";
 
-  /** Fbrica de codificadores. */
+  /** Tamanho máximo da cache de cadeias decodificadas */
+  private static final int DECODED_CHAINS_SIZE = 256;
+
+  /** Fábrica de codificadores. */
   private final Codec codec;
+  /** Cache de cadeias decodificadas */
+  private final DecodedChainCache decodedChains;
   /** Identificador do slot da cadeia assinada */
   private final int SIGNED_CHAIN_SLOT_ID;
   /** Identificador do slot de joined chain */
@@ -26,9 +33,9 @@ final class ORBMediator extends LocalObject {
   /** o multiplexador */
   private final OpenBusContextImpl connections;
 
-  /** Contador gerador de IDs nicos */
-  private int counter = 0;
-  /** Tamanho mximo do contador */
+  /** Contador gerador de IDs únicos */
+  private final AtomicInteger counter = new AtomicInteger();
+  /** Tamanho máximo do contador */
   private static final int MAX_COUNTER = 0x0000ffff;
 
   /**
@@ -36,23 +43,23 @@ final class ORBMediator extends LocalObject {
    * 
    * @return o identificador gerado.
    */
-  public synchronized int getUniqueId() {
-    counter = (counter + 1) & MAX_COUNTER;
-    return counter;
+  public int getUniqueId() {
+    return counter.incrementAndGet() & MAX_COUNTER;
   }
 
   /**
    * Construtor.
    * 
-   * @param codec a fbrica de codificadores
+   * @param codec a fábrica de codificadores
    * @param signedChainSlotId identificador de slot.
    * @param chainSlotId identificaor de slot.
    * @param requestingConnSlotId identificador de slot.
-   * @param connections gerente de conexes associado.
+   * @param connections gerente de conexões associado.
    */
   ORBMediator(Codec codec, int signedChainSlotId, int chainSlotId,
     int requestingConnSlotId, OpenBusContextImpl connections) {
     this.codec = codec;
+    this.decodedChains = new DecodedChainCache(codec, DECODED_CHAINS_SIZE);
     this.SIGNED_CHAIN_SLOT_ID = signedChainSlotId;
     this.JOINED_CHAIN_SLOT_ID = chainSlotId;
     this.REQUEST_ID_SLOT_ID = requestingConnSlotId;
@@ -78,14 +85,23 @@ final class ORBMediator extends LocalObject {
   }
 
   /**
-   * Recupera a fbrica de codificadores.
+   * Recupera a fábrica de codificadores.
    * 
-   * @return a fbrica de codificadores.
+   * @return a fábrica de codificadores.
    */
   Codec getCodec() {
     return this.codec;
   }
 
+  /**
+   * Recupera a cache de cadeias decodificadas.
+   * 
+   * @return a cache de cadeias decodificadas.
+   */
+  DecodedChainCache getDecodedChains() {
+    return this.decodedChains;
+  }
+
   /**
    * Recupera o identificador do slot onde se guarda a cadeia assinada associada
    * ao request recebido. Utilizado pelo lado servidor.
@@ -98,7 +114,7 @@ final class ORBMediator extends LocalObject {
 
   /**
    * Recupera o indentificador do slot onde se guarda a cadeia assinada que a
-   * requisio de sada esta "joined". Utilizado pelo lado cliente.
+   * requisição de saída esta "joined". Utilizado pelo lado cliente.
    * 
    * @return identificador do slot
    */
@@ -107,7 +123,7 @@ final class ORBMediator extends LocalObject {
   }
 
   /**
-   * Recupera o identificador do slot onde se informa qual requisio associada.
+   * Recupera o identificador do slot onde se informa qual requisição associada.
    * 
    * @return identificador do slot
    */
@@ -116,9 +132,9 @@ final class ORBMediator extends LocalObject {
   }
 
   /**
-   * Recupera o gerente de conexes do ORB.
+   * Recupera o gerente de conexões do ORB.
    * 
-   * @return o gerente de conexes.
+   * @return o gerente de conexões.
    */
   OpenBusContextImpl getContext() {
     return connections;
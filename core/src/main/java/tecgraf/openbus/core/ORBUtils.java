@@ -8,14 +8,14 @@ import org.omg.PortableInterceptor.CurrentHelper;
 import tecgraf.openbus.exception.OpenBusInternalException;
 
 /**
- * Classe utilitria de uso do ORB.
+ * Classe utilitária de uso do ORB.
  * 
  * @author Tecgraf
  */
 class ORBUtils {
 
   /**
-   * Recupera o {@link Current} da thread em execuo do ORB associado.
+   * Recupera o {@link Current} da thread em execução do ORB associado.
    * 
    * @param orb o orb utilizado.
    * @return o {@link Current}.
@@ -53,10 +53,10 @@ class ORBUtils {
   }
 
   /**
-   * Recupera o gerente de conexes do OpenBus associado ao ORB.
+   * Recupera o gerente de conexões do OpenBus associado ao ORB.
    * 
    * @param orb o ORB utilizado.
-   * @return o gerente de conexes.
+   * @return o gerente de conexões.
    */
   static OpenBusContextImpl getOpenBusContext(ORB orb) {
     org.omg.CORBA.Object obj;
@@ -34,11 +34,11 @@ class OfferObserverImpl extends OfferObserverPOA {
     if (remote.offer() == null) {
       remote.offer(offer);
     }
-    // define subscrio como cancelada antes de chamar observer.removed()
-    // (cdigo da aplicao, pode demorar) apenas como dica, para no
-    // arriscar de a aplicao demorar a perceber que isso ocorreu atravs
-    // do mtodo subscribed(). A chamada registry.onOfferRemove posterior
-    // j cuidaria de cancelar e remover a subscrio.
+    // define subscrição como cancelada antes de chamar observer.removed()
+    // (código da aplicação, pode demorar) apenas como dica, para não
+    // arriscar de a aplicação demorar a perceber que isso ocorreu através
+    // do método subscribed(). A chamada registry.onOfferRemove posterior
+    // já cuidaria de cancelar e remover a subscrição.
     registry.onOfferRemove(remote, true);
     Thread t = new Thread(() -> {
       observer.removed(remote);
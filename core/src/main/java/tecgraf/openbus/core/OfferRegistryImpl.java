@@ -12,6 +12,7 @@ import org.omg.PortableServer.POAPackage.ServantNotActive;
 import org.omg.PortableServer.POAPackage.WrongPolicy;
 import scs.core.IComponent;
 import tecgraf.openbus.Connection;
+import tecgraf.openbus.ContextScope;
 import tecgraf.openbus.LocalOffer;
 import tecgraf.openbus.OfferObserver;
 import tecgraf.openbus.OfferRegistry;
@@ -48,9 +49,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-// No basta ser um OfferRegistryObserver pois preciso ter vrios
-// observadores, no apenas um como no caso do login, pois no h
-// multiplexao de observadores.  necessrio ter um array de observadores
+// Não basta ser um OfferRegistryObserver pois preciso ter vários
+// observadores, não apenas um como no caso do login, pois não há
+// multiplexação de observadores. É necessário ter um array de observadores
 // de ofertas e receber o aviso desse observador quando a oferta for registrada.
 class OfferRegistryImpl implements OfferRegistry {
   private final Object lock = new Object();
@@ -59,9 +60,9 @@ class OfferRegistryImpl implements OfferRegistry {
   private final POA poa;
   private tecgraf.openbus.core.v2_1.services.offer_registry.OfferRegistry
     registry;
-  /** Mecanismo de execuo de tarefas com suporte a retentativas */
+  /** Mecanismo de execução de tarefas com suporte a retentativas */
   private final RetryTaskPool pool;
-  /** Guarda as ofertas locais mantidas nas chaves. Cada valor s ser diferente
+  /** Guarda as ofertas locais mantidas nas chaves. Cada valor só será diferente
    *  de null se houver um registro em andamento. */
   private Map<LocalOfferImpl, ListenableFuture<RemoteOfferImpl>>
     maintainedOffers;
@@ -118,9 +119,7 @@ class OfferRegistryImpl implements OfferRegistry {
     if (registry == null) {
       return new ArrayList<>();
     }
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       ServiceOfferDesc[] descs = registry.findServices(convertMapToProperties
         (properties));
       List<RemoteOffer> offers = new ArrayList<>(descs.length);
@@ -128,8 +127,6 @@ class OfferRegistryImpl implements OfferRegistry {
         offers.add(new RemoteOfferImpl(this, desc));
       }
       return offers;
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
@@ -140,17 +137,13 @@ class OfferRegistryImpl implements OfferRegistry {
     if (registry == null) {
       return new ArrayList<>();
     }
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       ServiceOfferDesc[] descs = registry.getAllServices();
       List<RemoteOffer> offers = new ArrayList<>(descs.length);
       for (ServiceOfferDesc desc : descs) {
         offers.add(new RemoteOfferImpl(this, desc));
       }
       return offers;
-    } finally {
-      context.currentConnection(prev);
     }
   }
 
@@ -183,28 +176,28 @@ class OfferRegistryImpl implements OfferRegistry {
       if (maintainedOffers == null) {
         return;
       }
-      // o boolean abaixo  um atomic boolean somente para ser um objeto e
-      // ser possvel declarar final para o closure do FutureCallback.
+      // o boolean abaixo é um atomic boolean somente para ser um objeto e
+      // ser possível declarar final para o closure do FutureCallback.
       final AtomicBoolean needRemove = new AtomicBoolean(false);
       ListenableFuture<RemoteOfferImpl> future = maintainedOffers.get(offer);
       if (future != null) {
         if (!future.cancel(false)) {
-          // o registro j havia terminado mas entrou aqui no cancelamento
+          // o registro já havia terminado mas entrou aqui no cancelamento
           // antes de registrar o sucesso da chamada
           needRemove.set(true);
         } else {
-          // como o cancel no interrompe a tarefa, ela pode conseguir terminar.
+          // como o cancel não interrompe a tarefa, ela pode conseguir terminar.
           Futures.addCallback(future, new FutureCallback<RemoteOfferImpl>() {
               @Override
               public void onFailure(Throwable ex) {
-                // a tarefa foi cancelada corretamente ou falhou, ento no 
-                // necessrio fazer nada.
+                // a tarefa foi cancelada corretamente ou falhou, então não é
+                // necessário fazer nada.
               }
 
               @Override
               public void onSuccess(RemoteOfferImpl remote) {
                 try {
-                  // a tarefa no foi cancelada a tempo. Cancelar manualmente.
+                  // a tarefa não foi cancelada a tempo. Cancelar manualmente.
                   needRemove.set(true);
                 } catch (Throwable e) {
                   logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
@@ -215,19 +208,19 @@ class OfferRegistryImpl implements OfferRegistry {
               }
             },
             pool.pool());
-          // preciso aguardar a finalizao
+          // preciso aguardar a finalização
           try {
             future.get();
           } catch (Exception ignored) {}
         }
       } else {
-        // um registro j havia sido feito ou no havia sido disparado ainda
+        // um registro já havia sido feito ou não havia sido disparado ainda
         if (maintainedOffers.containsKey(offer)) {
           needRemove.set(true);
         }
       }
       if (needRemove.get()) {
-        // a oferta j havia sido registrada, cancelar manualmente
+        // a oferta já havia sido registrada, cancelar manualmente
         RemoteOfferImpl remote = null;
         if (future != null) {
           try {
@@ -237,7 +230,7 @@ class OfferRegistryImpl implements OfferRegistry {
         if (remote == null) {
           try {
             // aguarda a tarefa terminar. Se ok, obtem remote para remover;
-            // seno, deu erro ento ignora e segue em frente.
+            // senão, deu erro então ignora e segue em frente.
             remote = (RemoteOfferImpl) offer.remoteOffer();
           } catch (Exception ignored) {}
         }
@@ -249,16 +242,16 @@ class OfferRegistryImpl implements OfferRegistry {
                 @Override
                 public void onFailure(Throwable ex) {
                   try {
-                    // so deve entrar aqui se a aplicao escolheu fazer um
+                    // so deve entrar aqui se a aplicação escolheu fazer um
                     // logout, ou se pararam as retentativas do RetryTask. Como
-                    // o tipo de retentativas  o OpenBusRetryContext, se essa
+                    // o tipo de retentativas é o OpenBusRetryContext, se essa
                     // chamada receber uma UserException, COMM_FAILURE ou
-                    // OBJECT_NOT_EXIST, desistir e chegar aqui.
+                    // OBJECT_NOT_EXIST, desistirá e chegará aqui.
                     logger.log(Level.SEVERE, "Erro ao remover oferta do " +
                       "barramento.", ex);
                   } catch (Throwable e) {
                     logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                      "de remoo de oferta do OfferRegistry mal-sucedida.", e);
+                      "de remoção de oferta do OfferRegistry mal-sucedida.", e);
                     throw e;
                   }
                 }
@@ -269,7 +262,7 @@ class OfferRegistryImpl implements OfferRegistry {
                     logger.info("Oferta removida do barramento.");
                   } catch (Throwable e) {
                     logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                      "de remoo de oferta do OfferRegistry bem-sucedida.", e);
+                      "de remoção de oferta do OfferRegistry bem-sucedida.", e);
                     throw e;
                   }
                 }
@@ -291,30 +284,30 @@ class OfferRegistryImpl implements OfferRegistry {
       if (registrySubs == null) {
         return;
       }
-      // o boolean abaixo  um atomic boolean somente para ser um objeto e
-      // ser possvel declarar final para o closure do FutureCallback.
+      // o boolean abaixo é um atomic boolean somente para ser um objeto e
+      // ser possível declarar final para o closure do FutureCallback.
       final AtomicBoolean needRemove = new AtomicBoolean(false);
       ListenableFuture<OfferRegistryObserverSubscription> future =
         registrySubs.get(localSub);
       if (future != null) {
         if (!future.cancel(false)) {
-          // a subscrio j havia terminado mas entrou aqui no cancelamento
+          // a subscrição já havia terminado mas entrou aqui no cancelamento
           // antes de registrar o sucesso da chamada
           needRemove.set(true);
         } else {
-          // como o cancel no interrompe a tarefa, ela pode conseguir terminar.
+          // como o cancel não interrompe a tarefa, ela pode conseguir terminar.
           Futures.addCallback(future, new
             FutureCallback<OfferRegistryObserverSubscription>() {
               @Override
               public void onFailure(Throwable ex) {
-                // a tarefa foi cancelada corretamente ou falhou, ento no 
-                // necessrio fazer nada.
+                // a tarefa foi cancelada corretamente ou falhou, então não é
+                // necessário fazer nada.
               }
 
               @Override
               public void onSuccess(OfferRegistryObserverSubscription remote) {
                 try {
-                  // a tarefa no foi cancelada a tempo. Cancelar manualmente.
+                  // a tarefa não foi cancelada a tempo. Cancelar manualmente.
                   needRemove.set(true);
                 } catch (Throwable e) {
                   logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
@@ -325,19 +318,19 @@ class OfferRegistryImpl implements OfferRegistry {
               }
             },
             pool.pool());
-          // preciso aguardar a finalizao
+          // preciso aguardar a finalização
           try {
             future.get();
           } catch (Exception ignored) {}
         }
       } else {
-        // uma subscrio j havia sido feita ou no havia sido disparada ainda
+        // uma subscrição já havia sido feita ou não havia sido disparada ainda
         if (registrySubs.containsKey(localSub)) {
           needRemove.set(true);
         }
       }
       if (needRemove.get()) {
-        // a subscrio j havia sido efetuada, cancelar manualmente
+        // a subscrição já havia sido efetuada, cancelar manualmente
         OfferRegistryObserverSubscription sub = null;
         if (future != null) {
           try {
@@ -355,16 +348,16 @@ class OfferRegistryImpl implements OfferRegistry {
               @Override
               public void onFailure(Throwable ex) {
                 try {
-                  // so deve entrar aqui se a aplicao escolheu fazer um
+                  // so deve entrar aqui se a aplicação escolheu fazer um
                   // logout, ou se pararam as retentativas do RetryTask. Como
-                  // o tipo de retentativas  o OpenBusRetryContext, se essa
+                  // o tipo de retentativas é o OpenBusRetryContext, se essa
                   // chamada receber uma UserException, COMM_FAILURE ou
-                  // OBJECT_NOT_EXIST, desistir e chegar aqui.
-                  logger.log(Level.SEVERE, "Erro ao remover subscrio de " +
+                  // OBJECT_NOT_EXIST, desistirá e chegará aqui.
+                  logger.log(Level.SEVERE, "Erro ao remover subscrição de " +
                     "registro de oferta do barramento.", ex);
                 } catch (Throwable e) {
                   logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                    "de remoo de observador de registro de oferta do " +
+                    "de remoção de observador de registro de oferta do " +
                     "OfferRegistry mal-sucedida.", e);
                   throw e;
                 }
@@ -373,11 +366,11 @@ class OfferRegistryImpl implements OfferRegistry {
               @Override
               public void onSuccess(Void nothing) {
                 try {
-                  logger.info("Subscrio de registro de oferta removida do " +
+                  logger.info("Subscrição de registro de oferta removida do " +
                     "barramento.");
                 } catch (Throwable e) {
                   logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                    "de remoo de observador de registro de oferta do " +
+                    "de remoção de observador de registro de oferta do " +
                     "OfferRegistry bem-sucedida.", e);
                   throw e;
                 }
@@ -394,14 +387,14 @@ class OfferRegistryImpl implements OfferRegistry {
         logger.log(Level.WARNING, "Erro ao desativar um objeto observador de " +
           "registro de ofertas.", e);
       }
-      logger.info("Subscrio de registro de oferta cancelada com sucesso.");
+      logger.info("Subscrição de registro de oferta cancelada com sucesso.");
     }
   }
 
-  // Diferentemente dos observadores de logins onde h apenas um objeto
-  // remoto (o loginregistry), aqui fao dessa forma pois a RemoteOffer 
-  // apenas uma referncia e no tenho controle sobre quantas so geradas
-  // para cada oferta remota do barramento. No valeria a pena o esforo.
+  // Diferentemente dos observadores de logins onde há apenas um objeto
+  // remoto (o loginregistry), aqui faço dessa forma pois a RemoteOffer é
+  // apenas uma referência e não tenho controle sobre quantas são geradas
+  // para cada oferta remota do barramento. Não valeria a pena o esforço.
   protected OfferSubscription subscribeToOffer(RemoteOfferImpl remoteOffer,
                                                OfferObserver observer) throws
     ServantNotActive, WrongPolicy {
@@ -434,30 +427,30 @@ class OfferRegistryImpl implements OfferRegistry {
       if (offerSubs == null) {
         return;
       }
-      // o boolean abaixo  um atomic boolean somente para ser um objeto e
-      // ser possvel declarar final para o closure do FutureCallback.
+      // o boolean abaixo é um atomic boolean somente para ser um objeto e
+      // ser possível declarar final para o closure do FutureCallback.
       final AtomicBoolean needRemove = new AtomicBoolean(false);
       ListenableFuture<OfferObserverSubscription> future = offerSubs.get
         (localSub);
       if (future != null) {
         if (!future.cancel(false)) {
-          // a subscrio j havia terminado mas entrou aqui no cancelamento
+          // a subscrição já havia terminado mas entrou aqui no cancelamento
           // antes de registrar o sucesso da chamada
           needRemove.set(true);
         } else {
-          // como o cancel no interrompe a tarefa, ela pode conseguir terminar.
+          // como o cancel não interrompe a tarefa, ela pode conseguir terminar.
           Futures.addCallback(future, new
               FutureCallback<OfferObserverSubscription>() {
                 @Override
                 public void onFailure(Throwable ex) {
-                  // a tarefa foi cancelada corretamente ou falhou, ento no 
-                  // necessrio fazer nada.
+                  // a tarefa foi cancelada corretamente ou falhou, então não é
+                  // necessário fazer nada.
                 }
 
                 @Override
                 public void onSuccess(OfferObserverSubscription remote) {
                   try {
-                    // a tarefa no foi cancelada a tempo. Cancelar manualmente.
+                    // a tarefa não foi cancelada a tempo. Cancelar manualmente.
                     needRemove.set(true);
                   } catch (Throwable e) {
                     logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
@@ -468,19 +461,19 @@ class OfferRegistryImpl implements OfferRegistry {
                 }
               },
             pool.pool());
-          // preciso aguardar a finalizao
+          // preciso aguardar a finalização
           try {
             future.get();
           } catch (Exception ignored) {}
         }
       } else {
-        // uma subscrio j havia sido feita ou no havia sido disparada ainda
+        // uma subscrição já havia sido feita ou não havia sido disparada ainda
         if (offerSubs.containsKey(localSub)) {
           needRemove.set(true);
         }
       }
       if (needRemove.get()) {
-        // a subscrio j havia sido efetuada, cancelar manualmente
+        // a subscrição já havia sido efetuada, cancelar manualmente
         OfferObserverSubscription sub = null;
         if (future != null) {
           try {
@@ -498,16 +491,16 @@ class OfferRegistryImpl implements OfferRegistry {
               @Override
               public void onFailure(Throwable ex) {
                 try {
-                  // so deve entrar aqui se a aplicao escolheu fazer um
+                  // so deve entrar aqui se a aplicação escolheu fazer um
                   // logout, ou se pararam as retentativas do RetryTask. Como
-                  // o tipo de retentativas  o OpenBusRetryContext, se essa
+                  // o tipo de retentativas é o OpenBusRetryContext, se essa
                   // chamada receber uma UserException, COMM_FAILURE ou
-                  // OBJECT_NOT_EXIST, desistir e chegar aqui.
-                  logger.log(Level.SEVERE, "Erro ao remover subscrio de " +
+                  // OBJECT_NOT_EXIST, desistirá e chegará aqui.
+                  logger.log(Level.SEVERE, "Erro ao remover subscrição de " +
                     "oferta do barramento.", ex);
                 } catch (Throwable e) {
                   logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                    "de remoo de observador de oferta do OfferRegistry " +
+                    "de remoção de observador de oferta do OfferRegistry " +
                     "mal-sucedida.", e);
                   throw e;
                 }
@@ -516,11 +509,11 @@ class OfferRegistryImpl implements OfferRegistry {
               @Override
               public void onSuccess(Void nothing) {
                 try {
-                  logger.info("Subscrio de oferta removida da oferta no " +
+                  logger.info("Subscrição de oferta removida da oferta no " +
                     "barramento.");
                 } catch (Throwable e) {
                   logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                    "de remoo de observador de oferta do OfferRegistry " +
+                    "de remoção de observador de oferta do OfferRegistry " +
                     "bem-sucedida.", e);
                   throw e;
                 }
@@ -537,7 +530,7 @@ class OfferRegistryImpl implements OfferRegistry {
         logger.log(Level.WARNING, "Erro ao desativar um objeto observador de " +
           "oferta.", e);
       }
-      logger.info("Subscrio de oferta cancelada com sucesso.");
+      logger.info("Subscrição de oferta cancelada com sucesso.");
     }
   }
 
@@ -594,9 +587,7 @@ class OfferRegistryImpl implements OfferRegistry {
 
   private void onLogin() {
     synchronized (lock) {
-      Connection prev = context.currentConnection();
-      try {
-        context.currentConnection(conn);
+      try (ContextScope scope = context.scope(conn)) {
         registry = context.getOfferRegistry();
         if (maintainedOffers == null) {
           maintainedOffers = new HashMap<>();
@@ -607,8 +598,6 @@ class OfferRegistryImpl implements OfferRegistry {
         if (offerSubs == null) {
           offerSubs = new HashMap<>();
         }
-      } finally {
-        context.currentConnection(prev);
       }
     }
   }
@@ -617,9 +606,7 @@ class OfferRegistryImpl implements OfferRegistry {
     synchronized (lock) {
       clearLoginState();
 
-      Connection prev = context.currentConnection();
-      try {
-        context.currentConnection(conn);
+      try (ContextScope scope = context.scope(conn)) {
         if (this.maintainedOffers != null) {
           for (LocalOfferImpl offer : maintainedOffers.keySet()) {
             offer.loggedOut();
@@ -648,16 +635,14 @@ class OfferRegistryImpl implements OfferRegistry {
         this.offerSubs = null;
 
         this.lock.notifyAll();
-      } finally {
-        context.currentConnection(prev);
       }
     }
   }
 
-  // quando ocorre um logout inesperado, apenas esse mtodo deve ser chamado.
+  // quando ocorre um logout inesperado, apenas esse método deve ser chamado.
   private void clearLoginState() {
     synchronized (lock) {
-      // no interrompo pois pode estar em uma chamada remota/JacORB. Se o
+      // não interrompo pois pode estar em uma chamada remota/JacORB. Se o
       // cancelamento proceder, gera um evento fail da callback do objeto futuro.
       if (maintainedOffers != null) {
         for (Map.Entry<LocalOfferImpl, ListenableFuture<RemoteOfferImpl>> entry
@@ -693,7 +678,7 @@ class OfferRegistryImpl implements OfferRegistry {
         }
       }
 
-      // no nulifico futureReLogin pois isso  usado como critrio para
+      // não nulifico futureReLogin pois isso é usado como critério para
       // acordar as threads de relogin
       if (futureReLogin != null) {
         this.futureReLogin.cancel(false);
@@ -704,25 +689,25 @@ class OfferRegistryImpl implements OfferRegistry {
   }
 
   private void onRelogin(LoginInfo newLogin) {
-    // O relogin deve ser feito de forma sncrona (pode ser feito com
+    // O relogin deve ser feito de forma síncrona (pode ser feito com
     // tarefas mas deve-se sincronizar ao fim). Dado o funcionamento da
-    // conexo do SDK, s h como ter duas chamadas concorrentes desse mtodo
-    // caso enquanto uma thread estiver esperando pela tarefa de subscrio
+    // conexão do SDK, só há como ter duas chamadas concorrentes desse método
+    // caso enquanto uma thread estiver esperando pela tarefa de subscrição
     // de observador, o login for novamente perdido e refeito por outra thread.
     synchronized (lock) {
-      // sem subscries, no h nada a fazer.
+      // sem subscrições, não há nada a fazer.
       if ((maintainedOffers == null || maintainedOffers.size() == 0) &&
         (registrySubs == null || registrySubs.size() == 0) && (offerSubs ==
         null || offerSubs.size() == 0)) {
         return;
       }
-      // testar se h um relogin em andamento. Se houver, cancelar pois
-      // nesse caso houve perda de login enquanto a subscrio ainda estava
-      // sendo feita. Isso  importante pois caso a subscrio j tenha sido
-      // refeita, ela no valer mais e as tarefas de watch nunca terminaro
-      // pois ficaro num loop de OBJ_NOT_EXISTS.
+      // testar se há um relogin em andamento. Se houver, cancelar pois
+      // nesse caso houve perda de login enquanto a subscrição ainda estava
+      // sendo feita. Isso é importante pois caso a subscrição já tenha sido
+      // refeita, ela não valerá mais e as tarefas de watch nunca terminarão
+      // pois ficarão num loop de OBJ_NOT_EXISTS.
       while (futureReLogin != null) {
-        // o mtodo abaixo j cancela o relogin anterior em andamento
+        // o método abaixo já cancela o relogin anterior em andamento
         clearLoginState();
         try {
           // aguardo tarefa de relogin anterior terminar
@@ -731,17 +716,17 @@ class OfferRegistryImpl implements OfferRegistry {
           logInterruptError(e);
         }
         // devo testar de novo pois posso ter sido acordado tanto por ter
-        // feito o relogin como por um logout. Se foi logout, no terei login
-        // e ento desisto. Se houve um novo relogin, o login atual no ser
-        // o mesmo que o que recebi por parmetro, ento desisto tb.
+        // feito o relogin como por um logout. Se foi logout, não terei login
+        // e então desisto. Se houve um novo relogin, o login atual não será
+        // o mesmo que o que recebi por parâmetro, então desisto tb.
         LoginInfo currLogin = conn.login();
         if ((currLogin == null) || (!newLogin.id.equals(currLogin.id))) {
           return;
         }
       }
-      // refao os passos de um login pois chamei clearstate.
+      // refaço os passos de um login pois chamei clearstate.
       onLogin();
-      // lanar assincronamente uma retrytask para refazer registros e
+      // lançar assincronamente uma retrytask para refazer registros e
       // observadores de registros e de ofertas
       futureReLogin = pool.doTask(new ReLoginTask(context
         .getOfferRegistry()), new RetryContext(retryDelay, delayUnit));
@@ -766,7 +751,7 @@ class OfferRegistryImpl implements OfferRegistry {
         @Override
         public void onFailure(Throwable t) {
           try {
-            // S entra aqui se a aplicao fez logout ou um outro relogin cancelou
+            // Só entra aqui se a aplicação fez logout ou um outro relogin cancelou
             // esse. Basta desistir que o SDK cuida do login atual depois.
             logger.log(Level.WARNING, "Erro ao reinserir registros e " +
               "observadores de oferta no barramento devido a um logout ou " +
@@ -785,15 +770,11 @@ class OfferRegistryImpl implements OfferRegistry {
   }
 
   private void clearOfferSubscription(OfferSubscriptionImpl localSub) {
-    Connection prev = this.context.currentConnection();
-    try {
-      this.context.currentConnection(conn);
+    try (ContextScope scope = this.context.scope(conn)) {
       // best effort
       try {
         localSub.remove();
       } catch (Exception ignored) {}
-    } finally {
-      this.context.currentConnection(prev);
     }
   }
 
@@ -813,17 +794,17 @@ class OfferRegistryImpl implements OfferRegistry {
             @Override
             public void onFailure(Throwable ex) {
               try {
-                // so deve entrar aqui se a aplicao escolheu fazer um
+                // so deve entrar aqui se a aplicação escolheu fazer um
                 // logout, ou se pararam as retentativas do RetryTask. Como
-                // o tipo de retentativas  o OfferRegistryRetryContext que
-                // retenta infinitamente, s vai chegar aqui se o registro for
-                // cancelado pelo usurio.
+                // o tipo de retentativas é o OfferRegistryRetryContext que
+                // retenta infinitamente, só vai chegar aqui se o registro for
+                // cancelado pelo usuário.
                 synchronized (lock) {
                   localOffer.remove();
                   maintainedOffers.remove(localOffer);
                 }
                 logger.log(Level.SEVERE, "Erro ao registrar oferta no " +
-                  "barramento, esse pedido no ser mais mantido pelo SDK.", ex);
+                  "barramento, esse pedido não será mais mantido pelo SDK.", ex);
               } catch (Throwable e) {
                 logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
                   "de registro de oferta do OfferRegistry mal-sucedida.", e);
@@ -835,12 +816,12 @@ class OfferRegistryImpl implements OfferRegistry {
             public void onSuccess(RemoteOfferImpl remote) {
               try {
                 synchronized (lock) {
-                  // devo setar apenas se no foi cancelado. Se future for
+                  // devo setar apenas se não foi cancelado. Se future for
                   // null, houve cancelamento.
                   ListenableFuture<RemoteOfferImpl> future = maintainedOffers
                     .get(localOffer);
                   if (future != null) {
-                    // no h como ter dois sucessos ao mesmo tempo, portanto
+                    // não há como ter dois sucessos ao mesmo tempo, portanto
                     // posso passar por cima do valor direto sem testar.
                     maintainedOffers.put(localOffer, null);
                     localOffer.remote(remote);
@@ -882,11 +863,11 @@ class OfferRegistryImpl implements OfferRegistry {
             @Override
             public void onFailure(Throwable ex) {
               try {
-                // so deve entrar aqui se a aplicao escolheu fazer um
+                // so deve entrar aqui se a aplicação escolheu fazer um
                 // logout, ou se pararam as retentativas do RetryTask. Como
-                // o tipo de retentativas  o InfiniteRetryContext que
-                // retenta infinitamente, s vai chegar aqui se a subscrio for
-                // cancelada pelo usurio.
+                // o tipo de retentativas é o InfiniteRetryContext que
+                // retenta infinitamente, só vai chegar aqui se a subscrição for
+                // cancelada pelo usuário.
                 synchronized (lock) {
                   localSub.remove();
                 }
@@ -894,7 +875,7 @@ class OfferRegistryImpl implements OfferRegistry {
                   "registro de oferta no barramento.", ex);
               } catch (Throwable e) {
                 logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                  "de subscrio de observador de registro de oferta do " +
+                  "de subscrição de observador de registro de oferta do " +
                   "OfferRegistry mal-sucedida.", e);
                 throw e;
               }
@@ -904,7 +885,7 @@ class OfferRegistryImpl implements OfferRegistry {
             public void onSuccess(OfferRegistryObserverSubscription sub) {
               try {
                 synchronized (lock) {
-                  // no h como ter dois sucessos ao mesmo tempo, portanto
+                  // não há como ter dois sucessos ao mesmo tempo, portanto
                   // posso passar por cima do valor direto sem testar.
                   localSub.sub(sub);
                   registrySubs.put(localSub, null);
@@ -913,7 +894,7 @@ class OfferRegistryImpl implements OfferRegistry {
                 }
               } catch (Throwable e) {
                 logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                  "de subscrio de observador de registro de oferta do " +
+                  "de subscrição de observador de registro de oferta do " +
                   "OfferRegistry bem-sucedida.", e);
                 throw e;
               }
@@ -942,11 +923,11 @@ class OfferRegistryImpl implements OfferRegistry {
             @Override
             public void onFailure(Throwable ex) {
               try {
-                // so deve entrar aqui se a aplicao escolheu fazer um
+                // so deve entrar aqui se a aplicação escolheu fazer um
                 // logout, ou se pararam as retentativas do RetryTask. Como
-                // o tipo de retentativas  o InfiniteRetryContext que
-                // retenta infinitamente, s vai chegar aqui se a subscrio for
-                // cancelada pelo usurio.
+                // o tipo de retentativas é o InfiniteRetryContext que
+                // retenta infinitamente, só vai chegar aqui se a subscrição for
+                // cancelada pelo usuário.
                 synchronized (lock) {
                   localSub.remove();
                 }
@@ -954,7 +935,7 @@ class OfferRegistryImpl implements OfferRegistry {
                   "oferta no barramento", ex);
               } catch (Throwable e) {
                 logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                  "de subscrio de observador de oferta do OfferRegistry " +
+                  "de subscrição de observador de oferta do OfferRegistry " +
                   "mal-sucedida.", e);
                 throw e;
               }
@@ -964,7 +945,7 @@ class OfferRegistryImpl implements OfferRegistry {
             public void onSuccess(OfferObserverSubscription sub) {
               try {
                 synchronized (lock) {
-                  // no h como ter dois sucessos ao mesmo tempo, portanto
+                  // não há como ter dois sucessos ao mesmo tempo, portanto
                   // posso passar por cima do valor direto sem testar.
                   localSub.sub(sub);
                   offerSubs.put(localSub, null);
@@ -972,7 +953,7 @@ class OfferRegistryImpl implements OfferRegistry {
                 }
               } catch (Throwable e) {
                 logger.log(Level.SEVERE, "Erro ao completar uma tarefa " +
-                  "de subscrio de observador de oferta do OfferRegistry " +
+                  "de subscrição de observador de oferta do OfferRegistry " +
                   "bem-sucedida.", e);
                 throw e;
               }
@@ -988,7 +969,7 @@ class OfferRegistryImpl implements OfferRegistry {
     synchronized (lock) {
       while (maintainedOffers == null) {
         if (futureReLogin == null) {
-          logger.severe("No h login para realizar a chamada.");
+          logger.severe("Não há login para realizar a chamada.");
           throw new NO_PERMISSION(NoLoginCode.value, CompletionStatus
             .COMPLETED_NO);
         }
@@ -1009,7 +990,7 @@ class OfferRegistryImpl implements OfferRegistry {
     synchronized (lock) {
       while (registrySubs == null) {
         if (futureReLogin == null) {
-          logger.severe("No h login para realizar a chamada.");
+          logger.severe("Não há login para realizar a chamada.");
           throw new NO_PERMISSION(NoLoginCode.value, CompletionStatus
             .COMPLETED_NO);
         }
@@ -1030,7 +1011,7 @@ class OfferRegistryImpl implements OfferRegistry {
     synchronized (lock) {
       while (offerSubs == null) {
         if (futureReLogin == null) {
-          logger.severe("No h login para realizar a chamada.");
+          logger.severe("Não há login para realizar a chamada.");
           throw new NO_PERMISSION(NoLoginCode.value, CompletionStatus
             .COMPLETED_NO);
         }
@@ -1047,9 +1028,9 @@ class OfferRegistryImpl implements OfferRegistry {
   }
 
   private void logInterruptError(Exception e) {
-    logger.log(Level.SEVERE, "Interrupo no esperada ao refazer um login. " +
-      "Verifique se sua aplicao est tentando interromper a thread " +
-      "quando esta est executando cdigo alheio, como do SDK OpenBus " +
+    logger.log(Level.SEVERE, "Interrupção não esperada ao refazer um login. " +
+      "Verifique se sua aplicação está tentando interromper a thread " +
+      "quando esta está executando código alheio, como do SDK OpenBus " +
       "ou do JacORB.", e);
   }
 
@@ -1058,7 +1039,7 @@ class OfferRegistryImpl implements OfferRegistry {
     synchronized (lock) {
       while (registry == null) {
         if (futureReLogin == null) {
-          logger.severe("No h login para realizar a chamada.");
+          logger.severe("Não há login para realizar a chamada.");
           throw new NO_PERMISSION(NoLoginCode.value, CompletionStatus
             .COMPLETED_NO);
         }
@@ -1282,7 +1263,7 @@ class OfferRegistryImpl implements OfferRegistry {
           ListenableFuture<OfferObserverSubscription> future = entry.getValue();
           if (future == null || future.isCancelled()) {
             if (!doSubscribeToOfferTask(offerSubs, localSub)) {
-              // a oferta no existe mais, ento removemos a manuteno do
+              // a oferta não existe mais, então removemos a manutenção do
               // observador
               localSub.remove();
             }
@@ -29,7 +29,7 @@ class OfferRegistryObserverImpl extends OfferRegistryObserverPOA {
       try {
         observer.offerRegistered(remote);
       } catch (Exception e) {
-        logger.log(Level.SEVERE, "Erro ao avisar um observador da aplicao " +
+        logger.log(Level.SEVERE, "Erro ao avisar um observador da aplicação " +
           "de que uma oferta do login " + login + " da entidade " + entity +
           " foi registrada.", e);
       }
@@ -54,11 +54,11 @@ class OfferSubscriptionImpl extends BusResource implements OfferSubscription {
       throw new IllegalArgumentException("O timeout deve ser positivo.");
     }
     synchronized (lock) {
-      // O while  necessrio para retestar sub aps o wait, antes de
-      // retornar, devido  possibilidade de sinais esprios. A contagem de
-      // tempo abaixo pode ser altamente inacurada devido a preempes, mas o
-      // parmetro se refere ao tempo total passado, ento no h problema.
-      // OBS: timeoutMillis no pode ser 0, seno wait aguardar
+      // O while é necessário para retestar sub após o wait, antes de
+      // retornar, devido à possibilidade de sinais espúrios. A contagem de
+      // tempo abaixo pode ser altamente inacurada devido a preempções, mas o
+      // parâmetro se refere ao tempo total passado, então não há problema.
+      // OBS: timeoutMillis não pode ser 0, senão wait aguardará
       // indefinidamente.
       while (sub == null && lastError == null && timeoutMillis >= 0) {
         long initial = System.currentTimeMillis();
@@ -83,16 +83,16 @@ class OfferSubscriptionImpl extends BusResource implements OfferSubscription {
       }
       if (sub == null) {
         if (lastError == null) {
-          throw new TimeoutException("No foi possvel verificar a subscrio" +
-            "  oferta no tempo especificado.");
+          throw new TimeoutException("Não foi possível verificar a subscrição" +
+            " à oferta no tempo especificado.");
         } else {
           try {
             throw lastError;
           } catch (ServiceFailure | RuntimeException | Error e) {
             throw e;
           } catch (Throwable e) {
-            throw new OpenBusInternalException("Exceo inesperada ao " +
-              "tentar realizar uma subscrio de registro de oferta. Por " +
+            throw new OpenBusInternalException("Exceção inesperada ao " +
+              "tentar realizar uma subscrição de registro de oferta. Por " +
               "favor contacte o administrador do sistema e informe-o sobre " +
               "este erro.", e);
           }
@@ -107,10 +107,10 @@ class OfferSubscriptionImpl extends BusResource implements OfferSubscription {
     cancel();
     // o pedido de cancelamento tem que ser feito fora do bloco synchronized
     // para evitar deadlocks. Assim se a tarefa estiver a ponto de fazer um
-    // set sub, ela poder faz-lo pois conseguir adquirir o lock.
+    // set sub, ela poderá fazê-lo pois conseguirá adquirir o lock.
     registry.removeOfferSubscription(this);
-    // a chamada abaixo apenas remove as referncias locais. A remoo do
-    // barramento  feita pelo mtodo previamente chamado
+    // a chamada abaixo apenas remove as referências locais. A remoção do
+    // barramento é feita pelo método previamente chamado
     // removeOfferSubscription do registry.
     removeSub();
   }
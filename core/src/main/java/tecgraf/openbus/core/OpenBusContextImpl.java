@@ -3,17 +3,21 @@ package tecgraf.openbus.core;
 import java.security.interfaces.RSAPublicKey;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
 import org.omg.CORBA.Any;
 import org.omg.CORBA.CompletionStatus;
 import org.omg.CORBA.INTERNAL;
@@ -21,6 +25,7 @@ import org.omg.CORBA.LocalObject;
 import org.omg.CORBA.NO_PERMISSION;
 import org.omg.CORBA.ORB;
 import org.omg.CORBA.ORBPackage.InvalidName;
+import org.omg.CORBA.SystemException;
 import org.omg.CORBA.TCKind;
 import org.omg.CORBA.UserException;
 import org.omg.IOP.Codec;
@@ -36,6 +41,7 @@ import org.omg.PortableServer.POAManagerPackage.AdapterInactive;
 import tecgraf.openbus.CallDispatchCallback;
 import tecgraf.openbus.CallerChain;
 import tecgraf.openbus.Connection;
+import tecgraf.openbus.ContextScope;
 import tecgraf.openbus.OpenBusContext;
 import tecgraf.openbus.SharedAuthSecret;
 import tecgraf.openbus.core.Credential.Chain;
@@ -69,7 +75,7 @@ import tecgraf.openbus.interceptors.CallChainInfoHelper;
 import tecgraf.openbus.security.Cryptography;
 
 /**
- * Implementao do multiplexador de conexo.
+ * Implementação do multiplexador de conexão.
  * 
  * @author Tecgraf
  */
@@ -79,53 +85,75 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
   private static final Logger logger = Logger
     .getLogger(OpenBusContextImpl.class.getName());
 
-  /** Tamanho da tag de identificao de dado exportado. */
+  /** Tamanho da tag de identificação de dado exportado. */
   private static final int MAGIC_TAG_SIZE = 4;
   /** Tag de cadeia */
   private static final byte[] MTAG_CALLCHAIN =
     new byte[] { 'B', 'U', 'S', 0x01 };
-  /** Tag de compartilhamento de autenticao */
+  /** Tag de compartilhamento de autenticação */
   private static final byte[] MTAG_SHAREDAUTH = new byte[] { 'B', 'U', 'S',
       0x02 };
+  /** O nome das <i>threads</i> onde as sessões são estabelecidas */
+  private static final String WARM_UP_THREAD_NAME = "WarmUpThread-";
+  /** Número máximo de sessões estabelecidas antecipadamente em paralelo */
+  private static final int WARM_UP_THREADS = 4;
+  /** Tempo em segundos que uma thread de estabelecimento ociosa é mantida */
+  private static final long WARM_UP_KEEP_ALIVE = 60;
 
   /** Identificador do slot de conexao corrente */
   private final int CURRENT_CONNECTION_SLOT_ID;
-  /** Identificador do slot de interceptao ignorada */
+  /** Identificador do slot de interceptação ignorada */
   private final int IGNORE_THREAD_SLOT_ID;
   /** Identificador de slot de flag sobre callback OnInvalidLogin */
   private final int SKIP_INVLOGIN_SLOT_ID;
 
-  /** Mapa de conexo por Requester */
+  /** Mapa de conexão por Requester */
   private final Map<Integer, Connection> connectedById;
-  /** Conexo padro */
-  private Connection defaultConn;
-  /** Callback a ser disparada para decidir a conexo de despacho */
+  /** Vínculo de cada thread com a conexão corrente definida por ela */
+  private final ThreadLocal<Binding> bindings;
+  /** Conexão padrão */
+  private volatile Connection defaultConn;
+  /** Callback a ser disparada para decidir a conexão de despacho */
   private volatile CallDispatchCallback dispatchCallback;
+  /** Agendador das renovações de lease das conexões */
+  private final LeaseScheduler leases;
+  /** Executor do estabelecimento antecipado de sessões das conexões */
+  private final ListeningExecutorService warmUps;
 
-  /** Referncia para o ORB ao qual pertence */
+  /** Referência para o ORB ao qual pertence */
   private ORB orb;
-  /** Referncia para o POA no qual deve registrar objetos */
+  /** Referência para o POA no qual deve registrar objetos */
   private volatile POA poa;
 
-  /** Lock para operaes sobre conexes */
+  /** Lock para operações sobre conexões */
   private final ReentrantReadWriteLock rwlock =
     new ReentrantReadWriteLock(true);
-  /** Lock de leitura para operaes sobre conexes */
-  private final ReadLock readLock = rwlock.readLock();
-  /** Lock de escrita para operaes sobre conexes */
+  /** Lock de escrita para operações sobre conexões */
   private final WriteLock writeLock = rwlock.writeLock();
 
   /**
    * Construtor.
    * 
-   * @param currentConnectionSlotId identificador do slot da conexo corrente
-   * @param ignoreThreadSlotId identificador do slot de interceptao ignorada.
+   * @param currentConnectionSlotId identificador do slot da conexão corrente
+   * @param ignoreThreadSlotId identificador do slot de interceptação ignorada.
    * @param invLoginSlotId identificador de slot de invalid login
    */
   public OpenBusContextImpl(int currentConnectionSlotId,
     int ignoreThreadSlotId, int invLoginSlotId) {
-    this.connectedById =
-      Collections.synchronizedMap(new HashMap<>());
+    this.connectedById = new ConcurrentHashMap<>();
+    this.bindings = ThreadLocal.withInitial(this::newBinding);
+    this.leases = new LeaseScheduler();
+    ThreadPoolExecutor warmUps =
+      new ThreadPoolExecutor(WARM_UP_THREADS, WARM_UP_THREADS,
+        WARM_UP_KEEP_ALIVE, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        task -> {
+          Thread thread = new Thread(task);
+          thread.setDaemon(true);
+          thread.setName(WARM_UP_THREAD_NAME + thread.getId());
+          return thread;
+        });
+    warmUps.allowCoreThreadTimeOut(true);
+    this.warmUps = MoreExecutors.listeningDecorator(warmUps);
     this.CURRENT_CONNECTION_SLOT_ID = currentConnectionSlotId;
     this.IGNORE_THREAD_SLOT_ID = ignoreThreadSlotId;
     this.SKIP_INVLOGIN_SLOT_ID = invLoginSlotId;
@@ -147,16 +175,16 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
       this.poa = poa;
       return;
     }
-    // troca excees checked que nunca deveriam acontecer por uncheckeds
+    // troca exceções checked que nunca deveriam acontecer por uncheckeds
     // para desonerar a API
     try {
       this.poa = POAHelper.narrow(orb.resolve_initial_references("RootPOA"));
       this.poa.the_POAManager().activate();
     } catch (InvalidName e) {
       throw new OpenBusInternalException(
-        "O ORB perdeu a referncia para o RootPOA.", e);
+        "O ORB perdeu a referência para o RootPOA.", e);
     } catch (AdapterInactive e) {
-      throw new OpenBusInternalException("O RootPOA est inativo.", e);
+      throw new OpenBusInternalException("O RootPOA está inativo.", e);
     }
   }
 
@@ -168,7 +196,7 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
     }
     catch (InvalidPropertyValue e) {
       throw new OpenBusInternalException(
-        "Este erro nunca deveria ocorrer pois no existem propriedades.", e);
+        "Este erro nunca deveria ocorrer pois não existem propriedades.", e);
     }
     return conn;
   }
@@ -178,7 +206,7 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
     throws InvalidPropertyValue {
     if ((host == null) || (host.isEmpty()) || (port < 0)) {
       throw new IllegalArgumentException(
-        "Os parametros host e/ou port no so vlidos.");
+        "Os parametros host e/ou port não são válidos.");
     }
     org.omg.CORBA.Object obj;
     try {
@@ -200,7 +228,7 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
     }
     catch (InvalidPropertyValue e) {
       throw new OpenBusInternalException(
-        "Este erro nunca deveria ocorrer pois no existem propriedades.", e);
+        "Este erro nunca deveria ocorrer pois não existem propriedades.", e);
     }
     return conn;
   }
@@ -209,7 +237,7 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
     Properties props) throws InvalidPropertyValue {
     if (reference == null) {
       throw new IllegalArgumentException(
-        "Referncia invlida para o barramento.");
+        "Referência inválida para o barramento.");
     }
     return new ConnectionImpl(reference, this, orb, poa, props);
   }
@@ -228,7 +256,26 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
   }
 
   /**
-   * Recupera a chave do slot de identificao da conexo corrente.
+   * Recupera o agendador das renovações de lease das conexões.
+   * 
+   * @return o agendador.
+   */
+  LeaseScheduler leases() {
+    return this.leases;
+  }
+
+  /**
+   * Recupera o executor do estabelecimento antecipado de sessões, separado
+   * das demais tarefas das conexões e limitado a poucas threads.
+   * 
+   * @return o executor.
+   */
+  ListeningExecutorService warmUps() {
+    return this.warmUps;
+  }
+
+  /**
+   * Recupera a chave do slot de identificação da conexão corrente.
    * 
    * @return a chave do slot
    */
@@ -252,26 +299,31 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
 
   @Override
   public Connection defaultConnection() {
-    this.readLock.lock();
-    try {
-      return this.defaultConn;
-    }
-    finally {
-      this.readLock.unlock();
-    }
+    return this.defaultConn;
   }
 
   @Override
   public Connection currentConnection(Connection connection) {
     Current current = ORBUtils.getPICurrent(orb);
     try {
-      // tenta reaproveitar o id
+      Binding binding = this.bindings.get();
       Any currentId = current.get_slot(CURRENT_CONNECTION_SLOT_ID);
+      if (currentId == binding.slot) {
+        // o slot contém o vínculo da própria thread
+        Connection old = binding.connection;
+        binding.connection = connection;
+        if (connection == null) {
+          current.set_slot(CURRENT_CONNECTION_SLOT_ID, binding.empty);
+        }
+        setConnectionById(binding.id, connection);
+        return old;
+      }
+      // tenta reaproveitar o id
       int id;
       if (currentId.type().kind().value() != TCKind._tk_null) {
         id = currentId.extract_long();
         if (connection == null) {
-          // insere any com valor null no current e remove conexo do mapa
+          // insere any com valor null no current e remove conexão do mapa
           current.set_slot(CURRENT_CONNECTION_SLOT_ID, this.orb.create_any());
           return setConnectionById(id, null);
         }
@@ -280,10 +332,13 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
         if (connection == null) {
           return null;
         }
-        id = ORBUtils.getMediator(this.orb).getUniqueId();
-        Any newId = this.orb.create_any();
-        newId.insert_long(id);
-        current.set_slot(CURRENT_CONNECTION_SLOT_ID, newId);
+        // passa a utilizar o vínculo da própria thread
+        binding.connection = connection;
+        current.set_slot(CURRENT_CONNECTION_SLOT_ID, binding.slot);
+        return setConnectionById(binding.id, connection);
+      }
+      if (id == binding.id) {
+        binding.connection = connection;
       }
       return setConnectionById(id, connection);
     }
@@ -296,7 +351,7 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
 
   @Override
   public Connection currentConnection() {
-    Connection connection = null;
+    Connection connection;
     Current current = ORBUtils.getPICurrent(orb);
     Any any;
     try {
@@ -308,17 +363,27 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
       throw new INTERNAL(message);
     }
 
-    if (any.type().kind().value() != TCKind._tk_null) {
-      int id = any.extract_long();
-      connection = this.connectedById.get(id);
-    }
-
+    connection = getConnectionBySlot(any);
     if (connection == null) {
       connection = defaultConnection();
     }
     return connection;
   }
 
+  /**
+   * Cria o vínculo da thread corrente com a conexão corrente.
+   * 
+   * @return o vínculo.
+   */
+  private Binding newBinding() {
+    int id = ORBUtils.getMediator(this.orb).getUniqueId();
+    Any any = this.orb.create_any();
+    any.insert_long(id);
+    Any flag = this.orb.create_any();
+    flag.insert_boolean(true);
+    return new Binding(id, any, this.orb.create_any(), flag);
+  }
+
   @Override
   public CallerChain callerChain() {
     Current current = ORBUtils.getPICurrent(orb);
@@ -327,7 +392,8 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
       Any any = current.get_slot(mediator.getSignedChainSlotId());
       if (any.type().kind().value() != TCKind._tk_null) {
         CallChainInfo info = CallChainInfoHelper.extract(any);
-        return CallerChainImpl.info2CallerChain(info, mediator.getCodec());
+        return CallerChainImpl.info2CallerChain(info,
+          mediator.getDecodedChains());
       }
       else {
         return null;
@@ -357,13 +423,7 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
       try {
         Current current = ORBUtils.getPICurrent(orb);
         ORBMediator mediator = ORBUtils.getMediator(orb);
-        Chain internal = ((CallerChainImpl) chain).internal_chain();
-        Any any = this.orb.create_any();
-        CallChainInfo infos =
-          new CallChainInfo(internal.signedChain, internal.isLegacy(),
-            internal.bus, internal.signedLegacy);
-        CallChainInfoHelper.insert(any, infos);
-        current.set_slot(mediator.getJoinedChainSlotId(), any);
+        current.set_slot(mediator.getJoinedChainSlotId(), chainInfo(chain));
       }
       catch (InvalidSlot e) {
         String message = "Falha inesperada ao acessar slot";
@@ -388,6 +448,75 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
     }
   }
 
+  /**
+   * Cria o valor do slot de cadeia associada ao contexto corrente.
+   * 
+   * @param chain a cadeia.
+   * @return o valor do slot.
+   */
+  private Any chainInfo(CallerChain chain) {
+    Chain internal = ((CallerChainImpl) chain).internal_chain();
+    Any any = this.orb.create_any();
+    CallChainInfo infos =
+      new CallChainInfo(internal.signedChain, internal.isLegacy(),
+        internal.bus, internal.signedLegacy);
+    CallChainInfoHelper.insert(any, infos);
+    return any;
+  }
+
+  @Override
+  public ContextScope scope(Connection connection) {
+    return scope(connection, false, null, false, false);
+  }
+
+  @Override
+  public ContextScope scope(Connection connection, CallerChain chain) {
+    return scope(connection, true, chain, false, false);
+  }
+
+  /**
+   * Cria um escopo de alteração do contexto corrente, incluindo as sinalizações
+   * internas de interceptação.
+   * 
+   * @param connection a conexão a ser definida como corrente, ou {@code null}
+   *        para manter a conexão corrente.
+   * @param switchChain indica se a cadeia associada deve ser alterada.
+   * @param chain a cadeia a ser associada, ou {@code null} para nenhuma cadeia.
+   * @param ignoreInvLogin indica se as chamadas não devem tentar o relogin.
+   * @param ignoreThread indica se as chamadas não devem ser interceptadas.
+   * @return o escopo.
+   */
+  ContextScope scope(Connection connection, boolean switchChain,
+    CallerChain chain, boolean ignoreInvLogin, boolean ignoreThread) {
+    Current current = ORBUtils.getPICurrent(orb);
+    ContextScopeImpl scope = new ContextScopeImpl(this, current, connection);
+    try {
+      Binding binding = this.bindings.get();
+      if (switchChain) {
+        ORBMediator mediator = ORBUtils.getMediator(orb);
+        scope.replace(mediator.getJoinedChainSlotId(),
+          chain != null ? chainInfo(chain) : binding.empty);
+      }
+      if (ignoreInvLogin) {
+        scope.replace(SKIP_INVLOGIN_SLOT_ID, binding.flag);
+      }
+      if (ignoreThread) {
+        scope.replace(IGNORE_THREAD_SLOT_ID, binding.flag);
+      }
+    }
+    catch (InvalidSlot e) {
+      scope.close();
+      String message = "Falha inesperada ao acessar o slot da thread corrente";
+      logger.log(Level.SEVERE, message, e);
+      throw new OpenBusInternalException(message, e);
+    }
+    catch (RuntimeException e) {
+      scope.close();
+      throw e;
+    }
+    return scope;
+  }
+
   @Override
   public CallerChain joinedChain() {
     try {
@@ -396,7 +525,8 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
       Any any = current.get_slot(mediator.getJoinedChainSlotId());
       if (any.type().kind().value() != TCKind._tk_null) {
         CallChainInfo info = CallChainInfoHelper.extract(any);
-        return CallerChainImpl.info2CallerChain(info, mediator.getCodec());
+        return CallerChainImpl.info2CallerChain(info,
+          mediator.getDecodedChains());
       }
       return null;
     }
@@ -422,7 +552,7 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
           .decode_value(signed.encoded, CallChainHelper.type());
       CallChain callChain = CallChainHelper.extract(anyChain);
       SignedCallChain legacy = null;
-      if (conn.legacy() && conn.legacySupport().converter() != null) {
+      if (conn.requireLegacy() && conn.legacySupport().converter() != null) {
         legacy = conn.legacySupport().converter().signChainFor(entity);
       }
       return new CallerChainImpl(callChain, signed, legacy);
@@ -449,21 +579,17 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
       Any anyChain = codec.decode_value(signed.encoded, CallChainHelper.type());
       CallChain chain = CallChainHelper.extract(anyChain);
       SignedCallChain legacy = null;
-      if (conn.legacy() && conn.legacySupport().converter() != null) {
-        CallerChain joined = joinedChain();
-        try {
-          joinChain(new CallerChainImpl(chain, signed));
+      if (conn.requireLegacy() && conn.legacySupport().converter() != null) {
+        try (ContextScope scope =
+          scope(null, new CallerChainImpl(chain, signed))) {
           legacy = conn.legacySupport().converter().convertSignedChain();
         }
-        finally {
-          joinChain(joined);
-        }
       }
       return new CallerChainImpl(chain, signed, legacy);
     }
     catch (CryptographyException e) {
       throw new OpenBusInternalException(
-        "Erro de criptografia com uso de chave pblica.", e);
+        "Erro de criptografia com uso de chave pública.", e);
     }
     catch (FormatMismatch | TypeMismatch e) {
       String message = "Falha inesperada ao decodificar uma cadeia exportada.";
@@ -490,11 +616,16 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
         byte[] encodedChain = codec.encode_value(anyChain);
         list.add(new VersionedData(ExportVersion.value, encodedChain));
       }
-      if (internal.signedLegacy != null) {
+      SignedCallChain signedLegacy = internal.signedLegacy;
+      if (signedLegacy == InterceptorImpl.NULL_SIGNED_LEGACY_CALL_CHAIN
+        && internal.signedChain != InterceptorImpl.NULL_SIGNED_CALL_CHAIN) {
+        signedLegacy = legacyChain((CallerChainImpl) chain);
+      }
+      if (signedLegacy != null) {
         anyChain = orb.create_any();
         tecgraf.openbus.core.v2_0.data_export.ExportedCallChainHelper
           .insert(anyChain, new ExportedCallChain(chain.busId(),
-            internal.signedLegacy));
+            signedLegacy));
         byte[] encodedChain = codec.encode_value(anyChain);
         list.add(new VersionedData(CurrentVersion.value, encodedChain));
       }
@@ -503,12 +634,39 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
     }
     catch (InvalidTypeForEncoding e) {
       String message =
-        "Falha inesperada ao codificar uma cadeia para exportao";
+        "Falha inesperada ao codificar uma cadeia para exportação";
       logger.log(Level.SEVERE, message, e);
       throw new OpenBusInternalException(message, e);
     }
   }
 
+  /**
+   * Converte para o formato legado uma cadeia recebida sem a versão legada,
+   * o que ocorre quando a conexão corrente faz a conversão sob demanda ou
+   * quando o suporte legado ainda não havia sido ativado ao receber a
+   * cadeia.
+   * 
+   * @param chain a cadeia.
+   * @return a cadeia legada assinada, ou a cadeia legada nula caso a conversão
+   *         não seja feita ou falhe.
+   */
+  private SignedCallChain legacyChain(CallerChainImpl chain) {
+    ConnectionImpl conn = (ConnectionImpl) currentConnection();
+    if (conn == null || !conn.requireLegacy()
+      || conn.legacySupport().converter() == null
+      || !chain.busId().equals(conn.busId())) {
+      return InterceptorImpl.NULL_SIGNED_LEGACY_CALL_CHAIN;
+    }
+    try {
+      return conn.cache.legacyChains.convert(conn, chain);
+    }
+    catch (ServiceFailure | SystemException e) {
+      logger.log(Level.WARNING,
+        "Falha ao converter cadeia assinada para o formato legado.", e);
+      return InterceptorImpl.NULL_SIGNED_LEGACY_CALL_CHAIN;
+    }
+  }
+
   @Override
   public CallerChain decodeChain(byte[] encoded) throws InvalidEncodedStream {
     ORBMediator mediator = ORBUtils.getMediator(orb);
@@ -556,7 +714,7 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
         return new CallerChainImpl(legacyBus, legacyChain, legacySigned);
       }
       else {
-        throw new InvalidEncodedStream("Verso de cadeia incompatvel");
+        throw new InvalidEncodedStream("Versão de cadeia incompatível");
       }
     }
     catch (UserException e) {
@@ -596,7 +754,7 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
     }
     catch (InvalidTypeForEncoding e) {
       String message =
-        "Falha inesperada ao codificar um segredo para exportao";
+        "Falha inesperada ao codificar um segredo para exportação";
       logger.log(Level.SEVERE, message, e);
       throw new OpenBusInternalException(message, e);
     }
@@ -641,7 +799,7 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
         return new SharedAuthSecretImpl(bus, attempt, legacy, secret, this);
       }
       else {
-        throw new InvalidEncodedStream("Verso de segredo incompatvel");
+        throw new InvalidEncodedStream("Versão de segredo incompatível");
       }
     }
     catch (UserException e) {
@@ -652,10 +810,10 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
   }
 
   /**
-   * Codifica um conjunto de dados no formato padro de exportao.
+   * Codifica um conjunto de dados no formato padrão de exportação.
    * 
    * @param exports dados a serem codificados
-   * @param tag a tag de associao da semntica do dado
+   * @param tag a tag de associação da semântica do dado
    * @return o dado condificado.
    * @throws InvalidTypeForEncoding
    */
@@ -674,10 +832,10 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
   }
 
   /**
-   * Decodifica um conjunto de dados no formato padro de exportao.
+   * Decodifica um conjunto de dados no formato padrão de exportação.
    * 
    * @param encoded o dado a ser decodificado
-   * @param magictag a semntica esperada do dado
+   * @param magictag a semântica esperada do dado
    * @return o conjunto de dados decodificado.
    * @throws InvalidEncodedStream
    * @throws TypeMismatch
@@ -700,35 +858,50 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
       }
     }
     String errormsg =
-      "Stream de bytes no corresponde ao tipo de dado esperado.";
+      "Stream de bytes não corresponde ao tipo de dado esperado.";
     throw new InvalidEncodedStream(errormsg);
   }
 
   /**
-   * Recupera a conexo associada ao identificador.
+   * Recupera a conexão associada ao identificador.
    * 
    * @param id o identificador
-   * @return a conexo em uso.
+   * @return a conexão em uso.
    */
   Connection getConnectionById(int id) {
     return this.connectedById.get(id);
   }
 
   /**
-   * Configura a conexo em uso para o identificador especificado..
+   * Recupera a conexão associada ao valor do slot da conexão corrente.
+   * 
+   * @param slot o valor do slot.
+   * @return a conexão, ou {@code null} caso não haja conexão associada.
+   */
+  Connection getConnectionBySlot(Any slot) {
+    Binding binding = this.bindings.get();
+    if (slot == binding.slot) {
+      // caso comum: a conexão foi definida pela própria thread
+      return binding.connection;
+    }
+    if (slot.type().kind().value() != TCKind._tk_null) {
+      return this.connectedById.get(slot.extract_long());
+    }
+    return null;
+  }
+
+  /**
+   * Configura a conexão em uso para o identificador especificado..
    * 
    * @param id identificador.
-   * @param conn a conexo em uso.
-   * @return a antiga conexo configurada.
+   * @param conn a conexão em uso.
+   * @return a antiga conexão configurada.
    */
   Connection setConnectionById(int id, Connection conn) {
-    synchronized (this.connectedById) {
-      Connection old = this.connectedById.remove(id);
-      if (conn != null) {
-        this.connectedById.put(id, conn);
-      }
-      return old;
+    if (conn == null) {
+      return this.connectedById.remove(id);
     }
+    return this.connectedById.put(id, conn);
   }
 
   /**
@@ -741,37 +914,34 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
   }
 
   /**
-   * Sinaliza que as requisies realizadas atravs desta thread no devem ser
+   * Sinaliza que as requisições realizadas através desta thread não devem ser
    * interceptadas.
    */
   void ignoreThread() {
-    Any any = this.orb.create_any();
-    any.insert_boolean(true);
     Current current = ORBUtils.getPICurrent(orb);
     try {
-      current.set_slot(IGNORE_THREAD_SLOT_ID, any);
+      current.set_slot(IGNORE_THREAD_SLOT_ID, this.bindings.get().flag);
     }
     catch (InvalidSlot e) {
       String message =
-        "Falha inesperada ao acessar o slot de interceptao ignorada";
+        "Falha inesperada ao acessar o slot de interceptação ignorada";
       logger.log(Level.SEVERE, message, e);
       throw new OpenBusInternalException(message, e);
     }
   }
 
   /**
-   * Siznaliza que as requisies realizadas atravs desta thread devem voltar a
+   * Siznaliza que as requisições realizadas através desta thread devem voltar a
    * ser interceptadas.
    */
   void unignoreThread() {
-    Any any = this.orb.create_any();
     Current current = ORBUtils.getPICurrent(orb);
     try {
-      current.set_slot(IGNORE_THREAD_SLOT_ID, any);
+      current.set_slot(IGNORE_THREAD_SLOT_ID, this.bindings.get().empty);
     }
     catch (InvalidSlot e) {
       String message =
-        "Falha inesperada ao acessar o slot de interceptao ignorada";
+        "Falha inesperada ao acessar o slot de interceptação ignorada";
       logger.log(Level.SEVERE, message, e);
       throw new OpenBusInternalException(message, e);
     }
@@ -779,7 +949,7 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
 
   /**
    * Recupera o identificador de slot que indica se deve ignorar a
-   * intereceptao ou no.
+   * intereceptação ou não.
    * 
    * @return o identificador
    */
@@ -788,15 +958,13 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
   }
 
   /**
-   * Sinaliza que as requisies realizadas atravs deste Current no devem
+   * Sinaliza que as requisições realizadas através deste Current não devem
    * tentar o relogin.
    */
   void ignoreInvLogin() {
-    Any any = this.orb.create_any();
-    any.insert_boolean(true);
     Current current = ORBUtils.getPICurrent(orb);
     try {
-      current.set_slot(SKIP_INVLOGIN_SLOT_ID, any);
+      current.set_slot(SKIP_INVLOGIN_SLOT_ID, this.bindings.get().flag);
     }
     catch (InvalidSlot e) {
       String message = "Falha inesperada ao acessar o slot de callback";
@@ -806,14 +974,13 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
   }
 
   /**
-   * Siznaliza que as requisies realizadas atravs deste Current devem voltar
+   * Siznaliza que as requisições realizadas através deste Current devem voltar
    * a tentar o relogin.
    */
   void unignoreInvLogin() {
-    Any any = this.orb.create_any();
     Current current = ORBUtils.getPICurrent(orb);
     try {
-      current.set_slot(SKIP_INVLOGIN_SLOT_ID, any);
+      current.set_slot(SKIP_INVLOGIN_SLOT_ID, this.bindings.get().empty);
     }
     catch (InvalidSlot e) {
       String message = "Falha inesperada ao acessar o slot de InvalidLogin";
@@ -824,7 +991,7 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
 
   /**
    * Recupera o identificador de slot que indica se deve ignorar a tentativa de
-   * relogin ou no.
+   * relogin ou não.
    * 
    * @return o identificador
    */
@@ -843,10 +1010,10 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
   }
 
   /**
-   * Referncia ao servio ncleo de registro de logins do barramento
+   * Referência ao serviço núcleo de registro de logins do barramento
    * referenciado no contexto atual.
    *
-   * @return o servio de registro de logins.
+   * @return o serviço de registro de logins.
    */
   LoginRegistry getLoginRegistry() {
     ConnectionImpl conn = (ConnectionImpl) currentConnection();
@@ -857,10 +1024,10 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
   }
 
   /**
-   * Referncia ao servio ncleo de registro de ofertas do barramento
+   * Referência ao serviço núcleo de registro de ofertas do barramento
    * referenciado no contexto atual.
    *
-   * @return o servio de registro de ofertas.
+   * @return o serviço de registro de ofertas.
    */
   OfferRegistry getOfferRegistry() {
     ConnectionImpl conn = (ConnectionImpl) currentConnection();
@@ -870,4 +1037,42 @@ final class OpenBusContextImpl extends LocalObject implements OpenBusContext {
     return conn.offers();
   }
 
+  /**
+   * Vínculo de uma thread com a conexão corrente definida por ela. O
+   * identificador do vínculo é exclusivo da thread, e o {@link Any} com o
+   * identificador é criado uma única vez e reaproveitado no slot da conexão
+   * corrente. Enquanto o slot contiver esse {@link Any}, a conexão corrente é
+   * obtida do próprio vínculo, sem consultar o mapa de conexões. O mapa
+   * continua sendo atualizado para os interceptadores, que obtêm o
+   * identificador da cópia do slot feita para a requisição.
+   *
+   * @author Tecgraf
+   */
+  private static final class Binding {
+    /** Identificador do vínculo */
+    final int id;
+    /** Valor do slot com o identificador do vínculo */
+    final Any slot;
+    /** Valor vazio dos slots */
+    final Any empty;
+    /** Valor verdadeiro dos slots de sinalização */
+    final Any flag;
+    /** Conexão corrente definida pela thread */
+    Connection connection;
+
+    /**
+     * Construtor.
+     *
+     * @param id identificador do vínculo.
+     * @param slot valor do slot com o identificador do vínculo.
+     * @param empty valor vazio dos slots.
+     * @param flag valor verdadeiro dos slots de sinalização.
+     */
+    Binding(int id, Any slot, Any empty, Any flag) {
+      this.id = id;
+      this.slot = slot;
+      this.empty = empty;
+      this.flag = flag;
+    }
+  }
 }
@@ -3,64 +3,151 @@ package tecgraf.openbus.core;
 import java.util.Properties;
 
 /**
- * Define as possveis propriedades do domnio da biblioteca de acesso, com
- * os seus valores padro.
+ * Define as possíveis propriedades do domínio da biblioteca de acesso, com
+ * os seus valores padrão.
  * 
  * @author Tecgraf
  */
 public enum OpenBusProperty {
 
   /**
-   * Define se o suporte legado deve ser desabilitado. Os valores possveis
-   * so: {@code true} e {@code false}. O padro  {@code false}.
+   * Define se o suporte legado deve ser desabilitado. Os valores possíveis
+   * são: {@code true} e {@code false}. O padrão é {@code false}.
    */
   LEGACY_DISABLE("legacy.disable", "false"),
   /**
-   * Caminho para arquivo de chave privada a ser utilizado pela conexo para
+   * Define se a conversão para o formato legado das cadeias recebidas em
+   * chamadas 2.1 deve ser feita apenas quando a cadeia legada for utilizada,
+   * por exemplo ao exportar a cadeia. Caso contrário, a conversão é feita
+   * durante o recebimento da chamada. Os valores possíveis são:
+   * {@code true} e {@code false}. O padrão é {@code false}.
+   */
+  LEGACY_CHAIN_LAZY("legacy.chain.lazy", "false"),
+  /**
+   * Caminho para arquivo de chave privada a ser utilizado pela conexão para
    * realizar as chamadas do protocolo OpenBus. A chave deve ser uma chave
-   * privada RSA de 2048 bits (256 bytes). Quando essa propriedade no 
-   * fornecida, uma chave de acesso  gerada automaticamente.
+   * privada RSA de 2048 bits (256 bytes). Quando essa propriedade não é
+   * fornecida, uma chave de acesso é gerada automaticamente.
    */
   ACCESS_KEY("access.key", null),
   /**
-   * Caminho para arquivo de certificado a ser utilizado pela conexo para
+   * Caminho para arquivo de certificado a ser utilizado pela conexão para
    * acessar e verificar a identidade de um barramento OpenBus. O
-   * certificado deve ser do padro X509. Quando essa propriedade no 
-   * fornecida, o certificado  obtido do barramento automaticamente.
+   * certificado deve ser do padrão X509. Quando essa propriedade não é
+   * fornecida, o certificado é obtido do barramento automaticamente.
    */
   BUS_CERTIFICATE("bus.certificate", null),
   /**
-   * Tamanho das caches utilizadas pela conexo.
+   * Tamanho padrão das caches utilizadas pela conexão. O tamanho de cada
+   * cache pode ser definido pela sua propriedade específica.
    */
   CACHE_SIZE("cache.size", "30"),
   /**
-   * Nmero de threads a serem utilizadas para chamadas assncronas feitas
-   * pela biblioteca, como as de registro ou manuteno de recursos - ofertas
+   * Tamanho da cache de perfis dos objetos chamados pela conexão
+   * ({@link tecgraf.openbus.InterceptorCache#ENTITIES}). O padrão é o valor de
+   * {@link #CACHE_SIZE}.
+   */
+  CACHE_ENTITIES_SIZE("cache.entities.size", null),
+  /**
+   * Tamanho da cache de sessões cliente
+   * ({@link tecgraf.openbus.InterceptorCache#CLIENT_SESSIONS}). O padrão é o
+   * valor de {@link #CACHE_SIZE}.
+   */
+  CACHE_CLIENT_SESSIONS_SIZE("cache.client.sessions.size", null),
+  /**
+   * Tamanho da cache de cadeias assinadas
+   * ({@link tecgraf.openbus.InterceptorCache#CHAINS}). O padrão é o valor de
+   * {@link #CACHE_SIZE}.
+   */
+  CACHE_CHAINS_SIZE("cache.chains.size", null),
+  /**
+   * Tamanho da cache de sessões servidor
+   * ({@link tecgraf.openbus.InterceptorCache#SERVER_SESSIONS}). O padrão é o
+   * valor de {@link #CACHE_SIZE}.
+   */
+  CACHE_SERVER_SESSIONS_SIZE("cache.server.sessions.size", null),
+  /**
+   * Tamanho da cache de logins
+   * ({@link tecgraf.openbus.InterceptorCache#LOGINS}). O padrão é o valor de
+   * {@link #CACHE_SIZE}.
+   */
+  CACHE_LOGINS_SIZE("cache.logins.size", null),
+  /**
+   * Tamanho da cache de cadeias verificadas
+   * ({@link tecgraf.openbus.InterceptorCache#VERIFIED_CHAINS}). O padrão é o
+   * valor de {@link #CACHE_SIZE}.
+   */
+  CACHE_VERIFIED_CHAINS_SIZE("cache.verified.chains.size", null),
+  /**
+   * Tamanho da cache de cadeias legadas
+   * ({@link tecgraf.openbus.InterceptorCache#LEGACY_CHAINS}). O padrão é o
+   * valor de {@link #CACHE_SIZE}.
+   */
+  CACHE_LEGACY_CHAINS_SIZE("cache.legacy.chains.size", null),
+  /**
+   * Tamanho da cache de perfis de objetos legados
+   * ({@link tecgraf.openbus.InterceptorCache#LEGACY_TARGETS}). O padrão é o
+   * valor de {@link #CACHE_SIZE}.
+   */
+  CACHE_LEGACY_TARGETS_SIZE("cache.legacy.targets.size", null),
+  /**
+   * Tamanho da cache de cadeias decodificadas
+   * ({@link tecgraf.openbus.InterceptorCache#DECODED_CHAINS}), compartilhada
+   * pelas conexões de um mesmo ORB. Quando definida, a cache é redimensionada
+   * na criação da conexão. O padrão é 256.
+   */
+  CACHE_DECODED_CHAINS_SIZE("cache.decoded.chains.size", null),
+  /**
+   * Tamanho, em número de tickets, da janela do histórico de tickets de cada
+   * sessão servidor. Tickets que chegam fora de ordem são aceitos enquanto
+   * estiverem dentro da janela. Os valores possíveis são: 64, 128 e 256. O
+   * padrão é 128.
+   */
+  TICKETS_HISTORY_SIZE("tickets.history.size", "128"),
+  /**
+   * Número máximo de novas sessões criadas por segundo pelo interceptador
+   * servidor ao reiniciar credenciais. Reinícios que excedem o limite são
+   * recusados imediatamente com {@link org.omg.CORBA.TRANSIENT}. O padrão é 0,
+   * que significa sem limite.
+   */
+  RESETS_RATE("resets.rate", "0"),
+  /**
+   * Número de threads a serem utilizadas para chamadas assíncronas feitas
+   * pela biblioteca, como as de registro ou manutenção de recursos - ofertas
    * e observadores.
    */
   THREAD_NUMBER("thread.number", "10"),
   /**
    * Intervalo de tempo entre tentativas de chamadas remotas para a
-   * manuteno de recursos no barramento, como ofertas e observadores.
+   * manutenção de recursos no barramento, como ofertas e observadores.
    */
   TIME_INTERVAL("time.interval", "1000"),
   /**
-   * Unidade de tempo de {@link #TIME_INTERVAL}. Utilize "ns" para nanosegundos,
-   * "ms" para milisegundos, "s" para segundos, "m" para minutos, "h" para
-   * horas e "d" para dias.
+   * Intervalo máximo de tempo entre tentativas de refazer um login que se
+   * tornou inválido, na unidade de {@link #TIME_UNIT}. O intervalo entre
+   * tentativas começa em {@link #TIME_INTERVAL} e dobra a cada falha, com
+   * uma variação aleatória, até este valor. O padrão é 32 vezes o valor de
+   * {@link #TIME_INTERVAL}.
+   */
+  RELOGIN_MAX_INTERVAL("relogin.max.interval", null),
+  /**
+   * Unidade de tempo de {@link #TIME_INTERVAL} e
+   * {@link #RELOGIN_MAX_INTERVAL}. Utilize "ns" para nanosegundos, "ms" para
+   * milisegundos, "s" para segundos, "m" para minutos, "h" para horas e "d"
+   * para dias.
    */
   TIME_UNIT("time.unit", "ms");
 
   /** Nome da propriedade */
   private final String key;
-  /** Valor padro da propriedade */
+  /** Valor padrão da propriedade */
   private final String defaultValue;
 
   /**
    * Construtor.
    * 
    * @param key nome da propriedade.
-   * @param value valor padro.
+   * @param value valor padrão.
    */
   OpenBusProperty(String key, String value) {
     this.key = key;
@@ -77,8 +164,8 @@ public enum OpenBusProperty {
   }
 
   /**
-   * Recupera a propriedade na lista de propriedades passada. Caso a mesma no
-   * esteja especificada na lista, retorna-se o seu valor padro.
+   * Recupera a propriedade na lista de propriedades passada. Caso a mesma não
+   * esteja especificada na lista, retorna-se o seu valor padrão.
    * 
    * @param props a lista de propriedades.
    * @return o valor da propriedade.
@@ -87,16 +174,34 @@ public enum OpenBusProperty {
     switch (this) {
       case LEGACY_DISABLE:
         return props.getProperty(this.key, this.defaultValue);
+      case LEGACY_CHAIN_LAZY:
+        return props.getProperty(this.key, this.defaultValue);
       case ACCESS_KEY:
         return props.getProperty(this.key);
       case CACHE_SIZE:
         return props.getProperty(this.key, this.defaultValue);
+      case CACHE_ENTITIES_SIZE:
+      case CACHE_CLIENT_SESSIONS_SIZE:
+      case CACHE_CHAINS_SIZE:
+      case CACHE_SERVER_SESSIONS_SIZE:
+      case CACHE_LOGINS_SIZE:
+      case CACHE_VERIFIED_CHAINS_SIZE:
+      case CACHE_LEGACY_CHAINS_SIZE:
+      case CACHE_LEGACY_TARGETS_SIZE:
+      case CACHE_DECODED_CHAINS_SIZE:
+        return props.getProperty(this.key);
+      case TICKETS_HISTORY_SIZE:
+        return props.getProperty(this.key, this.defaultValue);
+      case RESETS_RATE:
+        return props.getProperty(this.key, this.defaultValue);
       case BUS_CERTIFICATE:
         return props.getProperty(this.key);
       case THREAD_NUMBER:
         return props.getProperty(this.key, this.defaultValue);
       case TIME_INTERVAL:
         return props.getProperty(this.key, this.defaultValue);
+      case RELOGIN_MAX_INTERVAL:
+        return props.getProperty(this.key);
       case TIME_UNIT:
         return props.getProperty(this.key, this.defaultValue);
       default:
@@ -18,14 +18,14 @@ class OpenBusRetryContext extends RetryContext {
   }
 
   /**
-   * Informa se  permitida uma nova execuo da tarefa.
-   * Sempre  permitida uma nova execuo, a no ser que o objeto
-   * no exista mais no servidor, o erro seja um COMM_FAILURE, uma exceo da
-   * aplicao ou um NO_PERMISSION{NoLogin}, que s ocorrer caso o usurio
-   * tenha feito um logout explcito ou no tenha feito login.
+   * Informa se é permitida uma nova execução da tarefa.
+   * Sempre é permitida uma nova execução, a não ser que o objeto
+   * não exista mais no servidor, o erro seja um COMM_FAILURE, uma exceção da
+   * aplicação ou um NO_PERMISSION{NoLogin}, que só ocorrerá caso o usuário
+   * tenha feito um logout explícito ou não tenha feito login.
    *
    * @return {@code true} caso seja permitido uma nova tentativa, e {@code
-   *         false} caso contrrio.
+   *         false} caso contrário.
    */
   @Override
   public boolean shouldRetry() {
@@ -6,6 +6,7 @@ import org.omg.PortableServer.POAPackage.ServantNotActive;
 import org.omg.PortableServer.POAPackage.WrongPolicy;
 import scs.core.IComponent;
 import tecgraf.openbus.Connection;
+import tecgraf.openbus.ContextScope;
 import tecgraf.openbus.OfferObserver;
 import tecgraf.openbus.OfferSubscription;
 import tecgraf.openbus.OpenBusContext;
@@ -31,7 +32,7 @@ class RemoteOfferImpl implements RemoteOffer {
     offer) {
     this.registry = registry;
     this.offer = offer;
-    // ao procurar o owner nas propriedades ao invs de chamar offer.ref
+    // ao procurar o owner nas propriedades ao invés de chamar offer.ref
     // .owner(), evito fazer uma chamada remota
     this.owner = OfferRegistryImpl.getOwnerFromOffer(offer);
     this.properties = convertPropertiesToHashMap(offer.properties);
@@ -68,13 +69,9 @@ class RemoteOfferImpl implements RemoteOffer {
     if (offerDesc == null || offerDesc.ref == null) {
       throw new OBJECT_NOT_EXIST("A oferta foi removida do barramento.");
     }
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       offerDesc.ref.setProperties(OfferRegistryImpl.convertMapToProperties
         (properties));
-    } finally {
-      context.currentConnection(prev);
     }
     updateProperties(properties);
   }
@@ -89,13 +86,9 @@ class RemoteOfferImpl implements RemoteOffer {
     if (offer == null) {
       return;
     }
-    Connection prev = context.currentConnection();
-    try {
-      context.currentConnection(conn);
+    try (ContextScope scope = context.scope(conn)) {
       offer.remove();
     } catch (OBJECT_NOT_EXIST ignored) {
-    } finally {
-      context.currentConnection(prev);
     }
     removed();
   }
@@ -110,16 +103,12 @@ class RemoteOfferImpl implements RemoteOffer {
     if (update) {
       ServiceOfferDesc offer = offer();
       if (offer != null) {
-        Connection prev = context.currentConnection();
-        try {
-          context.currentConnection(conn);
+        try (ContextScope scope = context.scope(conn)) {
           ServiceProperty[] props = offer.ref.properties();
           synchronized (lock) {
             properties = convertPropertiesToHashMap(props);
             return properties;
           }
-        } finally {
-          context.currentConnection(prev);
         }
       }
     }
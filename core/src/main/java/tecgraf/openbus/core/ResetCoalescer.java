@@ -0,0 +1,383 @@
+package tecgraf.openbus.core;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import org.omg.CORBA.CompletionStatus;
+import org.omg.CORBA.TRANSIENT;
+
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import tecgraf.openbus.core.Session.ServerSideSession;
+import tecgraf.openbus.exception.CryptographyException;
+import tecgraf.openbus.security.Cryptography;
+
+/**
+ * Agrupador dos reinícios de credencial do interceptador servidor.
+ * <p>
+ * Os reinícios concorrentes para um mesmo login compartilham a mesma sessão e
+ * o mesmo desafio, de forma que um cliente que faça várias chamadas em
+ * paralelo logo após o reinício do servidor provoque uma única cifragem com a
+ * chave pública e uma única sessão. Uma sessão só é compartilhada durante
+ * {@link #SHARE_WINDOW} após ter sido criada, enquanto permanecer na cache de
+ * sessões e para chamadas cuja credencial não a utilize, já que uma
+ * credencial que utiliza a sessão e ainda assim é inválida exige uma nova
+ * sessão.
+ * <p>
+ * Os reinícios que não podem mais ser compartilhados são descartados quando o
+ * mesmo login reinicia novamente e, para os logins que não voltam a reiniciar,
+ * em uma varredura feita no máximo uma vez por {@link #SHARE_WINDOW}. Assim,
+ * o agrupador não retém as sessões já removidas da cache.
+ * <p>
+ * Opcionalmente, a criação de sessões é limitada a um número máximo por
+ * segundo. Quando o limite é excedido, a chamada é recusada imediatamente
+ * com {@link TRANSIENT}, sem ocupar a thread do ORB à espera de uma permissão.
+ *
+ * @author Tecgraf
+ */
+final class ResetCoalescer {
+
+  /** Tempo em nanosegundos durante o qual uma sessão é compartilhada */
+  private static final long SHARE_WINDOW = TimeUnit.SECONDS.toNanos(5);
+  /** Tamanho do segredo da sessão */
+  private static final int SECRET_SIZE = 16;
+
+  /** Instância de logging. */
+  private static final Logger logger = Logger.getLogger(ResetCoalescer.class
+    .getName());
+
+  /** As sessões criadas pelos reinícios */
+  private final Sessions sessions;
+  /** Limitador de reinícios por segundo, ou {@code null} caso sem limite */
+  private final RateLimiter limiter;
+  /** Fonte do tempo dos reinícios */
+  private final Ticker ticker;
+  /** Último reinício de cada login */
+  private final ConcurrentMap<String, SharedReset> resets;
+  /** Instante em nanosegundos da última varredura dos reinícios */
+  private final AtomicLong purged;
+
+  /**
+   * Construtor.
+   *
+   * @param conn a conexão ao qual o agrupador está associado.
+   * @param rate número máximo de novas sessões por segundo, ou 0 caso sem
+   *        limite.
+   */
+  ResetCoalescer(ConnectionImpl conn, int rate) {
+    this(new ConnectionSessions(conn), rate, Ticker.systemTicker());
+  }
+
+  /**
+   * Construtor.
+   *
+   * @param sessions as sessões criadas pelos reinícios.
+   * @param rate número máximo de novas sessões por segundo, ou 0 caso sem
+   *        limite.
+   * @param ticker fonte do tempo dos reinícios.
+   */
+  ResetCoalescer(Sessions sessions, int rate, Ticker ticker) {
+    this.sessions = sessions;
+    this.limiter = rate > 0 ? RateLimiter.create(rate) : null;
+    this.ticker = ticker;
+    this.resets = new ConcurrentHashMap<>();
+    this.purged = new AtomicLong(ticker.read());
+  }
+
+  /**
+   * Recupera a sessão e o desafio a serem enviados no reinício da credencial,
+   * compartilhando-os com os demais reinícios recentes do mesmo login.
+   *
+   * @param credential a credencial recebida.
+   * @param pubkey a chave pública codificada do login.
+   * @return o reinício compartilhado.
+   * @throws CryptographyException
+   */
+  SharedReset reset(Credential credential, byte[] pubkey)
+    throws CryptographyException {
+    String login = credential.login;
+    long now = ticker.read();
+    purge(now);
+    SharedReset created = new SharedReset(now);
+    while (true) {
+      SharedReset current = resets.get(login);
+      if (current != null) {
+        if (current.shareable(now, credential.session)) {
+          return current.await();
+        }
+        resets.remove(login, current);
+      }
+      if (resets.putIfAbsent(login, created) == null) {
+        break;
+      }
+    }
+    try {
+      created.complete(login, pubkey);
+      return created;
+    }
+    catch (CryptographyException | RuntimeException | Error e) {
+      resets.remove(login, created);
+      created.future.setException(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Descarta os reinícios compartilhados.
+   */
+  void clear() {
+    resets.clear();
+  }
+
+  /**
+   * Recupera o número de reinícios retidos.
+   *
+   * @return o número de reinícios.
+   */
+  int size() {
+    return resets.size();
+  }
+
+  /**
+   * Descarta os reinícios que não podem mais ser compartilhados, caso a
+   * última varredura tenha sido feita há mais de {@link #SHARE_WINDOW}.
+   *
+   * @param now o instante corrente em nanosegundos.
+   */
+  private void purge(long now) {
+    long last = purged.get();
+    if (now - last <= SHARE_WINDOW || !purged.compareAndSet(last, now)) {
+      return;
+    }
+    for (Map.Entry<String, SharedReset> entry : resets.entrySet()) {
+      if (entry.getValue().expired(now)) {
+        resets.remove(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * Reinício de credencial compartilhado entre as chamadas de um login.
+   *
+   * @author Tecgraf
+   */
+  final class SharedReset {
+    /** Instante em nanosegundos da criação do reinício */
+    private final long created;
+    /** Conclusão da criação do reinício */
+    private final SettableFuture<SharedReset> future;
+    /** Sessão criada */
+    private volatile ServerSideSession session;
+    /** Segredo da sessão cifrado com a chave pública do login */
+    private volatile byte[] challenge;
+
+    /**
+     * Construtor.
+     *
+     * @param created instante em nanosegundos da criação do reinício.
+     */
+    private SharedReset(long created) {
+      this.created = created;
+      this.future = SettableFuture.create();
+    }
+
+    /**
+     * Recupera o identificador da sessão.
+     *
+     * @return o identificador da sessão.
+     */
+    int session() {
+      return session.getSession();
+    }
+
+    /**
+     * Recupera o segredo da sessão cifrado com a chave pública do login.
+     *
+     * @return o desafio.
+     */
+    byte[] challenge() {
+      return challenge;
+    }
+
+    /**
+     * Cria a sessão e o desafio.
+     *
+     * @param login o login.
+     * @param pubkey a chave pública codificada do login.
+     * @throws CryptographyException
+     */
+    private void complete(String login, byte[] pubkey)
+      throws CryptographyException {
+      if (limiter != null && !limiter.tryAcquire()) {
+        String message =
+          String.format(
+            "Limite de reinícios de credencial excedido: login (%s)", login);
+        logger.warning(message);
+        throw new TRANSIENT(message, 0, CompletionStatus.COMPLETED_NO);
+      }
+      byte[] secret = newSecret();
+      this.challenge = sessions.encrypt(login, pubkey, secret);
+      this.session = sessions.create(login, secret);
+      future.set(this);
+    }
+
+    /**
+     * Verifica se o reinício pode ser compartilhado com uma chamada.
+     *
+     * @param now o instante corrente em nanosegundos.
+     * @param used a sessão utilizada pela credencial da chamada.
+     * @return {@code true} caso possa ser compartilhado, e {@code false}
+     *         caso contrário.
+     */
+    private boolean shareable(long now, int used) {
+      if (expired(now)) {
+        return false;
+      }
+      ServerSideSession session = this.session;
+      // uma sessão ainda em criação é compartilhada
+      return session == null || session.getSession() != used;
+    }
+
+    /**
+     * Verifica se o reinício não pode mais ser compartilhado, por ter sido
+     * criado há mais de {@link #SHARE_WINDOW} ou porque a sua sessão saiu da
+     * cache.
+     *
+     * @param now o instante corrente em nanosegundos.
+     * @return {@code true} caso tenha expirado, e {@code false} caso
+     *         contrário.
+     */
+    private boolean expired(long now) {
+      if (now - created > SHARE_WINDOW) {
+        return true;
+      }
+      ServerSideSession session = this.session;
+      return session != null && !sessions.cached(session);
+    }
+
+    /**
+     * Aguarda a criação do reinício.
+     *
+     * @return o reinício.
+     * @throws CryptographyException
+     */
+    private SharedReset await() throws CryptographyException {
+      try {
+        return Uninterruptibles.getUninterruptibly(future);
+      }
+      catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof CryptographyException) {
+          throw (CryptographyException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        throw new IllegalStateException(cause);
+      }
+    }
+  }
+
+  /**
+   * Sessões servidor criadas pelos reinícios.
+   *
+   * @author Tecgraf
+   */
+  interface Sessions {
+    /**
+     * Cifra o segredo de uma nova sessão com a chave pública do login.
+     *
+     * @param login o login.
+     * @param pubkey a chave pública codificada do login.
+     * @param secret o segredo.
+     * @return o segredo cifrado.
+     * @throws CryptographyException
+     */
+    byte[] encrypt(String login, byte[] pubkey, byte[] secret)
+      throws CryptographyException;
+
+    /**
+     * Cria uma sessão e a guarda na cache de sessões.
+     *
+     * @param login o login.
+     * @param secret o segredo.
+     * @return a sessão.
+     */
+    ServerSideSession create(String login, byte[] secret);
+
+    /**
+     * Verifica se a sessão ainda está na cache de sessões.
+     *
+     * @param session a sessão.
+     * @return {@code true} caso esteja na cache, e {@code false} caso
+     *         contrário.
+     */
+    boolean cached(ServerSideSession session);
+  }
+
+  /**
+   * Sessões servidor da conexão.
+   *
+   * @author Tecgraf
+   */
+  private static final class ConnectionSessions implements Sessions {
+    /** A conexão */
+    private final ConnectionImpl conn;
+
+    /**
+     * Construtor.
+     *
+     * @param conn a conexão.
+     */
+    ConnectionSessions(ConnectionImpl conn) {
+      this.conn = conn;
+    }
+
+    @Override
+    public byte[] encrypt(String login, byte[] pubkey, byte[] secret)
+      throws CryptographyException {
+      Cryptography crypto = Cryptography.getInstance();
+      return crypto.encrypt(secret, conn.cache.logins.getPublicKey(login,
+        pubkey));
+    }
+
+    @Override
+    public ServerSideSession create(String login, byte[] secret) {
+      int epoch = conn.cache.sessionIds.epoch();
+      ServerSideSession session =
+        new ServerSideSession(conn.nextAvailableSessionId(), epoch, secret,
+          login, conn.ticketsHistorySize());
+      conn.cache.srvSessions.put(session.getSession(), session);
+      return session;
+    }
+
+    @Override
+    public boolean cached(ServerSideSession session) {
+      return conn.cache.srvSessions.peek(session.getSession()) == session;
+    }
+  }
+
+  /**
+   * Gera um novo segredo.
+   *
+   * @return o segredo.
+   */
+  private static byte[] newSecret() {
+    byte[] secret = new byte[SECRET_SIZE];
+    Random random = new Random();
+    random.nextBytes(secret);
+    return secret;
+  }
+}
@@ -2,7 +2,6 @@ package tecgraf.openbus.core;
 
 import java.security.interfaces.RSAPublicKey;
 import java.util.Arrays;
-import java.util.Random;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -25,6 +24,7 @@ import org.omg.PortableInterceptor.ServerRequestInterceptor;
 import tecgraf.openbus.CallDispatchCallback;
 import tecgraf.openbus.core.Credential.Chain;
 import tecgraf.openbus.core.Credential.Reset;
+import tecgraf.openbus.core.ResetCoalescer.SharedReset;
 import tecgraf.openbus.core.Session.ServerSideSession;
 import tecgraf.openbus.core.v2_1.OctetSeqHolder;
 import tecgraf.openbus.core.v2_1.credential.CredentialContextId;
@@ -44,7 +44,6 @@ import tecgraf.openbus.core.v2_1.services.access_control.UnverifiedLoginCode;
 import tecgraf.openbus.exception.CryptographyException;
 import tecgraf.openbus.interceptors.CallChainInfo;
 import tecgraf.openbus.interceptors.CallChainInfoHelper;
-import tecgraf.openbus.security.Cryptography;
 
 /**
  * Interceptador servidor.
@@ -54,7 +53,7 @@ import tecgraf.openbus.security.Cryptography;
 final class ServerRequestInterceptorImpl extends InterceptorImpl implements
   ServerRequestInterceptor {
 
-  /** Instncia de logging. */
+  /** Instância de logging. */
   private static final Logger logger = Logger
     .getLogger(ServerRequestInterceptorImpl.class.getName());
 
@@ -77,7 +76,7 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
   /**
    * Recupera a credencial do contexto.
    * 
-   * @param ri informao do contexto
+   * @param ri informação do contexto
    * @return a credencial.
    */
   private Credential retrieveCredential(ServerRequestInfo ri) {
@@ -164,7 +163,7 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
             if (validateChain(credential, null, conn)) {
               saveRequestInformations(credential, conn, ri);
               String msg =
-                "Recebendo chamada pelo barramento: login (%s) entidade (%s) operao (%s) requestId (%d)";
+                "Recebendo chamada pelo barramento: login (%s) entidade (%s) operação (%s) requestId (%d)";
               logger.fine(String.format(msg, loginId, entity, operation,
                 requestId));
               return;
@@ -173,14 +172,14 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
               logger
                 .fine(String
                   .format(
-                    "Recebeu chamada com cadeia invlida: operao (%s) requestId (%d)",
+                    "Recebeu chamada com cadeia inválida: operação (%s) requestId (%d)",
                     operation, requestId));
               throw new NO_PERMISSION(InvalidChainCode.value,
                 CompletionStatus.COMPLETED_NO);
             }
           }
           else {
-            // credencial no  vlida. Resetando a credencial da sesso.
+            // credencial não é válida. Resetando a credencial da sessão.
             doResetCredential(ri, conn, credential, pubkey.value);
             throw new NO_PERMISSION(InvalidCredentialCode.value,
               CompletionStatus.COMPLETED_NO);
@@ -188,7 +187,7 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
         }
         else {
           logger.severe(String.format(
-            "Credencial com login invlido: operao (%s) login (%s)",
+            "Credencial com login inválido: operação (%s) login (%s)",
             operation, loginId));
           throw new NO_PERMISSION(InvalidLoginCode.value,
             CompletionStatus.COMPLETED_NO);
@@ -198,38 +197,38 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
         logger
           .severe(String
             .format(
-              "Recebeu chamade de outro barramento: operao (%s) login (%s) bus (%s)",
+              "Recebeu chamade de outro barramento: operação (%s) login (%s) bus (%s)",
               operation, loginId, busId));
         throw new NO_PERMISSION(InvalidLoginCode.value,
           CompletionStatus.COMPLETED_NO);
       }
     }
     catch (CryptographyException e) {
-      String message = "Falha ao criptografar com chave pblica";
+      String message = "Falha ao criptografar com chave pública";
       logger.log(Level.SEVERE, message, e);
       throw new NO_PERMISSION(InvalidPublicKeyCode.value,
         CompletionStatus.COMPLETED_NO);
     }
     finally {
-      // Talvez essa operao nao deveria ser necessaria, 
-      // pois o PICurrent deveria acabar junto com a thread de interceptao.
-      // CHECK possvel bug! Esta operao modifica o valor setado no ri e PICurrent
+      // Talvez essa operação nao deveria ser necessaria, 
+      // pois o PICurrent deveria acabar junto com a thread de interceptação.
+      // CHECK possível bug! Esta operação modifica o valor setado no ri e PICurrent
       //context.currentConnection(null);
       logger.finest(String.format("[out] receive_request: %s", operation));
     }
   }
 
   /**
-   * Recupera a conexo a ser utilizada no dispatch.
+   * Recupera a conexão a ser utilizada no dispatch.
    * 
    * @param context Gerenciador de contexto do ORB que recebeu a chamada.
-   * @param busId Identificao do barramento atravs do qual a chamada foi
+   * @param busId Identificação do barramento através do qual a chamada foi
    *        feita.
-   * @param loginId Informaes do login que se tornou invlido.
+   * @param loginId Informações do login que se tornou inválido.
    * @param object_id Idenficador opaco descrevendo o objeto sendo chamado.
-   * @param operation Nome da operao sendo chamada.
+   * @param operation Nome da operação sendo chamada.
    * 
-   * @return Conexo a ser utilizada para receber a chamada.
+   * @return Conexão a ser utilizada para receber a chamada.
    */
   private ConnectionImpl getConnForDispatch(OpenBusContextImpl context,
     String busId, String loginId, byte[] object_id, String operation) {
@@ -243,7 +242,7 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
       }
       catch (Exception e) {
         logger.log(Level.SEVERE,
-          "Callback 'onCallDispatch' gerou um erro durante execuo.", e);
+          "Callback 'onCallDispatch' gerou um erro durante execução.", e);
       }
       //TODO caso callback gere um erro, busco a conexao default ou NO_PERMISSION?
     }
@@ -258,38 +257,31 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
   }
 
   /**
-   * Realiza o protocolo de reiniciar a credencial da sesso.
+   * Realiza o protocolo de reiniciar a credencial da sessão. Reinícios
+   * concorrentes de um mesmo login compartilham a mesma sessão.
    * 
-   * @param ri informao do request.
-   * @param conn a conexo.
+   * @param ri informação do request.
+   * @param conn a conexão.
    * @param credential a credencial associada a chamada.
-   * @param publicKey a chave pblica do requisitante.
+   * @param publicKey a chave pública do requisitante.
    * @throws CryptographyException
    */
   private void doResetCredential(ServerRequestInfo ri, ConnectionImpl conn,
     Credential credential, byte[] publicKey) throws CryptographyException {
-    byte[] newSecret = newSecret();
-    Cryptography crypto = Cryptography.getInstance();
-    byte[] encriptedSecret =
-      crypto.encrypt(newSecret, crypto
-        .generateRSAPublicKeyFromX509EncodedKey(publicKey));
-    int sessionId = conn.nextAvailableSessionId();
-    ServerSideSession newSession =
-      new ServerSideSession(sessionId, newSecret, credential.login);
-    conn.cache.srvSessions.put(newSession.getSession(), newSession);
+    SharedReset shared = conn.cache.resets.reset(credential, publicKey);
     LoginInfo login = conn.login();
     Reset reset =
-      new Reset(login, sessionId, encriptedSecret, credential.legacy);
+      new Reset(login, shared.session(), shared.challenge(), credential.legacy);
     try {
       ri.add_reply_service_context(reset.toServiceContext(orb(), codec()),
         false);
       logger.fine(String.format(
-        "Resetando a credencial: operao (%s) requestId (%d)", ri.operation(),
+        "Resetando a credencial: operação (%s) requestId (%d)", ri.operation(),
         ri.request_id()));
     }
     catch (InvalidTypeForEncoding e) {
       String message =
-        String.format("Falha ao codificar reset: operao (%s) requestId (%d)",
+        String.format("Falha ao codificar reset: operação (%s) requestId (%d)",
           ri.operation(), ri.request_id());
       logger.log(Level.SEVERE, message, e);
       throw new INTERNAL(message);
@@ -299,11 +291,11 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
   /**
    * Verifica a validade do login.
    * 
-   * @param conn conexo em uso
+   * @param conn conexão em uso
    * @param loginId identificador do login
-   * @param ri informaes da requisio
-   * @return {@code true} caso o login seja vlido, ou {@code false}
-   *         caso contrrio.
+   * @param ri informações da requisição
+   * @return {@code true} caso o login seja válido, ou {@code false}
+   *         caso contrário.
    */
   private boolean validateLogin(ConnectionImpl conn, String loginId,
     ServerRequestInfo ri) {
@@ -315,7 +307,7 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
       int requestId = ri.request_id();
       if (e.minor == NoLoginCode.value) {
         String message =
-          "Erro ao validar o login. Conexo dispatcher est deslogada. operao (%s) requestId (%d)";
+          "Erro ao validar o login. Conexão dispatcher está deslogada. operação (%s) requestId (%d)";
         logger.log(Level.SEVERE, String.format(message, operation, requestId),
           e);
         throw new NO_PERMISSION(UnknownBusCode.value,
@@ -323,7 +315,7 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
       }
       else {
         String message =
-          "Erro ao validar o login. operao (%s) requestId (%d)";
+          "Erro ao validar o login. operação (%s) requestId (%d)";
         logger.log(Level.SEVERE, String.format(message, operation, requestId),
           e);
         throw new NO_PERMISSION(UnverifiedLoginCode.value,
@@ -339,12 +331,12 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
   }
 
   /**
-   * Recupera informaes do login
+   * Recupera informações do login
    * 
-   * @param conn conexo em uso
+   * @param conn conexão em uso
    * @param loginId identifador do login de interesse
-   * @param pubkey holder da chave pblica do login
-   * @param ri informaes da requisio
+   * @param pubkey holder da chave pública do login
+   * @param ri informações da requisição
    * @return o nome da entidade associada ao login
    */
   private String getLoginInfo(ConnectionImpl conn, String loginId,
@@ -356,7 +348,7 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
     }
     catch (InvalidLogins e) {
       String message =
-        "Login verificado  invlido. operao (%s) requestId (%d)";
+        "Login verificado é inválido. operação (%s) requestId (%d)";
       logger.log(Level.SEVERE, String.format(message, operation, requestId), e);
       throw new NO_PERMISSION(InvalidLoginCode.value,
         CompletionStatus.COMPLETED_NO);
@@ -364,7 +356,7 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
     catch (NO_PERMISSION e) {
       if (e.minor == NoLoginCode.value) {
         String message =
-          "Erro ao verificar o login. Conexo dispatcher est deslogada. operao (%s) requestId (%d)";
+          "Erro ao verificar o login. Conexão dispatcher está deslogada. operação (%s) requestId (%d)";
         logger.log(Level.SEVERE, String.format(message, operation, requestId),
           e);
         throw new NO_PERMISSION(UnknownBusCode.value,
@@ -372,7 +364,7 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
       }
       else {
         String message =
-          "Erro ao verificar o login. operao (%s) requestId (%d)";
+          "Erro ao verificar o login. operação (%s) requestId (%d)";
         logger.log(Level.SEVERE, String.format(message, operation, requestId),
           e);
         throw new NO_PERMISSION(UnverifiedLoginCode.value,
@@ -381,7 +373,7 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
     }
     catch (Exception e) {
       String message =
-        "Erro ao verificar o login. operao (%s) requestId (%d)";
+        "Erro ao verificar o login. operação (%s) requestId (%d)";
       logger.log(Level.SEVERE, String.format(message, operation, requestId), e);
       throw new NO_PERMISSION(UnverifiedLoginCode.value,
         CompletionStatus.COMPLETED_NO);
@@ -389,27 +381,27 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
   }
 
   /**
-   * Verifica se a credencial  vlida, recalculando o hash da mesma.
+   * Verifica se a credencial é válida, recalculando o hash da mesma.
    * 
    * @param credential a credencial
-   * @param ri informao do request.
-   * @param conn a conexo em uso.
-   * @return {@code true} caso a credencial seja vlida, ou {@code false}
-   * caso contrrio.
+   * @param ri informação do request.
+   * @param conn a conexão em uso.
+   * @return {@code true} caso a credencial seja válida, ou {@code false}
+   * caso contrário.
    */
   private boolean validateCredential(Credential credential,
     ServerRequestInfo ri, ConnectionImpl conn) {
     ServerSideSession session = conn.cache.srvSessions.get(credential.session);
     if (session != null && session.getCaller().equals(credential.login)) {
       byte[] hash =
-        this.generateCredentialDataHash(ri, session.getSecret(),
-          credential.ticket, credential.legacy);
+        this.generateCredentialDataHash(ri, session, credential.ticket,
+          credential.legacy);
       if (Arrays.equals(hash, credential.hash)
         && session.checkTicket(credential.ticket)) {
         logger
           .finest(String
             .format(
-              "credencial vlida: operao (%s) requestId (%d) sesso (%d) ticket (%d)",
+              "credencial válida: operação (%s) requestId (%d) sessão (%d) ticket (%d)",
               ri.operation(), ri.request_id(), session.getSession(),
               credential.ticket));
         return true;
@@ -418,13 +410,13 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
         logger
           .finest(String
             .format(
-              "Falha na validao do hash da credencial: operao (%s) requestId (%d)",
+              "Falha na validação do hash da credencial: operação (%s) requestId (%d)",
               ri.operation(), ri.request_id()));
       }
     }
     else {
       logger.fine(String.format(
-        "Recebeu chamada sem sesso associda: operao (%s) requestId (%d)", ri
+        "Recebeu chamada sem sessão associda: operação (%s) requestId (%d)", ri
           .operation(), ri.request_id()));
     }
     return false;
@@ -434,23 +426,23 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
    * Valida a cadeia de uma credencial.
    * 
    * @param credential a credencial
-   * @param pubKey a chave pblica da entidade. Caso seja null, a assinatura
-   *               ser validada com a chave pblica do barramento.
-   * @param conn a conexo em uso.
-   * @return {@code true} caso a cadeia seja vlida, ou {@code false} caso
-   * contrrio.
+   * @param pubKey a chave pública da entidade. Caso seja null, a assinatura
+   *               será validada com a chave pública do barramento.
+   * @param conn a conexão em uso.
+   * @return {@code true} caso a cadeia seja válida, ou {@code false} caso
+   * contrário.
    */
   private boolean validateChain(Credential credential, RSAPublicKey pubKey,
     ConnectionImpl conn) {
-    Cryptography crypto = Cryptography.getInstance();
     if (pubKey == null) {
       pubKey = conn.busPublicKey();
     }
     if (credential.chain != null) {
       try {
-        Chain chain = credential.decodeChain(codec());
+        Chain chain = credential.decodeChain(mediator().getDecodedChains());
         boolean verified =
-          crypto.verifySignature(pubKey, chain.encoded(), chain.signature());
+          conn.cache.verifiedChains.verify(pubKey, chain.encoded(), chain
+            .signature());
         if (verified && (chain.bus.equals(credential.bus))
           && (chain.target.equals(conn.login().entity))
           && (chain.caller.id.equals(credential.login))) {
@@ -473,11 +465,11 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
   }
 
   /**
-   * Salva as informaes associadas  requisio
+   * Salva as informações associadas à requisição
    * 
    * @param credential a credencial
-   * @param conn conexo utilizada no atendimento da requisio
-   * @param ri as informaes da requisio
+   * @param conn conexão utilizada no atendimento da requisição
+   * @param ri as informações da requisição
    */
   private void saveRequestInformations(Credential credential,
     ConnectionImpl conn, ServerRequestInfo ri) {
@@ -488,27 +480,24 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
     chainInfo.legacy = credential.legacy;
     chainInfo.bus = credential.bus;
     chainInfo.legacy_chain = chain.signedLegacy;
-    if (!credential.legacy && conn.legacy()
+    if (!credential.legacy && conn.legacy() && !conn.lazyLegacyChain()
       && (conn.legacySupport().converter() != null)) {
       CallChain callchain =
         new CallChain(chain.bus, chain.target, chain.originators, chain.caller);
       try {
-        context().joinChain(new CallerChainImpl(callchain, chain.signedChain));
         chainInfo.legacy_chain =
-          conn.legacySupport().converter().convertSignedChain();
+          conn.cache.legacyChains.convert(conn, new CallerChainImpl(callchain,
+            chain.signedChain));
       }
       catch (Exception e) {
         String err =
           String.format(
-            "Falha ao converter cadeia assinada: operao (%s) requestId (%d)",
+            "Falha ao converter cadeia assinada: operação (%s) requestId (%d)",
             ri.operation(), ri.request_id());
         logger.log(Level.SEVERE, err, e);
         throw new NO_PERMISSION(err, NoCredentialCode.value,
           CompletionStatus.COMPLETED_NO);
       }
-      finally {
-        context().exitChain();
-      }
     }
     Any any = orb().create_any();
     CallChainInfoHelper.insert(any, chainInfo);
@@ -520,7 +509,7 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
       logger.log(Level.SEVERE, message, e);
       throw new INTERNAL(message);
     }
-    // salva a conexo utilizada no dispatch
+    // salva a conexão utilizada no dispatch
     // CHECK se o bug relatado no finally for verdadeiro, isso pode ser desnecessario
     setCurrentConnection(ri, conn);
   }
@@ -537,11 +526,11 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
       ri.set_slot(mediator().getSignedChainSlotId(), any);
     }
     catch (InvalidSlot e) {
-      String message = "Falha inesperada ao limpar informaes nos slots";
+      String message = "Falha inesperada ao limpar informações nos slots";
       logger.log(Level.SEVERE, message, e);
       throw new INTERNAL(message);
     }
-    String msg = "Chamada atendida: operao (%s) requestId (%d)";
+    String msg = "Chamada atendida: operação (%s) requestId (%d)";
     logger.fine(String.format(msg, operation, ri.request_id()));
   }
 
@@ -554,23 +543,10 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
   }
 
   /**
-   * Gera um novo segredo.
-   * 
-   * @return o segredo.
-   */
-  private byte[] newSecret() {
-    int size = 16;
-    byte[] secret = new byte[size];
-    Random random = new Random();
-    random.nextBytes(secret);
-    return secret;
-  }
-
-  /**
-   * Configura a conexo corrente desta requisio.
+   * Configura a conexão corrente desta requisição.
    * 
-   * @param ri informao da requisio
-   * @param conn a conexo corrente.
+   * @param ri informação da requisição
+   * @param conn a conexão corrente.
    */
   private void setCurrentConnection(ServerRequestInfo ri, ConnectionImpl conn) {
     try {
@@ -583,7 +559,7 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
       logger
         .finest(String
           .format(
-            "Salvando conexo que realiza o dispatch: conexo (%s) login (%s) operao (%s) requestId (%s)",
+            "Salvando conexão que realiza o dispatch: conexão (%s) login (%s) operação (%s) requestId (%s)",
             conn.connId(), conn.login().id, ri.operation(), ri.request_id()));
     }
     catch (InvalidSlot e) {
@@ -594,9 +570,9 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
   }
 
   /**
-   * Remove a conexo corrente do slot de ThreadId
+   * Remove a conexão corrente do slot de ThreadId
    * 
-   * @param ri a informao do request.
+   * @param ri a informação do request.
    */
   private void removeCurrentConnection(ServerRequestInfo ri) {
     try {
@@ -609,15 +585,15 @@ final class ServerRequestInterceptorImpl extends InterceptorImpl implements
       else {
         // nunca deveria acontecer.
         String message =
-          "BUG: Falha inesperada ao acessar o slot da conexo corrente";
+          "BUG: Falha inesperada ao acessar o slot da conexão corrente";
         logger.log(Level.SEVERE, message);
         throw new INTERNAL(message);
       }
 
-      // limpando informao da conexo
-      // TODO Dvida:
+      // limpando informação da conexão
+      // TODO Dúvida:
       /*
-       * o orb garante que no modificou a informao no PICurrent da thread que
+       * o orb garante que não modificou a informação no PICurrent da thread que
        * originalmente fez um setCurrentConnection?
        */
       Any any = orb().create_any();
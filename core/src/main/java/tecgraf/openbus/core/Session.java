@@ -1,11 +1,12 @@
 package tecgraf.openbus.core;
 
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import tecgraf.openbus.core.Credential.Reset;
 
 /**
- * Classe que representa a parte comum entre a sesso do lado servidor e
+ * Classe que representa a parte comum entre a sessão do lado servidor e
  * cliente.
  * 
  * @author Tecgraf
@@ -13,29 +14,44 @@ import tecgraf.openbus.core.Credential.Reset;
 abstract class Session {
 
   /**
-   * Identificador da sesso.
+   * Identificador da sessão.
    */
   final private int session;
   /**
-   * O segredo compartilhado na sesso
+   * O segredo compartilhado na sessão
    */
   final protected byte[] secret;
+  /**
+   * Versão e segredo da sessão, que iniciam o hash das credenciais.
+   */
+  final private byte[] hashPrefix;
+  /**
+   * Versão legada e segredo da sessão, que iniciam o hash das credenciais
+   * legadas.
+   */
+  final private byte[] legacyHashPrefix;
 
   /**
    * Construtor.
    * 
-   * @param session identificador da sesso
+   * @param session identificador da sessão
    * @param secret o segredo.
    */
   Session(int session, byte[] secret) {
     this.session = session;
     this.secret = secret;
+    this.hashPrefix =
+      CredentialHashEngine.prefix(InterceptorImpl.BUS_MAJOR_VERSION,
+        InterceptorImpl.BUS_MINOR_VERSION, secret);
+    this.legacyHashPrefix =
+      CredentialHashEngine.prefix(InterceptorImpl.LEGACY_MAJOR_VERSION,
+        InterceptorImpl.LEGACY_MINOR_VERSION, secret);
   }
 
   /**
-   * Recupera o identificador da sesso.
+   * Recupera o identificador da sessão.
    * 
-   * @return o identificador da sesso.
+   * @return o identificador da sessão.
    */
   public int getSession() {
     return this.session;
@@ -51,83 +67,119 @@ abstract class Session {
   }
 
   /**
-   * Representa a sesso do lado servidor.
+   * Recupera a parte do hash das credenciais que depende apenas da sessão.
+   * 
+   * @param legacy indicador se em modo legado.
+   * @return a versão do protocolo seguida do segredo.
+   */
+  byte[] getHashPrefix(boolean legacy) {
+    return legacy ? this.legacyHashPrefix : this.hashPrefix;
+  }
+
+  /**
+   * Representa a sessão do lado servidor.
    * 
    * @author Tecgraf
    */
   static class ServerSideSession extends Session {
     /**
-     * Histrico dos tickets.
+     * Histórico dos tickets.
      */
     private final TicketsHistory ticket;
     /**
-     * Originador da comunicao.
+     * Originador da comunicação.
      */
     final private String caller;
+    /**
+     * Época do alocador em que o identificador da sessão foi alocado.
+     */
+    final private int epoch;
 
     /**
      * Construtor.
      * 
-     * @param session identificador da sesso
+     * @param session identificador da sessão
+     * @param epoch época em que o identificador foi alocado
      * @param secret o segredo.
-     * @param caller originador da comunicao
+     * @param caller originador da comunicação
+     * @param historySize tamanho do histórico de tickets
      */
-    public ServerSideSession(int session, byte[] secret, String caller) {
+    public ServerSideSession(int session, int epoch, byte[] secret,
+      String caller, int historySize) {
       super(session, secret);
-      this.ticket = new TicketsHistory();
+      this.ticket = new TicketsHistory(historySize);
       this.caller = caller;
+      this.epoch = epoch;
     }
 
     /**
-     * Verifica se o ticket  vlido e marca com utilizado caso seja vlido.
+     * Verifica se o ticket é válido e marca com utilizado caso seja válido.
      * 
      * @param id o ticket a ser utilizado.
-     * @return {@code true} caso o ticket era vlido e foi marcado, e
-     *         {@code false} caso o ticket no fosse vlido.
+     * @return {@code true} caso o ticket era válido e foi marcado, e
+     *         {@code false} caso o ticket não fosse válido.
      */
     public boolean checkTicket(int id) {
       return this.ticket.check(id);
     }
 
     /**
-     * Recupera a informao do originador da comunicao
+     * Recupera a informação do originador da comunicação
      * 
-     * @return o originador da comunicao.
+     * @return o originador da comunicação.
      */
     public String getCaller() {
       return this.caller;
     }
 
+    /**
+     * Recupera a época em que o identificador da sessão foi alocado.
+     * 
+     * @return a época.
+     */
+    int getEpoch() {
+      return this.epoch;
+    }
+
   }
 
   /**
-   * Repesenta a sesso do lado cliente.
+   * Repesenta a sessão do lado cliente.
    * 
    * @author Tecgraf
    */
   static class ClientSideSession extends Session {
     /**
-     * Valor do ltimo ticket utilizado
+     * Valor do último ticket utilizado
      */
     private final AtomicInteger ticket;
     /**
-     * Entidade do alvo da comunicao.
+     * Entidade do alvo da comunicação.
      */
     final private String entity;
     /**
-     * Indicador se comunicao faz uso de protocolo legado
+     * Indicador se comunicação faz uso de protocolo legado
      */
     final private boolean legacy;
+    /**
+     * Desafio recebido no CredentialReset que estabeleceu a sessão.
+     */
+    final private byte[] challenge;
+    /**
+     * Modelo da credencial codificada da sessão.
+     */
+    private volatile CredentialTemplate template;
 
     /**
      * Construtor.
      * 
-     * @param reset informaes do CredentialReset
+     * @param reset informações do CredentialReset
      * @param secret o segredo.
      */
     public ClientSideSession(Reset reset, byte[] secret) {
       super(reset.session, secret);
       this.ticket = new AtomicInteger(-1);
+      this.challenge = reset.challenge;
       this.legacy = reset.legacy;
       if (!legacy) {
         this.entity = reset.entity;
@@ -138,30 +190,62 @@ abstract class Session {
     }
 
     /**
-     * Recupera o valor do prximo ticket.
+     * Verifica se um CredentialReset estabelece esta mesma sessão, o que
+     * ocorre quando o servidor compartilha a sessão entre chamadas
+     * concorrentes.
      * 
-     * @return o valor do prximo ticket.
+     * @param reset informações do CredentialReset
+     * @return {@code true} caso seja a mesma sessão, e {@code false} caso
+     *         contrário.
+     */
+    boolean sameReset(Reset reset) {
+      return getSession() == reset.session && legacy == reset.legacy
+        && Arrays.equals(challenge, reset.challenge);
+    }
+
+    /**
+     * Recupera o valor do próximo ticket.
+     * 
+     * @return o valor do próximo ticket.
      */
     public int nextTicket() {
       return this.ticket.incrementAndGet();
     }
 
     /**
-     * Recupera a informao de entidade do alvo da comunicao
+     * Recupera a informação de entidade do alvo da comunicação
      * 
-     * @return o alvo da comunicao.
+     * @return o alvo da comunicação.
      */
     public String getEntity() {
       return this.entity;
     }
 
     /**
-     * Indicador se sesso faz uso de protocolo legado
+     * Indicador se sessão faz uso de protocolo legado
      * 
-     * @return se sesso faz uso de protocolo legado.
+     * @return se sessão faz uso de protocolo legado.
      */
     public boolean legacy() {
       return legacy;
     }
+
+    /**
+     * Recupera o modelo da credencial codificada da sessão.
+     * 
+     * @return o modelo, ou {@code null} caso ainda não tenha sido criado.
+     */
+    CredentialTemplate template() {
+      return template;
+    }
+
+    /**
+     * Configura o modelo da credencial codificada da sessão.
+     * 
+     * @param template o modelo.
+     */
+    void template(CredentialTemplate template) {
+      this.template = template;
+    }
   }
 }
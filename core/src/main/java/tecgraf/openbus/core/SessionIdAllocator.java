@@ -0,0 +1,126 @@
+package tecgraf.openbus.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Alocador de identificadores de sessão do lado servidor.
+ * <p>
+ * Os identificadores liberados, quando suas sessões saem da cache, são
+ * guardados em uma lista de livres e reaproveitados nas próximas alocações.
+ * Quando a lista está vazia, um novo identificador é gerado. Dessa forma, os
+ * identificadores em uso ficam limitados ao tamanho da cache mais as
+ * alocações em andamento, e tanto a alocação quanto a liberação são feitas em
+ * tempo constante e sem bloqueio.
+ * <p>
+ * Cada limpeza inicia uma nova época. Como a cache notifica as remoções fora
+ * do seu bloqueio, uma liberação pode chegar depois da limpeza; por isso a
+ * liberação informa a época da alocação, e liberações de épocas anteriores
+ * são descartadas em vez de devolver à lista um identificador que pode já ter
+ * sido realocado.
+ *
+ * @author Tecgraf
+ */
+final class SessionIdAllocator {
+
+  /** Identificadores da época corrente */
+  private volatile Generation current;
+
+  /**
+   * Construtor.
+   */
+  SessionIdAllocator() {
+    this.current = new Generation(0);
+  }
+
+  /**
+   * Recupera a época corrente. Deve ser consultada antes da alocação cujo
+   * identificador será liberado com ela.
+   *
+   * @return a época corrente.
+   */
+  int epoch() {
+    return current.epoch;
+  }
+
+  /**
+   * Aloca um identificador de sessão. O identificador 0 nunca é alocado, pois
+   * é utilizado pelas credenciais sem sessão.
+   *
+   * @return o identificador alocado.
+   */
+  int allocate() {
+    return current.allocate();
+  }
+
+  /**
+   * Libera um identificador de sessão para ser reaproveitado. Identificadores
+   * alocados em uma época anterior à última limpeza são ignorados.
+   *
+   * @param id o identificador.
+   * @param epoch a época consultada antes da alocação do identificador.
+   */
+  void release(int id, int epoch) {
+    Generation generation = current;
+    if (generation.epoch == epoch) {
+      generation.release(id);
+    }
+  }
+
+  /**
+   * Libera todos os identificadores, iniciando uma nova época.
+   */
+  synchronized void clear() {
+    current = new Generation(current.epoch + 1);
+  }
+
+  /**
+   * Identificadores alocados em uma mesma época.
+   *
+   * @author Tecgraf
+   */
+  private static final class Generation {
+    /** A época */
+    final int epoch;
+    /** Identificadores liberados */
+    private final Queue<Integer> free;
+    /** Último identificador gerado */
+    private final AtomicInteger last;
+
+    /**
+     * Construtor.
+     *
+     * @param epoch a época.
+     */
+    Generation(int epoch) {
+      this.epoch = epoch;
+      this.free = new ConcurrentLinkedQueue<>();
+      this.last = new AtomicInteger(0);
+    }
+
+    /**
+     * Aloca um identificador.
+     *
+     * @return o identificador alocado.
+     */
+    int allocate() {
+      Integer id = free.poll();
+      if (id != null) {
+        return id;
+      }
+      return last.incrementAndGet();
+    }
+
+    /**
+     * Libera um identificador.
+     *
+     * @param id o identificador.
+     */
+    void release(int id) {
+      if (id > 0 && id <= last.get()) {
+        free.offer(id);
+      }
+    }
+  }
+}
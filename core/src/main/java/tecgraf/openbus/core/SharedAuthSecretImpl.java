@@ -4,8 +4,8 @@ import tecgraf.openbus.SharedAuthSecret;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginProcess;
 
 /**
- * Implementao da classe que representa o segredo para compartilhamento de uma
- * autenticao.
+ * Implementação da classe que representa o segredo para compartilhamento de uma
+ * autenticação.
  *
  * @author Tecgraf/PUC-Rio
  */
@@ -0,0 +1,106 @@
+package tecgraf.openbus.core;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import org.omg.CORBA.UserException;
+
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Execução única de tarefas concorrentes.
+ * <p>
+ * Enquanto a tarefa associada a uma chave está em andamento, as demais threads
+ * que solicitarem a execução de uma tarefa com a mesma chave aguardam e
+ * recebem o resultado da tarefa em andamento, em vez de executá-la novamente.
+ * Falhas da tarefa também são repassadas a todas as threads que aguardavam.
+ *
+ * @author Tecgraf
+ * @param <K> Tipo da chave das tarefas
+ * @param <V> Tipo do resultado das tarefas
+ */
+final class SingleFlight<K, V> {
+
+  /** Tarefas em andamento */
+  private final ConcurrentMap<K, SettableFuture<V>> flights;
+
+  /**
+   * Construtor.
+   */
+  SingleFlight() {
+    this.flights = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Executa a tarefa, ou aguarda o resultado da tarefa em andamento com a
+   * mesma chave.
+   *
+   * @param key a chave da tarefa.
+   * @param task a tarefa.
+   * @return o resultado da tarefa.
+   * @throws UserException
+   */
+  V execute(K key, Task<V> task) throws UserException {
+    SettableFuture<V> flight = SettableFuture.create();
+    SettableFuture<V> running = flights.putIfAbsent(key, flight);
+    if (running != null) {
+      return await(running);
+    }
+    try {
+      V value = task.call();
+      flight.set(value);
+      return value;
+    }
+    catch (Throwable e) {
+      flight.setException(e);
+      throw e;
+    }
+    finally {
+      flights.remove(key, flight);
+    }
+  }
+
+  /**
+   * Aguarda o resultado de uma tarefa em andamento.
+   *
+   * @param future o resultado futuro da tarefa.
+   * @return o resultado da tarefa.
+   * @throws UserException
+   */
+  private static <V> V await(SettableFuture<V> future) throws UserException {
+    try {
+      return Uninterruptibles.getUninterruptibly(future);
+    }
+    catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UserException) {
+        throw (UserException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * Tarefa executada uma única vez por chave.
+   *
+   * @author Tecgraf
+   * @param <V> Tipo do resultado da tarefa
+   */
+  interface Task<V> {
+    /**
+     * Executa a tarefa.
+     *
+     * @return o resultado da tarefa.
+     * @throws UserException
+     */
+    V call() throws UserException;
+  }
+}
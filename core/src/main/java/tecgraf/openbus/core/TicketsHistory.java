@@ -1,32 +1,36 @@
 package tecgraf.openbus.core;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
- * Histrico de tickets
- * 
+ * Histórico de tickets
+ * <p>
+ * Os tickets menores que o valor base são considerados utilizados, e os
+ * tickets seguintes ao valor base são marcados em uma janela de bits. O
+ * estado do histórico é imutável e substituído atomicamente a cada ticket
+ * marcado, de forma que requisições concorrentes de uma mesma sessão não
+ * precisem de bloqueio.
+ *
  * @author Tecgraf
  */
 class TicketsHistory {
 
   /**
-   * valor base
-   */
-  private int base;
-  /**
-   * mapa de tickets utilizados
+   * tamanho padrão do histórico.
    */
-  private int bits;
+  static final int DEFAULT_SIZE = 128;
   /**
-   * ndice corrente no mapa de bits
+   * quantidade de bits de cada palavra do mapa de bits.
    */
-  private int index;
+  private static final int WORD_SIZE = Long.SIZE;
   /**
-   * tamanho padro do histrico.
+   * o tamanho histórico.
    */
-  private static final int DEFAULT_SIZE = 32;
+  private final int size;
   /**
-   * o tamanho histrico.
+   * o estado corrente do histórico.
    */
-  private final int size;
+  private final AtomicReference<Window> window;
 
   /**
    * Construtor.
@@ -37,103 +41,174 @@ class TicketsHistory {
 
   /**
    * Construtor.
-   * 
-   * @param size tamanho do histrico.
+   *
+   * @param size tamanho do histórico: 64, 128 ou 256.
    */
   public TicketsHistory(int size) {
-    this.base = 0;
-    this.bits = 0;
-    this.index = 0;
+    if (!isValidSize(size)) {
+      throw new IllegalArgumentException(
+        "Tamanho de histórico de tickets inválido: " + size);
+    }
     this.size = size;
+    this.window =
+      new AtomicReference<>(new Window(0, new long[size / WORD_SIZE]));
   }
 
   /**
-   * Verifica se a posio esta marcada.
-   * 
-   * @param index o ndice verificado.
-   * @return se posio esta marcada ou no.
+   * Verifica se o tamanho é um tamanho de histórico suportado.
+   *
+   * @param size o tamanho.
+   * @return {@code true} caso o tamanho seja 64, 128 ou 256, e {@code false}
+   *         caso contrário.
    */
-  private boolean FLAG(int index) {
-    return (this.bits & (1 << index)) != 0;
+  static boolean isValidSize(int size) {
+    return size == 64 || size == 128 || size == 256;
   }
 
   /**
-   * Marca a posio.
-   * 
-   * @param index a posio.
+   * Verifica se o ticket é válido e marca com utilizado caso seja válido.
+   *
+   * @param id o ticket a ser utilizado.
+   * @return {@code true} caso o ticket era válido e foi marcado, e
+   *         {@code false} caso o ticket não fosse válido.
    */
-  private void SET(int index) {
-    this.bits |= (1 << index);
+  public boolean check(int id) {
+    while (true) {
+      Window current = this.window.get();
+      Window next = current.mark(id, this.size);
+      if (next == null) {
+        return false;
+      }
+      if (this.window.compareAndSet(current, next)) {
+        return true;
+      }
+    }
   }
 
   /**
-   * Limpa a posio.
-   * 
-   * @param index a posio.
+   * Estado imutável do histórico.
+   *
+   * @author Tecgraf
    */
-  private void CLEAR(int index) {
-    this.bits &= ~(1 << index);
-  }
+  private static final class Window {
+    /**
+     * valor base: o menor ticket ainda não utilizado.
+     */
+    private final int base;
+    /**
+     * mapa de tickets utilizados: o bit i indica o ticket (base + 1 + i).
+     */
+    private final long[] bits;
 
-  /**
-   * Descarta o valor de base atual e configura um novo.
-   */
-  private void discardBase() {
-    this.base++;
-    if (this.bits != 0) {
-      for (int i = 0; i < this.size; i++) {
-        if (!FLAG(this.index)) {
-          break;
+    /**
+     * Construtor.
+     *
+     * @param base valor base.
+     * @param bits mapa de tickets utilizados.
+     */
+    Window(int base, long[] bits) {
+      this.base = base;
+      this.bits = bits;
+    }
+
+    /**
+     * Gera o estado resultante de marcar o ticket como utilizado.
+     *
+     * @param id o ticket.
+     * @param size o tamanho do histórico.
+     * @return o novo estado, ou {@code null} caso o ticket não seja válido.
+     */
+    Window mark(int id, int size) {
+      long offset = (long) id - this.base;
+      if (offset < 0) {
+        return null;
+      }
+      int base = this.base;
+      long[] bits = this.bits;
+      if (offset > size) {
+        // desliza a janela até o ticket; os anteriores são descartados
+        long advance = offset - size;
+        boolean used = advance <= size && isSet(bits, (int) advance - 1);
+        bits = shift(bits, advance);
+        base = id - size;
+        if (used) {
+          // a nova base já havia sido utilizada
+          int count = trailingOnes(bits);
+          bits = shift(bits, count + 1L);
+          base += count + 1;
         }
-        CLEAR(this.index);
-        this.index = (this.index + 1) % size;
-        this.base++;
+        offset = (long) id - base;
       }
-      this.index = (this.index + 1) % size;
+      if (offset == 0) {
+        // descarta a base e os tickets seguintes já utilizados
+        int count = trailingOnes(bits);
+        bits = shift(bits, count + 1L);
+        base += count + 1;
+      }
+      else {
+        int index = (int) offset - 1;
+        if (isSet(bits, index)) {
+          return null;
+        }
+        if (bits == this.bits) {
+          bits = bits.clone();
+        }
+        bits[index / WORD_SIZE] |= 1L << (index % WORD_SIZE);
+      }
+      return new Window(base, bits);
     }
-  }
 
-  /**
-   * Verifica se o ticket  vlido e marca com utilizado caso seja vlido.
-   * 
-   * @param id o ticket a ser utilizado.
-   * @return {@code true} caso o ticket era vlido e foi marcado, e
-   *         {@code false} caso o ticket no fosse vlido.
-   */
-  synchronized public boolean check(int id) {
-    if (id < this.base) {
-      return false;
+    /**
+     * Verifica se a posição esta marcada.
+     *
+     * @param bits o mapa de bits.
+     * @param index o índice verificado.
+     * @return se posição esta marcada ou não.
+     */
+    private static boolean isSet(long[] bits, int index) {
+      return (bits[index / WORD_SIZE] & (1L << (index % WORD_SIZE))) != 0;
     }
-    else if (id == this.base) {
-      discardBase();
-      return true;
-    }
-    else {
-      int shift = id - this.base - 1;
-      if (shift < size) {
-        int idx = (this.index + shift) % size;
-        if (FLAG(idx)) {
-          return false;
-        }
-        SET(idx);
-        return true;
+
+    /**
+     * Desloca o mapa de bits em direção ao bit 0.
+     *
+     * @param bits o mapa de bits.
+     * @param count quantidade de bits deslocados.
+     * @return um novo mapa de bits deslocado.
+     */
+    private static long[] shift(long[] bits, long count) {
+      long[] shifted = new long[bits.length];
+      if (count >= (long) bits.length * WORD_SIZE) {
+        return shifted;
       }
-      else {
-        int extra = shift - size;
-        if (extra < size) {
-          for (int i = 0; i < extra; i++) {
-            CLEAR(this.index);
-            this.index = (this.index + 1) % size;
-          }
+      int words = (int) (count / WORD_SIZE);
+      int rest = (int) (count % WORD_SIZE);
+      for (int i = 0; i + words < bits.length; i++) {
+        long value = bits[i + words] >>> rest;
+        if (rest != 0 && i + words + 1 < bits.length) {
+          value |= bits[i + words + 1] << (WORD_SIZE - rest);
         }
-        else {
-          this.bits = 0;
-          this.index = 0;
+        shifted[i] = value;
+      }
+      return shifted;
+    }
+
+    /**
+     * Conta os bits marcados consecutivos a partir do bit 0.
+     *
+     * @param bits o mapa de bits.
+     * @return a quantidade de bits marcados consecutivos.
+     */
+    private static int trailingOnes(long[] bits) {
+      int count = 0;
+      for (long word : bits) {
+        int ones = Long.numberOfTrailingZeros(~word);
+        count += ones;
+        if (ones < WORD_SIZE) {
+          break;
         }
-        this.base += extra;
-        discardBase();
-        return check(id);
       }
+      return count;
     }
   }
 }
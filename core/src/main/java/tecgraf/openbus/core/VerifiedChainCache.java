@@ -0,0 +1,127 @@
+package tecgraf.openbus.core;
+
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+
+import tecgraf.openbus.exception.CryptographyException;
+import tecgraf.openbus.security.Cryptography;
+
+/**
+ * Cache de cadeias assinadas cuja assinatura já foi verificada.
+ * <p>
+ * Um mesmo cliente envia a mesma cadeia assinada em todas as chamadas até que
+ * ela seja assinada novamente, portanto a verificação da assinatura RSA só
+ * precisa ser feita na primeira vez que a cadeia é recebida. As entradas são
+ * identificadas pelo hash da cadeia codificada junto com a sua assinatura, e
+ * só valem para a chave pública do barramento com a qual foram verificadas.
+ *
+ * @author Tecgraf
+ */
+class VerifiedChainCache {
+
+  /** Cadeias já verificadas */
+  private final BoundedCache<Entry, Boolean> verified;
+  /** Chave pública com a qual as cadeias da cache foram verificadas */
+  private volatile RSAPublicKey busKey;
+
+  /**
+   * Construtor.
+   *
+   * @param size tamanho máximo da cache.
+   */
+  VerifiedChainCache(int size) {
+    this.verified = new BoundedCache<>(size);
+  }
+
+  /**
+   * Verifica a assinatura de uma cadeia, consultando antes a cache.
+   *
+   * @param busKey a chave pública do barramento.
+   * @param encoded a cadeia codificada.
+   * @param signature a assinatura da cadeia.
+   * @return {@code true} caso a assinatura seja válida, e {@code false} caso
+   *         contrário.
+   * @throws CryptographyException Caso algum erro ocorra ao utilizar os
+   *         algoritmos criptográficos.
+   */
+  boolean verify(RSAPublicKey busKey, byte[] encoded, byte[] signature)
+    throws CryptographyException {
+    Cryptography crypto = Cryptography.getInstance();
+    Entry entry = new Entry(crypto.generateHash(encoded), signature);
+    if (!busKey.equals(this.busKey)) {
+      synchronized (this) {
+        if (!busKey.equals(this.busKey)) {
+          verified.clear();
+          this.busKey = busKey;
+        }
+      }
+    }
+    else if (verified.get(entry) != null) {
+      return true;
+    }
+    boolean valid = crypto.verifySignature(busKey, encoded, signature);
+    if (valid) {
+      synchronized (this) {
+        if (busKey.equals(this.busKey)) {
+          verified.put(entry, Boolean.TRUE);
+        }
+      }
+    }
+    return valid;
+  }
+
+  /**
+   * Limpa a cache.
+   */
+  synchronized void clear() {
+    verified.clear();
+    busKey = null;
+  }
+
+  /**
+   * Recupera a cache limitada que guarda as cadeias verificadas.
+   *
+   * @return a cache das entradas.
+   */
+  BoundedCache<?, ?> entries() {
+    return verified;
+  }
+
+  /**
+   * Chave da cache: hash da cadeia codificada e sua assinatura.
+   *
+   * @author Tecgraf
+   */
+  private static final class Entry {
+    /** Hash da cadeia codificada */
+    private final byte[] hash;
+    /** Assinatura da cadeia */
+    private final byte[] signature;
+
+    /**
+     * Construtor.
+     *
+     * @param hash hash da cadeia codificada.
+     * @param signature assinatura da cadeia.
+     */
+    Entry(byte[] hash, byte[] signature) {
+      this.hash = hash;
+      this.signature = signature;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof Entry) {
+        Entry other = (Entry) obj;
+        return Arrays.equals(hash, other.hash)
+          && Arrays.equals(signature, other.signature);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Arrays.hashCode(hash) + Arrays.hashCode(signature);
+    }
+  }
+}
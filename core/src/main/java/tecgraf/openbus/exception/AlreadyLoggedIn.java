@@ -1,7 +1,7 @@
 package tecgraf.openbus.exception;
 
 /**
- * Exceo indicando que j possui um login vlido.
+ * Exceção indicando que já possui um login válido.
  * 
  * @author Tecgraf
  */
@@ -11,6 +11,6 @@ public final class AlreadyLoggedIn extends OpenBusException {
    * Construtor.
    */
   public AlreadyLoggedIn() {
-    super("J existe um login ativo nesta conexo");
+    super("Já existe um login ativo nesta conexão");
   }
 }
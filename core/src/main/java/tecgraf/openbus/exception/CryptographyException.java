@@ -1,7 +1,7 @@
 package tecgraf.openbus.exception;
 
 /**
- * Exceo com uso de criptografia.
+ * Exceção com uso de criptografia.
  * 
  * @author Tecgraf
  */
@@ -19,7 +19,7 @@ public final class CryptographyException extends OpenBusException {
   /**
    * Construtor.
    * 
-   * @param cause exeo original
+   * @param cause exeção original
    */
   public CryptographyException(Throwable cause) {
     super(cause);
@@ -2,7 +2,7 @@ package tecgraf.openbus.exception;
 
 
 /**
- * Exceo gerada quando tenta-se manipular uma stream de dados invlida.
+ * Exceção gerada quando tenta-se manipular uma stream de dados inválida.
  * 
  * @author Tecgraf
  */
@@ -20,7 +20,7 @@ public class InvalidEncodedStream extends OpenBusException {
   /**
    * Construtor.
    * 
-   * @param cause exceo original.
+   * @param cause exceção original.
    */
   public InvalidEncodedStream(Throwable cause) {
     super(cause);
@@ -30,7 +30,7 @@ public class InvalidEncodedStream extends OpenBusException {
    * Construtor.
    * 
    * @param message mensagem de erro.
-   * @param cause exceo original.
+   * @param cause exceção original.
    */
   public InvalidEncodedStream(String message, Throwable cause) {
     super(message, cause);
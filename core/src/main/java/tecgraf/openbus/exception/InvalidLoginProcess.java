@@ -1,7 +1,7 @@
 package tecgraf.openbus.exception;
 
 /**
- * Exceo de processo de login invlido.
+ * Exceção de processo de login inválido.
  * 
  * @author Tecgraf
  */
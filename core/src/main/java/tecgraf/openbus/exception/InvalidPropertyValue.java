@@ -1,7 +1,7 @@
 package tecgraf.openbus.exception;
 
 /**
- * Exceo de configurao de propriedade com valor invlido.
+ * Exceção de configuração de propriedade com valor inválido.
  * 
  * @author Tecgraf
  */
@@ -9,18 +9,18 @@ public final class InvalidPropertyValue extends OpenBusException {
 
   /** Nome da propriedade */
   private final String prop;
-  /** Valor invlido atribudo */
+  /** Valor inválido atribuído */
   private final String value;
 
   /**
    * Construtor.
    * 
    * @param prop nome da propriedade
-   * @param value valor invlido atribudo.
+   * @param value valor inválido atribuído.
    */
   public InvalidPropertyValue(String prop, String value) {
     super(String
-      .format("Valor da propriedade '%s'  invlido: %s", prop, value));
+      .format("Valor da propriedade '%s' é inválido: %s", prop, value));
     this.prop = prop;
     this.value = value;
   }
@@ -29,12 +29,12 @@ public final class InvalidPropertyValue extends OpenBusException {
    * Construtor.
    * 
    * @param prop nome da propriedade
-   * @param value valor invlido atribudo.
-   * @param e exceo associada.
+   * @param value valor inválido atribuído.
+   * @param e exceção associada.
    */
   public InvalidPropertyValue(String prop, String value, Throwable e) {
     super(String
-      .format("Valor da propriedade '%s'  invlido: %s", prop, value), e);
+      .format("Valor da propriedade '%s' é inválido: %s", prop, value), e);
     this.prop = prop;
     this.value = value;
   }
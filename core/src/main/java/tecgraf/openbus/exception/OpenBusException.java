@@ -1,7 +1,7 @@
 package tecgraf.openbus.exception;
 
 /**
- * Define uma exceo do OpenBus.
+ * Define uma exceção do OpenBus.
  * 
  * @author Tecgraf
  */
@@ -19,7 +19,7 @@ public abstract class OpenBusException extends Exception {
   /**
    * Construtor.
    * 
-   * @param cause Exceo original.
+   * @param cause Exceção original.
    */
   protected OpenBusException(Throwable cause) {
     super(cause);
@@ -29,7 +29,7 @@ public abstract class OpenBusException extends Exception {
    * Construtor.
    * 
    * @param message Mensagem de erro.
-   * @param cause Exceo original.
+   * @param cause Exceção original.
    */
   protected OpenBusException(String message, Throwable cause) {
     super(message, cause);
@@ -4,8 +4,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Exceo que representa uma condio imprevista na biblioteca de acesso,
- * geralmente sem um tratamento bvio.
+ * Exceção que representa uma condição imprevista na biblioteca de acesso,
+ * geralmente sem um tratamento óbvio.
  * 
  * @author Tecgraf
  */
@@ -1,7 +1,7 @@
 package tecgraf.openbus.exception;
 
 /**
- * Exceo indicando tentativa de uso de recurso pertencente a outro barramento.
+ * Exceção indicando tentativa de uso de recurso pertencente a outro barramento.
  * 
  * @author Tecgraf
  */
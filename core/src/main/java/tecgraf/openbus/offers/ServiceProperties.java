@@ -6,14 +6,14 @@ import scs.core.IMetaInterface;
 import tecgraf.openbus.core.v2_1.services.offer_registry.ServiceProperty;
 
 /**
- * Classe utilizada como ndice de referncia de propriedades nativas do
- * barramento (propriedades automticas).
+ * Classe utilizada como índice de referência de propriedades nativas do
+ * barramento (propriedades automáticas).
  * <p>
- * As constantes da classe so utilizadas pelo ncleo da biblioteca Openbus,
- * durante a publicao, e por consumidores na atividade de busca de servios no
+ * As constantes da classe são utilizadas pelo núcleo da biblioteca Openbus,
+ * durante a publicação, e por consumidores na atividade de busca de serviços no
  * barramento.
  * <p>
- * O usurio pode definir propriedades com chaves prprias que vo alm das
+ * O usuário pode definir propriedades com chaves próprias que vão além das
  * chaves apresentadas nesta classe.
  * 
  * @see ServiceProperty
@@ -23,24 +23,24 @@ import tecgraf.openbus.core.v2_1.services.offer_registry.ServiceProperty;
 public class ServiceProperties {
 
   /**
-   * Identificador nico de uma oferta de servio no barramento.
+   * Identificador único de uma oferta de serviço no barramento.
    * <p>
    * <b>Literal:</b> {@code openbus.offer.id}
    */
   public final static String ID = "openbus.offer.id";
 
   /**
-   * Identificador do login utilizado na publicao do servio no barramento.
+   * Identificador do login utilizado na publicação do serviço no barramento.
    * <p>
    * <b>Literal:</b> {@code openbus.offer.login}
    */
   public final static String LOGIN = "openbus.offer.login";
 
   /**
-   * Nome da entidade que publicou o servio no barramento.
+   * Nome da entidade que publicou o serviço no barramento.
    * <p>
-   * <i>A partir da verso do OpenBus 2.0, este valor  referente a entidades
-   * autenticadas unicamente atravs de certificados de segurana.</i>
+   * <i>A partir da versão do OpenBus 2.0, este valor é referente a entidades
+   * autenticadas unicamente através de certificados de segurança.</i>
    * 
    * <p>
    * <b>Literal:</b> {@code openbus.offer.entity}
@@ -48,8 +48,8 @@ public class ServiceProperties {
   public final static String ENTITY = "openbus.offer.entity";
 
   /**
-   * Marca temporal. Cadeia de caracteres que denota a data em que o servio foi
-   * publicado. Equivalente ao mtodo {@code Date.getTimeInMillis()}
+   * Marca temporal. Cadeia de caracteres que denota a data em que o serviço foi
+   * publicado. Equivalente ao método {@code Date.getTimeInMillis()}
    * <p>
    * <b>Literal:</b> {@code openbus.offer.timestamp}
    * 
@@ -58,7 +58,7 @@ public class ServiceProperties {
   public final static String TIMESTAMP = "openbus.offer.timestamp";
 
   /**
-   * Ano de publicao do servio no barramento.
+   * Ano de publicação do serviço no barramento.
    * 
    * <p>
    * <b>Literal:</b> {@code openbus.offer.year}
@@ -66,8 +66,8 @@ public class ServiceProperties {
   public final static String YEAR = "openbus.offer.year";
 
   /**
-   * Ms em que o servio foi publicado no barramento (1-12). O nmero 1 
-   * referente ao ms de janeiro, o nmero 2 ao ms de fevereiro, e assim
+   * Mês em que o serviço foi publicado no barramento (1-12). O número 1 é
+   * referente ao mês de janeiro, o número 2 ao mês de fevereiro, e assim
    * consecutivamente.
    * 
    * <p>
@@ -76,29 +76,29 @@ public class ServiceProperties {
   public final static String MONTH = "openbus.offer.month";
 
   /**
-   * Dia do ms em que o servio foi publicado no barramento (1-31). O nmero 1
-   *  referente ao primeiro dia do ms, e assim consecutivamente.
+   * Dia do mês em que o serviço foi publicado no barramento (1-31). O número 1
+   * é referente ao primeiro dia do mês, e assim consecutivamente.
    * <p>
    * <b>Literal:</b> {@code openbus.offer.day}
    */
   public final static String DAY = "openbus.offer.day";
 
   /**
-   * Hora do dia em que o servio foi publicado no barramento (0-23).
+   * Hora do dia em que o serviço foi publicado no barramento (0-23).
    * <p>
    * <b>Literal:</b> {@code openbus.offer.hour}
    */
   public final static String HOUR = "openbus.offer.hour";
 
   /**
-   * Minutos da hora em que o servio foi publicado no barramento (0-59).
+   * Minutos da hora em que o serviço foi publicado no barramento (0-59).
    * <p>
    * <b>Literal:</b> {@code openbus.offer.minute}
    */
   public final static String MINUTE = "openbus.offer.minute";
 
   /**
-   * Segundos do minuto em que o servio foi publicado no barramento (0-59).
+   * Segundos do minuto em que o serviço foi publicado no barramento (0-59).
    * <p>
    * <b>Literal:</b> {@code openbus.offer.second}
    */
@@ -113,7 +113,7 @@ public class ServiceProperties {
   public final static String COMPONENT_NAME = "openbus.component.name";
 
   /**
-   * Interfaces publicadas pelo componente no barramento. Este valor 
+   * Interfaces publicadas pelo componente no barramento. Este valor é
    * qualificado de acordo com o contrato em IDL.
    * <p>
    * <i>Ex.: IDL:scs/core/IReceptacles:1.0</i>
@@ -144,7 +144,7 @@ public class ServiceProperties {
   public final static String COMPONENT_FACET = "openbus.component.facet";
 
   /**
-   * Nmero principal de versionamento, indica incrementos significativos em
+   * Número principal de versionamento, indica incrementos significativos em
    * funcionalidade.
    * <p>
    * <b>Literal:</b> {@code openbus.component.version.major}
@@ -152,16 +152,16 @@ public class ServiceProperties {
   public final static String MAJOR_VERSION = "openbus.component.version.major";
 
   /**
-   * Nmero secundrio de versionamento, indica alterao de funcionalidades
-   * menores ou correo de bugs que impactam na soluo.
+   * Número secundário de versionamento, indica alteração de funcionalidades
+   * menores ou correção de bugs que impactam na solução.
    * <p>
    * <b>Literal:</b> {@code openbus.component.version.minor}
    */
   public final static String MINOR_VERSION = "openbus.component.version.minor";
 
   /**
-   * Nmero de <i>patch</i> de versionamento, indica correes de bugs e
-   * alteraes que no impactam na soluo.
+   * Número de <i>patch</i> de versionamento, indica correções de bugs e
+   * alterações que não impactam na solução.
    * <p>
    * <b>Literal:</b> {@code openbus.component.version.patch}
    */
@@ -7,7 +7,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Classe que define a poltica a ser adotada sobre tarefas
+ * Classe que define a política a ser adotada sobre tarefas
  * repassadas a um {@link RetryTaskPool}.
  *
  * @author Tecgraf
@@ -20,13 +20,13 @@ public class RetryContext {
   private final long delay;
   /** Unidade do tempo de intervalo entre tentativas */
   private final TimeUnit delayUnit;
-  /** ltima exceo ocorrida entre as tentativas */
+  /** Última exceção ocorrida entre as tentativas */
   private volatile Throwable lastException = null;
   /** Objeto futuro para verificar cancelamentos */
   private Future future;
 
   /**
-   * Construtor padro que aguarda 1 segundo entre retentativas.
+   * Construtor padrão que aguarda 1 segundo entre retentativas.
    */
   public RetryContext() {
     this(1, TimeUnit.SECONDS);
@@ -44,9 +44,9 @@ public class RetryContext {
   }
 
   /**
-   * Fornece o nmero de retentativas j realizadas.
+   * Fornece o número de retentativas já realizadas.
    * 
-   * @return O nmero de retentativas.
+   * @return O número de retentativas.
    */
   public int getRetryCount() {
     return count;
@@ -55,7 +55,7 @@ public class RetryContext {
   /**
    * Fornece o tempo a ser utilizado entre retentativas.
    * <p>
-   * Este mtodo deve ser sobrescrito caso deseje-se implementar clculos
+   * Este método deve ser sobrescrito caso deseje-se implementar cálculos
    * mais sofisticados de intervalos entre tentativas.
    * 
    * @return O tempo de intervalo a ser aplicado entre as tentativas.
@@ -74,29 +74,29 @@ public class RetryContext {
   }
 
   /**
-   * Fornece a ltima exceo ocorrida durante as tentativas.
+   * Fornece a última exceção ocorrida durante as tentativas.
    * 
-   * @return O ltimo erro ocorrido.
+   * @return O último erro ocorrido.
    */
   public Throwable getLastException() {
     return lastException;
   }
 
   /**
-   * Informa se  permitida uma nova execuo da tarefa. Sempre  permitida
-   * uma nova execuo, a no ser que o erro seja um NO_PERMISSION{NoLogin},
-   * que s ocorrer caso o usurio tenha feito um logout explcito ou no
+   * Informa se é permitida uma nova execução da tarefa. Sempre é permitida
+   * uma nova execução, a não ser que o erro seja um NO_PERMISSION{NoLogin},
+   * que só ocorrerá caso o usuário tenha feito um logout explícito ou não
    * tenha feito login.
    *
-   * Este mtodo pode ser sobrescrito caso deseje-se uma lgica diferente.
+   * Este método pode ser sobrescrito caso deseje-se uma lógica diferente.
    *
    * @return {@code True} caso seja permitida uma nova tentativa, e {@code
-   *         false} caso contrrio.
+   *         false} caso contrário.
    */
   public boolean shouldRetry() {
-    //TODO implementar configurao do usurio sobre nmero mximo de
+    //TODO implementar configuração do usuário sobre número máximo de
     // retentativas. Pode-se seguir um approach similar ao da pcall onde se
-    // define um nmero de retentativas diferente para cada caso (inacessvel
+    // define um número de retentativas diferente para cada caso (inacessível
     // ou quebrado).
     if (future == null) {
       return false;
@@ -114,16 +114,16 @@ public class RetryContext {
   }
 
   /**
-   * Incrementa o nmero de tentativas.
+   * Incrementa o número de tentativas.
    */
   protected void incrementRetrys() {
     this.count++;
   }
 
   /**
-   * Define a ltima exceo ocorrida.
+   * Define a última exceção ocorrida.
    * 
-   * @param ex a exceo.
+   * @param ex a exceção.
    */
   protected void setLastException(Throwable ex) {
     this.lastException = ex;
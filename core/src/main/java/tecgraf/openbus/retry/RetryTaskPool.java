@@ -8,29 +8,29 @@ import com.google.common.util.concurrent.ListeningScheduledExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 
 /**
- * Mecanismo de execuo de tarefas assncronas atravs de um <i>pool</i> de
- * <i>threads</i>. Em caso de falha na execuo de uma tarefa, a mesma poder
+ * Mecanismo de execução de tarefas assíncronas através de um <i>pool</i> de
+ * <i>threads</i>. Em caso de falha na execução de uma tarefa, a mesma poderá
  * ser novamente executada, de acordo com as regras associadas ao seu
- * contexto de execuo ({@link RetryContext}).
+ * contexto de execução ({@link RetryContext}).
  *
- * As <i>threads</i> sero criadas como <i>daemon</i>, ou seja, morrero caso
- * no haja mais nenhuma <i>thread</i> normal ativa.
+ * As <i>threads</i> serão criadas como <i>daemon</i>, ou seja, morrerão caso
+ * não haja mais nenhuma <i>thread</i> normal ativa.
  *
  * @author Tecgraf
  */
 public class RetryTaskPool {
 
-  /** Tamanho padro do pool de threads. */
+  /** Tamanho padrão do pool de threads. */
   private static final int DEFAULT_POOL_SIZE = 4;
 
-  /** Executor de tarefas agendveis */
+  /** Executor de tarefas agendáveis */
   private final ListeningScheduledExecutorService pool;
 
   /** Tamanho do pool de threads. */
   public final int poolSize;
 
   /**
-   * Construtor padro que utiliza 4 threads.
+   * Construtor padrão que utiliza 4 threads.
    */
   public RetryTaskPool() {
     this(DEFAULT_POOL_SIZE);
@@ -39,7 +39,7 @@ public class RetryTaskPool {
   /**
    * Construtor.
    * 
-   * @param size Nmero de threads alocveis a serem utilizadas pelo {@code
+   * @param size Número de threads alocáveis a serem utilizadas pelo {@code
    * pool}.
    */
   public RetryTaskPool(int size) {
@@ -64,7 +64,7 @@ public class RetryTaskPool {
    * @param <T> Tipo de objeto a ser retornado como resultado do objeto futuro.
    * @param callable Tarefa a ser executada.
    * @param context Contexto associado a esta tarefa.
-   * @return Objeto futuro com o resultado desta execuo.
+   * @return Objeto futuro com o resultado desta execução.
    */
   public <T> ListenableFuture<T> doTask(Callable<T> callable,
     RetryContext context) {
@@ -79,7 +79,7 @@ public class RetryTaskPool {
    *
    * @param runnable Tarefa a ser executada.
    * @param context Contexto associado a esta tarefa.
-   * @return Objeto futuro com o resultado desta execuo.
+   * @return Objeto futuro com o resultado desta execução.
    */
   public ListenableFuture<Void> doTask(Runnable runnable, RetryContext context) {
     RetryTask<Void> retryTask =
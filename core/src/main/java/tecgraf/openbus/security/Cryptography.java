@@ -13,7 +13,9 @@ import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
 import java.security.SecureRandom;
+import java.security.Security;
 import java.security.Signature;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
@@ -26,17 +28,34 @@ import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.RSAPublicKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
 
 import tecgraf.openbus.exception.CryptographyException;
 
 /**
- * Classe utilitria de criptografia.
+ * Classe utilitária de criptografia.
+ * <p>
+ * Os algoritmos de cifra, assinatura, fábrica de chaves e hash são obtidos uma
+ * única vez por <i>thread</i> e reaproveitados nas operações seguintes, de
+ * forma que a busca pelo provedor não seja feita a cada operação. O provedor
+ * utilizado pode ser escolhido através da propriedade de sistema
+ * {@value #PROVIDER_PROPERTY}. Caso a propriedade não seja definida, o
+ * provedor escolhido não esteja instalado ou não ofereça algum dos algoritmos,
+ * são utilizados os provedores padrão da JVM. A primeira troca para os
+ * provedores padrão de cada primitiva é registrada no log.
  * 
  * @author Tecgraf
  */
 public final class Cryptography {
+  /** Instância de logging. */
+  private static final Logger logger = Logger.getLogger(Cryptography.class
+    .getName());
   /**
    * Tipo de certificado
    */
@@ -50,42 +69,90 @@ public final class Cryptography {
    */
   private static final String KEY_FACTORY = "RSA";
   /**
-   * O algoritmo de criptografia (assimtrica) utilizada pelo OpenBus.
+   * O algoritmo de criptografia (assimétrica) utilizada pelo OpenBus.
    */
   public static final String CIPHER_ALGORITHM = "RSA/ECB/PKCS1PADDING";
   /**
    * Tamanho da chave de criptografia.
    * <p>
-   * Qualquer dado criptografado resulta em um array de tamanho mltiplo do
+   * Qualquer dado criptografado resulta em um array de tamanho múltiplo do
    * tamanho da chave.
    */
   private static final int ENCRIPTION_KEY_SIZE = 256;
   /**
-   * Tamanho mximo de dado que pode ser encriptado por bloco, devido a
-   * necessidade de incluso de padding
+   * Tamanho máximo de dado que pode ser encriptado por bloco, devido a
+   * necessidade de inclusão de padding
    */
   private static final int MAX_BLOCK_ENCRIPTION_SIZE = 245;
 
   /**
-   * Codificao charset padro.
+   * Algoritmo de assinatura
+   */
+  private static final String SIGNATURE_ALGORITHM = "NONEwithRSA";
+
+  /**
+   * Codificação charset padrão.
    */
   public static final Charset CHARSET = Charset.forName("US-ASCII");
 
   /**
-   * A instncia.
+   * Propriedade de sistema com o nome do provedor de criptografia a ser
+   * utilizado.
+   */
+  public static final String PROVIDER_PROPERTY = "openbus.security.provider";
+
+  /**
+   * A instância.
    */
   private static Cryptography instance;
 
+  /**
+   * Provedor de criptografia, ou {@code null} para utilizar os provedores
+   * padrão.
+   */
+  private final Provider provider;
+  /**
+   * Cifra de cada thread.
+   */
+  private final ThreadLocal<Cipher> ciphers = new ThreadLocal<>();
+  /**
+   * Algoritmo de assinatura de cada thread.
+   */
+  private final ThreadLocal<Signature> signatures = new ThreadLocal<>();
+  /**
+   * Fábrica de chaves de cada thread.
+   */
+  private final ThreadLocal<KeyFactory> keyFactories = new ThreadLocal<>();
+  /**
+   * Algoritmo de hash de cada thread.
+   */
+  private final ThreadLocal<MessageDigest> digests = new ThreadLocal<>();
+  /**
+   * Primitivas não oferecidas pelo provedor escolhido, já registradas no log.
+   */
+  private final Set<String> fallbacks = ConcurrentHashMap.newKeySet();
+
   /**
    * Construtor.
    */
   private Cryptography() {
+    String name = System.getProperty(PROVIDER_PROPERTY);
+    Provider provider = null;
+    if (name != null) {
+      provider = Security.getProvider(name);
+      if (provider == null) {
+        logger.warning(String.format(
+          "Provedor de criptografia (%s) não instalado. Serão utilizados os "
+            + "provedores padrão.", name));
+      }
+    }
+    this.provider = provider;
   }
 
   /**
-   * Fornece a nica instncia (singleton) desta classe.
+   * Fornece a única instância (singleton) desta classe.
    * 
-   * @return A instncia.
+   * @return A instância.
    */
   public static synchronized Cryptography getInstance() {
     if (instance == null) {
@@ -95,12 +162,12 @@ public final class Cryptography {
   }
 
   /**
-   * Criptografa um dado atravs de um certificado.
+   * Criptografa um dado através de um certificado.
    * 
    * @param data o dado a ser criptografado.
    * @param certificate o certificado
    * @return O dado criptografado.
-   * @throws CryptographyException Caso algum erro ocorra na operao.
+   * @throws CryptographyException Caso algum erro ocorra na operação.
    */
   public byte[] encrypt(byte[] data, X509Certificate certificate)
     throws CryptographyException {
@@ -108,34 +175,32 @@ public final class Cryptography {
   }
 
   /**
-   * Criptografa um dado atravs de uma chave pblica.
+   * Criptografa um dado através de uma chave pública.
    * 
    * @param data o dado a ser criptografado.
-   * @param publicKey a chave pblica.
+   * @param publicKey a chave pública.
    * @return O dado criptografado.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    */
   public byte[] encrypt(byte[] data, RSAPublicKey publicKey)
     throws CryptographyException {
     try {
-      Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
-      synchronized (cipher) {
-        cipher.init(Cipher.ENCRYPT_MODE, publicKey);
-        int blocks =
-          (int) Math.ceil((double) data.length / MAX_BLOCK_ENCRIPTION_SIZE);
-        int offset = 0;
-        int lenght = MAX_BLOCK_ENCRIPTION_SIZE;
-        ByteBuffer buffer = ByteBuffer.allocate(ENCRIPTION_KEY_SIZE * blocks);
-        while (offset < data.length) {
-          if (offset + lenght > data.length) {
-            lenght = data.length - offset;
-          }
-          buffer.put(cipher.doFinal(data, offset, lenght));
-          offset += lenght;
+      Cipher cipher = cipher();
+      cipher.init(Cipher.ENCRYPT_MODE, publicKey);
+      int blocks =
+        (int) Math.ceil((double) data.length / MAX_BLOCK_ENCRIPTION_SIZE);
+      int offset = 0;
+      int lenght = MAX_BLOCK_ENCRIPTION_SIZE;
+      ByteBuffer buffer = ByteBuffer.allocate(ENCRIPTION_KEY_SIZE * blocks);
+      while (offset < data.length) {
+        if (offset + lenght > data.length) {
+          lenght = data.length - offset;
         }
-        return buffer.array();
+        buffer.put(cipher.doFinal(data, offset, lenght));
+        offset += lenght;
       }
+      return buffer.array();
     }
     catch (GeneralSecurityException e) {
       throw new CryptographyException(e);
@@ -143,22 +208,20 @@ public final class Cryptography {
   }
 
   /**
-   * Decripta um dado atravs de uma chava privada.
+   * Decripta um dado através de uma chava privada.
    * 
    * @param data o dado criptografado.
    * @param privateKey a chave privada.
    * @return o dado descriptografado.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    */
   public byte[] decrypt(byte[] data, RSAPrivateKey privateKey)
     throws CryptographyException {
     try {
-      Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
-      synchronized (cipher) {
-        cipher.init(Cipher.DECRYPT_MODE, privateKey);
-        return cipher.doFinal(data);
-      }
+      Cipher cipher = cipher();
+      cipher.init(Cipher.DECRYPT_MODE, privateKey);
+      return cipher.doFinal(data);
     }
     catch (GeneralSecurityException e) {
       throw new CryptographyException(e);
@@ -166,21 +229,18 @@ public final class Cryptography {
   }
 
   /**
-   * Gera uma chave pblica a partir de uma chave codificada em X.509.
+   * Gera uma chave pública a partir de uma chave codificada em X.509.
    * 
    * @param encodedKey A chave codificada.
-   * @return A chave pblica RSA.
+   * @return A chave pública RSA.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    */
   public RSAPublicKey generateRSAPublicKeyFromX509EncodedKey(byte[] encodedKey)
     throws CryptographyException {
     EncodedKeySpec encodedKeySpec = new X509EncodedKeySpec(encodedKey);
     try {
-      KeyFactory keyFactory = KeyFactory.getInstance(KEY_FACTORY);
-      synchronized (keyFactory) {
-        return (RSAPublicKey) keyFactory.generatePublic(encodedKeySpec);
-      }
+      return (RSAPublicKey) keyFactory().generatePublic(encodedKeySpec);
     }
     catch (GeneralSecurityException e) {
       throw new CryptographyException(e);
@@ -192,18 +252,27 @@ public final class Cryptography {
    * 
    * @return o par de chaves.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    */
   public KeyPair generateRSAKeyPair() throws CryptographyException {
-    KeyPairGenerator keyPairGenerator;
+    KeyPairGenerator keyPairGenerator = null;
     try {
-      keyPairGenerator = KeyPairGenerator.getInstance(KEY_FACTORY);
-      synchronized (keyPairGenerator) {
-        keyPairGenerator.initialize(2048, new SecureRandom());
-        return keyPairGenerator.genKeyPair();
+      if (provider != null) {
+        try {
+          keyPairGenerator =
+            KeyPairGenerator.getInstance(KEY_FACTORY, provider);
+        }
+        catch (NoSuchAlgorithmException e) {
+          fallback("KeyPairGenerator", KEY_FACTORY, e);
+        }
+      }
+      if (keyPairGenerator == null) {
+        keyPairGenerator = KeyPairGenerator.getInstance(KEY_FACTORY);
       }
+      keyPairGenerator.initialize(2048, new SecureRandom());
+      return keyPairGenerator.genKeyPair();
     }
-    catch (NoSuchAlgorithmException e) {
+    catch (GeneralSecurityException e) {
       throw new CryptographyException(e);
     }
 
@@ -215,33 +284,37 @@ public final class Cryptography {
    * @param data O dado.
    * @return O hash do dado.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    */
   public byte[] generateHash(byte[] data) throws CryptographyException {
-    MessageDigest digest;
     try {
-      digest = MessageDigest.getInstance(HASH_ALGORITHM);
-      synchronized (digest) {
-        return digest.digest(data);
+      MessageDigest digest = digests.get();
+      if (digest == null) {
+        digest = newDigest();
+        digests.set(digest);
+      }
+      else {
+        digest.reset();
       }
+      return digest.digest(data);
     }
-    catch (NoSuchAlgorithmException e) {
+    catch (GeneralSecurityException e) {
       throw new CryptographyException(e);
     }
   }
 
   /**
-   * Obtm o algortimo de Hash.
+   * Obtém o algortimo de Hash.
    * 
    * @return o algoritmo.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    */
   public MessageDigest getHashAlgorithm() throws CryptographyException {
     try {
-      return MessageDigest.getInstance(HASH_ALGORITHM);
+      return newDigest();
     }
-    catch (NoSuchAlgorithmException e) {
+    catch (GeneralSecurityException e) {
       throw new CryptographyException(e);
     }
   }
@@ -253,9 +326,9 @@ public final class Cryptography {
    * @return A chave privada RSA.
    * @throws IOException Caso algum erro ocorra ao acessar o arquivo da chave
    * privada.
-   * @throws InvalidKeySpecException A chave privada  invlida.
+   * @throws InvalidKeySpecException A chave privada é inválida.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    */
   public RSAPrivateKey readKeyFromFile(String privateKeyFileName)
     throws IOException, InvalidKeySpecException, CryptographyException {
@@ -264,7 +337,7 @@ public final class Cryptography {
       ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
       int size = channel.read(buffer);
       if (size != (int) channel.size()) {
-        throw new IOException("No foi possvel ler todo o arquivo.");
+        throw new IOException("Não foi possível ler todo o arquivo.");
       }
       return readKeyFromBytes(buffer.array());
     }
@@ -275,20 +348,20 @@ public final class Cryptography {
    * 
    * @param privateKeyBytes Os bytes da chave privada.
    * @return A chave privada RSA.
-   * @throws InvalidKeySpecException A chave privada  invlida.
+   * @throws InvalidKeySpecException A chave privada é inválida.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    */
   public RSAPrivateKey readKeyFromBytes(byte[] privateKeyBytes)
     throws InvalidKeySpecException, CryptographyException {
     PKCS8EncodedKeySpec encodedKey = new PKCS8EncodedKeySpec(privateKeyBytes);
     try {
-      KeyFactory kf = KeyFactory.getInstance(KEY_FACTORY);
-      synchronized (kf) {
-        return (RSAPrivateKey) kf.generatePrivate(encodedKey);
-      }
+      return (RSAPrivateKey) keyFactory().generatePrivate(encodedKey);
     }
-    catch (NoSuchAlgorithmException e) {
+    catch (InvalidKeySpecException e) {
+      throw e;
+    }
+    catch (GeneralSecurityException e) {
       throw new CryptographyException(e);
     }
   }
@@ -298,24 +371,24 @@ public final class Cryptography {
    * 
    * @param path Caminho para o arquivo da chave privada.
    * @return O par de chaves RSA.
-   * @throws InvalidKeySpecException A chave privada  invlida.
+   * @throws InvalidKeySpecException A chave privada é inválida.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    * @throws IOException Caso algum erro ocorra ao acessar o arquivo das chaves.
    */
   public KeyPair readKeyPairFromFile(String path)
     throws InvalidKeySpecException, CryptographyException, IOException {
     try {
       RSAPrivateCrtKey privKey = (RSAPrivateCrtKey) readKeyFromFile(path);
-      KeyFactory kf = KeyFactory.getInstance(KEY_FACTORY);
-      synchronized (kf) {
-        RSAPublicKey pubKey =
-          (RSAPublicKey) kf.generatePublic(new RSAPublicKeySpec(privKey
-            .getModulus(), privKey.getPublicExponent()));
-        return new KeyPair(pubKey, privKey);
-      }
+      RSAPublicKey pubKey =
+        (RSAPublicKey) keyFactory().generatePublic(new RSAPublicKeySpec(
+          privKey.getModulus(), privKey.getPublicExponent()));
+      return new KeyPair(pubKey, privKey);
     }
-    catch (NoSuchAlgorithmException e) {
+    catch (InvalidKeySpecException e) {
+      throw e;
+    }
+    catch (GeneralSecurityException e) {
       throw new CryptographyException(e);
     }
   }
@@ -323,24 +396,22 @@ public final class Cryptography {
   /**
    * Verifica a assinatura de um dado.
    * 
-   * @param publicKey A chave pblica a ser utilizada na verificao.
+   * @param publicKey A chave pública a ser utilizada na verificação.
    * @param rawData O dado supostamente assinado.
    * @param signedData O dado assinado.
-   * @return {@code True} caso a assinatura seja vlida, e {@code false}
-   *         caso contrrio.
+   * @return {@code True} caso a assinatura seja válida, e {@code false}
+   *         caso contrário.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    */
   public boolean verifySignature(RSAPublicKey publicKey, byte[] rawData,
     byte[] signedData) throws CryptographyException {
     try {
-      Signature sign = Signature.getInstance("NONEwithRSA");
-      synchronized (sign) {
-        sign.initVerify(publicKey);
-        byte[] hashData = this.generateHash(rawData);
-        sign.update(hashData);
-        return sign.verify(signedData);
-      }
+      Signature sign = signature();
+      sign.initVerify(publicKey);
+      byte[] hashData = this.generateHash(rawData);
+      sign.update(hashData);
+      return sign.verify(signedData);
     }
     catch (GeneralSecurityException e) {
       throw new CryptographyException(e);
@@ -348,13 +419,13 @@ public final class Cryptography {
   }
 
   /**
-   * L um certificado digital a partir de um arquivo.
+   * Lê um certificado digital a partir de um arquivo.
    * 
    * @param certificateFile O caminho para o arquivo de certificado.
    * 
    * @return O certificado lido.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    * @throws IOException Caso algum erro ocorra ao acessar o arquivo do
    * certificado.
    */
@@ -364,13 +435,13 @@ public final class Cryptography {
   }
 
   /**
-   * L um certificado digital a partir de um fluxo de arquivo.
+   * Lê um certificado digital a partir de um fluxo de arquivo.
    * 
    * @param inputStream Fluxo do certificado.
    * 
    * @return O certificado lido.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    * @throws IOException Caso algum erro ocorra ao acessar o arquivo de
    * certificado.
    */
@@ -396,7 +467,7 @@ public final class Cryptography {
    * 
    * @return O certificado interpretado.
    * @throws CryptographyException Caso algum erro ocorra ao utilizar os
-   * algoritmos criptogrficos.
+   * algoritmos criptográficos.
    * @throws IOException Caso algum erro ocorra ao acessar os bytes como um
    * fluxo.
    */
@@ -405,4 +476,115 @@ public final class Cryptography {
     ByteArrayInputStream stream = new ByteArrayInputStream(encoded);
     return readX509Certificate(stream);
   }
+
+  /**
+   * Recupera a cifra da thread corrente.
+   * 
+   * @return a cifra.
+   * @throws GeneralSecurityException
+   */
+  private Cipher cipher() throws GeneralSecurityException {
+    Cipher cipher = ciphers.get();
+    if (cipher == null) {
+      if (provider != null) {
+        try {
+          cipher = Cipher.getInstance(CIPHER_ALGORITHM, provider);
+        }
+        catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+          fallback("Cipher", CIPHER_ALGORITHM, e);
+        }
+      }
+      if (cipher == null) {
+        cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+      }
+      ciphers.set(cipher);
+    }
+    return cipher;
+  }
+
+  /**
+   * Recupera o algoritmo de assinatura da thread corrente.
+   * 
+   * @return o algoritmo de assinatura.
+   * @throws GeneralSecurityException
+   */
+  private Signature signature() throws GeneralSecurityException {
+    Signature signature = signatures.get();
+    if (signature == null) {
+      if (provider != null) {
+        try {
+          signature = Signature.getInstance(SIGNATURE_ALGORITHM, provider);
+        }
+        catch (NoSuchAlgorithmException e) {
+          fallback("Signature", SIGNATURE_ALGORITHM, e);
+        }
+      }
+      if (signature == null) {
+        signature = Signature.getInstance(SIGNATURE_ALGORITHM);
+      }
+      signatures.set(signature);
+    }
+    return signature;
+  }
+
+  /**
+   * Recupera a fábrica de chaves da thread corrente.
+   * 
+   * @return a fábrica de chaves.
+   * @throws GeneralSecurityException
+   */
+  private KeyFactory keyFactory() throws GeneralSecurityException {
+    KeyFactory keyFactory = keyFactories.get();
+    if (keyFactory == null) {
+      if (provider != null) {
+        try {
+          keyFactory = KeyFactory.getInstance(KEY_FACTORY, provider);
+        }
+        catch (NoSuchAlgorithmException e) {
+          fallback("KeyFactory", KEY_FACTORY, e);
+        }
+      }
+      if (keyFactory == null) {
+        keyFactory = KeyFactory.getInstance(KEY_FACTORY);
+      }
+      keyFactories.set(keyFactory);
+    }
+    return keyFactory;
+  }
+
+  /**
+   * Cria um novo algoritmo de hash.
+   * 
+   * @return o algoritmo de hash.
+   * @throws GeneralSecurityException
+   */
+  private MessageDigest newDigest() throws GeneralSecurityException {
+    if (provider != null) {
+      try {
+        return MessageDigest.getInstance(HASH_ALGORITHM, provider);
+      }
+      catch (NoSuchAlgorithmException e) {
+        fallback("MessageDigest", HASH_ALGORITHM, e);
+      }
+    }
+    return MessageDigest.getInstance(HASH_ALGORITHM);
+  }
+
+  /**
+   * Registra no log, uma única vez por primitiva, que o provedor escolhido não
+   * a oferece e que serão utilizados os provedores padrão.
+   * 
+   * @param primitive a primitiva criptográfica.
+   * @param algorithm o algoritmo da primitiva.
+   * @param e o erro do provedor escolhido.
+   */
+  private void fallback(String primitive, String algorithm,
+    GeneralSecurityException e) {
+    if (fallbacks.add(primitive)) {
+      logger.log(Level.WARNING, String.format(
+        "%s (%s) não oferecido pelo provedor de criptografia (%s). Serão "
+          + "utilizados os provedores padrão.", primitive, algorithm, provider
+          .getName()), e);
+    }
+  }
 }
@@ -0,0 +1,175 @@
+package tecgraf.openbus.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class BoundedCacheTest {
+
+  /**
+   * Compara a cache com um mapa que acompanha as entradas notificadas como
+   * removidas por falta de espaço.
+   */
+  @Test
+  public void randomOperationsTest() {
+    Random random = new Random(1);
+    for (int size : new int[] { 1, 2, 10, 100 }) {
+      final Map<Integer, Integer> present = new HashMap<>();
+      BoundedCache<Integer, Integer> cache =
+        new BoundedCache<>(size, (key, value) -> assertEquals(present
+          .remove(key), value));
+      for (int i = 0; i < 100000; i++) {
+        int key = random.nextInt(size * 3);
+        int op = random.nextInt(10);
+        if (op < 5) {
+          Integer value = cache.get(key);
+          if (value != null) {
+            assertEquals(present.get(key), value);
+          }
+        }
+        else if (op < 9) {
+          int value = random.nextInt();
+          cache.put(key, value);
+          present.put(key, value);
+        }
+        else {
+          cache.remove(key);
+          present.remove(key);
+        }
+        assertTrue(cache.size() <= size);
+        assertEquals(present.size(), cache.size());
+      }
+    }
+  }
+
+  @Test
+  public void frequentEntriesAreKeptTest() {
+    BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+    for (int i = 0; i < 50; i++) {
+      cache.put(i, i);
+    }
+    // tira da janela de admissão a última chave frequente
+    cache.put(-1, -1);
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 50; i++) {
+        assertNotNull(cache.get(i));
+      }
+    }
+    // uma varredura de chaves acessadas uma única vez não remove as frequentes
+    for (int i = 1000; i < 2000; i++) {
+      cache.put(i, i);
+    }
+    int kept = 0;
+    for (int i = 0; i < 50; i++) {
+      if (cache.get(i) != null) {
+        kept++;
+      }
+    }
+    assertEquals(50, kept);
+  }
+
+  /**
+   * Uma sessão criada com a cache cheia de entradas frequentes continua na
+   * cache até a retentativa da chamada que a criou.
+   */
+  @Test
+  public void newSessionSurvivesHotCacheTest() {
+    BoundedCache<Integer, Integer> cache = new BoundedCache<>(30, null, false);
+    for (int i = 0; i < 30; i++) {
+      cache.put(i, i);
+    }
+    for (int round = 0; round < 15; round++) {
+      for (int i = 0; i < 30; i++) {
+        cache.get(i);
+      }
+    }
+    cache.put(-1, -1);
+    cache.put(-2, -2);
+    assertNotNull(cache.get(-1));
+    assertNotNull(cache.get(-2));
+    cache.put(-3, -3);
+    assertNotNull(cache.get(-2));
+    assertNotNull(cache.get(-3));
+    assertEquals(30, cache.size());
+  }
+
+  @Test
+  public void resizeTest() {
+    final List<Integer> evicted = new ArrayList<>();
+    BoundedCache<Integer, Integer> cache =
+      new BoundedCache<>(10, (key, value) -> evicted.add(key));
+    for (int i = 0; i < 10; i++) {
+      cache.put(i, i);
+    }
+    cache.resize(4);
+    assertEquals(4, cache.size());
+    assertEquals(6, evicted.size());
+    assertEquals(4, cache.maximum());
+  }
+
+  @Test
+  public void statsTest() {
+    BoundedCache<Integer, Integer> cache = new BoundedCache<>(1);
+    assertNull(cache.get(1));
+    cache.put(1, 1);
+    cache.put(2, 2);
+    cache.get(2);
+    BoundedCache.Stats stats = cache.stats();
+    assertEquals(1, stats.hits);
+    assertEquals(1, stats.misses);
+    assertEquals(1, stats.evictions);
+  }
+
+  @Test
+  public void concurrentTest() throws Exception {
+    final int size = 64;
+    final BoundedCache<Integer, Integer> cache =
+      new BoundedCache<>(size, (key, value) -> assertEquals(key, value));
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Void>> results = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        final int seed = t;
+        results.add(pool.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            Random random = new Random(seed);
+            for (int i = 0; i < 100000; i++) {
+              int key = random.nextInt(size * 4);
+              Integer value = cache.get(key);
+              if (value == null) {
+                cache.put(key, key);
+              }
+              else {
+                assertEquals(key, value.intValue());
+              }
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> result : results) {
+        result.get(1, TimeUnit.MINUTES);
+      }
+    }
+    finally {
+      pool.shutdownNow();
+    }
+    assertTrue(cache.size() <= size);
+  }
+}
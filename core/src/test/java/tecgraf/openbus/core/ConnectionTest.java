@@ -144,7 +144,7 @@ public final class ConnectionTest {
       failed = true;
     }
     catch (Exception e) {
-      fail("A exceo deveria ser AccessDenied. Exceo recebida: " + e);
+      fail("A exceção deveria ser AccessDenied. Exceção recebida: " + e);
     }
     assertTrue("O login com entidade vazia foi bem-sucedido.", failed);
 
@@ -157,11 +157,11 @@ public final class ConnectionTest {
       failed = true;
     }
     catch (Exception e) {
-      fail("A exceo deveria ser AccessDenied. Exceo recebida: " + e);
+      fail("A exceção deveria ser AccessDenied. Exceção recebida: " + e);
     }
     assertTrue("O login com senha vazia foi bem-sucedido.", failed);
 
-    // login vlido
+    // login válido
     assertNull(conn.login());
     conn.loginByPassword(entity, password, domain);
     assertNotNull(conn.login());
@@ -178,10 +178,10 @@ public final class ConnectionTest {
       failed = true;
     }
     catch (Exception e) {
-      fail("A exceo deveria ser AlreadyLoggedInException. Exceo recebida: "
+      fail("A exceção deveria ser AlreadyLoggedInException. Exceção recebida: "
         + e);
     }
-    assertTrue("O login com entidade j autenticada foi bem-sucedido.", failed);
+    assertTrue("O login com entidade já autenticada foi bem-sucedido.", failed);
     conn.logout();
     assertNull(conn.login());
   }
@@ -198,7 +198,7 @@ public final class ConnectionTest {
       failed = true;
     }
     catch (Exception e) {
-      fail("A exceo deveria ser MissingCertificate. Exceo recebida: " + e);
+      fail("A exceção deveria ser MissingCertificate. Exceção recebida: " + e);
     }
     assertTrue(
       "O login de entidade sem certificado cadastrado foi bem-sucedido.",
@@ -217,7 +217,7 @@ public final class ConnectionTest {
     assertTrue("O login de entidade com chave corrompida foi bem-sucedido.",
       failed);
 
-    // chave privada invlida
+    // chave privada inválida
     failed = false;
     try {
       conn.loginByPrivateKey(system, systemWrongKey);
@@ -226,12 +226,12 @@ public final class ConnectionTest {
       failed = true;
     }
     catch (Exception e) {
-      fail("A exceo deveria ser WrongPrivateKeyException. Exceo recebida: "
+      fail("A exceção deveria ser WrongPrivateKeyException. Exceção recebida: "
         + e);
     }
     assertTrue("O login de entidade com chave errada foi bem-sucedido.", failed);
 
-    // login vlido
+    // login válido
     assertNull(conn.login());
     conn.loginByPrivateKey(system, systemKey);
     assertNotNull(conn.login());
@@ -248,10 +248,10 @@ public final class ConnectionTest {
       failed = true;
     }
     catch (Exception e) {
-      fail("A exceo deveria ser AlreadyLoggedInException. Exceo recebida: "
+      fail("A exceção deveria ser AlreadyLoggedInException. Exceção recebida: "
         + e);
     }
-    assertTrue("O login com entidade j autenticada foi bem-sucedido.", failed);
+    assertTrue("O login com entidade já autenticada foi bem-sucedido.", failed);
     assertTrue(conn.logout());
     assertNull(conn.login());
   }
@@ -271,7 +271,7 @@ public final class ConnectionTest {
       failed = true;
     }
     catch (Exception e) {
-      fail("A exceo deveria ser AccessDenied. Exceo recebida: " + e);
+      fail("A exceção deveria ser AccessDenied. Exceção recebida: " + e);
     }
     assertTrue("O login com segredo errado foi bem-sucedido.", failed);
     conn.logout();
@@ -284,7 +284,7 @@ public final class ConnectionTest {
     Connection conn2 = context.connectByReference(busref);
     conn.loginByPassword(entity, password, domain);
 
-    // login vlido
+    // login válido
     assertNull(conn2.login());
     LoginCallback cb = new TestLoginCallback(conn, false);
     conn2.loginByCallback(cb);
@@ -303,10 +303,10 @@ public final class ConnectionTest {
       failed = true;
     }
     catch (Exception e) {
-      fail("A exceo deveria ser AlreadyLoggedInException. Exceo recebida: "
+      fail("A exceção deveria ser AlreadyLoggedInException. Exceção recebida: "
         + e);
     }
-    assertTrue("O login com entidade j autenticada foi bem-sucedido.", failed);
+    assertTrue("O login com entidade já autenticada foi bem-sucedido.", failed);
     conn2.logout();
     assertNull(conn2.login());
     conn.logout();
@@ -335,12 +335,12 @@ public final class ConnectionTest {
     catch (NO_PERMISSION e) {
       failed = true;
       if (e.minor != NoLoginCode.value) {
-        fail("A exceo  NO_PERMISSION mas o minor code no  NoLoginCode. Minor code recebido: "
+        fail("A exceção é NO_PERMISSION mas o minor code não é NoLoginCode. Minor code recebido: "
           + e.minor);
       }
     }
     catch (Exception e) {
-      fail("A exceo deveria ser NO_PERMISSION. Exceo recebida: " + e);
+      fail("A exceção deveria ser NO_PERMISSION. Exceção recebida: " + e);
     }
     assertTrue("Uma busca sem login foi bem-sucedida.", failed);
   }
@@ -0,0 +1,60 @@
+package tecgraf.openbus.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.omg.IOP.TaggedProfile;
+
+@SuppressWarnings("javadoc")
+public class EntityCacheTest {
+
+  private static EffectiveProfile profile(int id) {
+    return new EffectiveProfile(new TaggedProfile(0, new byte[] { (byte) id }));
+  }
+
+  @Test
+  public void removeTargetTest() {
+    EntityCache cache = new EntityCache(10);
+    cache.put(profile(1), "a");
+    cache.put(profile(2), "a");
+    cache.put(profile(3), "b");
+    cache.removeTarget("a");
+    assertNull(cache.get(profile(1)));
+    assertNull(cache.get(profile(2)));
+    assertEquals("b", cache.get(profile(3)));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void reassignedProfileTest() {
+    EntityCache cache = new EntityCache(10);
+    cache.put(profile(1), "a");
+    // o perfil passa a ser atendido por outro login
+    cache.put(profile(1), "b");
+    cache.removeTarget("a");
+    assertEquals("b", cache.get(profile(1)));
+    cache.removeTarget("b");
+    assertNull(cache.get(profile(1)));
+  }
+
+  @Test
+  public void evictedProfileTest() {
+    EntityCache cache = new EntityCache(2);
+    cache.put(profile(1), "a");
+    cache.put(profile(2), "a");
+    cache.put(profile(3), "a");
+    assertEquals(2, cache.size());
+    int evicted = 0;
+    for (int i = 1; i <= 3; i++) {
+      if (cache.get(profile(i)) == null) {
+        evicted = i;
+      }
+    }
+    // o perfil removido por falta de espaço é readicionado com outro login
+    cache.put(profile(evicted), "b");
+    cache.removeTarget("a");
+    assertEquals("b", cache.get(profile(evicted)));
+    assertEquals(1, cache.size());
+  }
+}
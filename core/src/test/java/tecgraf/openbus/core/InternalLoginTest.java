@@ -2,8 +2,14 @@ package tecgraf.openbus.core;
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.omg.CORBA.ORB;
@@ -74,4 +80,23 @@ public class InternalLoginTest {
     assertTrue(checkLogin(login2, info2));
   }
 
+  @Test
+  public void readWhileWriteLockedTest() throws Exception {
+    ConnectionImpl conn = (ConnectionImpl) context.connectByAddress(host, port);
+    InternalLogin internal = new InternalLogin(conn);
+    LoginInfo login = new LoginInfo("id1", "entity1");
+    internal.setLoggedIn(login);
+    ExecutorService pool = Executors.newSingleThreadExecutor();
+    conn.writeLock().lock();
+    try {
+      // a consulta de um login válido não aguarda o lock da conexão
+      Future<LoginInfo> read = pool.submit(internal::getLogin);
+      assertSame(login, read.get(1, TimeUnit.MINUTES));
+    }
+    finally {
+      conn.writeLock().unlock();
+      pool.shutdownNow();
+    }
+  }
+
 }
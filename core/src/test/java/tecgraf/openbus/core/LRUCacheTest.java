@@ -53,7 +53,7 @@ public class LRUCacheTest {
     cache.put(3, "entry 3");
     cache.put(2, "entry 2");
     cache.put(1, "entry 1");
-    // o loop verifica as entradas na ordem inversa de insero.
+    // o loop verifica as entradas na ordem inversa de inserção.
     for (int i = 1; i < 4; i++) {
       assertTrue(cache.containsKey(i));
     }
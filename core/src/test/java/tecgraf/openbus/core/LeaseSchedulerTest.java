@@ -0,0 +1,230 @@
+package tecgraf.openbus.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.omg.CORBA.NO_PERMISSION;
+
+@SuppressWarnings("javadoc")
+public class LeaseSchedulerTest {
+
+  @Test
+  public void delayTest() {
+    for (int i = 0; i < 1000; i++) {
+      long delay = LeaseScheduler.delay(10);
+      assertTrue(delay > 7000 && delay <= 8000);
+    }
+  }
+
+  @Test
+  public void executorTest() {
+    ScheduledThreadPoolExecutor executor = LeaseScheduler.newExecutor(2);
+    try {
+      assertEquals(2, executor.getCorePoolSize());
+      assertTrue(executor.getRemoveOnCancelPolicy());
+      assertTrue(executor.allowsCoreThreadTimeOut());
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void renewalsTest() {
+    ManualExecutor executor = new ManualExecutor();
+    LeaseScheduler scheduler = new LeaseScheduler(executor);
+    Object owner = new Object();
+    final AtomicInteger renewals = new AtomicInteger();
+    scheduler.schedule(owner, 10, (o, lease) -> {
+      renewals.incrementAndGet();
+      return 20;
+    });
+    Scheduled first = executor.next();
+    assertTrue(first.delay > 7000 && first.delay <= 8000);
+    first.task.run();
+    assertEquals(1, renewals.get());
+    // o novo lease devolvido pelo barramento define a próxima renovação
+    Scheduled second = executor.next();
+    assertTrue(second.delay > 14000 && second.delay <= 16000);
+    second.task.run();
+    assertEquals(2, renewals.get());
+    assertEquals(1, executor.pending());
+  }
+
+  /**
+   * As renovações de muitas conexões compartilham o mesmo executor, e cada
+   * conexão é renovada e reagendada com um atraso sorteado, de forma que as
+   * conexões autenticadas juntas não renovem juntas.
+   */
+  @Test
+  public void manyLeasesTest() {
+    final int leases = 10000;
+    ManualExecutor executor = new ManualExecutor();
+    LeaseScheduler scheduler = new LeaseScheduler(executor);
+    List<Object> owners = new ArrayList<>();
+    final AtomicInteger renewals = new AtomicInteger();
+    for (int i = 0; i < leases; i++) {
+      Object owner = new Object();
+      owners.add(owner);
+      scheduler.schedule(owner, 100, (o, lease) -> {
+        renewals.incrementAndGet();
+        return lease;
+      });
+    }
+    assertEquals(leases, executor.pending());
+    for (int i = 0; i < leases; i++) {
+      executor.next().task.run();
+    }
+    assertEquals(leases, renewals.get());
+    assertEquals(leases, executor.pending());
+    Set<Long> delays = new HashSet<>();
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (int i = 0; i < leases; i++) {
+      long delay = executor.next().delay;
+      assertTrue(delay > 70000 && delay <= 80000);
+      delays.add(delay);
+      min = Math.min(min, delay);
+      max = Math.max(max, delay);
+    }
+    // os atrasos se espalham por toda a variação sorteada
+    assertTrue(delays.size() > leases / 2);
+    assertTrue(max - min > 9000);
+    assertEquals(leases, owners.size());
+  }
+
+  @Test
+  public void cancelTest() {
+    ManualExecutor executor = new ManualExecutor();
+    LeaseScheduler scheduler = new LeaseScheduler(executor);
+    Object owner = new Object();
+    final AtomicInteger renewals = new AtomicInteger();
+    LeaseScheduler.Lease<Object> lease =
+      scheduler.schedule(owner, 10, (o, l) -> renewals.incrementAndGet());
+    Scheduled scheduled = executor.next();
+    lease.cancel();
+    assertTrue(scheduled.isCancelled());
+    // uma renovação já retirada da fila não renova nem é reagendada
+    scheduled.task.run();
+    assertEquals(0, renewals.get());
+    assertEquals(0, executor.pending());
+  }
+
+  @Test
+  public void failuresTest() {
+    ManualExecutor executor = new ManualExecutor();
+    LeaseScheduler scheduler = new LeaseScheduler(executor);
+    Object owner = new Object();
+
+    scheduler.schedule(owner, 10, (o, lease) -> {
+      throw new NO_PERMISSION();
+    });
+    executor.next().task.run();
+    assertEquals(0, executor.pending());
+
+    scheduler.schedule(owner, 10, (o, lease) -> 0);
+    executor.next().task.run();
+    assertEquals(0, executor.pending());
+
+    scheduler.schedule(owner, 10, (o, lease) -> {
+      throw new IllegalStateException();
+    });
+    executor.next().task.run();
+    // outras falhas são retentadas após o lease padrão
+    Scheduled retry = executor.next();
+    assertTrue(retry.delay > 7000 && retry.delay <= 8000);
+    assertFalse(retry.isCancelled());
+  }
+
+  /**
+   * Renovação agendada no executor manual.
+   */
+  private static final class Scheduled implements ScheduledFuture<Object> {
+    final Runnable task;
+    final long delay;
+    private boolean cancelled;
+
+    Scheduled(Runnable task, long delay) {
+      this.task = task;
+      this.delay = delay;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(delay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(delay, other.getDelay(TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      cancelled = true;
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+
+    @Override
+    public Object get() {
+      return null;
+    }
+
+    @Override
+    public Object get(long timeout, TimeUnit unit) {
+      return null;
+    }
+  }
+
+  /**
+   * Executor que apenas registra as renovações agendadas, executadas pelo
+   * próprio teste sem depender do relógio.
+   */
+  private static final class ManualExecutor extends
+    ScheduledThreadPoolExecutor {
+    private final List<Scheduled> scheduled = new ArrayList<>();
+
+    ManualExecutor() {
+      super(1);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, long delay,
+      TimeUnit unit) {
+      Scheduled future = new Scheduled(task, unit.toMillis(delay));
+      scheduled.add(future);
+      return future;
+    }
+
+    Scheduled next() {
+      assertFalse(scheduled.isEmpty());
+      return scheduled.remove(0);
+    }
+
+    int pending() {
+      return scheduled.size();
+    }
+  }
+}
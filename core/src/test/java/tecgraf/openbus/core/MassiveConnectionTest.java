@@ -175,7 +175,7 @@ public class MassiveConnectionTest {
       };
         OfferRegistrySubscription regSub = conn.offerRegistry()
           .subscribeObserver(regObserver, props);
-        // aguarda ocorrer a subscrio
+        // aguarda ocorrer a subscrição
         assertTrue(regSub.subscribed(sleepTime));
         assertSame(regObserver, regSub.observer());
         assertTrue(regSub.properties().equals(props));
@@ -221,7 +221,7 @@ public class MassiveConnectionTest {
             // testa props locais atualizadas de acordo com o estado do barramento
             assertTrue(remoteConn2Impl.properties(true).entries().containsAll
               (offerImpl.properties(false).entries()));
-            // seta informao de offer id para checagem posterior
+            // seta informação de offer id para checagem posterior
             ids3.id1 = OfferRegistryImpl.getOfferIdFromProperties(offerImpl
               .offer());
             latchPropsChanged.countDown();
@@ -236,7 +236,7 @@ public class MassiveConnectionTest {
         };
         OfferSubscription offerSub = remoteConn2.subscribeObserver
           (offerObserver);
-        //aguarda ocorrer a subscrio
+        //aguarda ocorrer a subscrição
         assertTrue(offerSub.subscribed(sleepTime));
         assertSame(offerObserver, offerSub.observer());
 
@@ -19,6 +19,7 @@ import org.omg.IOP.Encoding;
 import scs.core.ComponentContext;
 import tecgraf.openbus.CallerChain;
 import tecgraf.openbus.Connection;
+import tecgraf.openbus.ContextScope;
 import tecgraf.openbus.OpenBusContext;
 import tecgraf.openbus.SharedAuthSecret;
 import tecgraf.openbus.core.v2_1.BusObjectKey;
@@ -171,9 +172,38 @@ public final class OpenBusContextTest {
     context.exitChain();
   }
 
+  @Test
+  public void scopeTest() throws InvalidTypeForEncoding, UnknownEncoding,
+    InvalidName {
+    Connection conn1 = context.connectByReference(busref);
+    Connection conn2 = context.connectByReference(busref);
+    CallerChain chain = buildFakeCallChain("mock", "target", new LoginInfo(
+      "a", "b"), new LoginInfo[0]);
+    context.currentConnection(conn1);
+    context.joinChain(chain);
+    try (ContextScope scope = context.scope(conn2, null)) {
+      assertSame(conn2, context.currentConnection());
+      assertNull(context.joinedChain());
+      try (ContextScope inner = context.scope(null, chain)) {
+        assertSame(conn2, context.currentConnection());
+        assertEquals("a", context.joinedChain().caller().id);
+      }
+      assertNull(context.joinedChain());
+    }
+    assertSame(conn1, context.currentConnection());
+    assertEquals("a", context.joinedChain().caller().id);
+    context.currentConnection(null);
+    try (ContextScope scope = context.scope(conn1)) {
+      assertSame(conn1, context.currentConnection());
+      scope.close();
+      assertNull(context.currentConnection());
+    }
+    assertNull(context.currentConnection());
+  }
+
   @Test
   public void createConnectionIllegalArgumentTest() {
-    // tenta criar conexo com hosts invlidos
+    // tenta criar conexão com hosts inválidos
     Connection invalid = null;
     try {
       invalid = context.connectByAddress("", port);
@@ -195,10 +225,10 @@ public final class OpenBusContextTest {
 
   @Test
   public void createConnectionUknownHostTest() {
-    // tenta criar conexo com hosts desconhecido
+    // tenta criar conexão com hosts desconhecido
     Connection invalid = context.connectByAddress("unknowHost", port);
     assertNotNull(invalid);
-    // nenhuma chamada remota deve ser realizada e a conexo deve ser criada
+    // nenhuma chamada remota deve ser realizada e a conexão deve ser criada
   }
 
   @Test(expected = IllegalArgumentException.class)
@@ -294,6 +324,13 @@ public final class OpenBusContextTest {
     assertNull(conn.login());
   }
 
+  @Test(expected = InvalidPropertyValue.class)
+  public void invalidReloginMaxIntervalPropTest() throws Exception {
+    Properties properties = new Properties();
+    properties.put(OpenBusProperty.RELOGIN_MAX_INTERVAL.getKey(), "-1");
+    context.connectByReference(busref, properties);
+  }
+
   @Test
   public void invalidHostPortLoginTest() throws Exception {
     Connection conn = context.connectByAddress("unknown-host", port);
@@ -305,10 +342,10 @@ public final class OpenBusContextTest {
       // erro esperado
     }
     catch (Exception e) {
-      fail("A exceo deveria ser TRANSIENT. Exceo recebida: " + e);
+      fail("A exceção deveria ser TRANSIENT. Exceção recebida: " + e);
     }
     assertNull(conn.login());
-    // chutando uma porta invlida
+    // chutando uma porta inválida
     conn = context.connectByAddress(host, port + 111);
     assertNull(conn.login());
     try {
@@ -318,7 +355,7 @@ public final class OpenBusContextTest {
       // erro esperado
     }
     catch (Exception e) {
-      fail("A exceo deveria ser TRANSIENT. Exceo recebida: " + e);
+      fail("A exceção deveria ser TRANSIENT. Exceção recebida: " + e);
     }
     assertNull(conn.login());
   }
@@ -374,13 +411,13 @@ public final class OpenBusContextTest {
     catch (NO_PERMISSION e) {
       failed = true;
       if (e.minor != NoLoginCode.value) {
-        fail("A exceo deveria ser NO_PERMISSION com minor code NoLoginCode." +
+        fail("A exceção deveria ser NO_PERMISSION com minor code NoLoginCode." +
           " Minor code recebido: " + e.minor);
       }
     }
     catch (Exception e) {
-      fail("A exceo deveria ser NO_PERMISSION com minor code NoLoginCode. " +
-        "Exceo recebida: " + e);
+      fail("A exceção deveria ser NO_PERMISSION com minor code NoLoginCode. " +
+        "Exceção recebida: " + e);
     }
     assertTrue(failed);
     // tentativa com current connection setado
@@ -391,7 +428,7 @@ public final class OpenBusContextTest {
     }
     catch (Exception e) {
       fail("A chamada com current connection setado deveria ser bem-sucedida." +
-        " Exceo recebida: " + e);
+        " Exceção recebida: " + e);
     }
     finally {
       previous = context.currentConnection(null);
@@ -417,7 +454,7 @@ public final class OpenBusContextTest {
     assertSame(context.currentConnection(), conn);
     context.currentConnection(null);
 
-    // tentativa de chamada sem conexo request setada
+    // tentativa de chamada sem conexão request setada
     conn.loginByPassword(entity, password, domain);
     assertNull(context.currentConnection());
     boolean failed = false;
@@ -429,22 +466,22 @@ public final class OpenBusContextTest {
     catch (NO_PERMISSION e) {
       failed = true;
       if (e.minor != NoLoginCode.value) {
-        fail("A exceo deveria ser NO_PERMISSION com minor code NoLoginCode. Minor code recebido: "
+        fail("A exceção deveria ser NO_PERMISSION com minor code NoLoginCode. Minor code recebido: "
           + e.minor);
       }
     }
     catch (Exception e) {
-      fail("A exceo deveria ser NO_PERMISSION com minor code NoLoginCode. Exceo recebida: "
+      fail("A exceção deveria ser NO_PERMISSION com minor code NoLoginCode. Exceção recebida: "
         + e);
     }
     assertTrue(failed);
-    // tentativa com conexo de request setada
+    // tentativa com conexão de request setada
     context.currentConnection(conn);
     try {
       context.getOfferRegistry().findServices(props);
     }
     catch (Exception e) {
-      fail("A chamada com conexo setada deveria ser bem-sucedida. Exceo recebida: "
+      fail("A chamada com conexão setada deveria ser bem-sucedida. Exceção recebida: "
         + e);
     }
   }
@@ -819,6 +856,41 @@ public final class OpenBusContextTest {
     conn2.logout();
   }
 
+  @Test
+  public void joinAndForwardToLegacyLazyTest() throws Exception {
+    Connection conn1 = context.connectByReference(busref);
+    String actor1 = "actor-1";
+    conn1.loginByPassword(actor1, actor1.getBytes(), domain);
+    Properties properties = new Properties();
+    properties.put(OpenBusProperty.LEGACY_CHAIN_LAZY.getKey(), "true");
+    ConnectionImpl conn2 =
+      (ConnectionImpl) context.connectByReference(busref, properties);
+    String actor2 = "actor-2";
+    conn2.loginByPassword(actor2, actor2.getBytes(), domain);
+
+    // cadeia recebida de um cliente 2.1 por uma conexão sob demanda
+    Credential.Chain chain =
+      ((CallerChainImpl) conn1.makeChainFor(actor2)).internal_chain();
+    CallChain callchain =
+      new CallChain(chain.bus, chain.target, chain.originators, chain.caller);
+    CallerChain joined = new CallerChainImpl(callchain, chain.signedChain);
+    assertSame(InterceptorImpl.NULL_SIGNED_LEGACY_CALL_CHAIN,
+      ((CallerChainImpl) joined).internal_chain().signedLegacy);
+
+    try (ContextScope scope = context.scope(conn2, joined)) {
+      tecgraf.openbus.core.v2_0.credential.SignedCallChain forwarded =
+        conn2.legacySupport().access().signChainFor(conn1.login().id);
+      tecgraf.openbus.core.v2_0.services.access_control.CallChain legacy =
+        ORBUtils.getMediator(orb).getDecodedChains().decode(forwarded);
+      assertEquals(actor2, legacy.caller.entity);
+      assertEquals(1, legacy.originators.length);
+      assertEquals(actor1, legacy.originators[0].entity);
+    }
+
+    conn1.logout();
+    conn2.logout();
+  }
+
   @Test
   public void encodeAndDecodeSharedAuth() throws Exception {
     Connection conn = context.connectByReference(busref);
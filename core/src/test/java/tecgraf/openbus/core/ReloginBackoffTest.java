@@ -0,0 +1,24 @@
+package tecgraf.openbus.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class ReloginBackoffTest {
+
+  @Test
+  public void backoffTest() {
+    for (int attempt = 0; attempt < 100; attempt++) {
+      long expected = Math.min(100L << Math.min(attempt, 10), 3000);
+      long delay = ConnectionImpl.backoff(100, 3000, attempt);
+      assertTrue(delay >= expected / 2 && delay <= expected);
+    }
+  }
+
+  @Test
+  public void noIntervalTest() {
+    assertEquals(0, ConnectionImpl.backoff(0, 3000, 5));
+  }
+}
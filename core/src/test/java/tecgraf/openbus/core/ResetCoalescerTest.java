@@ -0,0 +1,114 @@
+package tecgraf.openbus.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+
+import tecgraf.openbus.core.ResetCoalescer.SharedReset;
+import tecgraf.openbus.core.Session.ServerSideSession;
+
+@SuppressWarnings("javadoc")
+public class ResetCoalescerTest {
+
+  @Test
+  public void sharedResetTest() throws Exception {
+    FakeSessions sessions = new FakeSessions();
+    ResetCoalescer resets =
+      new ResetCoalescer(sessions, 0, new ManualTicker());
+    SharedReset first = resets.reset(credential("login", 0), new byte[0]);
+    SharedReset second = resets.reset(credential("login", 0), new byte[0]);
+    assertSame(first, second);
+    assertEquals(1, sessions.created.get());
+    // a credencial que já utiliza a sessão compartilhada exige uma nova
+    SharedReset third =
+      resets.reset(credential("login", first.session()), new byte[0]);
+    assertNotSame(first, third);
+    assertEquals(2, sessions.created.get());
+  }
+
+  @Test
+  public void evictedSessionTest() throws Exception {
+    FakeSessions sessions = new FakeSessions();
+    ResetCoalescer resets =
+      new ResetCoalescer(sessions, 0, new ManualTicker());
+    SharedReset first = resets.reset(credential("login", 0), new byte[0]);
+    sessions.cached.clear();
+    SharedReset second = resets.reset(credential("login", 0), new byte[0]);
+    assertNotSame(first, second);
+    assertEquals(1, resets.size());
+  }
+
+  /**
+   * Os reinícios de logins que não voltam a reiniciar são descartados depois
+   * que a janela de compartilhamento termina.
+   */
+  @Test
+  public void purgeTest() throws Exception {
+    FakeSessions sessions = new FakeSessions();
+    ManualTicker ticker = new ManualTicker();
+    ResetCoalescer resets = new ResetCoalescer(sessions, 0, ticker);
+    for (int i = 0; i < 100; i++) {
+      resets.reset(credential("login" + i, 0), new byte[0]);
+    }
+    assertEquals(100, resets.size());
+    ticker.advance(TimeUnit.SECONDS.toNanos(6));
+    resets.reset(credential("other", 0), new byte[0]);
+    assertEquals(1, resets.size());
+    ticker.advance(TimeUnit.SECONDS.toNanos(6));
+    resets.reset(credential("other", 0), new byte[0]);
+    assertEquals(1, resets.size());
+    assertEquals(102, sessions.created.get());
+  }
+
+  private static Credential credential(String login, int session) {
+    return new Credential("bus", login, session, 0, null, null, false);
+  }
+
+  private static final class ManualTicker extends Ticker {
+    private long now;
+
+    @Override
+    public long read() {
+      return now;
+    }
+
+    void advance(long nanos) {
+      now += nanos;
+    }
+  }
+
+  private static final class FakeSessions implements ResetCoalescer.Sessions {
+    final AtomicInteger created = new AtomicInteger();
+    final Set<ServerSideSession> cached =
+      Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    @Override
+    public byte[] encrypt(String login, byte[] pubkey, byte[] secret) {
+      return secret;
+    }
+
+    @Override
+    public ServerSideSession create(String login, byte[] secret) {
+      ServerSideSession session =
+        new ServerSideSession(created.incrementAndGet(), 0, secret, login,
+          TicketsHistory.DEFAULT_SIZE);
+      cached.add(session);
+      return session;
+    }
+
+    @Override
+    public boolean cached(ServerSideSession session) {
+      return cached.contains(session);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package tecgraf.openbus.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+@SuppressWarnings("javadoc")
+public class SessionIdAllocatorTest {
+
+  @Test
+  public void reuseReleasedIdTest() {
+    SessionIdAllocator ids = new SessionIdAllocator();
+    int epoch = ids.epoch();
+    int first = ids.allocate();
+    int second = ids.allocate();
+    assertEquals(1, first);
+    assertEquals(2, second);
+    ids.release(first, epoch);
+    assertEquals(first, ids.allocate());
+    assertEquals(3, ids.allocate());
+  }
+
+  @Test
+  public void staleReleaseTest() {
+    SessionIdAllocator ids = new SessionIdAllocator();
+    int epoch = ids.epoch();
+    int stale = ids.allocate();
+    ids.clear();
+    int live = ids.allocate();
+    assertEquals(stale, live);
+    ids.release(stale, epoch);
+    assertEquals(live + 1, ids.allocate());
+  }
+
+  /**
+   * Uma remoção notificada fora do bloqueio da cache cruza a limpeza das
+   * sessões, e o identificador liberado não pode ser entregue novamente
+   * enquanto a sessão realocada com ele ainda está em uso.
+   */
+  @Test
+  public void concurrentClearAndEvictTest() throws Exception {
+    final SessionIdAllocator ids = new SessionIdAllocator();
+    final CountDownLatch evicting = new CountDownLatch(1);
+    final CountDownLatch cleared = new CountDownLatch(1);
+    final BoundedCache<Integer, Integer> sessions =
+      new BoundedCache<>(1, (id, epoch) -> {
+        evicting.countDown();
+        Uninterruptibles.awaitUninterruptibly(cleared);
+        ids.release(id, epoch);
+      });
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> evictor = executor.submit(() -> {
+        for (int i = 0; i < 2; i++) {
+          int epoch = ids.epoch();
+          sessions.put(ids.allocate(), epoch);
+        }
+      });
+      assertTrue(evicting.await(10, TimeUnit.SECONDS));
+      sessions.clear();
+      ids.clear();
+      int first = ids.allocate();
+      int second = ids.allocate();
+      cleared.countDown();
+      evictor.get(10, TimeUnit.SECONDS);
+      int next = ids.allocate();
+      assertTrue(next != first && next != second);
+    }
+    finally {
+      cleared.countDown();
+      executor.shutdownNow();
+    }
+  }
+}
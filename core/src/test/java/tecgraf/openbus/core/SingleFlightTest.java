@@ -0,0 +1,88 @@
+package tecgraf.openbus.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.omg.CORBA.UserException;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+@SuppressWarnings("javadoc")
+public class SingleFlightTest {
+
+  @Test
+  public void concurrentCallsShareOneExecutionTest() throws Exception {
+    final int threads = 16;
+    final SingleFlight<String, Object> flight = new SingleFlight<>();
+    final AtomicInteger executions = new AtomicInteger();
+    final CountDownLatch entered = new CountDownLatch(1);
+    final CountDownLatch calling = new CountDownLatch(threads - 1);
+    final Set<Thread> followers = ConcurrentHashMap.newKeySet();
+    final Object result = new Object();
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Object>> results = new ArrayList<>();
+      results.add(pool.submit(() -> flight.execute("key", () -> {
+        executions.incrementAndGet();
+        entered.countDown();
+        // mantém a primeira execução em andamento até que todas as demais
+        // threads estejam aguardando o seu resultado
+        Uninterruptibles.awaitUninterruptibly(calling);
+        for (Thread follower : followers) {
+          while (follower.getState() != Thread.State.WAITING) {
+            Thread.yield();
+          }
+        }
+        return result;
+      })));
+      entered.await();
+      for (int i = 1; i < threads; i++) {
+        results.add(pool.submit(() -> {
+          followers.add(Thread.currentThread());
+          calling.countDown();
+          return flight.execute("key", () -> {
+            executions.incrementAndGet();
+            return new Object();
+          });
+        }));
+      }
+      for (Future<Object> future : results) {
+        assertSame(result, future.get(1, TimeUnit.MINUTES));
+      }
+    }
+    finally {
+      pool.shutdownNow();
+    }
+    assertEquals(1, executions.get());
+  }
+
+  @Test
+  public void failureIsNotRememberedTest() throws Exception {
+    SingleFlight<String, String> flight = new SingleFlight<>();
+    final UserException error = new UserException() {
+    };
+    try {
+      flight.execute("key", () -> {
+        throw error;
+      });
+      fail();
+    }
+    catch (UserException e) {
+      assertSame(error, e);
+    }
+    assertEquals("ok", flight.execute("key", () -> "ok"));
+  }
+}
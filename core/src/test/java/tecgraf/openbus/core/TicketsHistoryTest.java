@@ -0,0 +1,116 @@
+package tecgraf.openbus.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class TicketsHistoryTest {
+
+  @Test
+  public void inOrderTest() {
+    TicketsHistory history = new TicketsHistory(64);
+    for (int i = 0; i < 1000; i++) {
+      assertTrue(history.check(i));
+      assertFalse(history.check(i));
+    }
+  }
+
+  @Test
+  public void reorderedWithinWindowTest() {
+    for (int size : new int[] { 64, 128, 256 }) {
+      TicketsHistory history = new TicketsHistory(size);
+      // tickets chegam em ordem inversa dentro da janela
+      for (int i = size; i >= 0; i--) {
+        assertTrue(history.check(i));
+      }
+      for (int i = 0; i <= size; i++) {
+        assertFalse(history.check(i));
+      }
+      assertTrue(history.check(size + 1));
+    }
+  }
+
+  @Test
+  public void outsideWindowTest() {
+    TicketsHistory history = new TicketsHistory(64);
+    assertTrue(history.check(1000));
+    // tickets anteriores à janela são descartados
+    assertFalse(history.check(1000 - 65));
+    assertFalse(history.check(0));
+    // tickets dentro da janela ainda são aceitos uma única vez
+    assertTrue(history.check(1000 - 64));
+    assertFalse(history.check(1000 - 64));
+    assertTrue(history.check(999));
+    assertFalse(history.check(999));
+    assertFalse(history.check(1000));
+  }
+
+  @Test
+  public void usedTicketAtSlidingBaseTest() {
+    TicketsHistory history = new TicketsHistory(64);
+    assertTrue(history.check(10));
+    // desliza a janela de forma que o ticket 10 vire a base
+    assertTrue(history.check(74));
+    assertFalse(history.check(10));
+    assertTrue(history.check(11));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidSizeTest() {
+    new TicketsHistory(32);
+  }
+
+  /**
+   * Várias threads verificam a mesma sequência de tickets ao mesmo tempo. Cada
+   * ticket deve ser aceito exatamente uma vez.
+   */
+  @Test
+  public void concurrentTest() throws Exception {
+    final int tickets = 100000;
+    final int threads = 8;
+    final TicketsHistory history = new TicketsHistory(128);
+    final AtomicIntegerArray accepted = new AtomicIntegerArray(tickets);
+    final CountDownLatch start = new CountDownLatch(1);
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Void>> results = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        results.add(pool.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            start.await();
+            for (int i = 0; i < tickets; i++) {
+              if (history.check(i)) {
+                accepted.incrementAndGet(i);
+              }
+            }
+            return null;
+          }
+        }));
+      }
+      start.countDown();
+      for (Future<Void> result : results) {
+        result.get(1, TimeUnit.MINUTES);
+      }
+    }
+    finally {
+      pool.shutdownNow();
+    }
+    for (int i = 0; i < tickets; i++) {
+      assertEquals("ticket " + i, 1, accepted.get(i));
+    }
+  }
+}
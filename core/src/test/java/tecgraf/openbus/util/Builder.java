@@ -17,7 +17,7 @@ import tecgraf.openbus.OpenBusContext;
 import test.CallerChainInspectorHelper;
 
 /**
- * Classe utilitria para os demos Java.
+ * Classe utilitária para os demos Java.
  * 
  * @author Tecgraf
  */
@@ -25,8 +25,8 @@ import test.CallerChainInspectorHelper;
 public class Builder {
 
   /**
-   * Constri componente para o teste de verificao de CallerChain dentro de um
-   * mtodo de despacho.
+   * Constrói componente para o teste de verificação de CallerChain dentro de um
+   * método de despacho.
    * 
    * @param context o contexto.
    * @return o componente
@@ -40,9 +40,9 @@ public class Builder {
     ComponentContext component = buildComponent(context.ORB());
     component.updateFacet("IComponent", new IComponentServant(component) {
       /**
-       * Mtodo vai lanar uma exceo caso no consiga recuperar uma cadeia
-       * vlida. O que far com que o mtodo de registro de servio falhe,
-       * fazendo com que o teste tambm acuse a falha.
+       * Método vai lançar uma exceção caso não consiga recuperar uma cadeia
+       * válida. O que fará com que o método de registro de serviço falhe,
+       * fazendo com que o teste também acuse a falha.
        */
       @Override
       public Object getFacetByName(String arg0) {
@@ -50,22 +50,22 @@ public class Builder {
         CallerChain chain = context.callerChain();
         if (chain == null) {
           throw new IllegalStateException(
-            "CallerChain nunca deveria ser nulo dentro de um mtodo de despacho.");
+            "CallerChain nunca deveria ser nulo dentro de um método de despacho.");
         }
         // verificando dados da cadeia
         if (!connection.busId().equals(chain.busId())) {
           throw new IllegalStateException(
-            "Informao de busId da cadeia no  coerente com conexo que atende a requisio.");
+            "Informação de busId da cadeia não é coerente com conexão que atende a requisição.");
         }
         if (chain.caller() == null || chain.caller().entity == null
           || chain.caller().id == null) {
           throw new IllegalStateException(
-            "Informao de caller da cadeia  invlida.");
+            "Informação de caller da cadeia é inválida.");
         }
         if (chain.target() == null
           || !connection.login().entity.equals(chain.target())) {
           throw new IllegalStateException(
-            "Informao de target da cadeia no  coerente com conexo que atende a requisio..");
+            "Informação de target da cadeia não é coerente com conexão que atende a requisição..");
         }
         return super.getFacetByName(arg0);
       }
@@ -74,8 +74,8 @@ public class Builder {
   }
 
   /**
-   * Constri componente para o teste de verificao de CallerChain dentro de um
-   * mtodo de despacho.
+   * Constrói componente para o teste de verificação de CallerChain dentro de um
+   * método de despacho.
    * 
    * @param context o contexto.
    * @return o componente
@@ -89,16 +89,16 @@ public class Builder {
     ComponentContext component = buildComponent(context.ORB());
     component.updateFacet("IComponent", new IComponentServant(component) {
       /**
-       * Mtodo vai lanar uma exceo caso no consiga recuperar uma conexo. O
-       * que far com que o mtodo de registro de servio falhe, fazendo com que
-       * o teste tambm acuse a falha.
+       * Método vai lançar uma exceção caso não consiga recuperar uma conexão. O
+       * que fará com que o método de registro de serviço falhe, fazendo com que
+       * o teste também acuse a falha.
        */
       @Override
       public Object getFacetByName(String arg0) {
         Connection connection = context.currentConnection();
         if (connection == null) {
           throw new IllegalStateException(
-            "CurrentConnection nunca deveria ser nulo dentro de um mtodo de despacho.");
+            "CurrentConnection nunca deveria ser nulo dentro de um método de despacho.");
         }
         return super.getFacetByName(arg0);
       }
@@ -107,7 +107,7 @@ public class Builder {
   }
 
   /**
-   * Constri um componente que oferece faceta de inspeo de cadeia de
+   * Constrói um componente que oferece faceta de inspeção de cadeia de
    * chamadas.
    * 
    * @param context o contexto
@@ -126,7 +126,7 @@ public class Builder {
   }
 
   /**
-   * Constri um componente SCS
+   * Constrói um componente SCS
    * 
    * @param orb o orb em uso
    * @return um componente
@@ -9,7 +9,7 @@ import test.CallerChainInspector;
 import test.CallerChainInspectorPOA;
 
 /**
- * Implementao da faceta de {@link CallerChainInspector}
+ * Implementação da faceta de {@link CallerChainInspector}
  * 
  * @author Tecgraf
  */
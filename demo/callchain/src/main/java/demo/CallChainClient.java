@@ -32,7 +32,7 @@ import java.util.List;
  */
 public final class CallChainClient {
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    * @throws AlreadyLoggedIn
@@ -85,7 +85,7 @@ public final class CallChainClient {
     try {
       // autentica-se no barramento
       connection.loginByPassword(entity, password.getBytes(), domain);
-      // busca por servio
+      // busca por serviço
       ArrayListMultimap<String, String> props = ArrayListMultimap.create();
       props.put("offer.domain", "Demo Call Chain");
       props.put("openbus.component.interface", MessengerHelper.id());
@@ -106,13 +106,13 @@ public final class CallChainClient {
       return;
     }
     catch (UnknownDomain e) {
-      System.err.println("Tentativa de autenticao em domnio desconhecido.");
+      System.err.println("Tentativa de autenticação em domínio desconhecido.");
       System.exit(1);
       return;
     }
     catch (WrongEncoding e) {
       System.err
-        .println("incompatibilidade na codifio de informao para o barramento");
+        .println("incompatibilidade na codifição de informação para o barramento");
       System.exit(1);
       return;
     }
@@ -125,20 +125,20 @@ public final class CallChainClient {
     }
     catch (TRANSIENT e) {
       System.err.println(String.format(
-        "o barramento em %s:%s esta inacessvel no momento", host, port));
+        "o barramento em %s:%s esta inacessível no momento", host, port));
       System.exit(1);
       return;
     }
     catch (COMM_FAILURE e) {
       System.err
-        .println("falha de comunicao ao acessar servios ncleo do barramento");
+        .println("falha de comunicação ao acessar serviços núcleo do barramento");
       System.exit(1);
       return;
     }
     catch (NO_PERMISSION e) {
       if (e.minor == NoLoginCode.value) {
         System.err.println(String.format(
-          "no h um login de '%s' vlido no momento", entity));
+          "não há um login de '%s' válido no momento", entity));
       }
       System.exit(1);
       return;
@@ -153,7 +153,7 @@ public final class CallChainClient {
           offer.service().getFacet(MessengerHelper.id());
         if (msgObj == null) {
           System.out
-            .println("o servio encontrado no prov a faceta ofertada");
+            .println("o serviço encontrado não provê a faceta ofertada");
           continue;
         }
 
@@ -163,36 +163,36 @@ public final class CallChainClient {
       // Demo
       catch (Unavailable e) {
         System.err.println(String.format(
-          "servio com papel '%s' esta indisponvel", offerRole));
+          "serviço com papel '%s' esta indisponível", offerRole));
       }
       catch (Unauthorized e) {
         System.err.println(String.format(
-          "servio com papel '%s' no autorizou a chamada", offerRole));
+          "serviço com papel '%s' não autorizou a chamada", offerRole));
       }
-      // Servio
+      // Serviço
       catch (TRANSIENT e) {
-        System.err.println("o servio encontrado encontra-se indisponvel");
+        System.err.println("o serviço encontrado encontra-se indisponível");
       }
       catch (COMM_FAILURE e) {
-        System.err.println("falha de comunicao com o servio encontrado");
+        System.err.println("falha de comunicação com o serviço encontrado");
       }
       catch (NO_PERMISSION e) {
         switch (e.minor) {
           case NoLoginCode.value:
             System.err.println(String.format(
-              "no h um login de '%s' vlido no momento", entity));
+              "não há um login de '%s' válido no momento", entity));
             break;
           case UnknownBusCode.value:
             System.err
-              .println("o servio encontrado no est mais logado ao barramento");
+              .println("o serviço encontrado não está mais logado ao barramento");
             break;
           case UnverifiedLoginCode.value:
             System.err
-              .println("o servio encontrado no foi capaz de validar a chamada");
+              .println("o serviço encontrado não foi capaz de validar a chamada");
             break;
           case InvalidRemoteCode.value:
             System.err
-              .println("integrao do servio encontrado com o barramento est incorreta");
+              .println("integração do serviço encontrado com o barramento está incorreta");
             break;
         }
       }
@@ -44,7 +44,7 @@ public class CallChainProxy {
       String params = "[interval]";
       String desc =
         "\n  - [interval] = Tempo de espera entre tentativas de acesso ao barramento."
-          + " Valor padro  '1'";
+          + " Valor padrão é '1'";
       System.out.println(String.format(Usage.serverUsage, params, desc));
       System.exit(1);
       return;
@@ -76,7 +76,7 @@ public class CallChainProxy {
 
     // inicializando e configurando o ORB
     final ORB orb = ORBInitializer.initORB();
-    // - disparando a thread para que o ORB atenda requisies
+    // - disparando a thread para que o ORB atenda requisições
     Thread run = new Thread() {
       @Override
       public void run() {
@@ -84,7 +84,7 @@ public class CallChainProxy {
       }
     };
     run.start();
-    // - criando thread para parar e destruir o ORB ao fim da execuo do processo 
+    // - criando thread para parar e destruir o ORB ao fim da execução do processo 
     Thread shutdown = new Thread() {
       @Override
       public void run() {
@@ -98,7 +98,7 @@ public class CallChainProxy {
     final OpenBusContext context =
       (OpenBusContext) orb.resolve_initial_references("OpenBusContext");
 
-    // criando o servio a ser ofertado
+    // criando o serviço a ser ofertado
     // - ativando o POA
     POA poa = context.POA();
     // - construindo o componente
@@ -118,9 +118,9 @@ public class CallChainProxy {
     try {
       // autentica-se no barramento
       conn.loginByPrivateKey(entity, privateKey);
-      // recupera o servio de registro de ofertas
+      // recupera o serviço de registro de ofertas
       OfferRegistry offerRegistry = conn.offerRegistry();
-      // buscando servio ofertado
+      // buscando serviço ofertado
       ArrayListMultimap<String, String> findProperties = ArrayListMultimap
         .create();
       findProperties.put("offer.role", "actual messenger");
@@ -129,7 +129,7 @@ public class CallChainProxy {
       List<RemoteOffer> offers = offerRegistry.findServices(findProperties);
       proxy.setOffers(offers);
 
-      // registrando servio no barramento
+      // registrando serviço no barramento
       ArrayListMultimap<String, String> serviceProperties = ArrayListMultimap
         .create();
       serviceProperties.put("offer.role", "proxy messenger");
@@ -146,16 +146,16 @@ public class CallChainProxy {
     // login by certificate
     catch (AccessDenied e) {
       System.err.println(String.format(
-        "a chave em '%s' no corresponde ao certificado da entidade '%s'",
+        "a chave em '%s' não corresponde ao certificado da entidade '%s'",
         privateKeyFile, entity));
     }
     catch (MissingCertificate e) {
       System.err.println(String.format(
-        "a entidade %s no possui um certificado registrado", entity));
+        "a entidade %s não possui um certificado registrado", entity));
     }
     catch (WrongEncoding e) {
       System.err
-        .println("incompatibilidade na codifio de informao para o barramento");
+        .println("incompatibilidade na codifição de informação para o barramento");
     }
     // register
     catch (UnauthorizedFacets e) {
@@ -167,12 +167,12 @@ public class CallChainProxy {
       System.err
         .println(String
           .format(
-            "a entidade '%s' no foi autorizada pelo administrador do barramento a ofertar os servios: %s",
+            "a entidade '%s' não foi autorizada pelo administrador do barramento a ofertar os serviços: %s",
             entity, interfaces.toString()));
     }
     catch (InvalidService e) {
       System.err
-        .println("o servio ofertado apresentou alguma falha durante o registro.");
+        .println("o serviço ofertado apresentou alguma falha durante o registro.");
     }
     catch (InvalidProperties e) {
       StringBuilder props = new StringBuilder();
@@ -182,11 +182,11 @@ public class CallChainProxy {
           prop.value));
       }
       System.err.println(String.format(
-        "tentativa de registrar servio com propriedades invlidas: %s", props
+        "tentativa de registrar serviço com propriedades inválidas: %s", props
           .toString()));
     }
     catch (TimeoutException e) {
-      System.err.println("O servio no foi registrado em " + timeout +
+      System.err.println("O serviço não foi registrado em " + timeout +
         " milisegundos.");
     }
     // bus core
@@ -196,16 +196,16 @@ public class CallChainProxy {
     }
     catch (TRANSIENT e) {
       System.err.println(String.format(
-        "o barramento em %s:%s esta inacessvel no momento", host, port));
+        "o barramento em %s:%s esta inacessível no momento", host, port));
     }
     catch (COMM_FAILURE e) {
       System.err
-        .println("falha de comunicao ao acessar servios ncleo do barramento");
+        .println("falha de comunicação ao acessar serviços núcleo do barramento");
     }
     catch (NO_PERMISSION e) {
       if (e.minor == NoLoginCode.value) {
         System.err.println(String.format(
-          "no h um login de '%s' vlido no momento", entity));
+          "não há um login de '%s' válido no momento", entity));
       }
     } finally {
       if (failed) {
@@ -219,16 +219,16 @@ public class CallChainProxy {
         }
         catch (TRANSIENT e) {
           System.err.println(String.format(
-            "o barramento em %s:%s esta inacessvel no momento", host, port));
+            "o barramento em %s:%s esta inacessível no momento", host, port));
         }
         catch (COMM_FAILURE e) {
           System.err
-            .println("falha de comunicao ao acessar servios ncleo do barramento");
+            .println("falha de comunicação ao acessar serviços núcleo do barramento");
         }
         catch (NO_PERMISSION e) {
           if (e.minor == NoLoginCode.value) {
             System.err.println(String.format(
-              "no h um login de '%s' vlido no momento", entity));
+              "não há um login de '%s' válido no momento", entity));
           }
         }
         System.exit(1);
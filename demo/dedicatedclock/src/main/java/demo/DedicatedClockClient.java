@@ -44,7 +44,7 @@ public final class DedicatedClockClient {
   private static int retries = 10;
 
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    * @throws AlreadyLoggedIn
@@ -58,9 +58,9 @@ public final class DedicatedClockClient {
       String params = "[interval] [timeout]";
       String desc =
         "\n  - [interval] = Tempo de espera entre tentativas de acesso ao"
-          + " barramento em virtude de falhas. Valor padro  '1'"
-          + "\n  - [retries] = Nmero mximo de tentativas de acesso ao"
-          + " barramento em virtude de falhas. Valor padro  '10'";
+          + " barramento em virtude de falhas. Valor padrão é '1'"
+          + "\n  - [retries] = Número máximo de tentativas de acesso ao"
+          + " barramento em virtude de falhas. Valor padrão é '10'";
       System.out.println(String.format(Usage.clientUsage, params, desc));
       System.exit(1);
       return;
@@ -94,18 +94,18 @@ public final class DedicatedClockClient {
         interval = Integer.parseInt(args[5]);
       }
       catch (NumberFormatException e) {
-        System.out.println("Valor de [interval] deve ser um nmero");
+        System.out.println("Valor de [interval] deve ser um número");
         System.exit(1);
         return;
       }
     }
-    // - nmero mximo de tentativas
+    // - número máximo de tentativas
     if (args.length > 6) {
       try {
         retries = Integer.parseInt(args[6]);
       }
       catch (NumberFormatException e) {
-        System.out.println("Valor de [retries] deve ser um nmero");
+        System.out.println("Valor de [retries] deve ser um número");
         System.exit(1);
         return;
       }
@@ -129,7 +129,7 @@ public final class DedicatedClockClient {
         failed = false;
       }
       catch (AlreadyLoggedIn e) {
-        // ignorando exceo
+        // ignorando exceção
         failed = false;
       }
       // login by password
@@ -148,13 +148,13 @@ public final class DedicatedClockClient {
       }
       catch (UnknownDomain e) {
         System.err
-          .println("Tentativa de autenticao em domnio desconhecido.");
+          .println("Tentativa de autenticação em domínio desconhecido.");
         System.exit(1);
         return;
       }
       catch (WrongEncoding e) {
         System.err
-          .println("incompatibilidade na codifio de informao para o barramento");
+          .println("incompatibilidade na codifição de informação para o barramento");
         System.exit(1);
         return;
       }
@@ -168,18 +168,18 @@ public final class DedicatedClockClient {
       catch (TRANSIENT e) {
         failed = true;
         System.err.println(String.format(
-          "o barramento em %s:%s esta inacessvel no momento", host, port));
+          "o barramento em %s:%s esta inacessível no momento", host, port));
       }
       catch (COMM_FAILURE e) {
         failed = true;
         System.err
-          .println("falha de comunicao ao acessar servios ncleo do barramento");
+          .println("falha de comunicação ao acessar serviços núcleo do barramento");
       }
       catch (NO_PERMISSION e) {
         failed = true;
         if (e.minor == NoLoginCode.value) {
           System.err.println(String.format(
-            "no h um login de '%s' vlido no momento", entity));
+            "não há um login de '%s' válido no momento", entity));
         }
       }
     } while (failed && retry());
@@ -188,7 +188,7 @@ public final class DedicatedClockClient {
     do {
       List<RemoteOffer> services;
       try {
-        // busca por servio
+        // busca por serviço
         ArrayListMultimap<String, String> properties = ArrayListMultimap
           .create();
         properties.put("offer.domain", "Demo Dedicated Clock");
@@ -203,20 +203,20 @@ public final class DedicatedClockClient {
       }
       catch (TRANSIENT e) {
         System.err.println(String.format(
-          "o barramento em %s:%s esta inacessvel no momento", host, port));
+          "o barramento em %s:%s esta inacessível no momento", host, port));
         System.exit(1);
         return;
       }
       catch (COMM_FAILURE e) {
         System.err
-          .println("falha de comunicao ao acessar servios ncleo do barramento");
+          .println("falha de comunicação ao acessar serviços núcleo do barramento");
         System.exit(1);
         return;
       }
       catch (NO_PERMISSION e) {
         if (e.minor == NoLoginCode.value) {
           System.err.println(String.format(
-            "no h um login de '%s' vlido no momento", entity));
+            "não há um login de '%s' válido no momento", entity));
         }
         System.exit(1);
         return;
@@ -229,7 +229,7 @@ public final class DedicatedClockClient {
             offer.service().getFacet(ClockHelper.id());
           if (helloObj == null) {
             System.out
-              .println("o servio encontrado no prov a faceta ofertada");
+              .println("o serviço encontrado não provê a faceta ofertada");
             continue;
           }
 
@@ -237,28 +237,28 @@ public final class DedicatedClockClient {
           timestamp = clock.getTimeInTicks();
         }
         catch (TRANSIENT e) {
-          System.err.println("o servio encontrado encontra-se indisponvel");
+          System.err.println("o serviço encontrado encontra-se indisponível");
         }
         catch (COMM_FAILURE e) {
-          System.err.println("falha de comunicao com o servio encontrado");
+          System.err.println("falha de comunicação com o serviço encontrado");
         }
         catch (NO_PERMISSION e) {
           switch (e.minor) {
             case NoLoginCode.value:
               System.err.println(String.format(
-                "no h um login de '%s' vlido no momento", entity));
+                "não há um login de '%s' válido no momento", entity));
               break;
             case UnknownBusCode.value:
               System.err
-                .println("o servio encontrado no est mais logado ao barramento");
+                .println("o serviço encontrado não está mais logado ao barramento");
               break;
             case UnverifiedLoginCode.value:
               System.err
-                .println("o servio encontrado no foi capaz de validar a chamada");
+                .println("o serviço encontrado não foi capaz de validar a chamada");
               break;
             case InvalidRemoteCode.value:
               System.err
-                .println("integrao do servio encontrado com o barramento est incorreta");
+                .println("integração do serviço encontrado com o barramento está incorreta");
               break;
           }
         }
@@ -46,7 +46,7 @@ public final class DedicatedClockServer {
   private static int interval = 1;
 
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    * @throws InvalidName
@@ -63,7 +63,7 @@ public final class DedicatedClockServer {
       String params = "[interval]";
       String desc =
         "\n  - [interval] = Tempo de espera entre tentativas de acesso ao barramento."
-          + " Valor padro  '1'";
+          + " Valor padrão é '1'";
       System.out.println(String.format(Usage.serverUsage, params, desc));
       System.exit(1);
       return;
@@ -97,7 +97,7 @@ public final class DedicatedClockServer {
         interval = Integer.parseInt(args[4]);
       }
       catch (NumberFormatException e) {
-        System.out.println("Valor de [interval] deve ser um nmero");
+        System.out.println("Valor de [interval] deve ser um número");
         System.exit(1);
         return;
       }
@@ -105,7 +105,7 @@ public final class DedicatedClockServer {
 
     // inicializando e configurando o ORB
     final ORB orb = ORBInitializer.initORB();
-    // - disparando a thread para que o ORB atenda requisies
+    // - disparando a thread para que o ORB atenda requisições
     Thread run = new Thread() {
       @Override
       public void run() {
@@ -113,7 +113,7 @@ public final class DedicatedClockServer {
       }
     };
     run.start();
-    // - criando thread para parar e destruir o ORB ao fim da execuo do processo 
+    // - criando thread para parar e destruir o ORB ao fim da execução do processo 
     Thread shutdown = new Thread() {
       @Override
       public void run() {
@@ -123,11 +123,11 @@ public final class DedicatedClockServer {
     };
     Runtime.getRuntime().addShutdownHook(shutdown);
 
-    // recuperando o gerente de contexto de chamadas  barramentos 
+    // recuperando o gerente de contexto de chamadas à barramentos 
     final OpenBusContext context =
       (OpenBusContext) orb.resolve_initial_references("OpenBusContext");
 
-    // criando o servio a ser ofertado
+    // criando o serviço a ser ofertado
     // - ativando o POA
     POA poa = context.POA();
     // - construindo o componente
@@ -149,7 +149,7 @@ public final class DedicatedClockServer {
         failed = false;
       }
       catch (AlreadyLoggedIn e) {
-        // ignorando exceo
+        // ignorando exceção
         failed = false;
       }
       // login by certificate
@@ -158,16 +158,16 @@ public final class DedicatedClockServer {
         System.err
           .println(String
             .format(
-              "a chave utilizada no corresponde ao certificado da entidade '%s'",
+              "a chave utilizada não corresponde ao certificado da entidade '%s'",
               entity));
       }
       catch (MissingCertificate e) {
         System.err.println(String.format(
-          "a entidade %s no possui um certificado registrado", entity));
+          "a entidade %s não possui um certificado registrado", entity));
       }
       catch (WrongEncoding e) {
         System.err
-          .println("incompatibilidade na codifio de informao para o barramento");
+          .println("incompatibilidade na codifição de informação para o barramento");
       }
       // bus core
       catch (ServiceFailure e) {
@@ -177,16 +177,16 @@ public final class DedicatedClockServer {
       }
       catch (TRANSIENT e) {
         System.err.println(String.format(
-          "o barramento em %s:%s esta inacessvel no momento", host, port));
+          "o barramento em %s:%s esta inacessível no momento", host, port));
       }
       catch (COMM_FAILURE e) {
         System.err
-          .println("falha de comunicao ao acessar servios ncleo do barramento");
+          .println("falha de comunicação ao acessar serviços núcleo do barramento");
       }
       catch (NO_PERMISSION e) {
         if (e.minor == NoLoginCode.value) {
           System.err.println(String.format(
-            "no h um login de '%s' vlido no momento", entity));
+            "não há um login de '%s' válido no momento", entity));
         }
       }
       finally {
@@ -201,7 +201,7 @@ public final class DedicatedClockServer {
       }
     } while (failed);
 
-    // registrando servio no barramento
+    // registrando serviço no barramento
     ArrayListMultimap<String, String> serviceProperties = ArrayListMultimap
       .create();
     serviceProperties.put("offer.domain", "Demo Dedicated Clock");
@@ -41,7 +41,7 @@ public final class GreetingsClient {
   private static Language language = Language.Portuguese;
 
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    * @throws AlreadyLoggedIn
@@ -54,7 +54,7 @@ public final class GreetingsClient {
     if (args.length < 3) {
       String params = "[language]";
       String desc =
-        "\n  - [language] = deve ser uma das opes: English, Spanish, Portuguese. Padro  Portuguese";
+        "\n  - [language] = deve ser uma das opções: English, Spanish, Portuguese. Padrão é Portuguese";
       System.out.println(String.format(Usage.clientUsage, params, desc));
       System.exit(1);
       return;
@@ -106,7 +106,7 @@ public final class GreetingsClient {
     try {
       // autentica-se no barramento
       conn.loginByPassword(entity, password.getBytes(), domain);
-      // busca por servio
+      // busca por serviço
       ArrayListMultimap<String, String> properties = ArrayListMultimap.create();
       properties.put("offer.domain", "Demo Greetings");
       properties.put("greetings.language", language.name());
@@ -127,13 +127,13 @@ public final class GreetingsClient {
       return;
     }
     catch (UnknownDomain e) {
-      System.err.println("Tentativa de autenticao em domnio desconhecido.");
+      System.err.println("Tentativa de autenticação em domínio desconhecido.");
       System.exit(1);
       return;
     }
     catch (WrongEncoding e) {
       System.err
-        .println("incompatibilidade na codifio de informao para o barramento");
+        .println("incompatibilidade na codifição de informação para o barramento");
       System.exit(1);
       return;
     }
@@ -146,20 +146,20 @@ public final class GreetingsClient {
     }
     catch (TRANSIENT e) {
       System.err.println(String.format(
-        "o barramento em %s:%s esta inacessvel no momento", host, port));
+        "o barramento em %s:%s esta inacessível no momento", host, port));
       System.exit(1);
       return;
     }
     catch (COMM_FAILURE e) {
       System.err
-        .println("falha de comunicao ao acessar servios ncleo do barramento");
+        .println("falha de comunicação ao acessar serviços núcleo do barramento");
       System.exit(1);
       return;
     }
     catch (NO_PERMISSION e) {
       if (e.minor == NoLoginCode.value) {
         System.err.println(String.format(
-          "no h um login de '%s' vlido no momento", entity));
+          "não há um login de '%s' válido no momento", entity));
       }
       System.exit(1);
       return;
@@ -173,7 +173,7 @@ public final class GreetingsClient {
           org.omg.CORBA.Object greetingObj =
             offer.service().getFacetByName(name);
           if (greetingObj == null) {
-            System.out.println("o servio encontrado no prov a faceta "
+            System.out.println("o serviço encontrado não provê a faceta "
               + name);
             continue;
           }
@@ -182,28 +182,28 @@ public final class GreetingsClient {
         }
       }
       catch (TRANSIENT e) {
-        System.err.println("o servio encontrado encontra-se indisponvel");
+        System.err.println("o serviço encontrado encontra-se indisponível");
       }
       catch (COMM_FAILURE e) {
-        System.err.println("falha de comunicao com o servio encontrado");
+        System.err.println("falha de comunicação com o serviço encontrado");
       }
       catch (NO_PERMISSION e) {
         switch (e.minor) {
           case NoLoginCode.value:
             System.err.println(String.format(
-              "no h um login de '%s' vlido no momento", entity));
+              "não há um login de '%s' válido no momento", entity));
             break;
           case UnknownBusCode.value:
             System.err
-              .println("o servio encontrado no est mais logado ao barramento");
+              .println("o serviço encontrado não está mais logado ao barramento");
             break;
           case UnverifiedLoginCode.value:
             System.err
-              .println("o servio encontrado no foi capaz de validar a chamada");
+              .println("o serviço encontrado não foi capaz de validar a chamada");
             break;
           case InvalidRemoteCode.value:
             System.err
-              .println("integrao do servio encontrado com o barramento est incorreta");
+              .println("integração do serviço encontrado com o barramento está incorreta");
             break;
         }
       }
@@ -3,33 +3,33 @@ package demo;
 import tecgraf.openbus.OpenBusContext;
 
 /**
- * Implementao do componente Greetings
+ * Implementação do componente Greetings
  * 
  * @author Tecgraf
  */
 public class GreetingsImpl extends GreetingsPOA {
 
   /**
-   * Lnguas em que se realiza o cumprimento.
+   * Línguas em que se realiza o cumprimento.
    * 
    * @author Tecgraf
    */
   public enum Language {
-    /** Ingls */
+    /** Inglês */
     English,
     /** Espanhol */
     Spanish,
-    /** Portugus */
+    /** Português */
     Portuguese
   }
 
   /**
-   * Perodos em que se realiza o cumprimento.
+   * Períodos em que se realiza o cumprimento.
    * 
    * @author Tecgraf
    */
   public enum Period {
-    /** Manh */
+    /** Manhã */
     Morning,
     /** Tarde */
     Afternoon,
@@ -39,17 +39,17 @@ public class GreetingsImpl extends GreetingsPOA {
 
   /** Contexto com o barramento. */
   private OpenBusContext context;
-  /** O perodo */
+  /** O período */
   private Period period;
-  /** A lngua */
+  /** A língua */
   private Language language;
 
   /**
    * Construtor.
    * 
-   * @param context Conexo com o barramento.
-   * @param language A lngua utilizada.
-   * @param period O perodo.
+   * @param context Conexão com o barramento.
+   * @param language A língua utilizada.
+   * @param period O período.
    */
   public GreetingsImpl(OpenBusContext context, Language language, Period period) {
     this.context = context;
@@ -71,11 +71,11 @@ public class GreetingsImpl extends GreetingsPOA {
       case Portuguese:
         return portugueseGreetings(caller);
     }
-    return "BUG: lingua no especificada";
+    return "BUG: lingua não especificada";
   }
 
   /**
-   * Cumprimentaes em ingls.
+   * Cumprimentações em inglês.
    * 
    * @param caller requisitante da chamada.
    * @return o cumprimento.
@@ -89,11 +89,11 @@ public class GreetingsImpl extends GreetingsPOA {
       case Night:
         return String.format("Good night %s", caller);
     }
-    return "BUG: periodo no especificado";
+    return "BUG: periodo não especificado";
   }
 
   /**
-   * Cumprimentaes em espanhol.
+   * Cumprimentações em espanhol.
    * 
    * @param caller requisitante da chamada.
    * @return o cumprimento.
@@ -101,17 +101,17 @@ public class GreetingsImpl extends GreetingsPOA {
   private String spanishGreetings(String caller) {
     switch (this.period) {
       case Morning:
-        return String.format("Buenos das %s", caller);
+        return String.format("Buenos días %s", caller);
       case Afternoon:
         return String.format("Buenas tardes %s", caller);
       case Night:
         return String.format("Buenas noches %s", caller);
     }
-    return "BUG: periodo no especificado";
+    return "BUG: periodo não especificado";
   }
 
   /**
-   * Cumprimentaes em portugus.
+   * Cumprimentações em português.
    * 
    * @param caller requisitante da chamada.
    * @return o cumprimento.
@@ -125,6 +125,6 @@ public class GreetingsImpl extends GreetingsPOA {
       case Night:
         return String.format("Boa noite %s", caller);
     }
-    return "BUG: periodo no especificado";
+    return "BUG: periodo não especificado";
   }
 }
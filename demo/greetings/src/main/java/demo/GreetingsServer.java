@@ -43,7 +43,7 @@ public final class GreetingsServer {
   private static RSAPrivateKey privateKey;
 
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    * @throws InvalidName
@@ -87,7 +87,7 @@ public final class GreetingsServer {
 
     // inicializando e configurando o ORB
     final ORB orb = ORBInitializer.initORB();
-    // - disparando a thread para que o ORB atenda requisies
+    // - disparando a thread para que o ORB atenda requisições
     Thread run = new Thread() {
       @Override
       public void run() {
@@ -95,7 +95,7 @@ public final class GreetingsServer {
       }
     };
     run.start();
-    // - criando thread para parar e destruir o ORB ao fim da execuo do processo 
+    // - criando thread para parar e destruir o ORB ao fim da execução do processo 
     Thread shutdown = new Thread() {
       @Override
       public void run() {
@@ -110,7 +110,7 @@ public final class GreetingsServer {
       (OpenBusContext) orb.resolve_initial_references("OpenBusContext");
     POA poa = context.POA();
 
-    // criando o servio a ser ofertado
+    // criando o serviço a ser ofertado
     // - construindo os componentes
     HashMap<Language, ComponentContext> components = new HashMap<>();
     for (Language language : Language.values()) {
@@ -133,7 +133,7 @@ public final class GreetingsServer {
     boolean failed = true;
     try {
       conn.loginByPrivateKey(entity, privateKey);
-      // registrando servio no barramento
+      // registrando serviço no barramento
       for (Entry<Language, ComponentContext> entry : components.entrySet()) {
         ArrayListMultimap<String, String> serviceProperties = ArrayListMultimap
           .create();
@@ -147,16 +147,16 @@ public final class GreetingsServer {
     // login by certificate
     catch (AccessDenied e) {
       System.err.println(String.format(
-        "a chave em '%s' no corresponde ao certificado da entidade '%s'",
+        "a chave em '%s' não corresponde ao certificado da entidade '%s'",
         privateKeyFile, entity));
     }
     catch (MissingCertificate e) {
       System.err.println(String.format(
-        "a entidade %s no possui um certificado registrado", entity));
+        "a entidade %s não possui um certificado registrado", entity));
     }
     catch (WrongEncoding e) {
       System.err
-        .println("incompatibilidade na codifio de informao para o barramento");
+        .println("incompatibilidade na codifição de informação para o barramento");
     }
     // bus core
     catch (ServiceFailure e) {
@@ -166,16 +166,16 @@ public final class GreetingsServer {
     catch (TRANSIENT e) {
       failed = true;
       System.err.println(String.format(
-        "o barramento em %s:%s esta inacessvel no momento", host, port));
+        "o barramento em %s:%s esta inacessível no momento", host, port));
     }
     catch (COMM_FAILURE e) {
       System.err
-        .println("falha de comunicao ao acessar servios ncleo do barramento");
+        .println("falha de comunicação ao acessar serviços núcleo do barramento");
     }
     catch (NO_PERMISSION e) {
       if (e.minor == NoLoginCode.value) {
         System.err.println(String.format(
-          "no h um login de '%s' vlido no momento", entity));
+          "não há um login de '%s' válido no momento", entity));
       }
     }
     finally {
@@ -42,11 +42,11 @@ public final class IndependentClockClient {
   private static String domain;
   private static int interval = 1;
 
-  /** Variveis de controle para garantir que no registre rplicas */
+  /** Variáveis de controle para garantir que não registre réplicas */
   private static ConcurrencyControl options = new ConcurrencyControl();
 
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    * @throws AlreadyLoggedIn
@@ -60,7 +60,7 @@ public final class IndependentClockClient {
       String params = "[interval]";
       String desc =
         "\n  - [interval] = Tempo de espera entre tentativas de acesso ao"
-          + " barramento em virtude de falhas. Valor padro  '1'";
+          + " barramento em virtude de falhas. Valor padrão é '1'";
       System.out.println(String.format(Usage.clientUsage, params, desc));
       System.exit(1);
       return;
@@ -94,7 +94,7 @@ public final class IndependentClockClient {
         interval = Integer.parseInt(args[5]);
       }
       catch (NumberFormatException e) {
-        System.out.println("Valor de [interval] deve ser um nmero");
+        System.out.println("Valor de [interval] deve ser um número");
         System.exit(1);
         return;
       }
@@ -118,7 +118,7 @@ public final class IndependentClockClient {
         failed = false;
       }
       catch (AlreadyLoggedIn e) {
-        // ignorando exceo
+        // ignorando exceção
         failed = false;
       }
       // login by password
@@ -135,13 +135,13 @@ public final class IndependentClockClient {
       }
       catch (UnknownDomain e) {
         System.err
-          .println("Tentativa de autenticao em domnio desconhecido.");
+          .println("Tentativa de autenticação em domínio desconhecido.");
         System.exit(1);
         return;
       }
       catch (WrongEncoding e) {
         System.err
-          .println("incompatibilidade na codifio de informao para o barramento");
+          .println("incompatibilidade na codifição de informação para o barramento");
         System.exit(1);
         return;
       }
@@ -153,16 +153,16 @@ public final class IndependentClockClient {
       }
       catch (TRANSIENT e) {
         System.err.println(String.format(
-          "o barramento em %s:%s esta inacessvel no momento", host, port));
+          "o barramento em %s:%s esta inacessível no momento", host, port));
       }
       catch (COMM_FAILURE e) {
         System.err
-          .println("falha de comunicao ao acessar servios ncleo do barramento");
+          .println("falha de comunicação ao acessar serviços núcleo do barramento");
       }
       catch (NO_PERMISSION e) {
         if (e.minor == NoLoginCode.value) {
           System.err.println(String.format(
-            "no h um login de '%s' vlido no momento", entity));
+            "não há um login de '%s' válido no momento", entity));
         }
       }
       finally {
@@ -194,29 +194,29 @@ public final class IndependentClockClient {
             }
             catch (TRANSIENT e) {
               System.err
-                .println("o servio encontrado encontra-se indisponvel");
+                .println("o serviço encontrado encontra-se indisponível");
             }
             catch (COMM_FAILURE e) {
               System.err
-                .println("falha de comunicao com o servio encontrado");
+                .println("falha de comunicação com o serviço encontrado");
             }
             catch (NO_PERMISSION e) {
               switch (e.minor) {
                 case NoLoginCode.value:
                   System.err.println(String.format(
-                    "no h um login de '%s' vlido no momento", entity));
+                    "não há um login de '%s' válido no momento", entity));
                   break;
                 case UnknownBusCode.value:
                   System.err
-                    .println("o servio encontrado no est mais logado ao barramento");
+                    .println("o serviço encontrado não está mais logado ao barramento");
                   break;
                 case UnverifiedLoginCode.value:
                   System.err
-                    .println("o servio encontrado no foi capaz de validar a chamada");
+                    .println("o serviço encontrado não foi capaz de validar a chamada");
                   break;
                 case InvalidRemoteCode.value:
                   System.err
-                    .println("integrao do servio encontrado com o barramento est incorreta");
+                    .println("integração do serviço encontrado com o barramento está incorreta");
                   break;
               }
             }
@@ -260,16 +260,16 @@ public final class IndependentClockClient {
         }
         catch (TRANSIENT e) {
           System.err.println(String.format(
-            "o barramento em %s:%s esta inacessvel no momento", host, port));
+            "o barramento em %s:%s esta inacessível no momento", host, port));
         }
         catch (COMM_FAILURE e) {
           System.err
-            .println("falha de comunicao ao acessar servios ncleo do barramento");
+            .println("falha de comunicação ao acessar serviços núcleo do barramento");
         }
         catch (NO_PERMISSION e) {
           if (e.minor == NoLoginCode.value) {
             System.err.println(String.format(
-              "no h um login de '%s' vlido no momento", entity));
+              "não há um login de '%s' válido no momento", entity));
           }
         }
         finally {
@@ -302,7 +302,7 @@ public final class IndependentClockClient {
       Clock clock = null;
       boolean failed = true;
       try {
-        // busca por servio
+        // busca por serviço
         ArrayListMultimap<String, String> properties = ArrayListMultimap
           .create();
         properties.put("offer.domain", "Demo Independent Clock");
@@ -317,16 +317,16 @@ public final class IndependentClockClient {
       }
       catch (TRANSIENT e) {
         System.err.println(String.format(
-          "o barramento em %s:%s esta inacessvel no momento", host, port));
+          "o barramento em %s:%s esta inacessível no momento", host, port));
       }
       catch (COMM_FAILURE e) {
         System.err
-          .println("falha de comunicao ao acessar servios ncleo do barramento");
+          .println("falha de comunicação ao acessar serviços núcleo do barramento");
       }
       catch (NO_PERMISSION e) {
         if (e.minor == NoLoginCode.value) {
           System.err.println(String.format(
-            "no h um login de '%s' vlido no momento", entity));
+            "não há um login de '%s' válido no momento", entity));
         }
       }
       if (failed) {
@@ -346,7 +346,7 @@ public final class IndependentClockClient {
             offer.service().getFacet(ClockHelper.id());
           if (helloObj == null) {
             System.out
-              .println("o servio encontrado no prov a faceta ofertada");
+              .println("o serviço encontrado não provê a faceta ofertada");
             continue;
           }
           synchronized (options.lock) {
@@ -356,35 +356,35 @@ public final class IndependentClockClient {
           break;
         }
         catch (TRANSIENT e) {
-          System.err.println("o servio encontrado encontra-se indisponvel");
+          System.err.println("o serviço encontrado encontra-se indisponível");
         }
         catch (COMM_FAILURE e) {
-          System.err.println("falha de comunicao com o servio encontrado");
+          System.err.println("falha de comunicação com o serviço encontrado");
         }
         catch (NO_PERMISSION e) {
           switch (e.minor) {
             case NoLoginCode.value:
               System.err.println(String.format(
-                "no h um login de '%s' vlido no momento", entity));
+                "não há um login de '%s' válido no momento", entity));
               break;
             case UnknownBusCode.value:
               System.err
-                .println("o servio encontrado no est mais logado ao barramento");
+                .println("o serviço encontrado não está mais logado ao barramento");
               break;
             case UnverifiedLoginCode.value:
               System.err
-                .println("o servio encontrado no foi capaz de validar a chamada");
+                .println("o serviço encontrado não foi capaz de validar a chamada");
               break;
             case InvalidRemoteCode.value:
               System.err
-                .println("integrao do servio encontrado com o barramento est incorreta");
+                .println("integração do serviço encontrado com o barramento está incorreta");
               break;
           }
         }
       }
 
       if (clock == null) {
-        System.err.println("servio esperado no foi encontrado.");
+        System.err.println("serviço esperado não foi encontrado.");
       }
       else {
         break;
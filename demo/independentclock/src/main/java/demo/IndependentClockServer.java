@@ -49,7 +49,7 @@ public final class IndependentClockServer {
   private static int interval = 1;
 
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    * @throws InvalidName
@@ -65,7 +65,7 @@ public final class IndependentClockServer {
       String params = "[interval]";
       String desc =
         "\n  - [interval] = Tempo de espera entre tentativas de acesso ao barramento."
-          + " Valor padro  '1'";
+          + " Valor padrão é '1'";
       System.out.println(String.format(Usage.serverUsage, params, desc));
       System.exit(1);
       return;
@@ -99,7 +99,7 @@ public final class IndependentClockServer {
         interval = Integer.parseInt(args[4]);
       }
       catch (NumberFormatException e) {
-        System.out.println("Valor de [interval] deve ser um nmero");
+        System.out.println("Valor de [interval] deve ser um número");
         System.exit(1);
         return;
       }
@@ -107,7 +107,7 @@ public final class IndependentClockServer {
 
     // inicializando e configurando o ORB
     final ORB orb = ORBInitializer.initORB();
-    // - disparando a thread para que o ORB atenda requisies
+    // - disparando a thread para que o ORB atenda requisições
     Thread run = new Thread() {
       @Override
       public void run() {
@@ -115,7 +115,7 @@ public final class IndependentClockServer {
       }
     };
     run.start();
-    // - criando thread para parar e destruir o ORB ao fim da execuo do processo 
+    // - criando thread para parar e destruir o ORB ao fim da execução do processo 
     Thread shutdown = new Thread() {
       @Override
       public void run() {
@@ -129,7 +129,7 @@ public final class IndependentClockServer {
     final OpenBusContext context =
       (OpenBusContext) orb.resolve_initial_references("OpenBusContext");
 
-    // criando o servio a ser ofertado
+    // criando o serviço a ser ofertado
     POA poa = context.POA();
     // - construindo os componentes
     ComponentId id =
@@ -168,7 +168,7 @@ public final class IndependentClockServer {
         failed = false;
       }
       catch (AlreadyLoggedIn e) {
-        // ignorando exceo
+        // ignorando exceção
         failed = false;
       }
       // login by certificate
@@ -176,16 +176,16 @@ public final class IndependentClockServer {
         System.err
           .println(String
             .format(
-              "a chave utilizada no corresponde ao certificado da entidade '%s'",
+              "a chave utilizada não corresponde ao certificado da entidade '%s'",
               entity));
       }
       catch (MissingCertificate e) {
         System.err.println(String.format(
-          "a entidade %s no possui um certificado registrado", entity));
+          "a entidade %s não possui um certificado registrado", entity));
       }
       catch (WrongEncoding e) {
         System.err
-          .println("incompatibilidade na codifio de informao para o barramento");
+          .println("incompatibilidade na codifição de informação para o barramento");
       }
       // bus core
       catch (ServiceFailure e) {
@@ -195,16 +195,16 @@ public final class IndependentClockServer {
       }
       catch (TRANSIENT e) {
         System.err.println(String.format(
-          "o barramento em %s:%s esta inacessvel no momento", host, port));
+          "o barramento em %s:%s esta inacessível no momento", host, port));
       }
       catch (COMM_FAILURE e) {
         System.err
-          .println("falha de comunicao ao acessar servios ncleo do barramento");
+          .println("falha de comunicação ao acessar serviços núcleo do barramento");
       }
       catch (NO_PERMISSION e) {
         if (e.minor == NoLoginCode.value) {
           System.err.println(String.format(
-            "no h um login de '%s' vlido no momento", entity));
+            "não há um login de '%s' válido no momento", entity));
         }
       }
       finally {
@@ -219,7 +219,7 @@ public final class IndependentClockServer {
       }
     } while (failed);
 
-    // registrando servio no barramento
+    // registrando serviço no barramento
     ArrayListMultimap<String, String> serviceProperties = ArrayListMultimap
       .create();
     serviceProperties.put("offer.domain", "Demo Independent Clock");
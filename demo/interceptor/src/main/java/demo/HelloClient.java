@@ -33,7 +33,7 @@ import java.util.List;
  */
 public final class HelloClient {
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    * @throws AlreadyLoggedIn
@@ -76,7 +76,7 @@ public final class HelloClient {
     // inicializando e configurando o ORB
     ORB orb = SpecializedORBInitializer.initORB();
     ContextInspector inspector = ContextInspector.getContextInspector(orb);
-    inspector.setContextInformation("Sou a informao passada via contexto.");
+    inspector.setContextInformation("Sou a informação passada via contexto.");
     // recuperando o gerente de contexto de chamadas a barramentos 
     OpenBusContext context =
       (OpenBusContext) orb.resolve_initial_references("OpenBusContext");
@@ -88,7 +88,7 @@ public final class HelloClient {
     try {
       // autentica-se no barramento
       connection.loginByPassword(entity, password.getBytes(), domain);
-      // busca por servio
+      // busca por serviço
       ArrayListMultimap<String, String> properties = ArrayListMultimap
         .create();
       properties.put("offer.domain", "Demo Hello");
@@ -109,13 +109,13 @@ public final class HelloClient {
       return;
     }
     catch (UnknownDomain e) {
-      System.err.println("Tentativa de autenticao em domnio desconhecido.");
+      System.err.println("Tentativa de autenticação em domínio desconhecido.");
       System.exit(1);
       return;
     }
     catch (WrongEncoding e) {
       System.err
-        .println("incompatibilidade na codifio de informao para o barramento");
+        .println("incompatibilidade na codifição de informação para o barramento");
       System.exit(1);
       return;
     }
@@ -128,20 +128,20 @@ public final class HelloClient {
     }
     catch (TRANSIENT e) {
       System.err.println(String.format(
-        "o barramento em %s:%s esta inacessvel no momento", host, port));
+        "o barramento em %s:%s esta inacessível no momento", host, port));
       System.exit(1);
       return;
     }
     catch (COMM_FAILURE e) {
       System.err
-        .println("falha de comunicao ao acessar servios ncleo do barramento");
+        .println("falha de comunicação ao acessar serviços núcleo do barramento");
       System.exit(1);
       return;
     }
     catch (NO_PERMISSION e) {
       if (e.minor == NoLoginCode.value) {
         System.err.println(String.format(
-          "no h um login de '%s' vlido no momento", entity));
+          "não há um login de '%s' válido no momento", entity));
       }
       System.exit(1);
       return;
@@ -154,35 +154,35 @@ public final class HelloClient {
           offer.service().getFacet(HelloHelper.id());
         if (helloObj == null) {
           System.out
-            .println("o servio encontrado no prov a faceta ofertada");
+            .println("o serviço encontrado não provê a faceta ofertada");
           continue;
         }
         Hello hello = HelloHelper.narrow(helloObj);
         hello.sayHello();
       }
       catch (TRANSIENT e) {
-        System.err.println("o servio encontrado encontra-se indisponvel");
+        System.err.println("o serviço encontrado encontra-se indisponível");
       }
       catch (COMM_FAILURE e) {
-        System.err.println("falha de comunicao com o servio encontrado");
+        System.err.println("falha de comunicação com o serviço encontrado");
       }
       catch (NO_PERMISSION e) {
         switch (e.minor) {
           case NoLoginCode.value:
             System.err.println(String.format(
-              "no h um login de '%s' vlido no momento", entity));
+              "não há um login de '%s' válido no momento", entity));
             break;
           case UnknownBusCode.value:
             System.err
-              .println("o servio encontrado no est mais logado ao barramento");
+              .println("o serviço encontrado não está mais logado ao barramento");
             break;
           case UnverifiedLoginCode.value:
             System.err
-              .println("o servio encontrado no foi capaz de validar a chamada");
+              .println("o serviço encontrado não foi capaz de validar a chamada");
             break;
           case InvalidRemoteCode.value:
             System.err
-              .println("integrao do servio encontrado com o barramento est incorreta");
+              .println("integração do serviço encontrado com o barramento está incorreta");
             break;
         }
       }
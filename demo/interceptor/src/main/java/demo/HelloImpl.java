@@ -8,7 +8,7 @@ import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 import demo.interceptor.ContextInspector;
 
 /**
- * Implementao do componente Hello
+ * Implementação do componente Hello
  * 
  * @author Tecgraf
  */
@@ -21,7 +21,7 @@ public final class HelloImpl extends HelloPOA {
   /**
    * Construtor.
    * 
-   * @param context Conexo com o barramento.
+   * @param context Conexão com o barramento.
    */
   public HelloImpl(OpenBusContext context) {
     this.context = context;
@@ -33,12 +33,12 @@ public final class HelloImpl extends HelloPOA {
   @Override
   public void sayHello() {
     ORB orb = context.ORB();
-    // recupera informao includa no contexto
+    // recupera informação incluída no contexto
     ContextInspector inspector = ContextInspector.getContextInspector(orb);
     String data = inspector.getContextInformation();
     System.out.println(String.format(
-      "Recebi a seguinte informao pelo contexto: '%s'", data));
-    // trata a requisio
+      "Recebi a seguinte informação pelo contexto: '%s'", data));
+    // trata a requisição
     CallerChain callerChain = context.callerChain();
     LoginInfo caller = callerChain.caller();
     String hello = String.format("Hello %s!", caller.entity);
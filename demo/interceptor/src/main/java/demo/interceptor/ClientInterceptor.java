@@ -14,7 +14,7 @@ import org.omg.PortableInterceptor.ForwardRequest;
 import org.omg.PortableInterceptor.InvalidSlot;
 
 /**
- * Interceptador cliente para incluso de informao extra no contexto.
+ * Interceptador cliente para inclusão de informação extra no contexto.
  * 
  * @author Tecgraf
  */
@@ -22,7 +22,7 @@ public class ClientInterceptor extends LocalObject implements
   ClientRequestInterceptor {
 
   /**
-   * Referncia para o {@link ContextInspector} que possui dados necessrios
+   * Referência para o {@link ContextInspector} que possui dados necessários
    * para o interceptador.
    */
   ContextInspector inspector;
@@ -75,7 +75,7 @@ public class ClientInterceptor extends LocalObject implements
     try {
       Any any = info.get_slot(slotId);
       if (any.type().kind().value() == TCKind._tk_null) {
-        // se no existe informao a ser enviada pelo contexto 
+        // se não existe informação a ser enviada pelo contexto 
         return;
       }
       byte[] encodedData = codec.encode(any);
@@ -18,19 +18,19 @@ import org.omg.PortableInterceptor.InvalidSlot;
 import tecgraf.openbus.exception.OpenBusInternalException;
 
 /**
- * Classe responsvel por manipular as informaes extras enviadas atravs do
+ * Classe responsável por manipular as informações extras enviadas através do
  * {@link ServiceContext} nas chamadas CORBA.
  * 
  * @author Tecgraf
  */
 public class ContextInspector extends LocalObject {
 
-  /** Instncia de logging */
+  /** Instância de logging */
   private static final Logger logger = Logger.getLogger(ContextInspector.class
     .getName());
 
   /**
-   * Nome referncia para acessar este objeto atravs do {@link ORB}.
+   * Nome referência para acessar este objeto através do {@link ORB}.
    */
   public static final String INITIAL_REFERENCE_ID = ContextInspector.class
     .getSimpleName();
@@ -41,7 +41,7 @@ public class ContextInspector extends LocalObject {
   private ORB orb;
 
   /**
-   * O slot reservado para transmitir a informao extra.
+   * O slot reservado para transmitir a informação extra.
    */
   private int mySlotId;
 
@@ -51,8 +51,8 @@ public class ContextInspector extends LocalObject {
   private Codec codec;
 
   /**
-   * O cdigo de identificador de contexto a ser utilizado para transmitir as
-   * informaes nas chamadas CORBA.
+   * O código de identificador de contexto a ser utilizado para transmitir as
+   * informações nas chamadas CORBA.
    */
   private int serviceContextId;
 
@@ -122,7 +122,7 @@ public class ContextInspector extends LocalObject {
   }
 
   /**
-   * Recupera o {@link Current} da thread em execuo do ORB associado.
+   * Recupera o {@link Current} da thread em execução do ORB associado.
    * 
    * @param orb o orb utilizado.
    * @return o {@link Current}.
@@ -141,9 +141,9 @@ public class ContextInspector extends LocalObject {
   }
 
   /**
-   * Recupera a informao que foi embutida no contexto da chamada.
+   * Recupera a informação que foi embutida no contexto da chamada.
    * 
-   * @return a informao.
+   * @return a informação.
    */
   public String getContextInformation() {
     Current current = getPICurrent(orb);
@@ -156,16 +156,16 @@ public class ContextInspector extends LocalObject {
     }
     catch (InvalidSlot e) {
       throw new IllegalStateException(
-        "No foi possvel recuperar informao no slotId", e);
+        "Não foi possível recuperar informação no slotId", e);
     }
   }
 
   /**
-   * Configura a informao a ser embutida no contexto da chamada. Caso a
-   * informao sendo configurada for nula, ento a informao  removida do
+   * Configura a informação a ser embutida no contexto da chamada. Caso a
+   * informação sendo configurada for nula, então a informação é removida do
    * contexto de chamadas.
    * 
-   * @param info a informao.
+   * @param info a informação.
    */
   public void setContextInformation(String info) {
     Current current = getPICurrent(orb);
@@ -178,19 +178,19 @@ public class ContextInspector extends LocalObject {
     }
     catch (InvalidSlot e) {
       throw new IllegalStateException(
-        "No foi possvel salvar informao no slotId", e);
+        "Não foi possível salvar informação no slotId", e);
     }
   }
 
   /**
-   * Limpa a informao a ser associada ao contexto das chamadas CORBA.
+   * Limpa a informação a ser associada ao contexto das chamadas CORBA.
    */
   public void clearContextInformation() {
     setContextInformation(null);
   }
 
   /**
-   * Recupera a referncia para o {@link ContextInspector}  partir do ORB.
+   * Recupera a referência para o {@link ContextInspector} à partir do ORB.
    * 
    * @param orb o ORB,
    * @return o {@link ContextInspector}
@@ -207,7 +207,7 @@ public class ContextInspector extends LocalObject {
       throw new INITIALIZE(message);
     }
     if (obj == null) {
-      String message = "O inspetor de contexto no foi encontrado";
+      String message = "O inspetor de contexto não foi encontrado";
       logger.severe(message);
       throw new INITIALIZE(message);
     }
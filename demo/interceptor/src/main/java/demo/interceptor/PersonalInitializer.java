@@ -17,25 +17,25 @@ import org.omg.PortableInterceptor.ORBInitInfoPackage.DuplicateName;
 import org.omg.PortableInterceptor.ORBInitInfoPackage.InvalidName;
 
 /**
- * Classe interna para inicializao do {@link ORB} do JacORB. Esta classe 
- * responsvel por inserir os interceptadores cliente e servidor, que permitiro
- * inserir informaes extras no contexto das chamadas CORBA atravs do
+ * Classe interna para inicialização do {@link ORB} do JacORB. Esta classe é
+ * responsável por inserir os interceptadores cliente e servidor, que permitirão
+ * inserir informações extras no contexto das chamadas CORBA através do
  * {@link ContextInspector}.
  * <p>
- * Esta classe no deveria ser visvel fora deste pacote, mas o JacORB obriga
- * que ela seja pblica.
+ * Esta classe não deveria ser visível fora deste pacote, mas o JacORB obriga
+ * que ela seja pública.
  * 
  * @author Tecgraf
  */
 public final class PersonalInitializer extends LocalObject implements
   ORBInitializer {
 
-  /** Instncia de logging */
+  /** Instância de logging */
   private static final Logger logger = Logger
     .getLogger(PersonalInitializer.class.getName());
-  /** Major da verso do codificador. */
+  /** Major da versão do codificador. */
   private static final byte ENCODING_CDR_ENCAPS_MAJOR_VERSION = 1;
-  /** Minor da verso do codificador. */
+  /** Minor da versão do codificador. */
   private static final byte ENCODING_CDR_ENCAPS_MINOR_VERSION = 2;
 
   /**
@@ -70,7 +70,7 @@ public final class PersonalInitializer extends LocalObject implements
   /**
    * Inclui o interceptador cliente.
    * 
-   * @param info informao do ORB
+   * @param info informação do ORB
    */
   private void addClientInterceptor(ORBInitInfo info) {
     try {
@@ -87,7 +87,7 @@ public final class PersonalInitializer extends LocalObject implements
   /**
    * Inclui o interceptador servidor.
    * 
-   * @param info informao do ORB
+   * @param info informação do ORB
    */
   private void addServerInterceptors(ORBInitInfo info) {
     try {
@@ -102,9 +102,9 @@ public final class PersonalInitializer extends LocalObject implements
   }
 
   /**
-   * Cria uma instncia do Codec a ser utilizado pelos interceptadores.
+   * Cria uma instância do Codec a ser utilizado pelos interceptadores.
    * 
-   * @param info informao do ORB
+   * @param info informação do ORB
    * @return o Codec.
    */
   private Codec createCodec(ORBInitInfo info) {
@@ -127,7 +127,7 @@ public final class PersonalInitializer extends LocalObject implements
   /**
    * Recupera o mediador do ORB
    * 
-   * @param info informaes do ORB
+   * @param info informações do ORB
    * @return o mediador.
    */
   private ContextInspector getInspector(ORBInitInfo info) {
@@ -142,7 +142,7 @@ public final class PersonalInitializer extends LocalObject implements
       throw new INITIALIZE(message);
     }
     if (obj == null) {
-      String message = "O inspetor no foi encontrado";
+      String message = "O inspetor não foi encontrado";
       logger.severe(message);
       throw new INITIALIZE(message);
     }
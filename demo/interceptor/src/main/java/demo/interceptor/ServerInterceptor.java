@@ -14,7 +14,7 @@ import org.omg.PortableInterceptor.ServerRequestInfo;
 import org.omg.PortableInterceptor.ServerRequestInterceptor;
 
 /**
- * Interceptador servidor para recuperao de informao extra no contexto.
+ * Interceptador servidor para recuperação de informação extra no contexto.
  * 
  * @author Tecgraf
  */
@@ -22,7 +22,7 @@ public class ServerInterceptor extends LocalObject implements
   ServerRequestInterceptor {
 
   /**
-   * Referncia para o {@link ContextInspector} que possui dados necessrios
+   * Referência para o {@link ContextInspector} que possui dados necessários
    * para o interceptador.
    */
   ContextInspector inspector;
@@ -8,20 +8,20 @@ import tecgraf.openbus.core.ORBInitializer;
 
 /**
  * Inicializador de ORB especializado que inclui interceptadores no ORB para
- * incluso de informaes extras no contexto das chamadas CORBA.
+ * inclusão de informações extras no contexto das chamadas CORBA.
  * 
  * @author Tecgraf
  */
 public class SpecializedORBInitializer {
 
   /**
-   * Identificador do contexto que ser utilizado.
+   * Identificador do contexto que será utilizado.
    */
   private static final int BDIEP_CONTEXT_ID = 1111771392; // 0x42444900 - BDI\0
 
   /**
-   * Inicializa um {@link ORB} chamando o mtodo de inicializao de
-   * {@link ORBInitializer#initORB}, mas tambm insere novos interceptadores no
+   * Inicializa um {@link ORB} chamando o método de inicialização de
+   * {@link ORBInitializer#initORB}, mas também insere novos interceptadores no
    * ORB.
    * 
    * @return o {@link ORB} criado.
@@ -32,13 +32,13 @@ public class SpecializedORBInitializer {
   }
 
   /**
-   * Inicializa um {@link ORB} chamando o mtodo de inicializao de
-   * {@link ORBInitializer}, mas tambm insere novos interceptadores no ORB.
+   * Inicializa um {@link ORB} chamando o método de inicialização de
+   * {@link ORBInitializer}, mas também insere novos interceptadores no ORB.
    * 
-   * @param args Parmetros usados na inicializao do {@link ORB}, similar 
-   *        operao {@link ORB#init} definida pelo padro CORBA.
-   * @param props Propriedades usados na inicializao do {@link ORB}, similar 
-   *        operao {@link ORB#init} definida pelo padro CORBA.
+   * @param args Parâmetros usados na inicialização do {@link ORB}, similar à
+   *        operação {@link ORB#init} definida pelo padrão CORBA.
+   * @param props Propriedades usados na inicialização do {@link ORB}, similar à
+   *        operação {@link ORB#init} definida pelo padrão CORBA.
    * @return o {@link ORB} criado.
    */
   public static ORB initORB(String[] args, Properties props) {
@@ -46,7 +46,7 @@ public final class MultiplexingClient {
   private static AtomicInteger pending = new AtomicInteger(0);
 
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    * @throws AlreadyLoggedIn
@@ -88,7 +88,7 @@ public final class MultiplexingClient {
 
     // inicializando e configurando o ORB
     final ORB orb = ORBInitializer.initORB();
-    // - disparando a thread para que o ORB atenda requisies
+    // - disparando a thread para que o ORB atenda requisições
     Thread run = new Thread() {
       @Override
       public void run() {
@@ -96,7 +96,7 @@ public final class MultiplexingClient {
       }
     };
     run.start();
-    // - criando thread para parar e destruir o ORB ao fim da execuo do processo 
+    // - criando thread para parar e destruir o ORB ao fim da execução do processo 
     Thread shutdown = new Thread() {
       @Override
       public void run() {
@@ -118,7 +118,7 @@ public final class MultiplexingClient {
       // conecta-se ao barramento
       Connection conn = newLogin(context);
       context.defaultConnection(conn);
-      // busca por servio
+      // busca por serviço
       ArrayListMultimap<String, String> properties = ArrayListMultimap
         .create();
       properties.put("offer.domain", "Demo Multiplexing");
@@ -140,13 +140,13 @@ public final class MultiplexingClient {
       return;
     }
     catch (UnknownDomain e) {
-      System.err.println("Tentativa de autenticao em domnio desconhecido.");
+      System.err.println("Tentativa de autenticação em domínio desconhecido.");
       System.exit(1);
       return;
     }
     catch (WrongEncoding e) {
       System.err
-        .println("incompatibilidade na codifio de informao para o barramento");
+        .println("incompatibilidade na codifição de informação para o barramento");
       System.exit(1);
       return;
     }
@@ -159,20 +159,20 @@ public final class MultiplexingClient {
     }
     catch (TRANSIENT e) {
       System.err.println(String.format(
-        "o barramento em %s:%s esta inacessvel no momento", host, port));
+        "o barramento em %s:%s esta inacessível no momento", host, port));
       System.exit(1);
       return;
     }
     catch (COMM_FAILURE e) {
       System.err
-        .println("falha de comunicao ao acessar servios ncleo do barramento");
+        .println("falha de comunicação ao acessar serviços núcleo do barramento");
       System.exit(1);
       return;
     }
     catch (NO_PERMISSION e) {
       if (e.minor == NoLoginCode.value) {
         System.err.println(String.format(
-          "no h um login de '%s' vlido no momento", entity));
+          "não há um login de '%s' válido no momento", entity));
       }
       System.exit(1);
       return;
@@ -205,18 +205,18 @@ public final class MultiplexingClient {
           }
           catch (UnknownDomain e) {
             System.err
-              .println("Tentativa de autenticao em domnio desconhecido.");
+              .println("Tentativa de autenticação em domínio desconhecido.");
             return;
           }
           catch (AlreadyLoggedIn e) {
-            // nunca deveria ser lanada, mas o Thread.run obriga a captura
+            // nunca deveria ser lançada, mas o Thread.run obriga a captura
             System.err
-              .println("tentativa de autenticar uma conexo j autenticada");
+              .println("tentativa de autenticar uma conexão já autenticada");
             return;
           }
           catch (WrongEncoding e) {
             System.err
-              .println("incompatibilidade na codifio de informao para o barramento");
+              .println("incompatibilidade na codifição de informação para o barramento");
             return;
           }
           // bus core
@@ -228,18 +228,18 @@ public final class MultiplexingClient {
           }
           catch (TRANSIENT e) {
             System.err.println(String.format(
-              "o barramento em %s:%s esta inacessvel no momento", host, port));
+              "o barramento em %s:%s esta inacessível no momento", host, port));
             return;
           }
           catch (COMM_FAILURE e) {
             System.err
-              .println("falha de comunicao ao acessar servios ncleo do barramento");
+              .println("falha de comunicação ao acessar serviços núcleo do barramento");
             return;
           }
           catch (NO_PERMISSION e) {
             if (e.minor == NoLoginCode.value) {
               System.err.println(String.format(
-                "no h um login de '%s' vlido no momento", entity));
+                "não há um login de '%s' válido no momento", entity));
             }
             return;
           }
@@ -251,7 +251,7 @@ public final class MultiplexingClient {
               offer.service().getFacet(TimerHelper.id());
             if (timerObj == null) {
               System.out
-                .println("o servio encontrado no prov a faceta ofertada");
+                .println("o serviço encontrado não provê a faceta ofertada");
               return;
             }
 
@@ -262,35 +262,35 @@ public final class MultiplexingClient {
             timer.newTrigger(index, cb._this());
             failed = false;
           }
-          // Servio
+          // Serviço
           catch (TRANSIENT e) {
-            System.err.println("o servio encontrado encontra-se indisponvel");
+            System.err.println("o serviço encontrado encontra-se indisponível");
           }
           catch (COMM_FAILURE e) {
-            System.err.println("falha de comunicao com o servio encontrado");
+            System.err.println("falha de comunicação com o serviço encontrado");
           }
           catch (NO_PERMISSION e) {
             switch (e.minor) {
               case NoLoginCode.value:
                 System.err.println(String.format(
-                  "no h um login de '%s' vlido no momento", entity));
+                  "não há um login de '%s' válido no momento", entity));
                 break;
               case UnknownBusCode.value:
                 System.err
-                  .println("o servio encontrado no est mais logado ao barramento");
+                  .println("o serviço encontrado não está mais logado ao barramento");
                 break;
               case UnverifiedLoginCode.value:
                 System.err
-                  .println("o servio encontrado no foi capaz de validar a chamada");
+                  .println("o serviço encontrado não foi capaz de validar a chamada");
                 break;
               case InvalidRemoteCode.value:
                 System.err
-                  .println("integrao do servio encontrado com o barramento est incorreta");
+                  .println("integração do serviço encontrado com o barramento está incorreta");
                 break;
             }
           }
           catch (ServantNotActive | WrongPolicy e) {
-            // nunca deveria ser lanada, mas o Thread.run obriga a captura
+            // nunca deveria ser lançada, mas o Thread.run obriga a captura
             System.err.println("erro ao ativar o servant");
           }
           if (!failed) {
@@ -308,16 +308,16 @@ public final class MultiplexingClient {
           }
           catch (TRANSIENT e) {
             System.err.println(String.format(
-              "o barramento em %s:%s esta inacessvel no momento", host, port));
+              "o barramento em %s:%s esta inacessível no momento", host, port));
           }
           catch (COMM_FAILURE e) {
             System.err
-              .println("falha de comunicao ao acessar servios ncleo do barramento");
+              .println("falha de comunicação ao acessar serviços núcleo do barramento");
           }
           catch (NO_PERMISSION e) {
             if (e.minor == NoLoginCode.value) {
               System.err.println(String.format(
-                "no h um login de '%s' vlido no momento", entity));
+                "não há um login de '%s' válido no momento", entity));
             }
           }
         }
@@ -353,14 +353,14 @@ public final class MultiplexingClient {
     public void notifyTrigger() {
       CallerChain chain = context.callerChain();
       if (chain.caller().id.equals(timerId)) {
-        System.out.println("notificao do timer esperado recebida!");
+        System.out.println("notificação do timer esperado recebida!");
         if (chain.originators().length > 1
           || !chain.originators()[0].id.equals(loginId)) {
-          System.out.println("  notificao feita fora da chamada original!");
+          System.out.println("  notificação feita fora da chamada original!");
         }
       }
       else {
-        System.out.println("notificao inesperada recebida:");
+        System.out.println("notificação inesperada recebida:");
         System.out.println(String
           .format("  recebida de: %s", chain.caller().id));
         System.out.println(String.format("  esperada de: %s", timerId));
@@ -378,16 +378,16 @@ public final class MultiplexingClient {
         }
         catch (TRANSIENT e) {
           System.err.println(String.format(
-            "o barramento em %s:%s esta inacessvel no momento", host, port));
+            "o barramento em %s:%s esta inacessível no momento", host, port));
         }
         catch (COMM_FAILURE e) {
           System.err
-            .println("falha de comunicao ao acessar servios ncleo do barramento");
+            .println("falha de comunicação ao acessar serviços núcleo do barramento");
         }
         catch (NO_PERMISSION e) {
           if (e.minor == NoLoginCode.value) {
             System.err.println(String.format(
-              "no h um login de '%s' vlido no momento", entity));
+              "não há um login de '%s' válido no momento", entity));
           }
         }
         catch (Exception e) {
@@ -48,7 +48,7 @@ public final class MultiplexingServer {
   private static RSAPrivateKey privateKey;
 
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    * @throws InvalidName
@@ -95,7 +95,7 @@ public final class MultiplexingServer {
 
     // inicializando e configurando o ORB
     final ORB orb = ORBInitializer.initORB();
-    // - disparando a thread para que o ORB atenda requisies
+    // - disparando a thread para que o ORB atenda requisições
     Thread run = new Thread() {
       @Override
       public void run() {
@@ -103,7 +103,7 @@ public final class MultiplexingServer {
       }
     };
     run.start();
-    // - criando thread para parar e destruir o ORB ao fim da execuo do processo 
+    // - criando thread para parar e destruir o ORB ao fim da execução do processo 
     Thread shutdown = new Thread() {
       @Override
       public void run() {
@@ -139,7 +139,7 @@ public final class MultiplexingServer {
     POA poa = context.POA();
 
     for (int i = 0; i < 3; i++) {
-      // criando o servio a ser ofertado
+      // criando o serviço a ser ofertado
       ComponentId id =
         new ComponentId("Timer", (byte) 1, (byte) 0, (byte) 0, "java");
       ComponentContext component = new ComponentContext(orb, poa, id);
@@ -159,7 +159,7 @@ public final class MultiplexingServer {
       int timeout = 60000;
       try {
         conn.loginByPrivateKey(entity, privateKey);
-        // registrando servio no barramento
+        // registrando serviço no barramento
         ArrayListMultimap<String, String> serviceProperties = ArrayListMultimap
           .create();
         serviceProperties.put("offer.domain", "Demo Multiplexing");
@@ -177,16 +177,16 @@ public final class MultiplexingServer {
       // login by certificate
       catch (AccessDenied e) {
         System.err.println(String.format(
-          "a chave em '%s' no corresponde ao certificado da entidade '%s'",
+          "a chave em '%s' não corresponde ao certificado da entidade '%s'",
           privateKeyFile, entity));
       }
       catch (MissingCertificate e) {
         System.err.println(String.format(
-          "a entidade %s no possui um certificado registrado", entity));
+          "a entidade %s não possui um certificado registrado", entity));
       }
       catch (WrongEncoding e) {
         System.err
-          .println("incompatibilidade na codifio de informao para o barramento");
+          .println("incompatibilidade na codifição de informação para o barramento");
       }
       // register
       catch (UnauthorizedFacets e) {
@@ -198,12 +198,12 @@ public final class MultiplexingServer {
         System.err
           .println(String
             .format(
-              "a entidade '%s' no foi autorizada pelo administrador do barramento a ofertar os servios: %s",
+              "a entidade '%s' não foi autorizada pelo administrador do barramento a ofertar os serviços: %s",
               entity, interfaces.toString()));
       }
       catch (InvalidService e) {
         System.err
-          .println("o servio ofertado apresentou alguma falha durante o registro.");
+          .println("o serviço ofertado apresentou alguma falha durante o registro.");
       }
       catch (InvalidProperties e) {
         StringBuilder props = new StringBuilder();
@@ -213,11 +213,11 @@ public final class MultiplexingServer {
             prop.value));
         }
         System.err.println(String.format(
-          "tentativa de registrar servio com propriedades invlidas: %s", props
+          "tentativa de registrar serviço com propriedades inválidas: %s", props
             .toString()));
       }
       catch (TimeoutException e) {
-        System.err.println("O servio no foi registrado em " + timeout +
+        System.err.println("O serviço não foi registrado em " + timeout +
           " milisegundos.");
       }
       // bus core
@@ -227,16 +227,16 @@ public final class MultiplexingServer {
       }
       catch (TRANSIENT e) {
         System.err.println(String.format(
-          "o barramento em %s:%s esta inacessvel no momento", host, port));
+          "o barramento em %s:%s esta inacessível no momento", host, port));
       }
       catch (COMM_FAILURE e) {
         System.err
-          .println("falha de comunicao ao acessar servios ncleo do barramento");
+          .println("falha de comunicação ao acessar serviços núcleo do barramento");
       }
       catch (NO_PERMISSION e) {
         if (e.minor == NoLoginCode.value) {
           System.err.println(String.format(
-            "no h um login de '%s' vlido no momento", entity));
+            "não há um login de '%s' válido no momento", entity));
         }
       }
       finally {
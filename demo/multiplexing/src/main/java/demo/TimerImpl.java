@@ -42,30 +42,30 @@ public class TimerImpl extends TimerPOA {
             this.hashCode(), conn.login().id));
           cb.notifyTrigger();
         }
-        // Servio
+        // Serviço
         catch (TRANSIENT e) {
-          System.err.println("o servio encontrado encontra-se indisponvel");
+          System.err.println("o serviço encontrado encontra-se indisponível");
         }
         catch (COMM_FAILURE e) {
-          System.err.println("falha de comunicao na notificao da callback");
+          System.err.println("falha de comunicação na notificação da callback");
         }
         catch (NO_PERMISSION e) {
           switch (e.minor) {
             case NoLoginCode.value:
               System.err.println(String.format(
-                "no h um login de '%s' vlido no momento", entity));
+                "não há um login de '%s' válido no momento", entity));
               break;
             case UnknownBusCode.value:
               System.err
-                .println("o servio encontrado no est mais logado ao barramento");
+                .println("o serviço encontrado não está mais logado ao barramento");
               break;
             case UnverifiedLoginCode.value:
               System.err
-                .println("o servio encontrado no foi capaz de validar a chamada");
+                .println("o serviço encontrado não foi capaz de validar a chamada");
               break;
             case InvalidRemoteCode.value:
               System.err
-                .println("integrao do servio encontrado com o barramento est incorreta");
+                .println("integração do serviço encontrado com o barramento está incorreta");
               break;
           }
         }
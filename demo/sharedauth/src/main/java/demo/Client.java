@@ -37,7 +37,7 @@ import tecgraf.openbus.exception.AlreadyLoggedIn;
 public final class Client {
 
   /**
-   * Funo main.
+   * Função main.
    * 
    * @param args argumentos.
    * @throws AlreadyLoggedIn
@@ -50,7 +50,7 @@ public final class Client {
     if (args.length < 3) {
       String params = "[file]";
       String desc =
-        "\n  - [file] = arquivo a ser gerado com informaes do compartilhamento de autenticao (opcional)";
+        "\n  - [file] = arquivo a ser gerado com informações do compartilhamento de autenticação (opcional)";
       System.out.println(String.format(Usage.clientUsage, params, desc));
       System.exit(1);
       return;
@@ -98,13 +98,13 @@ public final class Client {
     try {
       // autentica-se no barramento
       connection.loginByPassword(entity, password.getBytes(), domain);
-      // persistindo dados de compartilhamento de autenticao em arquivo
+      // persistindo dados de compartilhamento de autenticação em arquivo
       /*
-       * OBS: talvez seja mais interessante para a aplicao trocar esses dados
-       * de outra forma. No mnimo, essas informaes deveriam ser encriptadas.
-       * Alm disso, escreveremos apenas uma vez esses dados, que tm validade
+       * OBS: talvez seja mais interessante para a aplicação trocar esses dados
+       * de outra forma. No mínimo, essas informações deveriam ser encriptadas.
+       * Além disso, escreveremos apenas uma vez esses dados, que têm validade
        * igual ao lease do login atual. Caso o cliente demore a executar, esses
-       * dados no funcionaro, portanto uma outra forma mais dinmica seria
+       * dados não funcionarão, portanto uma outra forma mais dinâmica seria
        * mais eficaz. No entanto, isso foge ao escopo dessa demo.
        */
       SharedAuthSecret secret = connection.startSharedAuth();
@@ -120,7 +120,7 @@ public final class Client {
         }
       }
 
-      // busca por servio
+      // busca por serviço
       ArrayListMultimap<String, String> properties = ArrayListMultimap
         .create();
       properties.put("offer.domain", "Demo Hello");
@@ -141,13 +141,13 @@ public final class Client {
       return;
     }
     catch (UnknownDomain e) {
-      System.err.println("Tentativa de autenticao em domnio desconhecido.");
+      System.err.println("Tentativa de autenticação em domínio desconhecido.");
       System.exit(1);
       return;
     }
     catch (WrongEncoding e) {
       System.err
-        .println("incompatibilidade na codifio de informao para o barramento");
+        .println("incompatibilidade na codifição de informação para o barramento");
       System.exit(1);
       return;
     }
@@ -160,20 +160,20 @@ public final class Client {
     }
     catch (TRANSIENT e) {
       System.err.println(String.format(
-        "o barramento em %s:%s esta inacessvel no momento", host, port));
+        "o barramento em %s:%s esta inacessível no momento", host, port));
       System.exit(1);
       return;
     }
     catch (COMM_FAILURE e) {
       System.err
-        .println("falha de comunicao ao acessar servios ncleo do barramento");
+        .println("falha de comunicação ao acessar serviços núcleo do barramento");
       System.exit(1);
       return;
     }
     catch (NO_PERMISSION e) {
       if (e.minor == NoLoginCode.value) {
         System.err.println(String.format(
-          "no h um login de '%s' vlido no momento", entity));
+          "não há um login de '%s' válido no momento", entity));
       }
       System.exit(1);
       return;
@@ -198,7 +198,7 @@ public final class Client {
           offer.service().getFacet(HelloHelper.id());
         if (helloObj == null) {
           System.out
-            .println("o servio encontrado no prov a faceta ofertada");
+            .println("o serviço encontrado não provê a faceta ofertada");
           continue;
         }
 
@@ -206,28 +206,28 @@ public final class Client {
         hello.sayHello();
       }
       catch (TRANSIENT e) {
-        System.err.println("o servio encontrado encontra-se indisponvel");
+        System.err.println("o serviço encontrado encontra-se indisponível");
       }
       catch (COMM_FAILURE e) {
-        System.err.println("falha de comunicao com o servio encontrado");
+        System.err.println("falha de comunicação com o serviço encontrado");
       }
       catch (NO_PERMISSION e) {
         switch (e.minor) {
           case NoLoginCode.value:
             System.err.println(String.format(
-              "no h um login de '%s' vlido no momento", entity));
+              "não há um login de '%s' válido no momento", entity));
             break;
           case UnknownBusCode.value:
             System.err
-              .println("o servio encontrado no est mais logado ao barramento");
+              .println("o serviço encontrado não está mais logado ao barramento");
             break;
           case UnverifiedLoginCode.value:
             System.err
-              .println("o servio encontrado no foi capaz de validar a chamada");
+              .println("o serviço encontrado não foi capaz de validar a chamada");
             break;
           case InvalidRemoteCode.value:
             System.err
-              .println("integrao do servio encontrado com o barramento est incorreta");
+              .println("integração do serviço encontrado com o barramento está incorreta");
             break;
         }
       }
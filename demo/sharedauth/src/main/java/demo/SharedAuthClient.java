@@ -41,16 +41,16 @@ import tecgraf.openbus.exception.WrongBus;
 public class SharedAuthClient {
 
   /**
-   * Funo main.
+   * Função main.
    * 
    */
   public static void main(String[] args) throws ServiceFailure, InvalidName,
     AlreadyLoggedIn, TooManyAttempts, UnknownDomain, MissingCertificate {
     String help =
       "Usage: 'demo' <host> <port> [file] \n"
-        + "  - host =  o host do barramento\n"
-        + "  - port =  a porta do barramento\n"
-        + "  - file = arquivo com informaes do compartilhamento de autenticao (opcional)";
+        + "  - host = é o host do barramento\n"
+        + "  - port = é a porta do barramento\n"
+        + "  - file = arquivo com informações do compartilhamento de autenticação (opcional)";
     // verificando parametros de entrada
     if (args.length < 2) {
       System.out.println(String.format(help, "", ""));
@@ -89,10 +89,10 @@ public class SharedAuthClient {
     try {
       // autentica-se no barramento
       connection.loginByCallback(() -> {
-      // recuperando informaes de compartilhamento de autenticao
+      // recuperando informações de compartilhamento de autenticação
       /*
-       * OBS: talvez seja mais interessante para a aplicao trocar esses dados de
-       * outra forma. No mnimo, essas informaes deveriam estar encriptadas.
+       * OBS: talvez seja mais interessante para a aplicação trocar esses dados de
+       * outra forma. No mínimo, essas informações deveriam estar encriptadas.
        * No entanto, isso foge ao escopo dessa demo.
        */
         byte[] data;
@@ -105,7 +105,7 @@ public class SharedAuthClient {
             while (offset < length) {
               int read = is.read(data, offset, length - offset);
               if (read < 0) {
-                System.err.println("No foi possvel ler todo o arquivo");
+                System.err.println("Não foi possível ler todo o arquivo");
                 System.exit(1);
               }
               offset += read;
@@ -118,12 +118,12 @@ public class SharedAuthClient {
           System.exit(1);
         } catch (InvalidEncodedStream e) {
           System.err
-            .println("erro ao decodificar compartilhamento de autenticao");
+            .println("erro ao decodificar compartilhamento de autenticação");
           System.exit(1);
         }
         return null;
       });
-      // busca por servio
+      // busca por serviço
       ArrayListMultimap<String, String> properties = ArrayListMultimap
         .create();
       properties.put("offer.domain", "Demo Hello");
@@ -132,12 +132,12 @@ public class SharedAuthClient {
     // login by password
     catch (AccessDenied e) {
       System.err
-        .println("segredo fornecido no corresponde ao esperado pelo barramento");
+        .println("segredo fornecido não corresponde ao esperado pelo barramento");
       System.exit(1);
       return;
     }
     catch (InvalidLoginProcess e) {
-      System.err.println("processo de login invlido");
+      System.err.println("processo de login inválido");
       System.exit(1);
       return;
     }
@@ -148,7 +148,7 @@ public class SharedAuthClient {
     }
     catch (WrongEncoding e) {
       System.err
-        .println("incompatibilidade na codifio de informao para o barramento");
+        .println("incompatibilidade na codifição de informação para o barramento");
       System.exit(1);
       return;
     }
@@ -161,19 +161,19 @@ public class SharedAuthClient {
     }
     catch (TRANSIENT e) {
       System.err.println(String.format(
-        "o barramento em %s:%s esta inacessvel no momento", host, port));
+        "o barramento em %s:%s esta inacessível no momento", host, port));
       System.exit(1);
       return;
     }
     catch (COMM_FAILURE e) {
       System.err
-        .println("falha de comunicao ao acessar servios ncleo do barramento");
+        .println("falha de comunicação ao acessar serviços núcleo do barramento");
       System.exit(1);
       return;
     }
     catch (NO_PERMISSION e) {
       if (e.minor == NoLoginCode.value) {
-        System.err.println("no h um login vlido no momento");
+        System.err.println("não há um login válido no momento");
       }
       System.exit(1);
       return;
@@ -186,7 +186,7 @@ public class SharedAuthClient {
           offer.service().getFacet(HelloHelper.id());
         if (helloObj == null) {
           System.out
-            .println("o servio encontrado no prov a faceta ofertada");
+            .println("o serviço encontrado não provê a faceta ofertada");
           continue;
         }
 
@@ -194,27 +194,27 @@ public class SharedAuthClient {
         hello.sayHello();
       }
       catch (TRANSIENT e) {
-        System.err.println("o servio encontrado encontra-se indisponvel");
+        System.err.println("o serviço encontrado encontra-se indisponível");
       }
       catch (COMM_FAILURE e) {
-        System.err.println("falha de comunicao com o servio encontrado");
+        System.err.println("falha de comunicação com o serviço encontrado");
       }
       catch (NO_PERMISSION e) {
         switch (e.minor) {
           case NoLoginCode.value:
-            System.err.println("no h um login de '%s' vlido no momento");
+            System.err.println("não há um login de '%s' válido no momento");
             break;
           case UnknownBusCode.value:
             System.err
-              .println("o servio encontrado no est mais logado ao barramento");
+              .println("o serviço encontrado não está mais logado ao barramento");
             break;
           case UnverifiedLoginCode.value:
             System.err
-              .println("o servio encontrado no foi capaz de validar a chamada");
+              .println("o serviço encontrado não foi capaz de validar a chamada");
             break;
           case InvalidRemoteCode.value:
             System.err
-              .println("integrao do servio encontrado com o barramento est incorreta");
+              .println("integração do serviço encontrado com o barramento está incorreta");
             break;
         }
       }
@@ -2,7 +2,7 @@ package tecgraf.openbus.demo.util;
 
 
 /**
- * Classe utilitria para os demos Java.
+ * Classe utilitária para os demos Java.
  * 
  * @author Tecgraf
  */
@@ -10,21 +10,21 @@ public class Usage {
 
   public static final String clientUsage =
     "Usage: 'demo' <host> <port> <entity> [password] [domain] %s\n"
-      + "  - host =  o host do barramento\n"
-      + "  - port =  a porta do barramento\n"
-      + "  - entity =  a entidade a ser autenticada\n"
+      + "  - host = é o host do barramento\n"
+      + "  - port = é a porta do barramento\n"
+      + "  - entity = é a entidade a ser autenticada\n"
       + "  - password = senha (opcional)\n"
-      + "  - domain = domnio de autenticao (opecional) %s";
+      + "  - domain = domínio de autenticação (opecional) %s";
 
   public static final String serverUsage =
     "Usage: 'demo' <host> <port> <entity> <privatekeypath> %s\n"
-      + "  - host =  o host do barramento\n"
-      + "  - port =  a porta do barramento\n"
-      + "  - entity =  a entidade a ser autenticada\n"
-      + "  - privatekeypath =  o caminho da chave privada de autenticao da entidade %s";
+      + "  - host = é o host do barramento\n"
+      + "  - port = é a porta do barramento\n"
+      + "  - entity = é a entidade a ser autenticada\n"
+      + "  - privatekeypath = é o caminho da chave privada de autenticação da entidade %s";
 
-  public static final String port = "Valor de <port> deve ser um nmero";
+  public static final String port = "Valor de <port> deve ser um número";
   public static final String keypath =
-    "<privatekeypath> deve apontar para uma chave vlida.";
+    "<privatekeypath> deve apontar para uma chave válida.";
 
 }
@@ -5,10 +5,10 @@ import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 
 public class Utils {
   /**
-   * Converte uma cadeia para uma representao textual.
+   * Converte uma cadeia para uma representação textual.
    * 
    * @param chain a cadeia
-   * @return uma representao textual da mesma.
+   * @return uma representação textual da mesma.
    */
   static public String chain2str(CallerChain chain) {
     StringBuilder buffer = new StringBuilder();
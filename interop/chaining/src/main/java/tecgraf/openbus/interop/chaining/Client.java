@@ -30,7 +30,7 @@ import tecgraf.openbus.utils.Utils;
  */
 public final class Client {
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    * @throws AlreadyLoggedIn
@@ -27,7 +27,7 @@ public class HelloImpl extends HelloPOA {
   public String sayHello() {
     CallerChain chain = context.callerChain();
     if (this.pattern.matcher(chain.caller().entity).matches()) {
-      logger.fine(String.format("aceitando requisio de %s", LibUtils
+      logger.fine(String.format("aceitando requisição de %s", LibUtils
         .chain2str(chain)));
       return String.format("Hello %s!", chain.originators()[0].entity);
     }
@@ -34,7 +34,7 @@ public class ProxyImpl extends HelloProxyPOA {
       chain = context.decodeChain(encodedChain);
     }
     catch (InvalidEncodedStream e) {
-      String err = "Cadeia em formato invlido";
+      String err = "Cadeia em formato inválido";
       logger.log(Level.SEVERE, err, e);
       throw new IllegalArgumentException(err, e);
     }
@@ -18,7 +18,7 @@ import tecgraf.openbus.utils.LibUtils;
 import tecgraf.openbus.utils.Utils;
 
 /**
- * Cliente do demo de Multiplexao.
+ * Cliente do demo de Multiplexação.
  * 
  * @author Tecgraf
  */
@@ -26,7 +26,7 @@ public class Client {
   private static final Logger logger = Logger.getLogger(Client.class.getName());
 
   /**
-   * Funo principal.
+   * Função principal.
    */
   public static void main(String[] args) throws Exception {
     Configs configs = Configs.readConfigsFile();
@@ -6,7 +6,7 @@ import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 import tecgraf.openbus.interop.simple.HelloPOA;
 
 /**
- * Implementao do componente Hello
+ * Implementação do componente Hello
  * 
  * @author Tecgraf
  */
@@ -19,7 +19,7 @@ public final class HelloServant extends HelloPOA {
   /**
    * Construtor.
    * 
-   * @param context Lista de conexes com o barramento.
+   * @param context Lista de conexões com o barramento.
    */
   public HelloServant(OpenBusContext context) {
     this.context = context;
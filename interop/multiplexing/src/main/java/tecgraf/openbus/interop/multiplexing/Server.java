@@ -97,7 +97,7 @@ public class Server {
       else if (busId2.equals(busid)) {
         return conn1AtBus2WithOrb1;
       }
-      logger.fine("No encontrou dispatch!!!");
+      logger.fine("Não encontrou dispatch!!!");
       return null;
     });
 
@@ -118,7 +118,7 @@ public class Server {
       if (busId1.equals(busid)) {
         return conn3AtBus1WithOrb2;
       }
-      logger.fine("No encontrou dispatch!!!");
+      logger.fine("Não encontrou dispatch!!!");
       return null;
     });
     conn3AtBus1WithOrb2.offerRegistry().registerService(component2
@@ -28,7 +28,7 @@ public final class Client {
   private static final Logger logger = Logger.getLogger(Client.class.getName());
 
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    */
@@ -59,7 +59,7 @@ public final class Client {
         1);
 
     if (services.size() > 1) {
-      logger.fine("Foram encontrados vrios proxies do demo Hello: "
+      logger.fine("Foram encontrados vários proxies do demo Hello: "
         + services.size());
     }
 
@@ -69,13 +69,13 @@ public final class Client {
       org.omg.CORBA.Object helloObj = offer.service().getFacetByName
         ("Hello");
       if (helloObj == null) {
-        logger.fine("No foi possvel encontrar uma faceta com esse nome.");
+        logger.fine("Não foi possível encontrar uma faceta com esse nome.");
         continue;
       }
 
       Hello hello = HelloHelper.narrow(helloObj);
       if (hello == null) {
-        logger.fine("Faceta encontrada no implementa Hello.");
+        logger.fine("Faceta encontrada não implementa Hello.");
         continue;
       }
       String expected = "Hello " + entity + "!";
@@ -15,14 +15,14 @@ import tecgraf.openbus.interop.simple.HelloPOA;
 import tecgraf.openbus.utils.LibUtils;
 
 /**
- * Implementao do componente Hello
+ * Implementação do componente Hello
  * 
  * @author Tecgraf
  */
 public final class HelloProxyServant extends HelloPOA {
   /** Contexto do OpenBus em uso. */
   private OpenBusContext context;
-  /** Chave privada de autenticao */
+  /** Chave privada de autenticação */
   private RSAPrivateKey privateKey;
   /** Nome da entidade. */
   private String entity;
@@ -32,7 +32,7 @@ public final class HelloProxyServant extends HelloPOA {
   /**
    * Construtor.
    * 
-   * @param context Conexo com o barramento.
+   * @param context Conexão com o barramento.
    * @param privateKey
    * @param entity
    */
@@ -63,7 +63,7 @@ public final class HelloProxyServant extends HelloPOA {
         LibUtils.findOffer(conn.offerRegistry(), properties, 1, 10, 1);
       RemoteOffer offer = services.get(0);
       String found = offer.properties().get("openbus.offer.entity").get(0);
-      logger.fine("servio da entidade encontrado: " + found);
+      logger.fine("serviço da entidade encontrado: " + found);
       org.omg.CORBA.Object helloObj =
         offer.service().getFacetByName("Hello");
       Hello hello = HelloHelper.narrow(helloObj);
@@ -6,7 +6,7 @@ import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 import tecgraf.openbus.interop.simple.HelloPOA;
 
 /**
- * Implementao do componente Hello
+ * Implementação do componente Hello
  * 
  * @author Tecgraf
  */
@@ -19,7 +19,7 @@ public final class HelloServerServant extends HelloPOA {
   /**
    * Construtor.
    * 
-   * @param context Conexo com o barramento.
+   * @param context Conexão com o barramento.
    */
   public HelloServerServant(OpenBusContext context) {
     this.context = context;
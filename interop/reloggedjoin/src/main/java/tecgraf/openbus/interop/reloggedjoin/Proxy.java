@@ -28,7 +28,7 @@ import tecgraf.openbus.utils.Utils;
 public final class Proxy {
 
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    */
@@ -27,7 +27,7 @@ import tecgraf.openbus.utils.Utils;
 public final class Server {
 
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    */
@@ -23,7 +23,7 @@ import tecgraf.openbus.utils.Utils;
 public final class Sharing {
 
   /**
-   * Funo main.
+   * Função main.
    * 
    * @param args argumentos.
    */
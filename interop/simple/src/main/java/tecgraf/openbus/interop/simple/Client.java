@@ -22,7 +22,7 @@ import tecgraf.openbus.utils.Utils;
  */
 public final class Client {
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    */
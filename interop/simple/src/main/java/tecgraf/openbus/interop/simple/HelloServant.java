@@ -5,7 +5,7 @@ import tecgraf.openbus.OpenBusContext;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 
 /**
- * Implementao do componente Hello
+ * Implementação do componente Hello
  * 
  * @author Tecgraf
  */
@@ -18,7 +18,7 @@ public final class HelloServant extends HelloPOA {
   /**
    * Construtor.
    * 
-   * @param context Conexo com o barramento.
+   * @param context Conexão com o barramento.
    */
   public HelloServant(OpenBusContext context) {
     this.context = context;
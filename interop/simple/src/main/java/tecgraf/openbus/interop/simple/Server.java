@@ -26,7 +26,7 @@ import tecgraf.openbus.utils.Utils;
 public final class Server {
 
   /**
-   * Funo principal.
+   * Função principal.
    * 
    * @param args argumentos.
    */
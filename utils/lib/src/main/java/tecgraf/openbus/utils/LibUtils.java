@@ -24,17 +24,17 @@ import tecgraf.openbus.core.v2_1.services.ServiceFailure;
 import tecgraf.openbus.core.v2_1.services.access_control.LoginInfo;
 
 /**
- * Mtodos utilitrios sobre uso da biblioteca ou sobre conceitos OpenBus
+ * Métodos utilitários sobre uso da biblioteca ou sobre conceitos OpenBus
  *
  * @author Tecgraf/PUC-Rio
  */
 public class LibUtils {
 
   /**
-   * Converte uma cadeia para uma representao textual.
+   * Converte uma cadeia para uma representação textual.
    * 
    * @param chain a cadeia
-   * @return uma representao textual da mesma.
+   * @return uma representação textual da mesma.
    */
   static public String chain2str(CallerChain chain) {
     StringBuilder buffer = new StringBuilder();
@@ -47,7 +47,7 @@ public class LibUtils {
   }
 
   /**
-   * Constri uma instncia de {@link Codec}
+   * Constrói uma instância de {@link Codec}
    * 
    * @param orb o {@link ORB}
    * @return um {@link Codec}
@@ -65,7 +65,7 @@ public class LibUtils {
   }
 
   /**
-   * Thread para execuo do {@link ORB#run()}
+   * Thread para execução do {@link ORB#run()}
    *
    * @author Tecgraf/PUC-Rio
    */
@@ -89,15 +89,15 @@ public class LibUtils {
   }
 
   /**
-   * Thread de finalizao do ORB que poderia ser includa no
-   * {@link Runtime#addShutdownHook(Thread)} para realizar limpezas necessrias
+   * Thread de finalização do ORB que poderia ser incluída no
+   * {@link Runtime#addShutdownHook(Thread)} para realizar limpezas necessárias
    *
    * @author Tecgraf/PUC-Rio
    */
   public static class ShutdownThread extends Thread {
     /** o orb */
     private ORB orb;
-    /** lista de conexes a serem liberadas */
+    /** lista de conexões a serem liberadas */
     private List<Connection> conns = new ArrayList<>();
     /** lista de ofertas a serem liberadas */
     private List<RemoteOffer> offers = new ArrayList<>();
@@ -136,9 +136,9 @@ public class LibUtils {
     }
 
     /**
-     * Inclui uma conexo na lista de conexes a serem liberadas pela thread
+     * Inclui uma conexão na lista de conexões a serem liberadas pela thread
      * 
-     * @param conn a conexo
+     * @param conn a conexão
      */
     public void addConnetion(Connection conn) {
       this.conns.add(conn);
@@ -157,13 +157,13 @@ public class LibUtils {
 
   /**
    * Realiza um busca por ofertas com as propriedades solicitadas, repeitando as
-   * regras de retentativas e espera entre tentativas. Caso as ofertas no sejam
-   * encontradas lana-se uma exceo de {@link IllegalStateException}
+   * regras de retentativas e espera entre tentativas. Caso as ofertas não sejam
+   * encontradas lança-se uma exceção de {@link IllegalStateException}
    * 
-   * @param offers servio de registro de ofertas do barramento
+   * @param offers serviço de registro de ofertas do barramento
    * @param search propriedades da busca
-   * @param count nmero mnimo de ofertas que se espera encontrar
-   * @param tries nmero de tentativas
+   * @param count número mínimo de ofertas que se espera encontrar
+   * @param tries número de tentativas
    * @param interval intervalo de espera entre as tentativas (em segundos)
    * @return ofertas encontradas na busca.
    * @throws ServiceFailure
@@ -206,13 +206,13 @@ public class LibUtils {
     String msg =
       String
         .format(
-          "no foi possvel encontrar ofertas: found (%d) expected(%d) tries (%d) time (%d)%s",
+          "não foi possível encontrar ofertas: found (%d) expected(%d) tries (%d) time (%d)%s",
           found.size(), count, tries, tries * interval, buffer.toString());
     throw new IllegalStateException(msg);
   }
 
   /**
-   * L um arquivo de IOR e retorna a linha que representa o IOR
+   * Lê um arquivo de IOR e retorna a linha que representa o IOR
    * 
    * @param iorfile path para arquivo
    * @return a String do IOR
@@ -8,7 +8,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 /**
- * Utilitrio de configurao de testes
+ * Utilitário de configuração de testes
  *
  * @author Tecgraf/PUC-Rio
  */
@@ -45,20 +45,20 @@ public class Configs {
   public String syskey;
   /** Certificado do barramento */
   public String buscert;
-  /** Nmero de threads */
+  /** Número de threads */
   public int threadNum;
   /** Intervalo entre tentativas de chamadas */
   public long interval;
   /** Unidade de tempo do intervalo entre tentativas de chamadas */
   public String intervalUnit;
-  /** Tempo em ms para aguardar por chamadas remotas assncronas ou
-   * notificaes */
+  /** Tempo em ms para aguardar por chamadas remotas assíncronas ou
+   * notificações */
   public long sleepMsTime;
   /** Path para arquivo sharedauth */
   public String sharedauth;
   /** Nivel de log do teste */
   public Level testlog;
-  /** Nvel de log da lib */
+  /** Nível de log da lib */
   public Level log;
   /** Propriedades do ORB */
   public String orbprops;
@@ -114,10 +114,10 @@ public class Configs {
   }
 
   /**
-   * Recupera o arquivo de configuraes atravs da varivel de ambiente
-   * OPENBUS_TESTCFG, ou do arquivo padro "/test.properties"
+   * Recupera o arquivo de configurações através da variável de ambiente
+   * OPENBUS_TESTCFG, ou do arquivo padrão "/test.properties"
    * 
-   * @return As configuraes.
+   * @return As configurações.
    * @throws IOException Caso ocorra algum erro ao ler o arquivo.
    */
   public static Configs readConfigsFile() throws IOException {
@@ -129,10 +129,10 @@ public class Configs {
   }
 
   /**
-   * Converso do nvel de log de nmero para o tipo {@link Level}
+   * Conversão do nível de log de número para o tipo {@link Level}
    * 
-   * @param level nmero do nvel de log
-   * @return o nvel de log
+   * @param level número do nível de log
+   * @return o nível de log
    */
   private Level parseLevelFromNumber(Integer level) {
     Map<Integer, Level> levels = new HashMap<>();
@@ -16,14 +16,14 @@ import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 /**
- * Classe utilitria para os demos Java.
+ * Classe utilitária para os demos Java.
  * 
  * @author Tecgraf
  */
 public class Utils {
 
   /**
-   * L um arquivo de propriedades.
+   * Lê um arquivo de propriedades.
    * 
    * @param fileName o nome do arquivo.
    * @return as propriedades.
@@ -41,7 +41,7 @@ public class Utils {
     }
     if (in == null) {
       System.err.println(String.format(
-        "O arquivo de propriedades '%s' no foi encontrado", fileName));
+        "O arquivo de propriedades '%s' não foi encontrado", fileName));
       return properties;
     }
     try {
@@ -61,10 +61,10 @@ public class Utils {
   }
 
   /**
-   * L todo um arquivo e retorna como um array de bytes.
+   * Lê todo um arquivo e retorna como um array de bytes.
    * 
    * @param path arquivo a ser lido.
-   * @return o contedo do arquivo.
+   * @return o conteúdo do arquivo.
    * @throws IOException
    */
   static public byte[] readFile(String path) throws IOException {
@@ -78,7 +78,7 @@ public class Utils {
       while (offset < length) {
         int read = is.read(data, offset, length - offset);
         if (read < 0) {
-          throw new IOException("No foi possvel ler todo o arquivo");
+          throw new IOException("Não foi possível ler todo o arquivo");
         }
         offset += read;
       }
@@ -90,9 +90,9 @@ public class Utils {
   }
 
   /**
-   * Configua o nvel de log dos testes de interoperabilidade
+   * Configua o nível de log dos testes de interoperabilidade
    * 
-   * @param level nvel do log
+   * @param level nível do log
    */
   public static void setTestLogLevel(Level level) {
     Logger logger = Logger.getLogger("tecgraf.openbus.interop");
@@ -100,9 +100,9 @@ public class Utils {
   }
 
   /**
-   * Configua o nvel de log da biblioteca de acesso openbus
+   * Configua o nível de log da biblioteca de acesso openbus
    * 
-   * @param level nvel do log
+   * @param level nível do log
    */
   public static void setLibLogLevel(Level level) {
     Logger logger = Logger.getLogger("tecgraf.openbus.core");
@@ -110,10 +110,10 @@ public class Utils {
   }
 
   /**
-   * Configura o nvel de log
+   * Configura o nível de log
    * 
    * @param logger logger a ser configurado
-   * @param level nvel do log.
+   * @param level nível do log.
    */
   public static void setLogLevel(Logger logger, Level level) {
     logger.setLevel(level);
@@ -146,10 +146,10 @@ public class Utils {
     }
 
     /**
-     * Converso de pilha de erro para {@link String}
+     * Conversão de pilha de erro para {@link String}
      * 
      * @param t o erro.
-     * @return a representao do erro em {@link String}
+     * @return a representação do erro em {@link String}
      */
     private String getStackTrace(Throwable t) {
       StringWriter sw = new StringWriter();